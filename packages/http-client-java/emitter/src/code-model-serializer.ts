@@ -0,0 +1,111 @@
+/**
+ * Serializes the code model to JSON, in the format read by the Java generator.
+ *
+ * An object or array referenced from more than one place is written in full at its first occurrence, with an
+ * additional "$id" property, and every later occurrence is written as {"$ref": "<id>"}. A shared array is written as
+ * {"$id": "<id>", "$values": [...]}.
+ *
+ * The "$id" property, followed by the "type" property, is written before any other property of an object, so that the
+ * generator can create the object of the correct schema type before reading the rest of it, in a single pass.
+ *
+ * @param codeModel the code model, or any object graph within it.
+ * @returns the JSON text.
+ */
+export function serializeCodeModel(codeModel: object): string {
+  const shared = findSharedObjects(codeModel);
+  const ids = new Map<object, string>();
+  const chunks: string[] = [];
+
+  function writeValue(value: unknown) {
+    if (value === null || typeof value !== "object") {
+      // undefined and functions are written as null, same as in JSON.stringify of an array
+      chunks.push(JSON.stringify(value) ?? "null");
+    } else if (shared.has(value)) {
+      const id = ids.get(value);
+      if (id !== undefined) {
+        chunks.push(`{"$ref":${JSON.stringify(id)}}`);
+      } else {
+        const newId = String(ids.size);
+        ids.set(value, newId);
+        if (Array.isArray(value)) {
+          chunks.push(`{"$id":${JSON.stringify(newId)},"$values":`);
+          writeArray(value);
+          chunks.push("}");
+        } else {
+          writeObject(value, newId);
+        }
+      }
+    } else if (Array.isArray(value)) {
+      writeArray(value);
+    } else {
+      writeObject(value, undefined);
+    }
+  }
+
+  function writeArray(array: unknown[]) {
+    chunks.push("[");
+    array.forEach((item, index) => {
+      if (index > 0) {
+        chunks.push(",");
+      }
+      writeValue(item);
+    });
+    chunks.push("]");
+  }
+
+  function writeObject(object: object, id: string | undefined) {
+    const record = object as Record<string, unknown>;
+    const keys = Object.keys(record).filter((key) => isJsonValue(record[key]));
+    const typeIndex = keys.indexOf("type");
+    if (typeIndex > 0) {
+      keys.splice(typeIndex, 1);
+      keys.unshift("type");
+    }
+
+    chunks.push("{");
+    if (id !== undefined) {
+      chunks.push(`"$id":${JSON.stringify(id)}`);
+    }
+    keys.forEach((key, index) => {
+      if (index > 0 || id !== undefined) {
+        chunks.push(",");
+      }
+      chunks.push(JSON.stringify(key), ":");
+      writeValue(record[key]);
+    });
+    chunks.push("}");
+  }
+
+  writeValue(codeModel);
+  return chunks.join("");
+}
+
+function isJsonValue(value: unknown): boolean {
+  return value !== undefined && typeof value !== "function" && typeof value !== "symbol";
+}
+
+function findSharedObjects(root: object): Set<object> {
+  const visited = new Set<object>();
+  const shared = new Set<object>();
+
+  function visit(value: unknown) {
+    if (value === null || typeof value !== "object") {
+      return;
+    }
+    if (visited.has(value)) {
+      shared.add(value);
+      return;
+    }
+    visited.add(value);
+
+    if (Array.isArray(value)) {
+      value.forEach(visit);
+    } else {
+      const record = value as Record<string, unknown>;
+      Object.keys(record).forEach((key) => visit(record[key]));
+    }
+  }
+
+  visit(root);
+  return shared;
+}
@@ -6,10 +6,10 @@ import {
   resolvePath,
 } from "@typespec/compiler";
 import { promises } from "fs";
-import { dump } from "js-yaml";
 import { dirname } from "path";
 import { fileURLToPath } from "url";
 import { CodeModelBuilder, EmitterOptionsDev } from "./code-model-builder.js";
+import { serializeCodeModel } from "./code-model-serializer.js";
 import { CodeModel } from "./common/code-model.js";
 import { LibName, reportDiagnostic } from "./lib.js";
 import { EmitterOptions } from "./options.js";
@@ -63,7 +63,7 @@ export async function $onEmit(context: EmitContext<EmitterOptions>) {
         options["license-header"] = codeModel.info.license.extensions.header;
       }
 
-      const codeModelFileName = resolvePath(outputPath, "./code-model.yaml");
+      const codeModelFileName = resolvePath(outputPath, "./code-model.json");
 
       await promises.mkdir(outputPath, { recursive: true }).catch((err) => {
         if (err.code !== "EISDIR" && err.code !== "EEXIST") {
@@ -76,7 +76,7 @@ export async function $onEmit(context: EmitContext<EmitterOptions>) {
         }
       });
 
-      await program.host.writeFile(codeModelFileName, dump(codeModel));
+      await program.host.writeFile(codeModelFileName, serializeCodeModel(codeModel));
 
       trace(program, `Code model file written to ${codeModelFileName}`);
 
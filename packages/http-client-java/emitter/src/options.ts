@@ -36,7 +36,7 @@ export const EmitterOptionsSchema: JSONSchemaType<EmitterOptions> = {
       properties: {
         "generate-code-model": {
           type: "boolean",
-          description: "Generate intermittent 'code-model.yaml' file in output directory.",
+          description: "Generate intermittent 'code-model.json' file in output directory.",
           nullable: true,
         },
         debug: {
@@ -0,0 +1,62 @@
+import { readFileSync } from "fs";
+import { load } from "js-yaml";
+import { fileURLToPath } from "url";
+import { describe, expect, it } from "vitest";
+import { serializeCodeModel } from "../src/code-model-serializer.js";
+
+describe("code-model-serializer", () => {
+  it("writes plain values as JSON", () => {
+    expect(serializeCodeModel({ a: 1, b: "s", c: [true, null], d: {} })).toBe(
+      '{"a":1,"b":"s","c":[true,null],"d":{}}',
+    );
+    // undefined and functions are omitted in objects, and written as null in arrays
+    expect(serializeCodeModel({ a: undefined, b: () => 1, c: [undefined, 1] })).toBe(
+      '{"c":[null,1]}',
+    );
+  });
+
+  it("writes type first", () => {
+    expect(serializeCodeModel({ language: {}, type: "object" })).toBe(
+      '{"type":"object","language":{}}',
+    );
+  });
+
+  it("writes shared objects once", () => {
+    const schema = { language: {}, type: "string" };
+    expect(serializeCodeModel({ strings: [schema], properties: [{ schema: schema }] })).toBe(
+      '{"strings":[{"$id":"0","type":"string","language":{}}],"properties":[{"schema":{"$ref":"0"}}]}',
+    );
+  });
+
+  it("writes shared arrays once", () => {
+    const parameters = [{ name: "p" }];
+    expect(serializeCodeModel({ a: parameters, b: parameters })).toBe(
+      '{"a":{"$id":"0","$values":[{"name":"p"}]},"b":{"$ref":"0"}}',
+    );
+  });
+
+  it("writes cycles as references", () => {
+    const parent: Record<string, unknown> = { type: "object" };
+    const child = { type: "object", parents: { all: [parent] } };
+    parent.children = { all: [child] };
+    expect(serializeCodeModel({ objects: [parent, child] })).toBe(
+      '{"objects":[{"$id":"0","type":"object","children":{"all":[{"$id":"1","type":"object","parents":{"all":[{"$ref":"0"}]}}]}},{"$ref":"1"}]}',
+    );
+  });
+
+  it("writes the code model read by the generator", () => {
+    // the same code model as YAML, with anchors for the shared objects, and as JSON
+    const codeModel = load(readResource("code-model.yaml")) as object;
+
+    expect(serializeCodeModel(codeModel)).toBe(readResource("code-model.json"));
+  });
+});
+
+function readResource(fileName: string): string {
+  // the code model files are shared with the tests of the generator
+  const url = new URL(
+    "../../generator/http-client-generator-core/src/test/resources/codemodel/" + fileName,
+    import.meta.url,
+  );
+  return readFileSync(fileURLToPath(url), "utf-8");
+}
@@ -13,7 +13,9 @@ import io.clientcore.core.http.models.HttpResponseException;
 import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 
 /**
  * Initializes a new instance of the CustomClient type.
@@ -70,17 +72,44 @@ public final class CustomClientImpl {
     @ServiceInterface(name = "CustomClient", host = "{endpoint}")
     public interface CustomClientService {
         static CustomClientService getNewInstance(HttpPipeline pipeline) {
+            if (ServiceImplHolder.NEW_INSTANCE == null) {
+                throw new RuntimeException(ServiceImplHolder.LOOKUP_EXCEPTION);
+            }
             try {
-                Class<?> clazz = Class.forName("authentication.http.custom.implementation.CustomClientServiceImpl");
-                return (CustomClientService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
+                return (CustomClientService) ServiceImplHolder.NEW_INSTANCE.invokeExact(pipeline);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
                 throw new RuntimeException(e);
             }
 
         }
 
+        /**
+         * Holds the method handle of the getNewInstance method of the service implementation, looked up once.
+         */
+        final class ServiceImplHolder {
+            private static final MethodHandle NEW_INSTANCE;
+
+            private static final ReflectiveOperationException LOOKUP_EXCEPTION;
+
+            static {
+                MethodHandle newInstance = null;
+                ReflectiveOperationException lookupException = null;
+                try {
+                    Class<?> clazz = Class.forName("authentication.http.custom.implementation.CustomClientServiceImpl");
+                    newInstance = MethodHandles.lookup()
+                        .unreflect(clazz.getMethod("getNewInstance", HttpPipeline.class))
+                        .asType(MethodType.methodType(CustomClientService.class, HttpPipeline.class));
+                } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+                    lookupException = e;
+                }
+
+                NEW_INSTANCE = newInstance;
+                LOOKUP_EXCEPTION = lookupException;
+            }
+        }
+
         @HttpRequestInformation(
             method = HttpMethod.GET,
             path = "/authentication/http/custom/valid",
@@ -13,7 +13,9 @@ import io.clientcore.core.http.models.HttpResponseException;
 import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 
 /**
  * Initializes a new instance of the OAuth2Client type.
@@ -70,17 +72,44 @@ public final class OAuth2ClientImpl {
     @ServiceInterface(name = "OAuth2Client", host = "{endpoint}")
     public interface OAuth2ClientService {
         static OAuth2ClientService getNewInstance(HttpPipeline pipeline) {
+            if (ServiceImplHolder.NEW_INSTANCE == null) {
+                throw new RuntimeException(ServiceImplHolder.LOOKUP_EXCEPTION);
+            }
             try {
-                Class<?> clazz = Class.forName("authentication.oauth2.implementation.OAuth2ClientServiceImpl");
-                return (OAuth2ClientService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
+                return (OAuth2ClientService) ServiceImplHolder.NEW_INSTANCE.invokeExact(pipeline);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
                 throw new RuntimeException(e);
             }
 
         }
 
+        /**
+         * Holds the method handle of the getNewInstance method of the service implementation, looked up once.
+         */
+        final class ServiceImplHolder {
+            private static final MethodHandle NEW_INSTANCE;
+
+            private static final ReflectiveOperationException LOOKUP_EXCEPTION;
+
+            static {
+                MethodHandle newInstance = null;
+                ReflectiveOperationException lookupException = null;
+                try {
+                    Class<?> clazz = Class.forName("authentication.oauth2.implementation.OAuth2ClientServiceImpl");
+                    newInstance = MethodHandles.lookup()
+                        .unreflect(clazz.getMethod("getNewInstance", HttpPipeline.class))
+                        .asType(MethodType.methodType(OAuth2ClientService.class, HttpPipeline.class));
+                } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+                    lookupException = e;
+                }
+
+                NEW_INSTANCE = newInstance;
+                LOOKUP_EXCEPTION = lookupException;
+            }
+        }
+
         @HttpRequestInformation(
             method = HttpMethod.GET,
             path = "/authentication/oauth2/valid",
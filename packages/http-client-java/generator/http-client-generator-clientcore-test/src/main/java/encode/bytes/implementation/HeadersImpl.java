@@ -14,7 +14,9 @@ import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.models.binarydata.BinaryData;
 import io.clientcore.core.utils.Base64Uri;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.Base64;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -50,16 +52,44 @@ public final class HeadersImpl {
     @ServiceInterface(name = "BytesClientHeaders", host = "{endpoint}")
     public interface HeadersService {
         static HeadersService getNewInstance(HttpPipeline pipeline) {
+            if (ServiceImplHolder.NEW_INSTANCE == null) {
+                throw new RuntimeException(ServiceImplHolder.LOOKUP_EXCEPTION);
+            }
             try {
-                Class<?> clazz = Class.forName("encode.bytes.implementation.HeadersServiceImpl");
-                return (HeadersService) clazz.getMethod("getNewInstance", HttpPipeline.class).invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
+                return (HeadersService) ServiceImplHolder.NEW_INSTANCE.invokeExact(pipeline);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
                 throw new RuntimeException(e);
             }
 
         }
 
+        /**
+         * Holds the method handle of the getNewInstance method of the service implementation, looked up once.
+         */
+        final class ServiceImplHolder {
+            private static final MethodHandle NEW_INSTANCE;
+
+            private static final ReflectiveOperationException LOOKUP_EXCEPTION;
+
+            static {
+                MethodHandle newInstance = null;
+                ReflectiveOperationException lookupException = null;
+                try {
+                    Class<?> clazz = Class.forName("encode.bytes.implementation.HeadersServiceImpl");
+                    newInstance = MethodHandles.lookup()
+                        .unreflect(clazz.getMethod("getNewInstance", HttpPipeline.class))
+                        .asType(MethodType.methodType(HeadersService.class, HttpPipeline.class));
+                } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+                    lookupException = e;
+                }
+
+                NEW_INSTANCE = newInstance;
+                LOOKUP_EXCEPTION = lookupException;
+            }
+        }
+
         @HttpRequestInformation(
             method = HttpMethod.GET,
             path = "/encode/bytes/header/default",
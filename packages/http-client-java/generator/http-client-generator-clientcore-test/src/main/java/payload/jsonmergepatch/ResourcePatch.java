@@ -7,10 +7,8 @@ import io.clientcore.core.serialization.json.JsonSerializable;
 import io.clientcore.core.serialization.json.JsonToken;
 import io.clientcore.core.serialization.json.JsonWriter;
 import java.io.IOException;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import payload.jsonmergepatch.implementation.JsonMergePatchHelper;
 
 /**
@@ -60,11 +58,32 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     private List<Integer> intArray;
 
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private static final long UPDATED_DESCRIPTION = 1L << 0;
+
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private static final long UPDATED_MAP = 1L << 1;
+
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private static final long UPDATED_ARRAY = 1L << 2;
+
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private static final long UPDATED_INT_VALUE = 1L << 3;
+
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private static final long UPDATED_FLOAT_VALUE = 1L << 4;
+
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private static final long UPDATED_INNER_MODEL = 1L << 5;
+
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private static final long UPDATED_INT_ARRAY = 1L << 6;
+
     /**
-     * Stores updated model property, the value is property name, not serialized name.
+     * Stores updated model properties, as bits at the indices of the properties.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    private final Set<String> updatedProperties = new HashSet<>();
+    private long updatedProperties;
 
     @Metadata(properties = { MetadataProperties.GENERATED })
     private boolean jsonMergePatch;
@@ -115,7 +134,7 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     public ResourcePatch setDescription(String description) {
         this.description = description;
-        this.updatedProperties.add("description");
+        this.updatedProperties |= UPDATED_DESCRIPTION;
         return this;
     }
 
@@ -138,7 +157,7 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     public ResourcePatch setMap(Map<String, InnerModel> map) {
         this.map = map;
-        this.updatedProperties.add("map");
+        this.updatedProperties |= UPDATED_MAP;
         return this;
     }
 
@@ -161,7 +180,7 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     public ResourcePatch setArray(List<InnerModel> array) {
         this.array = array;
-        this.updatedProperties.add("array");
+        this.updatedProperties |= UPDATED_ARRAY;
         return this;
     }
 
@@ -184,7 +203,7 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     public ResourcePatch setIntValue(Integer intValue) {
         this.intValue = intValue;
-        this.updatedProperties.add("intValue");
+        this.updatedProperties |= UPDATED_INT_VALUE;
         return this;
     }
 
@@ -207,7 +226,7 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     public ResourcePatch setFloatValue(Double floatValue) {
         this.floatValue = floatValue;
-        this.updatedProperties.add("floatValue");
+        this.updatedProperties |= UPDATED_FLOAT_VALUE;
         return this;
     }
 
@@ -230,7 +249,7 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     public ResourcePatch setInnerModel(InnerModel innerModel) {
         this.innerModel = innerModel;
-        this.updatedProperties.add("innerModel");
+        this.updatedProperties |= UPDATED_INNER_MODEL;
         return this;
     }
 
@@ -253,7 +272,7 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     public ResourcePatch setIntArray(List<Integer> intArray) {
         this.intArray = intArray;
-        this.updatedProperties.add("intArray");
+        this.updatedProperties |= UPDATED_INT_ARRAY;
         return this;
     }
 
@@ -281,14 +300,14 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        if (updatedProperties.contains("description")) {
+        if ((updatedProperties & UPDATED_DESCRIPTION) != 0) {
             if (this.description == null) {
                 jsonWriter.writeNullField("description");
             } else {
                 jsonWriter.writeStringField("description", this.description);
             }
         }
-        if (updatedProperties.contains("map")) {
+        if ((updatedProperties & UPDATED_MAP) != 0) {
             if (this.map == null) {
                 jsonWriter.writeNullField("map");
             } else {
@@ -303,28 +322,28 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
                 });
             }
         }
-        if (updatedProperties.contains("array")) {
+        if ((updatedProperties & UPDATED_ARRAY) != 0) {
             if (this.array == null) {
                 jsonWriter.writeNullField("array");
             } else {
                 jsonWriter.writeArrayField("array", this.array, (writer, element) -> writer.writeJson(element));
             }
         }
-        if (updatedProperties.contains("intValue")) {
+        if ((updatedProperties & UPDATED_INT_VALUE) != 0) {
             if (this.intValue == null) {
                 jsonWriter.writeNullField("intValue");
             } else {
                 jsonWriter.writeNumberField("intValue", this.intValue);
             }
         }
-        if (updatedProperties.contains("floatValue")) {
+        if ((updatedProperties & UPDATED_FLOAT_VALUE) != 0) {
             if (this.floatValue == null) {
                 jsonWriter.writeNullField("floatValue");
             } else {
                 jsonWriter.writeNumberField("floatValue", this.floatValue);
             }
         }
-        if (updatedProperties.contains("innerModel")) {
+        if ((updatedProperties & UPDATED_INNER_MODEL) != 0) {
             if (this.innerModel == null) {
                 jsonWriter.writeNullField("innerModel");
             } else {
@@ -333,7 +352,7 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
                 JsonMergePatchHelper.getInnerModelAccessor().prepareModelForJsonMergePatch(this.innerModel, false);
             }
         }
-        if (updatedProperties.contains("intArray")) {
+        if ((updatedProperties & UPDATED_INT_ARRAY) != 0) {
             if (this.intArray == null) {
                 jsonWriter.writeNullField("intArray");
             } else {
@@ -1,5 +1,9 @@
 package type.property.optional;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines values for IntLiteralPropertyProperty.
  */
@@ -9,6 +13,16 @@ public enum IntLiteralPropertyProperty {
      */
     ONE(1);
 
+    private static final Map<Integer, IntLiteralPropertyProperty> VALUES;
+
+    static {
+        Map<Integer, IntLiteralPropertyProperty> values = new HashMap<>(2);
+        for (IntLiteralPropertyProperty item : IntLiteralPropertyProperty.values()) {
+            values.putIfAbsent(item.toInt(), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a IntLiteralPropertyProperty instance.
      */
@@ -25,13 +39,7 @@ public enum IntLiteralPropertyProperty {
      * @return the parsed IntLiteralPropertyProperty object, or null if unable to parse.
      */
     public static IntLiteralPropertyProperty fromInt(int value) {
-        IntLiteralPropertyProperty[] items = IntLiteralPropertyProperty.values();
-        for (IntLiteralPropertyProperty item : items) {
-            if (item.toInt() == value) {
-                return item;
-            }
-        }
-        return null;
+        return VALUES.get(value);
     }
 
     /**
@@ -1,5 +1,9 @@
 package type.property.optional;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines values for StringLiteralPropertyProperty.
  */
@@ -9,6 +13,16 @@ public enum StringLiteralPropertyProperty {
      */
     HELLO("hello");
 
+    private static final Map<String, StringLiteralPropertyProperty> VALUES;
+
+    static {
+        Map<String, StringLiteralPropertyProperty> values = new HashMap<>(2);
+        for (StringLiteralPropertyProperty item : StringLiteralPropertyProperty.values()) {
+            values.putIfAbsent(toLookupKey(item.toString()), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a StringLiteralPropertyProperty instance.
      */
@@ -28,13 +42,15 @@ public enum StringLiteralPropertyProperty {
         if (value == null) {
             return null;
         }
-        StringLiteralPropertyProperty[] items = StringLiteralPropertyProperty.values();
-        for (StringLiteralPropertyProperty item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
+        return VALUES.get(toLookupKey(value));
+    }
+
+    private static String toLookupKey(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
         }
-        return null;
+        return new String(chars);
     }
 
     /**
@@ -1,5 +1,9 @@
 package type.property.optional;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines values for UnionFloatLiteralPropertyProperty.
  */
@@ -14,6 +18,16 @@ public enum UnionFloatLiteralPropertyProperty {
      */
     TWO_THREE_SEVEN_FIVE(2.375);
 
+    private static final Map<Double, UnionFloatLiteralPropertyProperty> VALUES;
+
+    static {
+        Map<Double, UnionFloatLiteralPropertyProperty> values = new HashMap<>(3);
+        for (UnionFloatLiteralPropertyProperty item : UnionFloatLiteralPropertyProperty.values()) {
+            values.putIfAbsent(item.toDouble(), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a UnionFloatLiteralPropertyProperty instance.
      */
@@ -30,13 +44,7 @@ public enum UnionFloatLiteralPropertyProperty {
      * @return the parsed UnionFloatLiteralPropertyProperty object, or null if unable to parse.
      */
     public static UnionFloatLiteralPropertyProperty fromDouble(double value) {
-        UnionFloatLiteralPropertyProperty[] items = UnionFloatLiteralPropertyProperty.values();
-        for (UnionFloatLiteralPropertyProperty item : items) {
-            if (Double.doubleToLongBits(item.toDouble()) == Double.doubleToLongBits(value)) {
-                return item;
-            }
-        }
-        return null;
+        return VALUES.get(value);
     }
 
     /**
@@ -1,5 +1,9 @@
 package type.property.optional;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines values for UnionStringLiteralPropertyProperty.
  */
@@ -14,6 +18,16 @@ public enum UnionStringLiteralPropertyProperty {
      */
     WORLD("world");
 
+    private static final Map<String, UnionStringLiteralPropertyProperty> VALUES;
+
+    static {
+        Map<String, UnionStringLiteralPropertyProperty> values = new HashMap<>(3);
+        for (UnionStringLiteralPropertyProperty item : UnionStringLiteralPropertyProperty.values()) {
+            values.putIfAbsent(toLookupKey(item.toString()), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a UnionStringLiteralPropertyProperty instance.
      */
@@ -33,13 +47,15 @@ public enum UnionStringLiteralPropertyProperty {
         if (value == null) {
             return null;
         }
-        UnionStringLiteralPropertyProperty[] items = UnionStringLiteralPropertyProperty.values();
-        for (UnionStringLiteralPropertyProperty item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
+        return VALUES.get(toLookupKey(value));
+    }
+
+    private static String toLookupKey(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
         }
-        return null;
+        return new String(chars);
     }
 
     /**
@@ -1,5 +1,9 @@
 package type.property.valuetypes;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines values for UnionIntLiteralPropertyProperty.
  */
@@ -14,6 +18,16 @@ public enum UnionIntLiteralPropertyProperty {
      */
     FOUR_THREE(43);
 
+    private static final Map<Integer, UnionIntLiteralPropertyProperty> VALUES;
+
+    static {
+        Map<Integer, UnionIntLiteralPropertyProperty> values = new HashMap<>(3);
+        for (UnionIntLiteralPropertyProperty item : UnionIntLiteralPropertyProperty.values()) {
+            values.putIfAbsent(item.toInt(), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a UnionIntLiteralPropertyProperty instance.
      */
@@ -30,13 +44,7 @@ public enum UnionIntLiteralPropertyProperty {
      * @return the parsed UnionIntLiteralPropertyProperty object, or null if unable to parse.
      */
     public static UnionIntLiteralPropertyProperty fromInt(int value) {
-        UnionIntLiteralPropertyProperty[] items = UnionIntLiteralPropertyProperty.values();
-        for (UnionIntLiteralPropertyProperty item : items) {
-            if (item.toInt() == value) {
-                return item;
-            }
-        }
-        return null;
+        return VALUES.get(value);
     }
 
     /**
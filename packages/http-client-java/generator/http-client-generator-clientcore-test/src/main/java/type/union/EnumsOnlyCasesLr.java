@@ -1,5 +1,9 @@
 package type.union;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines values for EnumsOnlyCasesLr.
  */
@@ -24,6 +28,16 @@ public enum EnumsOnlyCasesLr {
      */
     DOWN("down");
 
+    private static final Map<String, EnumsOnlyCasesLr> VALUES;
+
+    static {
+        Map<String, EnumsOnlyCasesLr> values = new HashMap<>(6);
+        for (EnumsOnlyCasesLr item : EnumsOnlyCasesLr.values()) {
+            values.putIfAbsent(toLookupKey(item.toString()), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a EnumsOnlyCasesLr instance.
      */
@@ -43,13 +57,15 @@ public enum EnumsOnlyCasesLr {
         if (value == null) {
             return null;
         }
-        EnumsOnlyCasesLr[] items = EnumsOnlyCasesLr.values();
-        for (EnumsOnlyCasesLr item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
+        return VALUES.get(toLookupKey(value));
+    }
+
+    private static String toLookupKey(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
         }
-        return null;
+        return new String(chars);
     }
 
     /**
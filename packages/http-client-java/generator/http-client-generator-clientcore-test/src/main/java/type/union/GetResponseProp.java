@@ -1,5 +1,9 @@
 package type.union;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines values for GetResponseProp.
  */
@@ -19,6 +23,16 @@ public enum GetResponseProp {
      */
     C("c");
 
+    private static final Map<String, GetResponseProp> VALUES;
+
+    static {
+        Map<String, GetResponseProp> values = new HashMap<>(4);
+        for (GetResponseProp item : GetResponseProp.values()) {
+            values.putIfAbsent(toLookupKey(item.toString()), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a GetResponseProp instance.
      */
@@ -38,13 +52,15 @@ public enum GetResponseProp {
         if (value == null) {
             return null;
         }
-        GetResponseProp[] items = GetResponseProp.values();
-        for (GetResponseProp item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
+        return VALUES.get(toLookupKey(value));
+    }
+
+    private static String toLookupKey(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
         }
-        return null;
+        return new String(chars);
     }
 
     /**
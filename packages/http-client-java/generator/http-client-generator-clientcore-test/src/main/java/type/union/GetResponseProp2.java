@@ -1,5 +1,9 @@
 package type.union;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines values for GetResponseProp2.
  */
@@ -19,6 +23,16 @@ public enum GetResponseProp2 {
      */
     THREE(3);
 
+    private static final Map<Integer, GetResponseProp2> VALUES;
+
+    static {
+        Map<Integer, GetResponseProp2> values = new HashMap<>(4);
+        for (GetResponseProp2 item : GetResponseProp2.values()) {
+            values.putIfAbsent(item.toInt(), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a GetResponseProp2 instance.
      */
@@ -35,13 +49,7 @@ public enum GetResponseProp2 {
      * @return the parsed GetResponseProp2 object, or null if unable to parse.
      */
     public static GetResponseProp2 fromInt(int value) {
-        GetResponseProp2[] items = GetResponseProp2.values();
-        for (GetResponseProp2 item : items) {
-            if (item.toInt() == value) {
-                return item;
-            }
-        }
-        return null;
+        return VALUES.get(value);
     }
 
     /**
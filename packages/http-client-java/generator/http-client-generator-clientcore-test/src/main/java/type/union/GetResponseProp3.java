@@ -1,5 +1,9 @@
 package type.union;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines values for GetResponseProp3.
  */
@@ -19,6 +23,16 @@ public enum GetResponseProp3 {
      */
     THREE_THREE(3.3);
 
+    private static final Map<Double, GetResponseProp3> VALUES;
+
+    static {
+        Map<Double, GetResponseProp3> values = new HashMap<>(4);
+        for (GetResponseProp3 item : GetResponseProp3.values()) {
+            values.putIfAbsent(item.toDouble(), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a GetResponseProp3 instance.
      */
@@ -35,13 +49,7 @@ public enum GetResponseProp3 {
      * @return the parsed GetResponseProp3 object, or null if unable to parse.
      */
     public static GetResponseProp3 fromDouble(double value) {
-        GetResponseProp3[] items = GetResponseProp3.values();
-        for (GetResponseProp3 item : items) {
-            if (Double.doubleToLongBits(item.toDouble()) == Double.doubleToLongBits(value)) {
-                return item;
-            }
-        }
-        return null;
+        return VALUES.get(value);
     }
 
     /**
@@ -1,5 +1,9 @@
 package versioning.added;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines values for EnumV2.
  */
@@ -9,6 +13,16 @@ public enum EnumV2 {
      */
     ENUM_MEMBER("enumMember");
 
+    private static final Map<String, EnumV2> VALUES;
+
+    static {
+        Map<String, EnumV2> values = new HashMap<>(2);
+        for (EnumV2 item : EnumV2.values()) {
+            values.putIfAbsent(toLookupKey(item.toString()), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a EnumV2 instance.
      */
@@ -28,13 +42,15 @@ public enum EnumV2 {
         if (value == null) {
             return null;
         }
-        EnumV2[] items = EnumV2.values();
-        for (EnumV2 item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
+        return VALUES.get(toLookupKey(value));
+    }
+
+    private static String toLookupKey(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
         }
-        return null;
+        return new String(chars);
     }
 
     /**
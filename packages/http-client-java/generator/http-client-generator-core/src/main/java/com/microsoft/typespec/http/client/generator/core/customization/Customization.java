@@ -28,23 +28,29 @@ public abstract class Customization {
      * @return the map of files after customization
      */
     public final Map<String, String> run(Map<String, String> files, boolean useEclipseLanguageServer, Logger logger) {
-        Path tempDirWithPrefix;
-
         // Populate editor
-        Editor editor;
+        Editor editor = new Editor(files);
+
+        if (!useEclipseLanguageServer) {
+            // JavaParser customization works on the files in memory
+            customize(new JavaParserLibraryCustomization(editor), logger);
+            return editor.getContents();
+        }
+
+        // Eclipse language server reads the files from disk
+        Path tempDirWithPrefix;
         try {
             tempDirWithPrefix = FileUtils.createTempDirectory("temp");
-            editor = new Editor(files, tempDirWithPrefix);
-            if (useEclipseLanguageServer) {
-                try (InputStream pomStream = Customization.class.getResourceAsStream("/pom.xml")) {
-                    editor.addFile("pom.xml", new String(pomStream.readAllBytes(), StandardCharsets.UTF_8));
-                }
-            }
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
 
-        if (useEclipseLanguageServer) {
+        try {
+            editor.materialize(tempDirWithPrefix);
+            try (InputStream pomStream = Customization.class.getResourceAsStream("/pom.xml")) {
+                editor.addFile("pom.xml", new String(pomStream.readAllBytes(), StandardCharsets.UTF_8));
+            }
+
             // Start language client
             try (EclipseLanguageClient languageClient
                 = new EclipseLanguageClient(null, tempDirWithPrefix.toString(), logger)) {
@@ -52,18 +58,11 @@ public abstract class Customization {
                 customize(new EclipseLibraryCustomization(editor, languageClient), logger);
                 editor.removeFile("pom.xml");
                 return editor.getContents();
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            } finally {
-                Utils.deleteDirectory(tempDirWithPrefix.toFile());
-            }
-        } else {
-            try {
-                customize(new JavaParserLibraryCustomization(editor), logger);
-                return editor.getContents();
-            } finally {
-                Utils.deleteDirectory(tempDirWithPrefix.toFile());
             }
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        } finally {
+            Utils.deleteDirectory(tempDirWithPrefix.toFile());
         }
     }
 
@@ -23,12 +23,26 @@ import org.eclipse.lsp4j.Range;
 
 /**
  * The raw editor containing the current files being customized.
+ * <p>
+ * The files are kept in memory. They are only written to a root directory after {@link #materialize(Path)}, e.g. for
+ * the Eclipse language server, which reads the files from disk. From then on, every change is also written to the
+ * root directory.
  */
 public final class Editor {
-    private final Path rootDir;
+    private Path rootDir;
     private final Map<String, String> contents;
+    // lines of file content, split on first access
     private final Map<String, List<String>> lines;
-    private final Map<String, Path> paths;
+
+    /**
+     * Creates an editor instance with the file contents, in memory.
+     *
+     * @param contents the map from file relative paths (starting with "src/main/java") and file contents
+     */
+    public Editor(Map<String, String> contents) {
+        this.contents = new HashMap<>(contents);
+        this.lines = new HashMap<>();
+    }
 
     /**
      * Creates an editor instance with the file contents and the root directory path.
@@ -37,12 +51,24 @@ public final class Editor {
      * @param rootDir the root directory path containing the files
      */
     public Editor(Map<String, String> contents, Path rootDir) {
-        this.contents = new HashMap<>(contents);
-        this.lines = new HashMap<>();
-        this.paths = new HashMap<>();
+        this(contents);
+        materialize(rootDir);
+    }
+
+    /**
+     * Writes the files to the root directory, and keeps the files in the root directory up to date with every later
+     * change.
+     *
+     * @param rootDir the root directory path to contain the files
+     * @throws IllegalStateException if the files are already written to a root directory
+     */
+    public void materialize(Path rootDir) {
+        if (this.rootDir != null) {
+            throw new IllegalStateException("Files are already written to " + this.rootDir);
+        }
         this.rootDir = rootDir;
         for (Map.Entry<String, String> content : contents.entrySet()) {
-            addFile(content.getKey(), content.getValue());
+            writeToDisk(content.getKey(), content.getValue());
         }
     }
 
@@ -114,26 +140,34 @@ public final class Editor {
     }
 
     private void addOrReplaceFile(String name, String content, boolean isReplace) {
-        Path newFilePath = Paths.get(rootDir.toString(), name);
-        File newFile = newFilePath.toFile();
+        if (!contents.containsKey(name) || isReplace) {
+            contents.put(name, content);
+            lines.remove(name);
+        }
+        writeToDisk(name, content);
+    }
+
+    private void writeToDisk(String name, String content) {
+        if (rootDir == null) {
+            return;
+        }
+
+        File newFile = getPath(name).toFile();
         if (!newFile.getParentFile().exists()) {
             newFile.getParentFile().mkdirs();
         }
 
         try {
-            boolean fileCreated = newFile.createNewFile();
             Files.writeString(newFile.toPath(), content);
-
-            if (fileCreated || isReplace) {
-                contents.put(name, content);
-                lines.put(name, splitContentIntoLines(content));
-                paths.put(name, newFilePath);
-            }
         } catch (IOException e) {
-            throw new RuntimeException();
+            throw new RuntimeException(e);
         }
     }
 
+    private Path getPath(String name) {
+        return Paths.get(rootDir.toString(), name);
+    }
+
     /**
      * Removes a file.
      *
@@ -142,8 +176,9 @@ public final class Editor {
     public void removeFile(String name) {
         contents.remove(name);
         lines.remove(name);
-        paths.get(name).toFile().delete();
-        paths.remove(name);
+        if (rootDir != null) {
+            getPath(name).toFile().delete();
+        }
     }
 
     /**
@@ -163,8 +198,8 @@ public final class Editor {
      * @return the file content split into lines
      */
     public List<String> getFileLines(String name) {
-        return lines.get(name);
-
+        String content = contents.get(name);
+        return content == null ? null : lines.computeIfAbsent(name, ignored -> splitContentIntoLines(content));
     }
 
     /**
@@ -175,7 +210,7 @@ public final class Editor {
      * @return the file content in this line
      */
     public String getFileLine(String name, int line) {
-        return lines.get(name).get(line);
+        return getFileLines(name).get(line);
     }
 
     /**
@@ -190,7 +225,7 @@ public final class Editor {
         if (!indented) {
             return insertBlankLineWithIndent(fileName, line, 0);
         } else {
-            int indentAmount = Utils.getIndent(lines.get(fileName).get(line)).length();
+            int indentAmount = Utils.getIndent(getFileLines(fileName).get(line)).length();
 
             return insertBlankLineWithIndent(fileName, line, indentAmount);
         }
@@ -198,8 +233,9 @@ public final class Editor {
 
     public Position insertBlankLineWithIndent(String fileName, int line, int indentAmount) {
         String indentation = IntStream.range(0, indentAmount).mapToObj(ignored -> " ").collect(Collectors.joining());
-        lines.get(fileName).add(line, indentation);
-        contents.put(fileName, joinLinesIntoContent(lines.get(fileName)));
+        List<String> lineContent = getFileLines(fileName);
+        lineContent.add(line, indentation);
+        contents.put(fileName, joinLinesIntoContent(lineContent));
         return new Position(line, indentation.length());
     }
 
@@ -219,7 +255,7 @@ public final class Editor {
         int newLineIndent) {
         String indent = IntStream.range(0, newLineIndent).mapToObj(ignored -> " ").collect(Collectors.joining());
         StringBuilder stringBuilder = new StringBuilder(4096);
-        List<String> lineContent = lines.get(fileName);
+        List<String> lineContent = getFileLines(fileName);
 
         // Copy lines until the start of the change is reached.
         for (int i = 0; i != start.getLine(); i++) {
@@ -252,11 +288,13 @@ public final class Editor {
         }
 
         contents.put(fileName, stringBuilder.toString());
-        lines.put(fileName, splitContentIntoLines(contents.get(fileName)));
-        try (BufferedWriter fileWriter = Files.newBufferedWriter(paths.get(fileName))) {
-            fileWriter.write(contents.get(fileName));
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+        lines.remove(fileName);
+        if (rootDir != null) {
+            try (BufferedWriter fileWriter = Files.newBufferedWriter(getPath(fileName))) {
+                fileWriter.write(contents.get(fileName));
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
         }
     }
 
@@ -268,11 +306,13 @@ public final class Editor {
      */
     public void renameFile(String fileName, String newName) {
         contents.put(newName, contents.remove(fileName));
-        lines.put(newName, lines.remove(fileName));
-        Path path = paths.remove(fileName);
-        Path newPath = Paths.get(rootDir.toString(), newName);
-        path.toFile().renameTo(newPath.toFile());
-        paths.put(newName, newPath);
+        List<String> fileLines = lines.remove(fileName);
+        if (fileLines != null) {
+            lines.put(newName, fileLines);
+        }
+        if (rootDir != null) {
+            getPath(fileName).toFile().renameTo(getPath(newName).toFile());
+        }
     }
 
     /**
@@ -283,12 +323,13 @@ public final class Editor {
      * @return the list of ranges containing the occurrences
      */
     public List<Range> searchText(String fileName, String text) {
-        if (!lines.containsKey(fileName)) {
+        List<String> fileLines = getFileLines(fileName);
+        if (fileLines == null) {
             return null;
         } else {
             List<Range> occurrences = new ArrayList<>();
-            for (int i = 0; i != lines.get(fileName).size(); i++) {
-                String line = lines.get(fileName).get(i);
+            for (int i = 0; i != fileLines.size(); i++) {
+                String line = fileLines.get(i);
                 if (line.contains(text)) {
                     int start = line.indexOf(text);
                     while (start != -1) {
@@ -4,49 +4,105 @@
 package com.microsoft.typespec.http.client.generator.core.extension.jsonrpc;
 
 import java.io.Closeable;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 class PeekingBinaryReader implements Closeable {
-    Integer lastByte;
-    InputStream input;
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    private final InputStream input;
+
+    // Bytes read from the input but not yet consumed.
+    private final byte[] readBuffer = new byte[READ_BUFFER_SIZE];
+    private int readPosition;
+    private int readLimit;
+
+    // Reusable buffer that message content is collected into before being decoded.
+    private byte[] contentBuffer = new byte[READ_BUFFER_SIZE];
 
     PeekingBinaryReader(InputStream input) {
-        this.lastByte = null;
         this.input = input;
     }
 
     int readByte() throws IOException {
-        if (lastByte != null) {
-            int result = lastByte;
-            lastByte = null;
-            return result;
+        if (readPosition == readLimit && !fillReadBuffer()) {
+            return -1;
         }
-        return input.read();
+        return readBuffer[readPosition++] & 0xFF;
     }
 
     int peekByte() throws IOException {
-        if (lastByte != null) {
-            return lastByte;
-        }
-        int result = readByte();
-        if (result != -1) {
-            lastByte = result;
+        if (readPosition == readLimit && !fillReadBuffer()) {
+            return -1;
         }
-        return result;
+        return readBuffer[readPosition] & 0xFF;
     }
 
-    byte[] readBytes(int count) throws IOException {
-        byte[] buffer = new byte[count];
-        int read = 0;
-        if (count > 0 && lastByte != null) {
-            buffer[read++] = (byte) (int) lastByte;
-            lastByte = null;
+    /**
+     * Reads exactly {@code count} bytes and decodes them as UTF-8.
+     *
+     * @param count The number of bytes to read.
+     * @return The decoded text.
+     * @throws IOException If the input ends before {@code count} bytes are read.
+     */
+    String readUtf8(int count) throws IOException {
+        ensureContentCapacity(count);
+        readFully(contentBuffer, count);
+        return new String(contentBuffer, 0, count, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a single JSON object or array, tracking nesting and string literals so that the value is framed in one pass
+     * without being parsed. A line terminator directly following the value is consumed as well.
+     *
+     * @return The JSON text decoded as UTF-8.
+     * @throws IOException If the input ends before the JSON value is complete.
+     */
+    String readJsonText() throws IOException {
+        int length = 0;
+        int depth = 0;
+        boolean inString = false;
+        boolean escaped = false;
+
+        do {
+            int c = readByte();
+            if (c == -1) {
+                throw new EOFException("Input ended before the end of the JSON value.");
+            }
+
+            ensureContentCapacity(length + 1);
+            contentBuffer[length++] = (byte) c;
+
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    inString = false;
+                }
+            } else if (c == '"') {
+                inString = true;
+            } else if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                depth--;
+            }
+        } while (depth > 0);
+
+        int next = peekByte();
+        if (next == '\r') {
+            readByte();
+            next = peekByte();
         }
-        while (read < count) {
-            read += input.read(buffer, read, count - read);
+        if (next == '\n') {
+            readByte();
         }
-        return buffer;
+
+        return new String(contentBuffer, 0, length, StandardCharsets.UTF_8);
     }
 
     String readAsciiLine() throws IOException {
@@ -68,4 +124,35 @@ class PeekingBinaryReader implements Closeable {
     public void close() throws IOException {
         input.close();
     }
+
+    private boolean fillReadBuffer() throws IOException {
+        int read = input.read(readBuffer, 0, readBuffer.length);
+        if (read <= 0) {
+            return false;
+        }
+        readPosition = 0;
+        readLimit = read;
+        return true;
+    }
+
+    private void readFully(byte[] buffer, int count) throws IOException {
+        int read = Math.min(count, readLimit - readPosition);
+        System.arraycopy(readBuffer, readPosition, buffer, 0, read);
+        readPosition += read;
+
+        // Large reads bypass the read buffer and go directly into the destination.
+        while (read < count) {
+            int n = input.read(buffer, read, count - read);
+            if (n == -1) {
+                throw new EOFException("Expected " + count + " bytes but input ended after " + read + " bytes.");
+            }
+            read += n;
+        }
+    }
+
+    private void ensureContentCapacity(int capacity) {
+        if (contentBuffer.length < capacity) {
+            contentBuffer = Arrays.copyOf(contentBuffer, Math.max(capacity, contentBuffer.length * 2));
+        }
+    }
 }
@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -81,4 +83,28 @@ public class AndSchema extends ComplexSchema {
         AndSchema rhs = ((AndSchema) other);
         return Objects.equals(allOf, rhs.allOf) && Objects.equals(discriminatorValue, rhs.discriminatorValue);
     }
+
+    /**
+     * Deserializes an AndSchema instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return An AndSchema instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static AndSchema fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readMetadata(jsonReader, AndSchema::new);
+    }
+
+    @Override
+    protected boolean readField(String fieldName, JsonReader jsonReader, JsonReferences references) throws IOException {
+        if ("allOf".equals(fieldName)) {
+            setAllOf(references.readArray(jsonReader, reader -> ComplexSchema.fromJson(reader, references)));
+        } else if ("discriminatorValue".equals(fieldName)) {
+            setDiscriminatorValue(jsonReader.getString());
+        } else {
+            return super.readField(fieldName, jsonReader, references);
+        }
+        return true;
+    }
 }
@@ -3,6 +3,9 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
+
 /**
  * A schema that is non-object, non-complex.
  */
@@ -13,4 +16,16 @@ public class AnySchema extends Schema {
     public AnySchema() {
         super();
     }
+
+    /**
+     * Deserializes an AnySchema instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return An AnySchema instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static AnySchema fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readMetadata(jsonReader, AnySchema::new);
+    }
 }
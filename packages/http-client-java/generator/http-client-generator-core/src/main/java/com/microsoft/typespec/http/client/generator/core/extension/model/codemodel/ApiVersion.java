@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -140,4 +142,24 @@ public class ApiVersion {
             }
         }
     }
+
+    /**
+     * Deserializes an ApiVersion instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return An ApiVersion instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static ApiVersion fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, ApiVersion::new, (apiVersion, fieldName, reader) -> {
+            if ("version".equals(fieldName)) {
+                apiVersion.setVersion(reader.getString());
+            } else if ("range".equals(fieldName)) {
+                apiVersion.setRange(ApiVersion.Range.fromValue(reader.getString()));
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
 }
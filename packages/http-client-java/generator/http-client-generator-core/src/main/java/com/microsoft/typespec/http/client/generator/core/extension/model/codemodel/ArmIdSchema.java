@@ -3,6 +3,9 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
+
 /**
  * Represents an ARM ID schema.
  */
@@ -13,4 +16,16 @@ public class ArmIdSchema extends PrimitiveSchema {
     public ArmIdSchema() {
         super();
     }
+
+    /**
+     * Deserializes an ArmIdSchema instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return An ArmIdSchema instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static ArmIdSchema fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readMetadata(jsonReader, ArmIdSchema::new);
+    }
 }
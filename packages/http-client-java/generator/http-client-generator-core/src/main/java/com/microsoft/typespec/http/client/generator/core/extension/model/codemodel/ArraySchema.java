@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -121,4 +123,32 @@ public class ArraySchema extends ValueSchema {
             && uniqueItems == rhs.uniqueItems
             && Objects.equals(this.elementType, rhs.elementType);
     }
+
+    /**
+     * Deserializes an ArraySchema instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return An ArraySchema instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static ArraySchema fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readMetadata(jsonReader, ArraySchema::new);
+    }
+
+    @Override
+    protected boolean readField(String fieldName, JsonReader jsonReader, JsonReferences references) throws IOException {
+        if ("elementType".equals(fieldName)) {
+            setElementType(Schema.fromJson(jsonReader, references));
+        } else if ("maxItems".equals(fieldName)) {
+            setMaxItems(jsonReader.getDouble());
+        } else if ("minItems".equals(fieldName)) {
+            setMinItems(jsonReader.getDouble());
+        } else if ("uniqueItems".equals(fieldName)) {
+            setUniqueItems(jsonReader.getBoolean());
+        } else {
+            return super.readField(fieldName, jsonReader, references);
+        }
+        return true;
+    }
 }
@@ -3,6 +3,9 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
+
 /**
  * Represent a binary schema.
  */
@@ -13,4 +16,16 @@ public class BinarySchema extends Schema {
     public BinarySchema() {
         super();
     }
+
+    /**
+     * Deserializes a BinarySchema instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A BinarySchema instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static BinarySchema fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readMetadata(jsonReader, BinarySchema::new);
+    }
 }
@@ -3,6 +3,9 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
+
 /**
  * Represents a boolean schema.
  */
@@ -33,4 +36,16 @@ public class BooleanSchema extends PrimitiveSchema {
 
         return other instanceof BooleanSchema;
     }
+
+    /**
+     * Deserializes a BooleanSchema instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A BooleanSchema instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static BooleanSchema fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readMetadata(jsonReader, BooleanSchema::new);
+    }
 }
@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -114,4 +116,25 @@ public class ByteArraySchema extends PrimitiveSchema {
 
     }
 
+    /**
+     * Deserializes a ByteArraySchema instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A ByteArraySchema instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static ByteArraySchema fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readMetadata(jsonReader, ByteArraySchema::new);
+    }
+
+    @Override
+    protected boolean readField(String fieldName, JsonReader jsonReader, JsonReferences references) throws IOException {
+        if ("format".equals(fieldName)) {
+            setFormat(Format.fromValue(jsonReader.getString()));
+        } else {
+            return super.readField(fieldName, jsonReader, references);
+        }
+        return true;
+    }
 }
@@ -3,6 +3,9 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
+
 /**
  * Represents the C# language.
  */
@@ -32,4 +35,17 @@ public class CSharpLanguage {
 
         return other instanceof CSharpLanguage;
     }
+
+    /**
+     * Deserializes a CSharpLanguage instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A CSharpLanguage instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static CSharpLanguage fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, CSharpLanguage::new,
+            (object, fieldName, reader) -> reader.skipChildren());
+    }
 }
@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -105,4 +107,30 @@ public class ChoiceSchema extends ValueSchema {
             && Objects.equals(lhs.choices, rhs.choices)
             && Objects.equals(lhs.getLanguage().getJava().getName(), rhs.getLanguage().getJava().getName());
     }
+
+    /**
+     * Deserializes a ChoiceSchema instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A ChoiceSchema instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static ChoiceSchema fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readMetadata(jsonReader, ChoiceSchema::new);
+    }
+
+    @Override
+    protected boolean readField(String fieldName, JsonReader jsonReader, JsonReferences references) throws IOException {
+        if ("choiceType".equals(fieldName)) {
+            setChoiceType(Schema.fromJson(jsonReader, references));
+        } else if ("choices".equals(fieldName)) {
+            setChoices(references.readArray(jsonReader, reader -> ChoiceValue.fromJson(reader, references)));
+        } else if ("summary".equals(fieldName)) {
+            setSummary(jsonReader.getString());
+        } else {
+            return super.readField(fieldName, jsonReader, references);
+        }
+        return true;
+    }
 }
@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -98,4 +100,26 @@ public class ChoiceValue {
         ChoiceValue rhs = ((ChoiceValue) other);
         return Objects.equals(this.value, rhs.value);
     }
+
+    /**
+     * Deserializes a ChoiceValue instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A ChoiceValue instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static ChoiceValue fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, ChoiceValue::new, (value, fieldName, reader) -> {
+            if ("language".equals(fieldName)) {
+                value.setLanguage(Languages.fromJson(reader, references));
+            } else if ("value".equals(fieldName)) {
+                value.setValue(reader.getString());
+            } else if ("extensions".equals(fieldName)) {
+                value.setExtensions(DictionaryAny.fromJson(reader, references));
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
 }
@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -168,4 +170,44 @@ public class Client extends Metadata {
     public void setParentAccessorPublic(boolean parentAccessorPublic) {
         this.parentAccessorPublic = parentAccessorPublic;
     }
+
+    /**
+     * Deserializes a Client instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A Client instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static Client fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readMetadata(jsonReader, Client::new);
+    }
+
+    @Override
+    protected boolean readField(String fieldName, JsonReader jsonReader, JsonReferences references) throws IOException {
+        if ("summary".equals(fieldName)) {
+            setSummary(jsonReader.getString());
+        } else if ("operationGroups".equals(fieldName)) {
+            setOperationGroups(references.readArray(jsonReader, reader -> OperationGroup.fromJson(reader, references)));
+        } else if ("globalParameters".equals(fieldName)) {
+            setGlobalParameters(references.readArray(jsonReader, reader -> Parameter.fromJson(reader, references)));
+        } else if ("security".equals(fieldName)) {
+            setSecurity(Security.fromJson(jsonReader, references));
+        } else if ("apiVersions".equals(fieldName)) {
+            setApiVersions(references.readArray(jsonReader, reader -> ApiVersion.fromJson(reader, references)));
+        } else if ("serviceVersion".equals(fieldName)) {
+            setServiceVersion(ServiceVersion.fromJson(jsonReader, references));
+        } else if ("parent".equals(fieldName)) {
+            setParent(Client.fromJson(jsonReader, references));
+        } else if ("subClients".equals(fieldName)) {
+            setSubClients(references.readArray(jsonReader, reader -> Client.fromJson(reader, references)));
+        } else if ("buildMethodPublic".equals(fieldName)) {
+            setBuildMethodPublic(jsonReader.getBoolean());
+        } else if ("parentAccessorPublic".equals(fieldName)) {
+            setParentAccessorPublic(jsonReader.getBoolean());
+        } else {
+            return super.readField(fieldName, jsonReader, references);
+        }
+        return true;
+    }
 }
@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -95,4 +97,43 @@ public class CodeModel extends Client {
     public void setTestModel(TestModel testModel) {
         this.testModel = testModel;
     }
+
+    /**
+     * Deserializes a CodeModel instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @return A CodeModel instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static CodeModel fromJson(JsonReader jsonReader) throws IOException {
+        return fromJson(jsonReader, new JsonReferences());
+    }
+
+    /**
+     * Deserializes a CodeModel instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A CodeModel instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static CodeModel fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readMetadata(jsonReader, CodeModel::new);
+    }
+
+    @Override
+    protected boolean readField(String fieldName, JsonReader jsonReader, JsonReferences references) throws IOException {
+        if ("info".equals(fieldName)) {
+            setInfo(Info.fromJson(jsonReader, references));
+        } else if ("schemas".equals(fieldName)) {
+            setSchemas(Schemas.fromJson(jsonReader, references));
+        } else if ("clients".equals(fieldName)) {
+            setClients(references.readArray(jsonReader, reader -> Client.fromJson(reader, references)));
+        } else if ("testModel".equals(fieldName)) {
+            setTestModel(TestModel.fromJson(jsonReader, references));
+        } else {
+            return super.readField(fieldName, jsonReader, references);
+        }
+        return true;
+    }
 }
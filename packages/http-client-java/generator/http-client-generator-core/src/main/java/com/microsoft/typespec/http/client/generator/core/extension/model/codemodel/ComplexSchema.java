@@ -3,6 +3,9 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
+
 /**
  * Represents a complex schema (types that can be an object).
  */
@@ -13,4 +16,18 @@ public class ComplexSchema extends Schema {
     public ComplexSchema() {
         super();
     }
+
+    /**
+     * Deserializes a ComplexSchema instance from the JSON data.
+     * <p>
+     * The type of the schema is decided by the value of the "type" field, which precedes all other fields.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A ComplexSchema instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static ComplexSchema fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return (ComplexSchema) Schema.fromJson(jsonReader, references);
+    }
 }
@@ -3,6 +3,9 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
+
 /**
  * Represents a constant schema.
  */
@@ -52,4 +55,28 @@ public class ConstantSchema extends Schema {
     public void setValue(ConstantValue value) {
         this.value = value;
     }
+
+    /**
+     * Deserializes a ConstantSchema instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A ConstantSchema instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static ConstantSchema fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readMetadata(jsonReader, ConstantSchema::new);
+    }
+
+    @Override
+    protected boolean readField(String fieldName, JsonReader jsonReader, JsonReferences references) throws IOException {
+        if ("valueType".equals(fieldName)) {
+            setValueType(Schema.fromJson(jsonReader, references));
+        } else if ("value".equals(fieldName)) {
+            setValue(ConstantValue.fromJson(jsonReader, references));
+        } else {
+            return super.readField(fieldName, jsonReader, references);
+        }
+        return true;
+    }
 }
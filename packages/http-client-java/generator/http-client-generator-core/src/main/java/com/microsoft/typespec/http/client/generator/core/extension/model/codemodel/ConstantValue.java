@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -99,4 +101,26 @@ public class ConstantValue {
             && Objects.equals(extensions, rhs.extensions)
             && Objects.equals(value, rhs.value);
     }
+
+    /**
+     * Deserializes a ConstantValue instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A ConstantValue instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static ConstantValue fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, ConstantValue::new, (value, fieldName, reader) -> {
+            if ("language".equals(fieldName)) {
+                value.setLanguage(Languages.fromJson(reader, references));
+            } else if ("value".equals(fieldName)) {
+                value.setValue(references.readUntyped(reader));
+            } else if ("extensions".equals(fieldName)) {
+                value.setExtensions(DictionaryAny.fromJson(reader, references));
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
 }
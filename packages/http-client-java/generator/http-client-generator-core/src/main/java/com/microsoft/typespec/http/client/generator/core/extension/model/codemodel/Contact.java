@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -119,4 +121,28 @@ public class Contact {
             && Objects.equals(url, rhs.url)
             && Objects.equals(email, rhs.email);
     }
+
+    /**
+     * Deserializes a Contact instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A Contact instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static Contact fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, Contact::new, (contact, fieldName, reader) -> {
+            if ("name".equals(fieldName)) {
+                contact.setName(reader.getString());
+            } else if ("url".equals(fieldName)) {
+                contact.setUrl(reader.getString());
+            } else if ("email".equals(fieldName)) {
+                contact.setEmail(reader.getString());
+            } else if ("extensions".equals(fieldName)) {
+                contact.setExtensions(DictionaryAny.fromJson(reader, references));
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
 }
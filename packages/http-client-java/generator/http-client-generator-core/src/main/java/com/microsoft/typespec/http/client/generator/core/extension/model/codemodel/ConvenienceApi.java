@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -35,4 +37,26 @@ public class ConvenienceApi extends Metadata {
     public void setRequests(List<Request> requests) {
         this.requests = requests;
     }
+
+    /**
+     * Deserializes a ConvenienceApi instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A ConvenienceApi instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static ConvenienceApi fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readMetadata(jsonReader, ConvenienceApi::new);
+    }
+
+    @Override
+    protected boolean readField(String fieldName, JsonReader jsonReader, JsonReferences references) throws IOException {
+        if ("requests".equals(fieldName)) {
+            setRequests(references.readArray(jsonReader, reader -> Request.fromJson(reader, references)));
+        } else {
+            return super.readField(fieldName, jsonReader, references);
+        }
+        return true;
+    }
 }
@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -101,4 +103,30 @@ public class CredentialSchema extends PrimitiveSchema {
             && Objects.equals(minLength, rhs.minLength)
             && Objects.equals(pattern, rhs.pattern);
     }
+
+    /**
+     * Deserializes a CredentialSchema instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A CredentialSchema instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static CredentialSchema fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readMetadata(jsonReader, CredentialSchema::new);
+    }
+
+    @Override
+    protected boolean readField(String fieldName, JsonReader jsonReader, JsonReferences references) throws IOException {
+        if ("maxLength".equals(fieldName)) {
+            setMaxLength(jsonReader.getDouble());
+        } else if ("minLength".equals(fieldName)) {
+            setMinLength(jsonReader.getDouble());
+        } else if ("pattern".equals(fieldName)) {
+            setPattern(jsonReader.getString());
+        } else {
+            return super.readField(fieldName, jsonReader, references);
+        }
+        return true;
+    }
 }
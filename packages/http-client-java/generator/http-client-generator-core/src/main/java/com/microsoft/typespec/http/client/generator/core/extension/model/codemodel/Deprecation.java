@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -80,4 +82,24 @@ public class Deprecation {
         Deprecation rhs = ((Deprecation) other);
         return Objects.equals(message, rhs.message) && Objects.equals(apiVersions, rhs.apiVersions);
     }
+
+    /**
+     * Deserializes a Deprecation instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A Deprecation instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static Deprecation fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, Deprecation::new, (deprecation, fieldName, reader) -> {
+            if ("message".equals(fieldName)) {
+                deprecation.setMessage(reader.getString());
+            } else if ("apiVersions".equals(fieldName)) {
+                deprecation.setApiVersions(references.readArray(reader, r -> ApiVersion.fromJson(r, references)));
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
 }
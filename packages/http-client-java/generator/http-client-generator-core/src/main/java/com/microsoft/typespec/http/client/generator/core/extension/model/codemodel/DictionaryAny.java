@@ -3,6 +3,9 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
+
 /**
  * Represents a dictionary of any type.
  */
@@ -32,4 +35,17 @@ public class DictionaryAny {
 
         return other instanceof DictionaryAny;
     }
+
+    /**
+     * Deserializes a DictionaryAny instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A DictionaryAny instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static DictionaryAny fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, DictionaryAny::new,
+            (object, fieldName, reader) -> reader.skipChildren());
+    }
 }
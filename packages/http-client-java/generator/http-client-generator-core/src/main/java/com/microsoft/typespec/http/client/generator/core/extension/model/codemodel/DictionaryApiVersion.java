@@ -3,6 +3,9 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
+
 /**
  * Represents the version of the dictionary API.
  */
@@ -32,4 +35,17 @@ public class DictionaryApiVersion {
 
         return other instanceof DictionaryApiVersion;
     }
+
+    /**
+     * Deserializes a DictionaryApiVersion instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A DictionaryApiVersion instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static DictionaryApiVersion fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, DictionaryApiVersion::new,
+            (object, fieldName, reader) -> reader.skipChildren());
+    }
 }
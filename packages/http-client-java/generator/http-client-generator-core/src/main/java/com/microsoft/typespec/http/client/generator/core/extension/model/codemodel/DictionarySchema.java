@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -80,4 +82,28 @@ public class DictionarySchema extends ComplexSchema {
     public int hashCode() {
         return Objects.hash(elementType, nullableItems);
     }
+
+    /**
+     * Deserializes a DictionarySchema instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A DictionarySchema instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static DictionarySchema fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readMetadata(jsonReader, DictionarySchema::new);
+    }
+
+    @Override
+    protected boolean readField(String fieldName, JsonReader jsonReader, JsonReferences references) throws IOException {
+        if ("elementType".equals(fieldName)) {
+            setElementType(Schema.fromJson(jsonReader, references));
+        } else if ("nullableItems".equals(fieldName)) {
+            setNullableItems(jsonReader.getBoolean());
+        } else {
+            return super.readField(fieldName, jsonReader, references);
+        }
+        return true;
+    }
 }
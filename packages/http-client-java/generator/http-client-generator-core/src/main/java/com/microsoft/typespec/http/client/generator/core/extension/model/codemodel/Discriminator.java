@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.Map;
 
 /**
@@ -72,4 +74,26 @@ public class Discriminator {
     public void setAll(Map<String, ComplexSchema> all) {
         this.all = all;
     }
+
+    /**
+     * Deserializes a Discriminator instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A Discriminator instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static Discriminator fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, Discriminator::new, (discriminator, fieldName, reader) -> {
+            if ("property".equals(fieldName)) {
+                discriminator.setProperty(Property.fromJson(reader, references));
+            } else if ("immediate".equals(fieldName)) {
+                discriminator.setImmediate(references.readMap(reader, r -> ComplexSchema.fromJson(r, references)));
+            } else if ("all".equals(fieldName)) {
+                discriminator.setAll(references.readMap(reader, r -> ComplexSchema.fromJson(r, references)));
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
 }
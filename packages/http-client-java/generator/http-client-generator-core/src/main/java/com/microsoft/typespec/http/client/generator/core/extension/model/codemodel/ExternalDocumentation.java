@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -100,4 +102,26 @@ public class ExternalDocumentation {
             && Objects.equals(url, rhs.url)
             && Objects.equals(extensions, rhs.extensions);
     }
+
+    /**
+     * Deserializes an ExternalDocumentation instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return An ExternalDocumentation instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static ExternalDocumentation fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, ExternalDocumentation::new, (externalDocs, fieldName, reader) -> {
+            if ("description".equals(fieldName)) {
+                externalDocs.setDescription(reader.getString());
+            } else if ("url".equals(fieldName)) {
+                externalDocs.setUrl(reader.getString());
+            } else if ("extensions".equals(fieldName)) {
+                externalDocs.setExtensions(DictionaryAny.fromJson(reader, references));
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
 }
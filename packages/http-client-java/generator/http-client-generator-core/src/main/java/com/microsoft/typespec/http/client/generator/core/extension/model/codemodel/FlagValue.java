@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -100,4 +102,26 @@ public class FlagValue {
             && Objects.equals(language, rhs.language)
             && Objects.equals(extensions, rhs.extensions);
     }
+
+    /**
+     * Deserializes a FlagValue instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A FlagValue instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static FlagValue fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, FlagValue::new, (value, fieldName, reader) -> {
+            if ("language".equals(fieldName)) {
+                value.setLanguage(Languages.fromJson(reader, references));
+            } else if ("value".equals(fieldName)) {
+                value.setValue(reader.getDouble());
+            } else if ("extensions".equals(fieldName)) {
+                value.setExtensions(DictionaryAny.fromJson(reader, references));
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
 }
@@ -3,7 +3,9 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
 import com.microsoft.typespec.http.client.generator.core.extension.model.extensionmodel.XmsExtensions;
+import java.io.IOException;
 
 /**
  * Represents a header.
@@ -72,4 +74,26 @@ public class Header {
     public void setExtensions(XmsExtensions extensions) {
         this.extensions = extensions;
     }
+
+    /**
+     * Deserializes a Header instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A Header instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static Header fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, Header::new, (header, fieldName, reader) -> {
+            if ("header".equals(fieldName)) {
+                header.setHeader(reader.getString());
+            } else if ("schema".equals(fieldName)) {
+                header.setSchema(Schema.fromJson(reader, references));
+            } else if ("extensions".equals(fieldName)) {
+                header.setExtensions(XmsExtensions.fromJson(reader, references));
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
 }
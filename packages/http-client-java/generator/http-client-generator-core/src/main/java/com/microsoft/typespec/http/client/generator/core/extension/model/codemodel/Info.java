@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -182,4 +184,34 @@ public class Info {
             && Objects.equals(externalDocs, rhs.externalDocs)
             && Objects.equals(extensions, rhs.extensions);
     }
+
+    /**
+     * Deserializes an Info instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return An Info instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static Info fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, Info::new, (info, fieldName, reader) -> {
+            if ("title".equals(fieldName)) {
+                info.setTitle(reader.getString());
+            } else if ("description".equals(fieldName)) {
+                info.setDescription(reader.getString());
+            } else if ("termsOfService".equals(fieldName)) {
+                info.setTermsOfService(reader.getString());
+            } else if ("contact".equals(fieldName)) {
+                info.setContact(Contact.fromJson(reader, references));
+            } else if ("license".equals(fieldName)) {
+                info.setLicense(License.fromJson(reader, references));
+            } else if ("externalDocs".equals(fieldName)) {
+                info.setExternalDocs(ExternalDocumentation.fromJson(reader, references));
+            } else if ("extensions".equals(fieldName)) {
+                info.setExtensions(DictionaryAny.fromJson(reader, references));
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
 }
@@ -0,0 +1,310 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
+
+import com.azure.json.JsonReader;
+import com.azure.json.JsonToken;
+import com.azure.json.ReadValueCallback;
+import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Tracks the objects that are shared within a JSON code model.
+ * <p>
+ * An object that is referenced from more than one place in the code model is written in full at its first occurrence,
+ * with an additional {@code "$id"} property, and every later occurrence is written as {@code {"$ref": "<id>"}}. A
+ * shared array is written as {@code {"$id": "<id>", "$values": [...]}}. The {@code "$id"} property, followed by the
+ * {@code "type"} property of a schema, is written before any other property.
+ * <p>
+ * As the code model is read in document order, a reference always points to an object that has already been created,
+ * so the code model is read in a single pass with the same object identity the YAML anchors and aliases provide.
+ */
+public final class JsonReferences {
+    private static final String ID = "$id";
+    private static final String REF = "$ref";
+    private static final String VALUES = "$values";
+
+    private final Map<String, Object> objects = new HashMap<>();
+
+    /**
+     * Creates a new instance of the JsonReferences class.
+     */
+    public JsonReferences() {
+    }
+
+    /**
+     * Reads a JSON object, or a reference to an object read before.
+     * <p>
+     * JSON null values are skipped, so fields keep their default value.
+     *
+     * @param jsonReader The JSON reader positioned at the object.
+     * @param objectCreator The supplier that creates a new instance of the object.
+     * @param callback The callback that reads each field value and sets it on the object.
+     * @param <T> The type of the object.
+     * @return The object, or null if the JSON value is null.
+     * @throws IOException If an error occurs while reading the object.
+     */
+    public <T> T readObject(JsonReader jsonReader, Supplier<T> objectCreator, JsonUtils.ReadObjectCallback<T> callback)
+        throws IOException {
+        return readObject(jsonReader, null, type -> objectCreator.get(), callback);
+    }
+
+    /**
+     * Reads a JSON object whose type is decided by the value of its discriminator field, or a reference to an object
+     * read before.
+     * <p>
+     * The discriminator field must precede all other fields, except {@code "$id"}.
+     *
+     * @param jsonReader The JSON reader positioned at the object.
+     * @param discriminatorName The name of the discriminator field.
+     * @param objectCreator The function that creates a new instance of the object from the discriminator value, which
+     * is null if the object has no discriminator field.
+     * @param callback The callback that reads each field value and sets it on the object.
+     * @param <T> The type of the object.
+     * @return The object, or null if the JSON value is null.
+     * @throws IOException If an error occurs while reading the object.
+     */
+    public <T> T readObject(JsonReader jsonReader, String discriminatorName, Function<String, T> objectCreator,
+        JsonUtils.ReadObjectCallback<T> callback) throws IOException {
+        JsonToken token = jsonReader.currentToken();
+        if (token == null) {
+            token = jsonReader.nextToken();
+        }
+
+        if (token == JsonToken.NULL) {
+            return null;
+        } else if (token != JsonToken.START_OBJECT) {
+            throw new IllegalStateException("Unexpected token to begin deserialization: " + token);
+        }
+
+        T object = null;
+        String id = null;
+        while (jsonReader.nextToken() != JsonToken.END_OBJECT) {
+            String fieldName = jsonReader.getFieldName();
+            jsonReader.nextToken();
+
+            if (object == null) {
+                if (REF.equals(fieldName)) {
+                    return readReference(jsonReader);
+                } else if (ID.equals(fieldName)) {
+                    id = jsonReader.getString();
+                    continue;
+                }
+
+                object = objectCreator.apply(fieldName.equals(discriminatorName) ? jsonReader.getString() : null);
+                register(id, object);
+            }
+
+            if (jsonReader.currentToken() == JsonToken.NULL) {
+                continue;
+            }
+            callback.read(object, fieldName, jsonReader);
+        }
+
+        if (object == null) {
+            object = objectCreator.apply(null);
+            register(id, object);
+        }
+        return object;
+    }
+
+    /*
+     * Reads a code model object, using Metadata.readField to read each field.
+     */
+    <T extends Metadata> T readMetadata(JsonReader jsonReader, Supplier<T> objectCreator) throws IOException {
+        return readObject(jsonReader, objectCreator, this::readField);
+    }
+
+    /*
+     * Reads a code model object whose type is decided by the value of its discriminator field.
+     */
+    <T extends Metadata> T readMetadata(JsonReader jsonReader, String discriminatorName,
+        Function<String, T> objectCreator) throws IOException {
+        return readObject(jsonReader, discriminatorName, objectCreator, this::readField);
+    }
+
+    /**
+     * Reads a JSON array, or a reference to an array read before.
+     *
+     * @param jsonReader The JSON reader positioned at the array.
+     * @param elementReader The function that reads each element of the array.
+     * @param <T> The type of the elements.
+     * @return The list of elements, or null if the JSON value is null.
+     * @throws IOException If an error occurs while reading the array.
+     */
+    public <T> List<T> readArray(JsonReader jsonReader, ReadValueCallback<JsonReader, T> elementReader)
+        throws IOException {
+        JsonToken token = jsonReader.currentToken();
+        if (token == JsonToken.NULL) {
+            return null;
+        } else if (token == JsonToken.START_ARRAY) {
+            return readElements(jsonReader, new ArrayList<>(), elementReader);
+        } else if (token != JsonToken.START_OBJECT) {
+            throw new IllegalStateException("Unexpected token to begin deserialization: " + token);
+        }
+
+        // shared array, {"$id": "<id>", "$values": [...]} or {"$ref": "<id>"}
+        List<T> list = null;
+        while (jsonReader.nextToken() != JsonToken.END_OBJECT) {
+            String fieldName = jsonReader.getFieldName();
+            jsonReader.nextToken();
+
+            if (REF.equals(fieldName)) {
+                return readReference(jsonReader);
+            } else if (ID.equals(fieldName)) {
+                list = new ArrayList<>();
+                register(jsonReader.getString(), list);
+            } else if (VALUES.equals(fieldName)) {
+                list = readElements(jsonReader, list == null ? new ArrayList<>() : list, elementReader);
+            } else {
+                jsonReader.skipChildren();
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Reads a JSON object as a map, or a reference to a map read before.
+     *
+     * @param jsonReader The JSON reader positioned at the object.
+     * @param valueReader The function that reads each value of the map.
+     * @param <T> The type of the values.
+     * @return The map, or null if the JSON value is null.
+     * @throws IOException If an error occurs while reading the map.
+     */
+    public <T> Map<String, T> readMap(JsonReader jsonReader, ReadValueCallback<JsonReader, T> valueReader)
+        throws IOException {
+        return readObject(jsonReader, LinkedHashMap::new,
+            (map, fieldName, reader) -> map.put(fieldName, valueReader.read(reader)));
+    }
+
+    /**
+     * Reads a JSON value of unknown type.
+     * <p>
+     * Objects are read as {@link LinkedHashMap}, arrays as {@link ArrayList}, and numbers as {@link Integer},
+     * {@link Long}, {@link BigInteger} or {@link Double}, the same as SnakeYAML constructs them.
+     *
+     * @param jsonReader The JSON reader positioned at the value.
+     * @return The value.
+     * @throws IOException If an error occurs while reading the value.
+     */
+    public Object readUntyped(JsonReader jsonReader) throws IOException {
+        switch (jsonReader.currentToken()) {
+            case START_OBJECT:
+                return readUntypedObject(jsonReader);
+
+            case START_ARRAY:
+                return readElements(jsonReader, new ArrayList<>(), this::readUntyped);
+
+            case STRING:
+                return jsonReader.getString();
+
+            case NUMBER:
+                return readNumber(jsonReader.getText());
+
+            case BOOLEAN:
+                return jsonReader.getBoolean();
+
+            default:
+                return null;
+        }
+    }
+
+    private Object readUntypedObject(JsonReader jsonReader) throws IOException {
+        Map<String, Object> map = null;
+        String id = null;
+        while (jsonReader.nextToken() != JsonToken.END_OBJECT) {
+            String fieldName = jsonReader.getFieldName();
+            jsonReader.nextToken();
+
+            if (map == null) {
+                if (REF.equals(fieldName)) {
+                    return readReference(jsonReader);
+                } else if (ID.equals(fieldName)) {
+                    id = jsonReader.getString();
+                    continue;
+                } else if (VALUES.equals(fieldName) && id != null) {
+                    // shared array
+                    List<Object> list = new ArrayList<>();
+                    register(id, list);
+                    readElements(jsonReader, list, this::readUntyped);
+                    while (jsonReader.nextToken() != JsonToken.END_OBJECT) {
+                        jsonReader.nextToken();
+                        jsonReader.skipChildren();
+                    }
+                    return list;
+                }
+
+                map = new LinkedHashMap<>();
+                register(id, map);
+            }
+            map.put(fieldName, readUntyped(jsonReader));
+        }
+
+        if (map == null) {
+            map = new LinkedHashMap<>();
+            register(id, map);
+        }
+        return map;
+    }
+
+    private void readField(Metadata object, String fieldName, JsonReader jsonReader) throws IOException {
+        if (!object.readField(fieldName, jsonReader, this)) {
+            jsonReader.skipChildren();
+        }
+    }
+
+    private <T> List<T> readElements(JsonReader jsonReader, List<T> list,
+        ReadValueCallback<JsonReader, T> elementReader) throws IOException {
+        while (jsonReader.nextToken() != JsonToken.END_ARRAY) {
+            list.add(elementReader.read(jsonReader));
+        }
+        return list;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T readReference(JsonReader jsonReader) throws IOException {
+        String id = jsonReader.getString();
+        Object object = objects.get(id);
+        if (object == null) {
+            throw new IllegalStateException("Reference '" + id + "' is used before the object is defined.");
+        }
+
+        // skip any remaining fields of the reference object
+        while (jsonReader.nextToken() != JsonToken.END_OBJECT) {
+            jsonReader.nextToken();
+            jsonReader.skipChildren();
+        }
+        return (T) object;
+    }
+
+    private void register(String id, Object object) {
+        if (id != null) {
+            objects.put(id, object);
+        }
+    }
+
+    private static Object readNumber(String text) {
+        if (text.indexOf('.') >= 0 || text.indexOf('e') >= 0 || text.indexOf('E') >= 0) {
+            return Double.parseDouble(text);
+        }
+
+        BigInteger value = new BigInteger(text);
+        if (value.bitLength() < Integer.SIZE) {
+            return value.intValue();
+        } else if (value.bitLength() < Long.SIZE) {
+            return value.longValue();
+        } else {
+            return value;
+        }
+    }
+}
@@ -3,6 +3,9 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
+
 /**
  * Represents the per-language metadata.
  */
@@ -151,4 +154,34 @@ public class Language {
     public String toString() {
         return "Language{name='" + name + "', serializedName='" + serializedName + "'}";
     }
+
+    /**
+     * Deserializes a Language instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A Language instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static Language fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, Language::new, (language, fieldName, reader) -> {
+            if ("name".equals(fieldName)) {
+                language.setName(reader.getString());
+            } else if ("serializedName".equals(fieldName)) {
+                language.setSerializedName(reader.getString());
+            } else if ("description".equals(fieldName)) {
+                language.setDescription(reader.getString());
+            } else if ("summary".equals(fieldName)) {
+                language.setSummary(reader.getString());
+            } else if ("namespace".equals(fieldName)) {
+                language.setNamespace(reader.getString());
+            } else if ("crossLanguageDefinitionId".equals(fieldName)) {
+                language.setCrossLanguageDefinitionId(reader.getString());
+            } else if ("comment".equals(fieldName)) {
+                language.setComment(reader.getString());
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
 }
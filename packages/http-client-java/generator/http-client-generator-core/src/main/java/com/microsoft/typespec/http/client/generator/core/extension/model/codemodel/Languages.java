@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -299,4 +301,46 @@ public class Languages {
     public String toString() {
         return "Languages{default=" + _default + ", java=" + java + '}';
     }
+
+    /**
+     * Deserializes a Languages instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A Languages instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static Languages fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, Languages::new, (languages, fieldName, reader) -> {
+            if ("default".equals(fieldName)) {
+                languages.setDefault(Language.fromJson(reader, references));
+            } else if ("csharp".equals(fieldName)) {
+                languages.setCsharp(CSharpLanguage.fromJson(reader, references));
+            } else if ("python".equals(fieldName)) {
+                languages.setPython(Language.fromJson(reader, references));
+            } else if ("ruby".equals(fieldName)) {
+                languages.setRuby(Language.fromJson(reader, references));
+            } else if ("go".equals(fieldName)) {
+                languages.setGo(Language.fromJson(reader, references));
+            } else if ("typescript".equals(fieldName)) {
+                languages.setTypescript(Language.fromJson(reader, references));
+            } else if ("javascript".equals(fieldName)) {
+                languages.setJavascript(Language.fromJson(reader, references));
+            } else if ("powershell".equals(fieldName)) {
+                languages.setPowershell(Language.fromJson(reader, references));
+            } else if ("java".equals(fieldName)) {
+                languages.setJava(Language.fromJson(reader, references));
+            } else if ("c".equals(fieldName)) {
+                languages.setC(Language.fromJson(reader, references));
+            } else if ("cpp".equals(fieldName)) {
+                languages.setCpp(Language.fromJson(reader, references));
+            } else if ("swift".equals(fieldName)) {
+                languages.setSwift(Language.fromJson(reader, references));
+            } else if ("objectivec".equals(fieldName)) {
+                languages.setObjectivec(Language.fromJson(reader, references));
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
 }
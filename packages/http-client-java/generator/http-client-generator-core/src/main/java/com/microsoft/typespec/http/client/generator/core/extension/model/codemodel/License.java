@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -100,4 +102,26 @@ public class License {
             && Objects.equals(url, rhs.url)
             && Objects.equals(extensions, rhs.extensions);
     }
+
+    /**
+     * Deserializes a License instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A License instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static License fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, License::new, (license, fieldName, reader) -> {
+            if ("name".equals(fieldName)) {
+                license.setName(reader.getString());
+            } else if ("url".equals(fieldName)) {
+                license.setUrl(reader.getString());
+            } else if ("extensions".equals(fieldName)) {
+                license.setExtensions(DictionaryAny.fromJson(reader, references));
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
 }
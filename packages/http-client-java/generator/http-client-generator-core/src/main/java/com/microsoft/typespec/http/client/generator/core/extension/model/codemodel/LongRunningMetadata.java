@@ -3,6 +3,9 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
+
 /**
  * Represents the metadata for long-running operations.
  */
@@ -89,4 +92,28 @@ public class LongRunningMetadata {
     public void setFinalResultPropertySerializedName(String finalResultPropertySerializedName) {
         this.finalResultPropertySerializedName = finalResultPropertySerializedName;
     }
+
+    /**
+     * Deserializes a LongRunningMetadata instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A LongRunningMetadata instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static LongRunningMetadata fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, LongRunningMetadata::new, (metadata, fieldName, reader) -> {
+            if ("pollResultType".equals(fieldName)) {
+                metadata.setPollResultType(ObjectSchema.fromJson(reader, references));
+            } else if ("finalResultType".equals(fieldName)) {
+                metadata.setFinalResultType(ObjectSchema.fromJson(reader, references));
+            } else if ("pollingStrategy".equals(fieldName)) {
+                metadata.setPollingStrategy(Metadata.fromJson(reader, references));
+            } else if ("finalResultPropertySerializedName".equals(fieldName)) {
+                metadata.setFinalResultPropertySerializedName(reader.getString());
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
 }
@@ -3,7 +3,9 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
 import com.microsoft.typespec.http.client.generator.core.extension.model.extensionmodel.XmsExtensions;
+import java.io.IOException;
 
 /**
  * Represents metadata.
@@ -72,4 +74,40 @@ public class Metadata {
     public void setExtensions(XmsExtensions extensions) {
         this.extensions = extensions;
     }
+
+    /**
+     * Deserializes a Metadata instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A Metadata instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static Metadata fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readMetadata(jsonReader, Metadata::new);
+    }
+
+    /**
+     * Reads a field of the JSON data into this instance.
+     * <p>
+     * Subclasses override this method to read their own fields, and delegate to it for the fields they inherit.
+     *
+     * @param fieldName The name of the field.
+     * @param jsonReader The JSON reader positioned at the field value.
+     * @param references The objects shared within the code model.
+     * @return Whether the field is known, an unknown field is skipped.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    protected boolean readField(String fieldName, JsonReader jsonReader, JsonReferences references) throws IOException {
+        if ("language".equals(fieldName)) {
+            setLanguage(Languages.fromJson(jsonReader, references));
+        } else if ("protocol".equals(fieldName)) {
+            setProtocol(Protocols.fromJson(jsonReader, references));
+        } else if ("extensions".equals(fieldName)) {
+            setExtensions(XmsExtensions.fromJson(jsonReader, references));
+        } else {
+            return false;
+        }
+        return true;
+    }
 }
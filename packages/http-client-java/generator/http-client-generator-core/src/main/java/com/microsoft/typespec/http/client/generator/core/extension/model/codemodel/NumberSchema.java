@@ -3,6 +3,9 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
+
 /**
  * Represents a Number value.
  */
@@ -146,4 +149,38 @@ public class NumberSchema extends PrimitiveSchema {
     public void setEncode(String encode) {
         this.encode = encode;
     }
+
+    /**
+     * Deserializes a NumberSchema instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A NumberSchema instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static NumberSchema fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readMetadata(jsonReader, NumberSchema::new);
+    }
+
+    @Override
+    protected boolean readField(String fieldName, JsonReader jsonReader, JsonReferences references) throws IOException {
+        if ("precision".equals(fieldName)) {
+            setPrecision(jsonReader.getDouble());
+        } else if ("multipleOf".equals(fieldName)) {
+            setMultipleOf(jsonReader.getDouble());
+        } else if ("maximum".equals(fieldName)) {
+            setMaximum(jsonReader.getDouble());
+        } else if ("exclusiveMaximum".equals(fieldName)) {
+            setExclusiveMaximum(jsonReader.getBoolean());
+        } else if ("minimum".equals(fieldName)) {
+            setMinimum(jsonReader.getDouble());
+        } else if ("exclusiveMinimum".equals(fieldName)) {
+            setExclusiveMinimum(jsonReader.getBoolean());
+        } else if ("encode".equals(fieldName)) {
+            setEncode(jsonReader.getString());
+        } else {
+            return super.readField(fieldName, jsonReader, references);
+        }
+        return true;
+    }
 }
@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.List;
 
 public final class OAuth2Flow {
@@ -73,4 +75,34 @@ public final class OAuth2Flow {
     public void setScopes(List<OAuth2Scope> scopes) {
         this.scopes = scopes;
     }
+
+    public static OAuth2Flow fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, OAuth2Flow::new, (flow, fieldName, reader) -> {
+            if ("type".equals(fieldName)) {
+                flow.setType(reader.getString());
+            } else if ("authorizationUrl".equals(fieldName)) {
+                flow.setAuthorizationUrl(reader.getString());
+            } else if ("tokenUrl".equals(fieldName)) {
+                flow.setTokenUrl(reader.getString());
+            } else if ("refreshUrl".equals(fieldName)) {
+                flow.setRefreshUrl(reader.getString());
+            } else if ("scopes".equals(fieldName)) {
+                flow.setScopes(references.readArray(reader, r -> readScope(r, references)));
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
+
+    private static OAuth2Scope readScope(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, OAuth2Scope::new, (scope, fieldName, reader) -> {
+            if ("value".equals(fieldName)) {
+                scope.setValue(reader.getString());
+            } else if ("description".equals(fieldName)) {
+                scope.setDescription(reader.getString());
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
 }
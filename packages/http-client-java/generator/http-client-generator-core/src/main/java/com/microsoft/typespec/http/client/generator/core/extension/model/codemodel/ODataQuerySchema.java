@@ -3,6 +3,9 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
+
 /**
  * Represents an ODataQuery value.
  */
@@ -32,4 +35,16 @@ public class ODataQuerySchema extends Schema {
 
         return other instanceof ODataQuerySchema;
     }
+
+    /**
+     * Deserializes an ODataQuerySchema instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return An ODataQuerySchema instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static ODataQuerySchema fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readMetadata(jsonReader, ODataQuerySchema::new);
+    }
 }
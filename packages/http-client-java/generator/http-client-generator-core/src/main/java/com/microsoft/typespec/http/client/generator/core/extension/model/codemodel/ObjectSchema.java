@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -189,4 +191,42 @@ public class ObjectSchema extends ComplexSchema {
     public void setStronglyTypedHeader(boolean stronglyTypedHeader) {
         this.stronglyTypedHeader = stronglyTypedHeader;
     }
+
+    /**
+     * Deserializes an ObjectSchema instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return An ObjectSchema instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static ObjectSchema fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readMetadata(jsonReader, ObjectSchema::new);
+    }
+
+    @Override
+    protected boolean readField(String fieldName, JsonReader jsonReader, JsonReferences references) throws IOException {
+        if ("discriminator".equals(fieldName)) {
+            setDiscriminator(Discriminator.fromJson(jsonReader, references));
+        } else if ("properties".equals(fieldName)) {
+            setProperties(references.readArray(jsonReader, reader -> Property.fromJson(reader, references)));
+        } else if ("maxProperties".equals(fieldName)) {
+            setMaxProperties(jsonReader.getDouble());
+        } else if ("minProperties".equals(fieldName)) {
+            setMinProperties(jsonReader.getDouble());
+        } else if ("parents".equals(fieldName)) {
+            setParents(Relations.fromJson(jsonReader, references));
+        } else if ("children".equals(fieldName)) {
+            setChildren(Relations.fromJson(jsonReader, references));
+        } else if ("discriminatorValue".equals(fieldName)) {
+            setDiscriminatorValue(jsonReader.getString());
+        } else if ("flattenedSchema".equals(fieldName)) {
+            setFlattenedSchema(jsonReader.getBoolean());
+        } else if ("stronglyTypedHeader".equals(fieldName)) {
+            setStronglyTypedHeader(jsonReader.getBoolean());
+        } else {
+            return super.readField(fieldName, jsonReader, references);
+        }
+        return true;
+    }
 }
@@ -4,7 +4,9 @@
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
 import com.azure.core.http.HttpMethod;
+import com.azure.json.JsonReader;
 import com.microsoft.typespec.http.client.generator.core.extension.model.extensionmodel.XmsExtensions;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -465,4 +467,64 @@ public class Operation extends Metadata {
     public void setInternalApi(Boolean internalApi) {
         this.internalApi = internalApi;
     }
+
+    /**
+     * Deserializes an Operation instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return An Operation instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static Operation fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readMetadata(jsonReader, Operation::new);
+    }
+
+    @Override
+    protected boolean readField(String fieldName, JsonReader jsonReader, JsonReferences references) throws IOException {
+        if ("operationId".equals(fieldName)) {
+            setOperationId(jsonReader.getString());
+        } else if ("parameters".equals(fieldName)) {
+            setParameters(references.readArray(jsonReader, reader -> Parameter.fromJson(reader, references)));
+        } else if ("signatureParameters".equals(fieldName)) {
+            setSignatureParameters(references.readArray(jsonReader, reader -> Parameter.fromJson(reader, references)));
+        } else if ("requests".equals(fieldName)) {
+            setRequests(references.readArray(jsonReader, reader -> Request.fromJson(reader, references)));
+        } else if ("responses".equals(fieldName)) {
+            setResponses(references.readArray(jsonReader, reader -> Response.fromJson(reader, references)));
+        } else if ("exceptions".equals(fieldName)) {
+            setExceptions(references.readArray(jsonReader, reader -> Response.fromJson(reader, references)));
+        } else if ("profile".equals(fieldName)) {
+            setProfile(DictionaryApiVersion.fromJson(jsonReader, references));
+        } else if ("$key".equals(fieldName)) {
+            set$key(jsonReader.getString());
+        } else if ("description".equals(fieldName)) {
+            setDescription(jsonReader.getString());
+        } else if ("uid".equals(fieldName)) {
+            setUid(jsonReader.getString());
+        } else if ("summary".equals(fieldName)) {
+            setSummary(jsonReader.getString());
+        } else if ("apiVersions".equals(fieldName)) {
+            setApiVersions(references.readArray(jsonReader, reader -> ApiVersion.fromJson(reader, references)));
+        } else if ("deprecated".equals(fieldName)) {
+            setDeprecated(Deprecation.fromJson(jsonReader, references));
+        } else if ("externalDocs".equals(fieldName)) {
+            setExternalDocs(ExternalDocumentation.fromJson(jsonReader, references));
+        } else if ("specialHeaders".equals(fieldName)) {
+            setSpecialHeaders(references.readArray(jsonReader, JsonReader::getString));
+        } else if ("lroMetadata".equals(fieldName)) {
+            setLroMetadata(LongRunningMetadata.fromJson(jsonReader, references));
+        } else if ("convenienceApi".equals(fieldName)) {
+            setConvenienceApi(ConvenienceApi.fromJson(jsonReader, references));
+        } else if ("generateProtocolApi".equals(fieldName)) {
+            setGenerateProtocolApi(jsonReader.getBoolean());
+        } else if ("internalApi".equals(fieldName)) {
+            setInternalApi(jsonReader.getBoolean());
+        } else if ("operationGroup".equals(fieldName)) {
+            setOperationGroup(OperationGroup.fromJson(jsonReader, references));
+        } else {
+            return super.readField(fieldName, jsonReader, references);
+        }
+        return true;
+    }
 }
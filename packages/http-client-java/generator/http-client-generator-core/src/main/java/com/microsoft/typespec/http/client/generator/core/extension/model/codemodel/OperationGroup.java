@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -73,4 +75,30 @@ public class OperationGroup extends Metadata {
     public void setCodeModel(Client codeModel) {
         this.codeModel = codeModel;
     }
+
+    /**
+     * Deserializes an OperationGroup instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return An OperationGroup instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static OperationGroup fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readMetadata(jsonReader, OperationGroup::new);
+    }
+
+    @Override
+    protected boolean readField(String fieldName, JsonReader jsonReader, JsonReferences references) throws IOException {
+        if ("$key".equals(fieldName)) {
+            set$key(jsonReader.getString());
+        } else if ("operations".equals(fieldName)) {
+            setOperations(references.readArray(jsonReader, reader -> Operation.fromJson(reader, references)));
+        } else if ("codeModel".equals(fieldName)) {
+            setCodeModel(Client.fromJson(jsonReader, references));
+        } else {
+            return super.readField(fieldName, jsonReader, references);
+        }
+        return true;
+    }
 }
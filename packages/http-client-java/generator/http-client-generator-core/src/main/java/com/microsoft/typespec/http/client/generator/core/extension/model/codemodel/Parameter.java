@@ -3,6 +3,9 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
+
 /**
  * Represents a discrete input for an operation.
  */
@@ -235,4 +238,40 @@ public class Parameter extends Value {
             }
         }
     }
+
+    /**
+     * Deserializes a Parameter instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A Parameter instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static Parameter fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readMetadata(jsonReader, Parameter::new);
+    }
+
+    @Override
+    protected boolean readField(String fieldName, JsonReader jsonReader, JsonReferences references) throws IOException {
+        if ("clientDefaultValue".equals(fieldName)) {
+            setClientDefaultValue(jsonReader.getString());
+        } else if ("implementation".equals(fieldName)) {
+            setImplementation(ImplementationLocation.fromValue(jsonReader.getString()));
+        } else if ("operation".equals(fieldName)) {
+            setOperation(Operation.fromJson(jsonReader, references));
+        } else if ("flattened".equals(fieldName)) {
+            setFlattened(jsonReader.getBoolean());
+        } else if ("originalParameter".equals(fieldName)) {
+            setOriginalParameter(Parameter.fromJson(jsonReader, references));
+        } else if ("groupedBy".equals(fieldName)) {
+            setGroupedBy(Parameter.fromJson(jsonReader, references));
+        } else if ("targetProperty".equals(fieldName)) {
+            setTargetProperty(Property.fromJson(jsonReader, references));
+        } else if ("origin".equals(fieldName)) {
+            setOrigin(jsonReader.getString());
+        } else {
+            return super.readField(fieldName, jsonReader, references);
+        }
+        return true;
+    }
 }
@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -61,4 +63,26 @@ public class ParameterGroupSchema extends ComplexSchema {
         ParameterGroupSchema rhs = ((ParameterGroupSchema) other);
         return Objects.equals(parameters, rhs.parameters);
     }
+
+    /**
+     * Deserializes a ParameterGroupSchema instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A ParameterGroupSchema instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static ParameterGroupSchema fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readMetadata(jsonReader, ParameterGroupSchema::new);
+    }
+
+    @Override
+    protected boolean readField(String fieldName, JsonReader jsonReader, JsonReferences references) throws IOException {
+        if ("parameters".equals(fieldName)) {
+            setParameters(references.readArray(jsonReader, reader -> Parameter.fromJson(reader, references)));
+        } else {
+            return super.readField(fieldName, jsonReader, references);
+        }
+        return true;
+    }
 }
@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -160,4 +162,38 @@ public class Property extends Value {
     public void setSummary(String summary) {
         this.summary = summary;
     }
+
+    /**
+     * Deserializes a Property instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A Property instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static Property fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readMetadata(jsonReader, Property::new);
+    }
+
+    @Override
+    protected boolean readField(String fieldName, JsonReader jsonReader, JsonReferences references) throws IOException {
+        if ("readOnly".equals(fieldName)) {
+            setReadOnly(jsonReader.getBoolean());
+        } else if ("serializedName".equals(fieldName)) {
+            setSerializedName(jsonReader.getString());
+        } else if ("isDiscriminator".equals(fieldName)) {
+            setIsDiscriminator(jsonReader.getBoolean());
+        } else if ("flattenedNames".equals(fieldName)) {
+            setFlattenedNames(references.readArray(jsonReader, JsonReader::getString));
+        } else if ("parentSchema".equals(fieldName)) {
+            setParentSchema(ObjectSchema.fromJson(jsonReader, references));
+        } else if ("originalParameter".equals(fieldName)) {
+            setOriginalParameter(references.readArray(jsonReader, reader -> Parameter.fromJson(reader, references)));
+        } else if ("clientDefaultValue".equals(fieldName)) {
+            setClientDefaultValue(jsonReader.getString());
+        } else {
+            return super.readField(fieldName, jsonReader, references);
+        }
+        return true;
+    }
 }
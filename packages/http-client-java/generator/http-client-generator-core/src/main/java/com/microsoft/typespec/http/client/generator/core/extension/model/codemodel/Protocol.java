@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -224,4 +226,42 @@ public class Protocol {
     public void setExplode(boolean explode) {
         this.explode = explode;
     }
+
+    /**
+     * Deserializes a Protocol instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A Protocol instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static Protocol fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, Protocol::new, (protocol, fieldName, reader) -> {
+            if ("in".equals(fieldName)) {
+                protocol.setIn(RequestParameterLocation.fromValue(reader.getString()));
+            } else if ("path".equals(fieldName)) {
+                protocol.setPath(reader.getString());
+            } else if ("uri".equals(fieldName)) {
+                protocol.setUri(reader.getString());
+            } else if ("method".equals(fieldName)) {
+                protocol.setMethod(reader.getString());
+            } else if ("knownMediaType".equals(fieldName)) {
+                protocol.setKnownMediaType(KnownMediaType.fromValue(reader.getString()));
+            } else if ("style".equals(fieldName)) {
+                protocol.setStyle(SerializationStyle.fromValue(reader.getString()));
+            } else if ("explode".equals(fieldName)) {
+                protocol.setExplode(reader.getBoolean());
+            } else if ("mediaTypes".equals(fieldName)) {
+                protocol.setMediaTypes(references.readArray(reader, JsonReader::getString));
+            } else if ("servers".equals(fieldName)) {
+                protocol.setServers(references.readArray(reader, r -> Server.fromJson(r, references)));
+            } else if ("statusCodes".equals(fieldName)) {
+                protocol.setStatusCodes(references.readArray(reader, JsonReader::getString));
+            } else if ("headers".equals(fieldName)) {
+                protocol.setHeaders(references.readArray(reader, r -> Header.fromJson(r, references)));
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
 }
@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -120,4 +122,28 @@ public class Protocols {
             && Objects.equals(amqp, rhs.amqp)
             && Objects.equals(mqtt, rhs.mqtt);
     }
+
+    /**
+     * Deserializes a Protocols instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A Protocols instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static Protocols fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, Protocols::new, (protocols, fieldName, reader) -> {
+            if ("http".equals(fieldName)) {
+                protocols.setHttp(Protocol.fromJson(reader, references));
+            } else if ("amqp".equals(fieldName)) {
+                protocols.setAmqp(Protocol.fromJson(reader, references));
+            } else if ("mqtt".equals(fieldName)) {
+                protocols.setMqtt(Protocol.fromJson(reader, references));
+            } else if ("jsonrpc".equals(fieldName)) {
+                protocols.setJsonrpc(Protocol.fromJson(reader, references));
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
 }
@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -53,4 +55,24 @@ public class Relations {
     public void setImmediate(List<Schema> immediate) {
         this.immediate = immediate;
     }
+
+    /**
+     * Deserializes a Relations instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A Relations instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static Relations fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, Relations::new, (relations, fieldName, reader) -> {
+            if ("all".equals(fieldName)) {
+                relations.setAll(references.readArray(reader, r -> Schema.fromJson(r, references)));
+            } else if ("immediate".equals(fieldName)) {
+                relations.setImmediate(references.readArray(reader, r -> Schema.fromJson(r, references)));
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
 }
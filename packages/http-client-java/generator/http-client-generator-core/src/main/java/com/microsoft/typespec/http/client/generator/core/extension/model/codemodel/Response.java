@@ -3,6 +3,9 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
+
 /**
  * Represents a response from a service.
  */
@@ -51,4 +54,28 @@ public class Response extends Metadata {
     public void setBinary(Boolean binary) {
         this.binary = binary;
     }
+
+    /**
+     * Deserializes a Response instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A Response instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static Response fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readMetadata(jsonReader, Response::new);
+    }
+
+    @Override
+    protected boolean readField(String fieldName, JsonReader jsonReader, JsonReferences references) throws IOException {
+        if ("schema".equals(fieldName)) {
+            setSchema(Schema.fromJson(jsonReader, references));
+        } else if ("binary".equals(fieldName)) {
+            setBinary(jsonReader.getBoolean());
+        } else {
+            return super.readField(fieldName, jsonReader, references);
+        }
+        return true;
+    }
 }
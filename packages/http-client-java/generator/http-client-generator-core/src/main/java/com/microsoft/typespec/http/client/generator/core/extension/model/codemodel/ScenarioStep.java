@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.Map;
 
 /**
@@ -129,4 +131,32 @@ public class ScenarioStep {
     public void setRequestParameters(Map<String, Object> requestParameters) {
         this.requestParameters = requestParameters;
     }
+
+    /**
+     * Deserializes a ScenarioStep instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A ScenarioStep instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static ScenarioStep fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, ScenarioStep::new, (step, fieldName, reader) -> {
+            if ("type".equals(fieldName)) {
+                step.setType(TestScenarioStepType.fromValue(reader.getString()));
+            } else if ("operationId".equals(fieldName)) {
+                step.setOperationId(reader.getString());
+            } else if ("exampleFile".equals(fieldName)) {
+                step.setExampleFile(reader.getString());
+            } else if ("exampleName".equals(fieldName)) {
+                step.setExampleName(reader.getString());
+            } else if ("requestParameters".equals(fieldName)) {
+                step.setRequestParameters(references.readMap(reader, references::readUntyped));
+            } else if ("description".equals(fieldName)) {
+                step.setDescription(reader.getString());
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
 }
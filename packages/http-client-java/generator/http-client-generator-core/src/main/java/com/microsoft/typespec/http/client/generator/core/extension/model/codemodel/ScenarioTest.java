@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -136,4 +138,32 @@ public class ScenarioTest {
     public void setUseArmTemplate(Boolean useArmTemplate) {
         this.useArmTemplate = useArmTemplate;
     }
+
+    /**
+     * Deserializes a ScenarioTest instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A ScenarioTest instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static ScenarioTest fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, ScenarioTest::new, (scenarioTest, fieldName, reader) -> {
+            if ("_filePath".equals(fieldName)) {
+                scenarioTest.setFilePath(reader.getString());
+            } else if ("requiredVariables".equals(fieldName)) {
+                scenarioTest.setRequiredVariables(references.readArray(reader, JsonReader::getString));
+            } else if ("requiredVariablesDefault".equals(fieldName)) {
+                scenarioTest.setRequiredVariablesDefault(references.readMap(reader, JsonReader::getString));
+            } else if ("scenarios".equals(fieldName)) {
+                scenarioTest.setScenarios(references.readArray(reader, r -> TestScenario.fromJson(r, references)));
+            } else if ("scope".equals(fieldName)) {
+                scenarioTest.setScope(ScenarioTestScope.fromValue(reader.getString()));
+            } else if ("useArmTemplate".equals(fieldName)) {
+                scenarioTest.setUseArmTemplate(reader.getBoolean());
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
 }
@@ -3,8 +3,11 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -271,6 +274,156 @@ public class Schema extends Metadata {
         return serialization != null && serialization.getXml() != null && serialization.getXml().isWrapped();
     }
 
+    /**
+     * Deserializes a Schema instance from the JSON data.
+     * <p>
+     * The type of the schema is decided by the value of the "type" field, which precedes all other fields.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A Schema instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static Schema fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readMetadata(jsonReader, "type", Schema::createSchema);
+    }
+
+    @Override
+    protected boolean readField(String fieldName, JsonReader jsonReader, JsonReferences references) throws IOException {
+        if ("type".equals(fieldName)) {
+            setType(AllSchemaTypes.fromValue(jsonReader.getString()));
+        } else if ("summary".equals(fieldName)) {
+            setSummary(jsonReader.getString());
+        } else if ("example".equals(fieldName)) {
+            setExample(references.readUntyped(jsonReader));
+        } else if ("defaultValue".equals(fieldName)) {
+            setDefaultValue(references.readUntyped(jsonReader));
+        } else if ("serialization".equals(fieldName)) {
+            setSerialization(SerializationFormats.fromJson(jsonReader, references));
+        } else if ("serializationFormats".equals(fieldName)) {
+            setSerializationFormats(new LinkedHashSet<>(references.readArray(jsonReader, JsonReader::getString)));
+        } else if ("usage".equals(fieldName)) {
+            setUsage(new LinkedHashSet<>(
+                references.readArray(jsonReader, reader -> SchemaContext.fromValue(reader.getString()))));
+        } else if ("uid".equals(fieldName)) {
+            setUid(jsonReader.getString());
+        } else if ("$key".equals(fieldName)) {
+            set$key(jsonReader.getString());
+        } else if ("description".equals(fieldName)) {
+            setDescription(jsonReader.getString());
+        } else if ("apiVersions".equals(fieldName)) {
+            setApiVersions(references.readArray(jsonReader, reader -> ApiVersion.fromJson(reader, references)));
+        } else if ("deprecated".equals(fieldName)) {
+            setDeprecated(Deprecation.fromJson(jsonReader, references));
+        } else if ("externalDocs".equals(fieldName)) {
+            setExternalDocs(ExternalDocumentation.fromJson(jsonReader, references));
+        } else {
+            return super.readField(fieldName, jsonReader, references);
+        }
+        return true;
+    }
+
+    private static Schema createSchema(String type) {
+        if (type == null) {
+            return new Schema();
+        }
+
+        switch (type) {
+            case "any-object":
+            case "any":
+                return new AnySchema();
+
+            case "and":
+                return new AndSchema();
+
+            case "array":
+                return new ArraySchema();
+
+            case "boolean":
+                return new BooleanSchema();
+
+            case "binary":
+                return new BinarySchema();
+
+            case "byte-array":
+                return new ByteArraySchema();
+
+            case "char":
+                return new CharSchema();
+
+            case "choice":
+                return new ChoiceSchema();
+
+            case "constant":
+                return new ConstantSchema();
+
+            case "credential":
+                return new CredentialSchema();
+
+            case "date":
+                return new DateSchema();
+
+            case "date-time":
+                return new DateTimeSchema();
+
+            case "dictionary":
+                return new DictionarySchema();
+
+            case "duration":
+                return new DurationSchema();
+
+            case "flag":
+                return new FlagSchema();
+
+            case "group":
+            case "object":
+                return new ObjectSchema();
+
+            case "integer":
+            case "number":
+                return new NumberSchema();
+
+            case "not":
+                return new NotSchema();
+
+            case "odata-query":
+                return new ODataQuerySchema();
+
+            case "or":
+                return new OrSchema();
+
+            case "parameter-group":
+                return new ParameterGroupSchema();
+
+            case "sealed-choice":
+                return new SealedChoiceSchema();
+
+            case "string":
+                return new StringSchema();
+
+            case "time":
+                return new TimeSchema();
+
+            case "unixtime":
+                return new UnixTimeSchema();
+
+            case "uri":
+                return new UriSchema();
+
+            case "uuid":
+                return new UuidSchema();
+
+            case "xor":
+                return new XorSchema();
+
+            case "arm-id":
+                return new ArmIdSchema();
+
+            default:
+                return new Schema();
+        }
+    }
+
     /**
      * Represents all schema types.
      */
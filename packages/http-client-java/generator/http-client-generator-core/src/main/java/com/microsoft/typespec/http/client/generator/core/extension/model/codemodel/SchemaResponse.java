@@ -3,6 +3,9 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
+
 /**
  * Represents a response from a service.
  */
@@ -32,4 +35,26 @@ public class SchemaResponse extends Response {
     public void setSchema(Schema schema) {
         this.schema = schema;
     }
+
+    /**
+     * Deserializes a SchemaResponse instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A SchemaResponse instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static SchemaResponse fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readMetadata(jsonReader, SchemaResponse::new);
+    }
+
+    @Override
+    protected boolean readField(String fieldName, JsonReader jsonReader, JsonReferences references) throws IOException {
+        if ("schema".equals(fieldName)) {
+            setSchema(Schema.fromJson(jsonReader, references));
+        } else {
+            return super.readField(fieldName, jsonReader, references);
+        }
+        return true;
+    }
 }
@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -548,4 +550,77 @@ public class Schemas {
     public void setBinaries(List<BinarySchema> binaries) {
         this.binaries = binaries;
     }
+
+    /**
+     * Deserializes a Schemas instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A Schemas instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static Schemas fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, Schemas::new, (schemas, fieldName, reader) -> {
+            if ("arrays".equals(fieldName)) {
+                schemas.setArrays(references.readArray(reader, r -> ArraySchema.fromJson(r, references)));
+            } else if ("dictionaries".equals(fieldName)) {
+                schemas.setDictionaries(references.readArray(reader, r -> DictionarySchema.fromJson(r, references)));
+            } else if ("binaries".equals(fieldName)) {
+                schemas.setBinaries(references.readArray(reader, r -> BinarySchema.fromJson(r, references)));
+            } else if ("groups".equals(fieldName)) {
+                schemas.setGroups(references.readArray(reader, r -> ObjectSchema.fromJson(r, references)));
+            } else if ("booleans".equals(fieldName)) {
+                schemas.setBooleans(references.readArray(reader, r -> BooleanSchema.fromJson(r, references)));
+            } else if ("numbers".equals(fieldName)) {
+                schemas.setNumbers(references.readArray(reader, r -> NumberSchema.fromJson(r, references)));
+            } else if ("objects".equals(fieldName)) {
+                schemas.setObjects(references.readArray(reader, r -> ObjectSchema.fromJson(r, references)));
+            } else if ("strings".equals(fieldName)) {
+                schemas.setStrings(references.readArray(reader, r -> StringSchema.fromJson(r, references)));
+            } else if ("unixtimes".equals(fieldName)) {
+                schemas.setUnixtimes(references.readArray(reader, r -> UnixTimeSchema.fromJson(r, references)));
+            } else if ("byteArrays".equals(fieldName)) {
+                schemas.setByteArrays(references.readArray(reader, r -> ByteArraySchema.fromJson(r, references)));
+            } else if ("streams".equals(fieldName)) {
+                schemas.setStreams(references.readArray(reader, r -> Schema.fromJson(r, references)));
+            } else if ("chars".equals(fieldName)) {
+                schemas.setChars(references.readArray(reader, r -> CharSchema.fromJson(r, references)));
+            } else if ("dates".equals(fieldName)) {
+                schemas.setDates(references.readArray(reader, r -> DateSchema.fromJson(r, references)));
+            } else if ("dateTimes".equals(fieldName)) {
+                schemas.setDateTimes(references.readArray(reader, r -> DateTimeSchema.fromJson(r, references)));
+            } else if ("durations".equals(fieldName)) {
+                schemas.setDurations(references.readArray(reader, r -> DurationSchema.fromJson(r, references)));
+            } else if ("uuids".equals(fieldName)) {
+                schemas.setUuids(references.readArray(reader, r -> UuidSchema.fromJson(r, references)));
+            } else if ("uris".equals(fieldName)) {
+                schemas.setUris(references.readArray(reader, r -> UriSchema.fromJson(r, references)));
+            } else if ("credentials".equals(fieldName)) {
+                schemas.setCredentials(references.readArray(reader, r -> CredentialSchema.fromJson(r, references)));
+            } else if ("odataQueries".equals(fieldName)) {
+                schemas.setOdataQueries(references.readArray(reader, r -> ODataQuerySchema.fromJson(r, references)));
+            } else if ("choices".equals(fieldName)) {
+                schemas.setChoices(references.readArray(reader, r -> ChoiceSchema.fromJson(r, references)));
+            } else if ("sealedChoices".equals(fieldName)) {
+                schemas.setSealedChoices(references.readArray(reader, r -> SealedChoiceSchema.fromJson(r, references)));
+            } else if ("flags".equals(fieldName)) {
+                schemas.setFlags(references.readArray(reader, r -> FlagSchema.fromJson(r, references)));
+            } else if ("constants".equals(fieldName)) {
+                schemas.setConstants(references.readArray(reader, r -> ConstantSchema.fromJson(r, references)));
+            } else if ("ands".equals(fieldName)) {
+                schemas.setAnds(references.readArray(reader, r -> AndSchema.fromJson(r, references)));
+            } else if ("ors".equals(fieldName)) {
+                schemas.setOrs(references.readArray(reader, r -> OrSchema.fromJson(r, references)));
+            } else if ("xors".equals(fieldName)) {
+                schemas.setXors(references.readArray(reader, r -> XorSchema.fromJson(r, references)));
+            } else if ("unknowns".equals(fieldName)) {
+                schemas.setUnknowns(references.readArray(reader, r -> Schema.fromJson(r, references)));
+            } else if ("parameterGroups".equals(fieldName)) {
+                schemas.setParameterGroups(
+                    references.readArray(reader, r -> ParameterGroupSchema.fromJson(r, references)));
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
 }
@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -181,4 +183,32 @@ public class Scheme {
             }
         }
     }
+
+    /**
+     * Deserializes a Scheme instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A Scheme instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static Scheme fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, Scheme::new, (scheme, fieldName, reader) -> {
+            if ("type".equals(fieldName)) {
+                scheme.setType(Scheme.SecuritySchemeType.fromValue(reader.getString()));
+            } else if ("scopes".equals(fieldName)) {
+                scheme.setScopes(new HashSet<>(references.readArray(reader, JsonReader::getString)));
+            } else if ("flows".equals(fieldName)) {
+                scheme.setFlows(references.readArray(reader, r -> OAuth2Flow.fromJson(r, references)));
+            } else if ("name".equals(fieldName)) {
+                scheme.setName(reader.getString());
+            } else if ("in".equals(fieldName)) {
+                scheme.setIn(reader.getString());
+            } else if ("prefix".equals(fieldName)) {
+                scheme.setPrefix(reader.getString());
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
 }
@@ -3,6 +3,9 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
+
 /**
  * Represents a choice of several values (ie, an 'enum').
  */
@@ -36,4 +39,16 @@ public class SealedChoiceSchema extends ChoiceSchema {
 
         return sharedEquals(this, (SealedChoiceSchema) other);
     }
+
+    /**
+     * Deserializes a SealedChoiceSchema instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A SealedChoiceSchema instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static SealedChoiceSchema fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readMetadata(jsonReader, SealedChoiceSchema::new);
+    }
 }
@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -54,4 +56,24 @@ public class Security {
     public void setSchemes(List<Scheme> schemes) {
         this.schemes = schemes;
     }
+
+    /**
+     * Deserializes a Security instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A Security instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static Security fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, Security::new, (security, fieldName, reader) -> {
+            if ("authenticationRequired".equals(fieldName)) {
+                security.setAuthenticationRequired(reader.getBoolean());
+            } else if ("schemes".equals(fieldName)) {
+                security.setSchemes(references.readArray(reader, r -> Scheme.fromJson(r, references)));
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
 }
@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -59,4 +61,22 @@ public class SerializationFormat {
         SerializationFormat rhs = ((SerializationFormat) other);
         return Objects.equals(extensions, rhs.extensions);
     }
+
+    /**
+     * Deserializes a SerializationFormat instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A SerializationFormat instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static SerializationFormat fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, SerializationFormat::new, (format, fieldName, reader) -> {
+            if ("extensions".equals(fieldName)) {
+                format.setExtensions(DictionaryAny.fromJson(reader, references));
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
 }
@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -98,4 +100,26 @@ public class SerializationFormats {
         SerializationFormats rhs = ((SerializationFormats) other);
         return Objects.equals(json, rhs.json) && Objects.equals(protobuf, rhs.protobuf) && Objects.equals(xml, rhs.xml);
     }
+
+    /**
+     * Deserializes a SerializationFormats instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A SerializationFormats instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static SerializationFormats fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, SerializationFormats::new, (formats, fieldName, reader) -> {
+            if ("json".equals(fieldName)) {
+                formats.setJson(SerializationFormat.fromJson(reader, references));
+            } else if ("xml".equals(fieldName)) {
+                formats.setXml(XmlSerializationFormat.fromJson(reader, references));
+            } else if ("protobuf".equals(fieldName)) {
+                formats.setProtobuf(SerializationFormat.fromJson(reader, references));
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
 }
@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -72,4 +74,26 @@ public class Server {
     public void setVariables(List<Value> variables) {
         this.variables = variables;
     }
+
+    /**
+     * Deserializes a Server instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A Server instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static Server fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, Server::new, (server, fieldName, reader) -> {
+            if ("url".equals(fieldName)) {
+                server.setUrl(reader.getString());
+            } else if ("language".equals(fieldName)) {
+                server.setLanguage(Languages.fromJson(reader, references));
+            } else if ("variables".equals(fieldName)) {
+                server.setVariables(references.readArray(reader, r -> Value.fromJson(r, references)));
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
 }
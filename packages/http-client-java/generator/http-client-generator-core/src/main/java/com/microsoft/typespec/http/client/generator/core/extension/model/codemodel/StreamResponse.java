@@ -3,6 +3,9 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
+
 /**
  * Represents a stream response.
  */
@@ -22,4 +25,16 @@ public class StreamResponse extends Response {
     public boolean isStream() {
         return true;
     }
+
+    /**
+     * Deserializes a StreamResponse instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A StreamResponse instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static StreamResponse fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readMetadata(jsonReader, StreamResponse::new);
+    }
 }
@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -34,4 +36,22 @@ public class TestModel {
     public void setScenarioTests(List<ScenarioTest> scenarioTests) {
         this.scenarioTests = scenarioTests;
     }
+
+    /**
+     * Deserializes a TestModel instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A TestModel instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static TestModel fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, TestModel::new, (testModel, fieldName, reader) -> {
+            if ("scenarioTests".equals(fieldName)) {
+                testModel.setScenarioTests(references.readArray(reader, r -> ScenarioTest.fromJson(r, references)));
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
 }
@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -131,4 +133,32 @@ public class TestScenario {
     public void setResolvedSteps(List<ScenarioStep> resolvedSteps) {
         this.resolvedSteps = resolvedSteps;
     }
+
+    /**
+     * Deserializes a TestScenario instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A TestScenario instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static TestScenario fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, TestScenario::new, (testScenario, fieldName, reader) -> {
+            if ("description".equals(fieldName)) {
+                testScenario.setDescription(reader.getString());
+            } else if ("requiredVariables".equals(fieldName)) {
+                testScenario.setRequiredVariables(references.readArray(reader, JsonReader::getString));
+            } else if ("requiredVariablesDefault".equals(fieldName)) {
+                testScenario.setRequiredVariablesDefault(references.readMap(reader, JsonReader::getString));
+            } else if ("scenario".equals(fieldName)) {
+                testScenario.setScenario(reader.getString());
+            } else if ("shareScope".equals(fieldName)) {
+                testScenario.setShareScope(reader.getBoolean());
+            } else if ("_resolvedSteps".equals(fieldName)) {
+                testScenario.setResolvedSteps(references.readArray(reader, r -> ScenarioStep.fromJson(r, references)));
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
 }
@@ -3,6 +3,9 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
+
 /**
  * Represents a UnixTime value.
  */
@@ -33,4 +36,16 @@ public class UnixTimeSchema extends PrimitiveSchema {
 
         return other instanceof UnixTimeSchema;
     }
+
+    /**
+     * Deserializes a UnixTimeSchema instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A UnixTimeSchema instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static UnixTimeSchema fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readMetadata(jsonReader, UnixTimeSchema::new);
+    }
 }
@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -226,4 +228,44 @@ public class Value extends Metadata {
     public void setNullable(boolean nullable) {
         this.nullable = nullable;
     }
+
+    /**
+     * Deserializes a Value instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return A Value instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static Value fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readMetadata(jsonReader, Value::new);
+    }
+
+    @Override
+    protected boolean readField(String fieldName, JsonReader jsonReader, JsonReferences references) throws IOException {
+        if ("schema".equals(fieldName)) {
+            setSchema(Schema.fromJson(jsonReader, references));
+        } else if ("required".equals(fieldName)) {
+            setRequired(jsonReader.getBoolean());
+        } else if ("nullable".equals(fieldName)) {
+            setNullable(jsonReader.getBoolean());
+        } else if ("$key".equals(fieldName)) {
+            set$key(jsonReader.getString());
+        } else if ("description".equals(fieldName)) {
+            setDescription(jsonReader.getString());
+        } else if ("uid".equals(fieldName)) {
+            setUid(jsonReader.getString());
+        } else if ("summary".equals(fieldName)) {
+            setSummary(jsonReader.getString());
+        } else if ("apiVersions".equals(fieldName)) {
+            setApiVersions(references.readArray(jsonReader, reader -> ApiVersion.fromJson(reader, references)));
+        } else if ("deprecated".equals(fieldName)) {
+            setDeprecated(Deprecation.fromJson(jsonReader, references));
+        } else if ("externalDocs".equals(fieldName)) {
+            setExternalDocs(ExternalDocumentation.fromJson(jsonReader, references));
+        } else {
+            return super.readField(fieldName, jsonReader, references);
+        }
+        return true;
+    }
 }
@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
+import com.azure.json.JsonReader;
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -160,4 +162,34 @@ public class XmlSerializationFormat extends SerializationFormat {
             && Objects.equals(prefix, rhs.prefix)
             && text == rhs.text;
     }
+
+    /**
+     * Deserializes an XmlSerializationFormat instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return An XmlSerializationFormat instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static XmlSerializationFormat fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, XmlSerializationFormat::new, (format, fieldName, reader) -> {
+            if ("name".equals(fieldName)) {
+                format.setName(reader.getString());
+            } else if ("namespace".equals(fieldName)) {
+                format.setNamespace(reader.getString());
+            } else if ("prefix".equals(fieldName)) {
+                format.setPrefix(reader.getString());
+            } else if ("attribute".equals(fieldName)) {
+                format.setAttribute(reader.getBoolean());
+            } else if ("wrapped".equals(fieldName)) {
+                format.setWrapped(reader.getBoolean());
+            } else if ("text".equals(fieldName)) {
+                format.setText(reader.getBoolean());
+            } else if ("extensions".equals(fieldName)) {
+                format.setExtensions(DictionaryAny.fromJson(reader, references));
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
 }
@@ -3,6 +3,9 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.extensionmodel;
 
+import com.azure.json.JsonReader;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.JsonReferences;
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -53,4 +56,24 @@ public class AllowedResource {
     public void setType(String type) {
         this.type = type;
     }
+
+    /**
+     * Deserializes an AllowedResource instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return An AllowedResource instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static AllowedResource fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, AllowedResource::new, (allowedResource, fieldName, reader) -> {
+            if ("scopes".equals(fieldName)) {
+                allowedResource.setScopes(references.readArray(reader, JsonReader::getString));
+            } else if ("type".equals(fieldName)) {
+                allowedResource.setType(reader.getString());
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
 }
@@ -3,9 +3,12 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.extensionmodel;
 
+import com.azure.json.JsonReader;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Header;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.JsonReferences;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Parameter;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Property;
+import java.io.IOException;
 import java.util.List;
 
 public class PageableContinuationToken {
@@ -37,4 +40,19 @@ public class PageableContinuationToken {
     public void setResponseHeader(Header responseHeader) {
         this.responseHeader = responseHeader;
     }
+
+    public static PageableContinuationToken fromJson(JsonReader jsonReader, JsonReferences references)
+        throws IOException {
+        return references.readObject(jsonReader, PageableContinuationToken::new, (token, fieldName, reader) -> {
+            if ("parameter".equals(fieldName)) {
+                token.setParameter(Parameter.fromJson(reader, references));
+            } else if ("responseProperty".equals(fieldName)) {
+                token.setResponseProperty(references.readArray(reader, r -> Property.fromJson(r, references)));
+            } else if ("responseHeader".equals(fieldName)) {
+                token.setResponseHeader(Header.fromJson(reader, references));
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
 }
@@ -3,6 +3,9 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.extensionmodel;
 
+import com.azure.json.JsonReader;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.JsonReferences;
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -34,4 +37,23 @@ public class XmsArmIdDetails {
     public void setAllowedResources(List<AllowedResource> allowedResources) {
         this.allowedResources = allowedResources;
     }
+
+    /**
+     * Deserializes an XmsArmIdDetails instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return An XmsArmIdDetails instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static XmsArmIdDetails fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, XmsArmIdDetails::new, (armIdDetails, fieldName, reader) -> {
+            if ("allowedResources".equals(fieldName)) {
+                armIdDetails
+                    .setAllowedResources(references.readArray(reader, r -> AllowedResource.fromJson(r, references)));
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
 }
@@ -3,6 +3,9 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.extensionmodel;
 
+import com.azure.json.JsonReader;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.JsonReferences;
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -73,6 +76,28 @@ public class XmsEnum {
         this.values = values;
     }
 
+    /**
+     * Deserializes an XmsEnum instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return An XmsEnum instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static XmsEnum fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, XmsEnum::new, (xmsEnum, fieldName, reader) -> {
+            if ("name".equals(fieldName)) {
+                xmsEnum.setName(reader.getString());
+            } else if ("modelAsString".equals(fieldName)) {
+                xmsEnum.setModelAsString(reader.getBoolean());
+            } else if ("values".equals(fieldName)) {
+                xmsEnum.setValues(references.readArray(reader, r -> Value.fromJson(r, references)));
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
+
     /**
      * Represents a value of the enum.
      */
@@ -140,5 +165,27 @@ public class XmsEnum {
         public void setName(String name) {
             this.name = name;
         }
+
+        /**
+         * Deserializes a Value instance from the JSON data.
+         *
+         * @param jsonReader The JSON reader to deserialize from.
+         * @param references The objects shared within the code model.
+         * @return A Value instance deserialized from the JSON data.
+         * @throws IOException If an error occurs during deserialization.
+         */
+        public static Value fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+            return references.readObject(jsonReader, Value::new, (value, fieldName, reader) -> {
+                if ("value".equals(fieldName)) {
+                    value.setValue(reader.getString());
+                } else if ("description".equals(fieldName)) {
+                    value.setDescription(reader.getString());
+                } else if ("name".equals(fieldName)) {
+                    value.setName(reader.getString());
+                } else {
+                    reader.skipChildren();
+                }
+            });
+        }
     }
 }
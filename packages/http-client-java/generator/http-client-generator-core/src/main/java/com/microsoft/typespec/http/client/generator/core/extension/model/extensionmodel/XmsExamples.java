@@ -3,6 +3,10 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.extensionmodel;
 
+import com.azure.json.JsonReader;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.JsonReferences;
+import java.io.IOException;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -34,4 +38,21 @@ public class XmsExamples {
     public void setExamples(Map<String, Object> examples) {
         this.examples = examples;
     }
+
+    /**
+     * Deserializes an XmsExamples instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return An XmsExamples instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static XmsExamples fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, XmsExamples::new, (xmsExamples, fieldName, reader) -> {
+            if (xmsExamples.getExamples() == null) {
+                xmsExamples.setExamples(new HashMap<>());
+            }
+            xmsExamples.getExamples().put(fieldName, references.readUntyped(reader));
+        });
+    }
 }
@@ -3,6 +3,9 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.extensionmodel;
 
+import com.azure.json.JsonReader;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.JsonReferences;
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -320,4 +323,57 @@ public class XmsExtensions {
     public void setXmsVersioningAdded(List<String> xmsVersioningAdded) {
         this.xmsVersioningAdded = xmsVersioningAdded;
     }
+
+    /**
+     * Deserializes an XmsExtensions instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return An XmsExtensions instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static XmsExtensions fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, XmsExtensions::new, (extensions, fieldName, reader) -> {
+            if ("xmsEnum".equals(fieldName)) {
+                extensions.setXmsEnum(XmsEnum.fromJson(reader, references));
+            } else if ("xmsClientName".equals(fieldName)) {
+                extensions.setXmsClientName(reader.getString());
+            } else if ("x-ms-pageable".equals(fieldName) || "xmsPageable".equals(fieldName)) {
+                extensions.setXmsPageable(XmsPageable.fromJson(reader, references));
+            } else if ("x-ms-skip-url-encoding".equals(fieldName) || "xmsSkipUrlEncoding".equals(fieldName)) {
+                extensions.setXmsSkipUrlEncoding(reader.getBoolean());
+            } else if ("x-ms-client-flatten".equals(fieldName) || "xmsClientFlatten".equals(fieldName)) {
+                extensions.setXmsClientFlatten(reader.getBoolean());
+            } else if ("x-ms-long-running-operation".equals(fieldName) || "xmsLongRunningOperation".equals(fieldName)) {
+                extensions.setXmsLongRunningOperation(reader.getBoolean());
+            } else if ("x-ms-long-running-operation-options".equals(fieldName)
+                || "xmsLongRunningOperationOptions".equals(fieldName)) {
+                extensions
+                    .setXmsLongRunningOperationOptions(XmsLongRunningOperationOptions.fromJson(reader, references));
+            } else if ("x-ms-flattened".equals(fieldName) || "xmsFlattened".equals(fieldName)) {
+                extensions.setXmsFlattened(reader.getBoolean());
+            } else if ("x-ms-azure-resource".equals(fieldName) || "xmsAzureResource".equals(fieldName)) {
+                extensions.setXmsAzureResource(reader.getBoolean());
+            } else if ("x-ms-mutability".equals(fieldName) || "xmsMutability".equals(fieldName)) {
+                extensions.setXmsMutability(references.readArray(reader, JsonReader::getString));
+            } else if ("x-ms-header-collection-prefix".equals(fieldName)
+                || "xmsHeaderCollectionPrefix".equals(fieldName)) {
+                extensions.setXmsHeaderCollectionPrefix(reader.getString());
+            } else if ("x-internal-autorest-anonymous-schema".equals(fieldName)
+                || "xmsInternalAutorestAnonymousSchema".equals(fieldName)) {
+                extensions.setXmsInternalAutorestAnonymousSchema(
+                    XmsInternalAutorestAnonymousSchema.fromJson(reader, references));
+            } else if ("x-ms-arm-id-details".equals(fieldName) || "xmsArmIdDetails".equals(fieldName)) {
+                extensions.setXmsArmIdDetails(XmsArmIdDetails.fromJson(reader, references));
+            } else if ("x-ms-examples".equals(fieldName) || "xmsExamples".equals(fieldName)) {
+                extensions.setXmsExamples(XmsExamples.fromJson(reader, references));
+            } else if ("x-ms-secret".equals(fieldName) || "xmsSecret".equals(fieldName)) {
+                extensions.setXmsSecret(reader.getBoolean());
+            } else if ("x-ms-versioning-added".equals(fieldName) || "xmsVersioningAdded".equals(fieldName)) {
+                extensions.setXmsVersioningAdded(references.readArray(reader, JsonReader::getString));
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
 }
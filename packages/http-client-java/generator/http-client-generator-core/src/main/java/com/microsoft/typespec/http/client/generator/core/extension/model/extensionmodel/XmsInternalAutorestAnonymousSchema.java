@@ -3,6 +3,10 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.extensionmodel;
 
+import com.azure.json.JsonReader;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.JsonReferences;
+import java.io.IOException;
+
 /**
  * Represents an anonymous schema.
  */
@@ -32,4 +36,24 @@ public class XmsInternalAutorestAnonymousSchema {
     public void setAnonymous(boolean anonymous) {
         this.anonymous = anonymous;
     }
+
+    /**
+     * Deserializes an XmsInternalAutorestAnonymousSchema instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return An XmsInternalAutorestAnonymousSchema instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static XmsInternalAutorestAnonymousSchema fromJson(JsonReader jsonReader, JsonReferences references)
+        throws IOException {
+        return references.readObject(jsonReader, XmsInternalAutorestAnonymousSchema::new,
+            (anonymousSchema, fieldName, reader) -> {
+                if ("anonymous".equals(fieldName)) {
+                    anonymousSchema.setAnonymous(reader.getBoolean());
+                } else {
+                    reader.skipChildren();
+                }
+            });
+    }
 }
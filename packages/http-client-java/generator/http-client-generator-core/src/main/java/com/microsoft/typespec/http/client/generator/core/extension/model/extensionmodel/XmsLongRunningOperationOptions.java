@@ -3,6 +3,10 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.extensionmodel;
 
+import com.azure.json.JsonReader;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.JsonReferences;
+import java.io.IOException;
+
 /**
  * Represents the options for a long-running operation.
  */
@@ -35,4 +39,23 @@ public class XmsLongRunningOperationOptions {
     public void setFinalStateVia(String finalStateVia) {
         this.finalStateVia = finalStateVia;
     }
+
+    /**
+     * Deserializes an XmsLongRunningOperationOptions instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return An XmsLongRunningOperationOptions instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static XmsLongRunningOperationOptions fromJson(JsonReader jsonReader, JsonReferences references)
+        throws IOException {
+        return references.readObject(jsonReader, XmsLongRunningOperationOptions::new, (options, fieldName, reader) -> {
+            if ("final-state-via".equals(fieldName) || "finalStateVia".equals(fieldName)) {
+                options.setFinalStateVia(reader.getString());
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
 }
@@ -3,8 +3,11 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.model.extensionmodel;
 
+import com.azure.json.JsonReader;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.JsonReferences;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Operation;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Parameter;
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -124,4 +127,32 @@ public class XmsPageable {
         this.nextOperation = nextOperation;
     }
 
+    /**
+     * Deserializes an XmsPageable instance from the JSON data.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param references The objects shared within the code model.
+     * @return An XmsPageable instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    public static XmsPageable fromJson(JsonReader jsonReader, JsonReferences references) throws IOException {
+        return references.readObject(jsonReader, XmsPageable::new, (pageable, fieldName, reader) -> {
+            if ("itemName".equals(fieldName)) {
+                pageable.setItemName(reader.getString());
+            } else if ("nextLinkName".equals(fieldName)) {
+                pageable.setNextLinkName(reader.getString());
+            } else if ("operationName".equals(fieldName)) {
+                pageable.setOperationName(reader.getString());
+            } else if ("continuationToken".equals(fieldName)) {
+                pageable.setContinuationToken(PageableContinuationToken.fromJson(reader, references));
+            } else if ("nextLinkReInjectedParameters".equals(fieldName)) {
+                pageable.setNextLinkReInjectedParameters(
+                    references.readArray(reader, r -> Parameter.fromJson(r, references)));
+            } else if ("nextOperation".equals(fieldName)) {
+                pageable.setNextOperation(Operation.fromJson(reader, references));
+            } else {
+                reader.skipChildren();
+            }
+        });
+    }
 }
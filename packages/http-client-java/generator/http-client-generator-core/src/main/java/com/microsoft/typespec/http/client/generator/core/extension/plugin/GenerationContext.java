@@ -0,0 +1,178 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.extension.plugin;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The state of the generation of one code model.
+ * <p>
+ * The generator keeps its state, e.g. {@link JavaSettings}, the registries of models and the caches of mappers, in
+ * static fields of {@link Local} type. The value of such a field is stored in the context bound to the current thread,
+ * or in the global context if no context is bound. Hence, code models can be generated concurrently in the same
+ * process, if each of them is generated in its own context.
+ * <p>
+ * A task running in another thread for the generation, e.g. in a parallel stream, should be wrapped by
+ * {@link #wrap(Runnable)} or {@link #wrap(Function)}.
+ */
+public final class GenerationContext {
+    private static final GenerationContext GLOBAL = new GenerationContext();
+    private static final ThreadLocal<GenerationContext> CURRENT = new ThreadLocal<>();
+
+    private final Map<Local<?>, Object> values = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new context, with no value.
+     */
+    public GenerationContext() {
+    }
+
+    /**
+     * Gets the context bound to the current thread, or the global context if no context is bound.
+     *
+     * @return the current context.
+     */
+    public static GenerationContext current() {
+        GenerationContext context = CURRENT.get();
+        return context == null ? GLOBAL : context;
+    }
+
+    /**
+     * Runs the task in this context.
+     *
+     * @param task the task.
+     */
+    public void run(Runnable task) {
+        GenerationContext previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            task.run();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Runs the task in this context.
+     *
+     * @param task the task.
+     * @param <T> the type of the result.
+     * @return the result of the task.
+     * @throws Exception thrown by the task.
+     */
+    public <T> T call(Callable<T> task) throws Exception {
+        GenerationContext previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return task.call();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Wraps the task, so that it runs in the current context, in whichever thread it runs.
+     *
+     * @param task the task.
+     * @return the wrapped task.
+     */
+    public static Runnable wrap(Runnable task) {
+        GenerationContext context = current();
+        return () -> context.run(task);
+    }
+
+    /**
+     * Wraps the function, so that it runs in the current context, in whichever thread it runs.
+     *
+     * @param function the function.
+     * @param <T> the type of the input.
+     * @param <R> the type of the result.
+     * @return the wrapped function.
+     */
+    public static <T, R> Function<T, R> wrap(Function<T, R> function) {
+        GenerationContext context = current();
+        return input -> {
+            GenerationContext previous = CURRENT.get();
+            CURRENT.set(context);
+            try {
+                return function.apply(input);
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    private static void restore(GenerationContext previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * A value that is stored per {@link GenerationContext}. It is similar to {@link ThreadLocal}, with the value
+     * scoped to the current context instead of the current thread.
+     *
+     * @param <T> the type of the value.
+     */
+    public static final class Local<T> {
+        private final Supplier<T> initialValue;
+
+        /**
+         * Creates a value that is {@code null} until it is set.
+         */
+        public Local() {
+            this(null);
+        }
+
+        /**
+         * Creates a value that is initialized on first access in each context.
+         *
+         * @param initialValue the supplier of the initial value.
+         */
+        public Local(Supplier<T> initialValue) {
+            this.initialValue = initialValue;
+        }
+
+        /**
+         * Gets the value in the current context.
+         *
+         * @return the value.
+         */
+        @SuppressWarnings("unchecked")
+        public T get() {
+            Map<Local<?>, Object> values = current().values;
+            Object value = values.get(this);
+            if (value == null && initialValue != null) {
+                // not computeIfAbsent, as the supplier may access other values
+                Object newValue = Objects.requireNonNull(initialValue.get());
+                value = values.putIfAbsent(this, newValue);
+                if (value == null) {
+                    value = newValue;
+                }
+            }
+            return (T) value;
+        }
+
+        /**
+         * Sets the value in the current context. Setting {@code null} restores the initial value.
+         *
+         * @param value the value.
+         */
+        public void set(T value) {
+            Map<Local<?>, Object> values = current().values;
+            if (value == null) {
+                values.remove(this);
+            } else {
+                values.put(this, value);
+            }
+        }
+    }
+}
@@ -32,55 +32,56 @@ import org.slf4j.Logger;
  */
 public class JavaSettings {
     private static final String VERSION = "4.0.0";
-    private static JavaSettings instance;
-    private static NewPlugin host;
-    private static String header;
-    private static final Map<String, Object> SIMPLE_JAVA_SETTINGS = new HashMap<>();
-    private static Logger logger;
+    private static final GenerationContext.Local<JavaSettings> INSTANCE = new GenerationContext.Local<>();
+    private static final GenerationContext.Local<NewPlugin> HOST = new GenerationContext.Local<>();
+    private static final GenerationContext.Local<Map<String, Object>> SIMPLE_JAVA_SETTINGS
+        = new GenerationContext.Local<>(HashMap::new);
+    private static final GenerationContext.Local<Logger> PLUGIN_LOGGER = new GenerationContext.Local<>();
     private final boolean useKeyCredential;
     private final String flavor;
     private final boolean noCustomHeaders;
     private final boolean disableTypedHeadersMethods;
     private final boolean useRestProxy;
 
-    static void setHeader(String value) {
+    private static String getHeader(String value) {
         if ("MICROSOFT_MIT".equals(value)) {
-            header = MICROSOFT_MIT_LICENSE_HEADER + "\n" + String.format(DEFAULT_CODE_GENERATION_HEADER, VERSION);
+            return MICROSOFT_MIT_LICENSE_HEADER + "\n" + String.format(DEFAULT_CODE_GENERATION_HEADER, VERSION);
         } else if ("MICROSOFT_APACHE".equals(value)) {
-            header = MICROSOFT_APACHE_LICENSE_HEADER + "\n" + String.format(DEFAULT_CODE_GENERATION_HEADER, VERSION);
+            return MICROSOFT_APACHE_LICENSE_HEADER + "\n" + String.format(DEFAULT_CODE_GENERATION_HEADER, VERSION);
         } else if ("MICROSOFT_MIT_NO_VERSION".equals(value)) {
-            header = MICROSOFT_MIT_LICENSE_HEADER + "\n" + DEFAULT_CODE_GENERATION_HEADER_WITHOUT_VERSION;
+            return MICROSOFT_MIT_LICENSE_HEADER + "\n" + DEFAULT_CODE_GENERATION_HEADER_WITHOUT_VERSION;
         } else if ("MICROSOFT_MIT_SMALL_NO_VERSION".equals(value)) {
-            header = MICROSOFT_MIT_SMALL_LICENSE_HEADER + "\n" + DEFAULT_CODE_GENERATION_HEADER_WITHOUT_VERSION;
+            return MICROSOFT_MIT_SMALL_LICENSE_HEADER + "\n" + DEFAULT_CODE_GENERATION_HEADER_WITHOUT_VERSION;
         } else if ("MICROSOFT_APACHE_NO_VERSION".equals(value)) {
-            header = MICROSOFT_APACHE_LICENSE_HEADER + "\n" + DEFAULT_CODE_GENERATION_HEADER_WITHOUT_VERSION;
+            return MICROSOFT_APACHE_LICENSE_HEADER + "\n" + DEFAULT_CODE_GENERATION_HEADER_WITHOUT_VERSION;
         } else if ("MICROSOFT_MIT_NO_CODEGEN".equals(value)) {
-            header = MICROSOFT_MIT_LICENSE_HEADER + "\n" + "Code generated by Microsoft (R) AutoRest Code Generator.";
+            return MICROSOFT_MIT_LICENSE_HEADER + "\n" + "Code generated by Microsoft (R) AutoRest Code Generator.";
         } else if ("NONE".equals(value)) {
-            header = "";
+            return "";
         } else if ("MICROSOFT_MIT_SMALL".equals(value)) {
-            header = MICROSOFT_MIT_SMALL_LICENSE_HEADER + "Code generated by Microsoft (R) AutoRest Code Generator.";
+            return MICROSOFT_MIT_SMALL_LICENSE_HEADER + "Code generated by Microsoft (R) AutoRest Code Generator.";
         } else if ("MICROSOFT_MIT_SMALL_TYPESPEC".equals(value)) {
-            header = MICROSOFT_MIT_SMALL_LICENSE_HEADER + "Code generated by Microsoft (R) TypeSpec Code Generator.";
+            return MICROSOFT_MIT_SMALL_LICENSE_HEADER + "Code generated by Microsoft (R) TypeSpec Code Generator.";
         } else if ("SMALL_TYPESPEC".equals(value)) {
-            header = "Code generated by Microsoft (R) TypeSpec Code Generator.";
+            return "Code generated by Microsoft (R) TypeSpec Code Generator.";
         } else if ("MICROSOFT_MIT_SMALL_NO_CODEGEN".equals(value)) {
-            header = MICROSOFT_MIT_SMALL_LICENSE_HEADER;
+            return MICROSOFT_MIT_SMALL_LICENSE_HEADER;
         } else {
-            header = value;
+            return value;
         }
     }
 
     static void setHost(NewPlugin host) {
-        JavaSettings.host = host;
-        logger = new PluginLogger(host, JavaSettings.class);
+        HOST.set(host);
+        PLUGIN_LOGGER.set(new PluginLogger(host, JavaSettings.class));
     }
 
     /**
      * Clear the JavaSettings instance.
      */
     public static void clear() {
-        instance = null;
+        INSTANCE.set(null);
+        SIMPLE_JAVA_SETTINGS.get().clear();
     }
 
     /**
@@ -89,7 +90,10 @@ public class JavaSettings {
      * @return The JavaSettings instance.
      */
     public static JavaSettings getInstance() {
+        JavaSettings instance = INSTANCE.get();
         if (instance == null) {
+            NewPlugin host = HOST.get();
+            Logger logger = PLUGIN_LOGGER.get();
             AutorestSettings autorestSettings = new AutorestSettings();
             loadStringSetting("title", autorestSettings::setTitle);
             loadStringOrArraySettingAsArray("security", autorestSettings::setSecurity);
@@ -115,8 +119,8 @@ public class JavaSettings {
                 logger.debug("List of require : {}", autorestSettings.getRequire());
             }
 
-            setHeader(getStringValue(host, "license-header"));
             instance = new JavaSettings(autorestSettings);
+            INSTANCE.set(instance);
         }
         return instance;
     }
@@ -140,6 +144,7 @@ public class JavaSettings {
      * @param autorestSettings The autorest settings.
      */
     private JavaSettings(AutorestSettings autorestSettings) {
+        NewPlugin host = HOST.get();
         this.autorestSettings = autorestSettings;
 
         // The modeler settings.
@@ -161,7 +166,7 @@ public class JavaSettings {
         this.regeneratePom = getBooleanValue(host, "regenerate-pom", false);
 
         // The file header text.
-        this.fileHeaderText = header;
+        this.fileHeaderText = getHeader(getStringValue(host, "license-header"));
 
         // The service name.
         this.serviceName = getStringValue(host, "service-name");
@@ -333,6 +338,20 @@ public class JavaSettings {
         // relying on Jackson Databind.
         this.streamStyleSerialization = getBooleanValue(host, "stream-style-serialization", true);
 
+        // If set to true, stream-style deserialization of models with many properties dispatches on the JSON field
+        // name with a string switch instead of an if-else-if chain of field name comparisons.
+        this.streamStyleSerializationSwitch = getBooleanValue(host, "stream-style-serialization-switch", false);
+
+        // If set to true, stream-style deserialization of polymorphic models reads the subtype directly when the
+        // discriminator is the first field of the JSON object, instead of always buffering the JSON object.
+        this.streamStyleSerializationDiscriminatorFirst
+            = getBooleanValue(host, "stream-style-serialization-discriminator-first", false);
+
+        // If set to true, stream-style deserialization keeps the additional properties of a model as raw JSON values,
+        // and reads them only when the additional properties are first accessed.
+        this.streamStyleSerializationLazyAdditionalProperties
+            = getBooleanValue(host, "stream-style-serialization-lazy-additional-properties", false);
+
         // If set to true, sync methods are generated using sync stack. i.e these methods do not use sync-over-async
         // stack.
         this.syncStackEnabled = getBooleanValue(host, "enable-sync-stack", false);
@@ -391,6 +410,12 @@ public class JavaSettings {
 
         // Whether to use Eclipse Language Server when running code customizations.
         this.useEclipseLanguageServer = getBooleanValue(host, "use-eclipse-language-server", true);
+
+        // Whether to run the Eclipse code formatter in-process instead of running Spotless through Maven.
+        this.inProcessCodeFormatter = getBooleanValue(host, "in-process-code-formatter", true);
+
+        // Whether to render the templates of Java files in parallel.
+        this.parallelTemplateRendering = getBooleanValue(host, "parallel-template-rendering", false);
     }
 
     private void updateFlavorFactories() {
@@ -693,7 +718,7 @@ public class JavaSettings {
      * @return The settings that are used by the AutoRest generator.
      */
     public Map<String, Object> getSimpleJavaSettings() {
-        return SIMPLE_JAVA_SETTINGS;
+        return SIMPLE_JAVA_SETTINGS.get();
     }
 
     private final boolean sdkIntegration;
@@ -1410,6 +1435,43 @@ public class JavaSettings {
         return streamStyleSerialization;
     }
 
+    private final boolean streamStyleSerializationSwitch;
+
+    /**
+     * Whether stream-style deserialization of models with many properties dispatches on the JSON field name with a
+     * string switch instead of an if-else-if chain of field name comparisons.
+     *
+     * @return Whether stream-style deserialization dispatches on the JSON field name with a string switch.
+     */
+    public boolean isStreamStyleSerializationSwitch() {
+        return streamStyleSerializationSwitch;
+    }
+
+    private final boolean streamStyleSerializationDiscriminatorFirst;
+
+    /**
+     * Whether stream-style deserialization of polymorphic models reads the subtype directly when the discriminator is
+     * the first field of the JSON object, instead of always buffering the JSON object to find the discriminator.
+     *
+     * @return Whether stream-style deserialization of polymorphic models reads the discriminator first.
+     */
+    public boolean isStreamStyleSerializationDiscriminatorFirst() {
+        return streamStyleSerializationDiscriminatorFirst;
+    }
+
+    private final boolean streamStyleSerializationLazyAdditionalProperties;
+
+    /**
+     * Whether stream-style deserialization keeps the additional properties of a model as raw JSON values, and reads
+     * them only when the additional properties are first accessed. Untouched raw JSON values are serialized back as
+     * they were read.
+     *
+     * @return Whether stream-style deserialization reads the additional properties lazily.
+     */
+    public boolean isStreamStyleSerializationLazyAdditionalProperties() {
+        return streamStyleSerializationLazyAdditionalProperties;
+    }
+
     private final boolean isInputStreamForBinary;
 
     /**
@@ -1528,6 +1590,35 @@ public class JavaSettings {
         return useEclipseLanguageServer;
     }
 
+    private final boolean inProcessCodeFormatter;
+
+    /**
+     * Whether generated code is formatted by running the Eclipse formatter in-process.
+     * <p>
+     * When enabled, the Eclipse formatter profile is loaded once and all files are formatted in memory. When disabled,
+     * files are written to a temporary directory and formatted by running Spotless through Maven, which is slower but
+     * doesn't require Eclipse JDT on the classpath.
+     *
+     * @return Whether generated code is formatted by running the Eclipse formatter in-process.
+     */
+    public boolean isInProcessCodeFormatter() {
+        return inProcessCodeFormatter;
+    }
+
+    private final boolean parallelTemplateRendering;
+
+    /**
+     * Whether the templates of Java files are rendered in parallel.
+     * <p>
+     * When enabled, the templates are collected as Java files are added to the package, and rendered together on the
+     * fork-join pool before the files are read.
+     *
+     * @return Whether the templates of Java files are rendered in parallel.
+     */
+    public boolean isParallelTemplateRendering() {
+        return parallelTemplateRendering;
+    }
+
     private static final String DEFAULT_CODE_GENERATION_HEADER
         = String.join("\n", "Code generated by Microsoft (R) AutoRest Code Generator %s",
             "Changes may cause incorrect behavior and will be lost if the code is regenerated.");
@@ -1554,9 +1645,9 @@ public class JavaSettings {
         "Copyright (c) Microsoft Corporation. All rights reserved.", "Licensed under the MIT License.", "");
 
     private static void loadStringSetting(String settingName, Consumer<String> action) {
-        String settingValue = host.getStringValue(settingName);
+        String settingValue = HOST.get().getStringValue(settingName);
         if (settingValue != null) {
-            logger.debug("Option, string, {} : {}", settingName, settingValue);
+            PLUGIN_LOGGER.get().debug("Option, string, {} : {}", settingName, settingValue);
             action.accept(settingValue);
         }
     }
@@ -1570,8 +1661,8 @@ public class JavaSettings {
         if (ret == null) {
             return defaultValue;
         } else {
-            logger.debug("Option, string, {} : {}", settingName, ret);
-            SIMPLE_JAVA_SETTINGS.put(settingName, ret);
+            PLUGIN_LOGGER.get().debug("Option, string, {} : {}", settingName, ret);
+            SIMPLE_JAVA_SETTINGS.get().put(settingName, ret);
             return ret;
         }
     }
@@ -1581,14 +1672,15 @@ public class JavaSettings {
         if (ret == null) {
             return defaultValue;
         } else {
-            logger.debug("Option, boolean, {} : {}", settingName, ret);
-            SIMPLE_JAVA_SETTINGS.put(settingName, ret);
+            PLUGIN_LOGGER.get().debug("Option, boolean, {} : {}", settingName, ret);
+            SIMPLE_JAVA_SETTINGS.get().put(settingName, ret);
             return ret;
         }
     }
 
     private static void loadStringOrArraySettingAsArray(String settingName, Consumer<List<String>> action) {
-        host.getValue(settingName, jsonString -> {
+        Logger logger = PLUGIN_LOGGER.get();
+        HOST.get().getValue(settingName, jsonString -> {
             if (jsonString == null) {
                 return null;
             } else if (jsonString.startsWith("[")) {
@@ -3,15 +3,15 @@
 
 package com.microsoft.typespec.http.client.generator.core.implementation;
 
-import static com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil.getClientModel;
-
 import com.azure.core.util.CoreUtils;
 import com.azure.json.JsonReader;
 import com.azure.json.JsonSerializable;
 import com.azure.xml.XmlReader;
 import com.azure.xml.XmlSerializable;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.GenerationContext;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelInheritance;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelProperty;
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import java.util.ArrayList;
@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -35,10 +36,18 @@ import java.util.function.Consumer;
  * the flattened properties structure for the model.
  * <p>
  * This will also handle getting the discriminator property and the expected value for the field.
+ * <p>
+ * Instances are immutable, and can be shared by the templates running concurrently. Use
+ * {@link #getInstance(ClientModel, JavaSettings)} to get the instance computed once per model.
  */
 public final class ClientModelPropertiesManager {
+    // the properties managers of the models, by model name
+    private static final GenerationContext.Local<Map<String, ClientModelPropertiesManager>> INSTANCES
+        = new GenerationContext.Local<>(ConcurrentHashMap::new);
+
     private final ClientModel model;
     private final JavaSettings settings;
+    private final ClientModelInheritance inheritance;
 
     private final String deserializedModelName;
     private final boolean hasRequiredProperties;
@@ -75,11 +84,35 @@ public final class ClientModelPropertiesManager {
     private final List<ClientModelProperty> xmlElements;
     private final Map<String, String> xmlNamespaceWithPrefix;
     private final Map<String, String> xmlNamespaceToConstantMapping;
+    private final List<ClientModelProperty> requiredWritableProperties;
+
+    /**
+     * Gets the {@link ClientModelPropertiesManager} of the {@link ClientModel}.
+     * <p>
+     * The properties manager is computed once per model, and computed again when the inheritance of the model is
+     * computed again, e.g. after a model is added.
+     *
+     * @param model The {@link ClientModel}.
+     * @param settings The {@link JavaSettings}.
+     * @return The {@link ClientModelPropertiesManager} of the {@link ClientModel}.
+     */
+    public static ClientModelPropertiesManager getInstance(ClientModel model, JavaSettings settings) {
+        Map<String, ClientModelPropertiesManager> instances = INSTANCES.get();
+        ClientModelPropertiesManager propertiesManager = instances.get(model.getName());
+        if (propertiesManager == null
+            || propertiesManager.inheritance != ClientModelUtil.getInheritance(model)
+            || propertiesManager.settings != settings) {
+            propertiesManager = new ClientModelPropertiesManager(model, settings);
+            instances.put(model.getName(), propertiesManager);
+        }
+        return propertiesManager;
+    }
 
     /**
      * Creates a new instance of {@link ClientModelPropertiesManager}.
      *
      * @param model The {@link ClientModel}.
+     * @param settings The {@link JavaSettings}.
      */
     public ClientModelPropertiesManager(ClientModel model, JavaSettings settings) {
         // The reader name variable needs to be mutable as it may match a property name in the class.
@@ -89,6 +122,7 @@ public final class ClientModelPropertiesManager {
             = new LinkedHashSet<>(Arrays.asList("elementName", "xmlElementName", "deserializationElementName"));
         this.model = model;
         this.settings = settings;
+        this.inheritance = ClientModelUtil.getInheritance(model);
 
         this.deserializedModelName = "deserialized" + model.getName();
         this.expectedDiscriminator = model.getSerializedName();
@@ -114,12 +148,7 @@ public final class ClientModelPropertiesManager {
         boolean allFlattenedPropertiesFromParent = true;
 
         if (model.isPolymorphic()) {
-            ClientModel superTypeModel = model;
-            ClientModel parentModel = getClientModel(model.getParentModelName());
-            while (parentModel != null) {
-                superTypeModel = parentModel;
-                parentModel = getClientModel(superTypeModel.getParentModelName());
-            }
+            ClientModel superTypeModel = inheritance.getRootModel();
 
             xmlRootElementName = superTypeModel.getXmlName();
             xmlRootElementNamespace = superTypeModel.getXmlNamespace();
@@ -128,7 +157,7 @@ public final class ClientModelPropertiesManager {
             xmlRootElementNamespace = model.getXmlNamespace();
         }
 
-        for (ClientModelProperty property : ClientModelUtil.getParentProperties(model)) {
+        for (ClientModelProperty property : inheritance.getParentProperties()) {
             // Ignore additional properties from parent types as it will be handled specifically in the subtype.
             if (property.isAdditionalProperties()) {
                 superAdditionalProperties = property;
@@ -284,6 +313,17 @@ public final class ClientModelPropertiesManager {
         this.xmlNamespaceToConstantMapping = model.getXmlName() == null
             ? Collections.emptyMap()
             : ClientModelUtil.xmlNamespaceToConstantMapping(model);
+
+        List<ClientModelProperty> requiredWritableProperties = new ArrayList<>();
+        for (List<ClientModelProperty> properties : Arrays.asList(inheritance.getParentProperties(),
+            model.getProperties())) {
+            for (ClientModelProperty property : properties) {
+                if (property.isRequired() && !property.isConstant() && !property.isReadOnly()) {
+                    requiredWritableProperties.add(property);
+                }
+            }
+        }
+        this.requiredWritableProperties = Collections.unmodifiableList(requiredWritableProperties);
     }
 
     private static void superPropertyConsumer(ClientModelProperty property,
@@ -324,6 +364,25 @@ public final class ClientModelPropertiesManager {
         return settings;
     }
 
+    /**
+     * Gets the inheritance of the {@link #getModel() model} that the properties are based on.
+     *
+     * @return The inheritance of the {@link #getModel() model}.
+     */
+    public ClientModelInheritance getInheritance() {
+        return inheritance;
+    }
+
+    /**
+     * Gets the required properties that aren't constant or read-only, with the properties of the parent models first,
+     * from the root model.
+     *
+     * @return The required writable properties of the {@link #getModel() model} and its parent models.
+     */
+    public List<ClientModelProperty> getRequiredWritableProperties() {
+        return requiredWritableProperties;
+    }
+
     /**
      * Gets the name of the variable used when deserializing an instance of the {@link #getModel() model}.
      *
@@ -5,6 +5,7 @@ package com.microsoft.typespec.http.client.generator.core.implementation;
 
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelProperty;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -103,10 +104,10 @@ public final class JsonFlattenedPropertiesTree {
     /**
      * Gets the children nodes for this node.
      *
-     * @return The children nodes for this node.
+     * @return The children nodes for this node, which can't be modified.
      */
     public Map<String, JsonFlattenedPropertiesTree> getChildrenNodes() {
-        return nodes;
+        return Collections.unmodifiableMap(nodes);
     }
 
     /**
@@ -9,14 +9,13 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IterableType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ListType;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A mapper that maps an {@link ArraySchema} to either an {@link IterableType} or {@link ListType}.
  */
 public class ArrayMapper implements IMapper<ArraySchema, IType> {
     private static final ArrayMapper INSTANCE = new ArrayMapper();
-    Map<ArraySchema, IType> parsed = new ConcurrentHashMap<>();
+    Map<ArraySchema, IType> parsed = Mappers.newCache();
 
     private ArrayMapper() {
     }
@@ -9,14 +9,13 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Class
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.EnumType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A mapper that maps a {@link ChoiceSchema} to an {@link EnumType}.
  */
 public class ChoiceMapper implements IMapper<ChoiceSchema, IType> {
     private static final ChoiceMapper INSTANCE = new ChoiceMapper();
-    Map<ChoiceSchema, IType> parsed = new ConcurrentHashMap<>();
+    Map<ChoiceSchema, IType> parsed = Mappers.newCache();
 
     protected ChoiceMapper() {
     }
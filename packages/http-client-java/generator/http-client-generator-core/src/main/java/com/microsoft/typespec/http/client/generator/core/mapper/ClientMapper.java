@@ -484,20 +484,20 @@ public class ClientMapper implements IMapper<CodeModel, Client> {
     }
 
     private void addBuilderTraits(ClientBuilder clientBuilder, ServiceClient serviceClient) {
-        clientBuilder.addBuilderTrait(ClientBuilderTrait.HTTP_TRAIT);
+        clientBuilder.addBuilderTrait(ClientBuilderTrait.getHttpTrait());
         if (!JavaSettings.getInstance().isAzureV1()) {
-            clientBuilder.addBuilderTrait(ClientBuilderTrait.PROXY_TRAIT);
+            clientBuilder.addBuilderTrait(ClientBuilderTrait.getProxyTrait());
         }
 
-        clientBuilder.addBuilderTrait(ClientBuilderTrait.CONFIGURATION_TRAIT);
+        clientBuilder.addBuilderTrait(ClientBuilderTrait.getConfigurationTrait());
         if (serviceClient.getSecurityInfo().getSecurityTypes().contains(Scheme.SecuritySchemeType.OAUTH2)) {
-            clientBuilder.addBuilderTrait(ClientBuilderTrait.TOKEN_CREDENTIAL_TRAIT);
+            clientBuilder.addBuilderTrait(ClientBuilderTrait.getTokenCredentialTrait());
         }
         if (serviceClient.getSecurityInfo().getSecurityTypes().contains(Scheme.SecuritySchemeType.KEY)) {
             if (!JavaSettings.getInstance().isAzureV1() || JavaSettings.getInstance().isUseKeyCredential()) {
-                clientBuilder.addBuilderTrait(ClientBuilderTrait.KEY_CREDENTIAL_TRAIT);
+                clientBuilder.addBuilderTrait(ClientBuilderTrait.getKeyCredentialTrait());
             } else {
-                clientBuilder.addBuilderTrait(ClientBuilderTrait.AZURE_KEY_CREDENTIAL_TRAIT);
+                clientBuilder.addBuilderTrait(ClientBuilderTrait.getAzureKeyCredentialTrait());
             }
         }
         serviceClient.getProperties().stream().map(property -> {
@@ -29,7 +29,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -38,7 +37,7 @@ import java.util.stream.Stream;
  */
 public class ClientMethodMapper implements IMapper<Operation, List<ClientMethod>> {
     private static final ClientMethodMapper INSTANCE = new ClientMethodMapper();
-    private final Map<CacheKey, List<ClientMethod>> parsed = new ConcurrentHashMap<>();
+    private final Map<CacheKey, List<ClientMethod>> parsed = Mappers.newCache();
 
     private static class CacheKey {
         private final Operation operation;
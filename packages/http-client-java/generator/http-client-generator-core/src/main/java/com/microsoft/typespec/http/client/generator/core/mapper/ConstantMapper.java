@@ -6,14 +6,13 @@ package com.microsoft.typespec.http.client.generator.core.mapper;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ConstantSchema;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A mapper that maps a {@link ConstantSchema} to a type.
  */
 public class ConstantMapper implements IMapper<ConstantSchema, IType> {
     private static final ConstantMapper INSTANCE = new ConstantMapper();
-    Map<ConstantSchema, IType> parsed = new ConcurrentHashMap<>();
+    Map<ConstantSchema, IType> parsed = Mappers.newCache();
 
     private ConstantMapper() {
     }
@@ -7,11 +7,10 @@ import com.microsoft.typespec.http.client.generator.core.extension.model.codemod
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MapType;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 public class DictionaryMapper implements IMapper<DictionarySchema, IType> {
     private static final DictionaryMapper INSTANCE = new DictionaryMapper();
-    Map<DictionarySchema, IType> parsed = new ConcurrentHashMap<>();
+    Map<DictionarySchema, IType> parsed = Mappers.newCache();
 
     private DictionaryMapper() {
     }
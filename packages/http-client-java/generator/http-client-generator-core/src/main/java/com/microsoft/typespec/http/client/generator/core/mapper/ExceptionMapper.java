@@ -7,11 +7,10 @@ import com.microsoft.typespec.http.client.generator.core.extension.model.codemod
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientException;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 public class ExceptionMapper implements IMapper<ObjectSchema, ClientException> {
     private static final ExceptionMapper INSTANCE = new ExceptionMapper();
-    Map<ObjectSchema, ClientException> parsed = new ConcurrentHashMap<>();
+    Map<ObjectSchema, ClientException> parsed = Mappers.newCache();
 
     protected ExceptionMapper() {
     }
@@ -3,111 +3,252 @@
 
 package com.microsoft.typespec.http.client.generator.core.mapper;
 
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.GenerationContext;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
 public class Mappers {
 
-    private static MapperFactory factory = new DefaultMapperFactory();
+    private static final GenerationContext.Local<MapperFactory> FACTORY
+        = new GenerationContext.Local<>(DefaultMapperFactory::new);
+
+    private static final List<Map<?, ?>> CACHES = new CopyOnWriteArrayList<>();
 
     public static void setFactory(MapperFactory mapperFactory) {
-        factory = mapperFactory;
+        FACTORY.set(mapperFactory);
+    }
+
+    /**
+     * Creates the cache of a mapper, which is cleared by {@link #reset()}.
+     * <p>
+     * The content of the cache is stored in the current {@link GenerationContext}, hence a singleton mapper can be used
+     * by concurrent generations. Mappers are singletons, so the cache should only be created once per mapper
+     * instance.
+     *
+     * @param <K> the type of the key.
+     * @param <V> the type of the value.
+     * @return the cache.
+     */
+    public static <K, V> Map<K, V> newCache() {
+        Map<K, V> cache = new ContextCache<>();
+        CACHES.add(cache);
+        return cache;
+    }
+
+    /**
+     * Clears the caches of all mappers, and restores the default mapper factory, in the current
+     * {@link GenerationContext}.
+     * <p>
+     * This is required before generating another code model in the same context.
+     */
+    public static void reset() {
+        CACHES.forEach(Map::clear);
+        FACTORY.set(null);
     }
 
     public static ChoiceMapper getChoiceMapper() {
-        return factory.getChoiceMapper();
+        return FACTORY.get().getChoiceMapper();
     }
 
     public static SealedChoiceMapper getSealedChoiceMapper() {
-        return factory.getSealedChoiceMapper();
+        return FACTORY.get().getSealedChoiceMapper();
     }
 
     public static PrimitiveMapper getPrimitiveMapper() {
-        return factory.getPrimitiveMapper();
+        return FACTORY.get().getPrimitiveMapper();
     }
 
     public static SchemaMapper getSchemaMapper() {
-        return factory.getSchemaMapper();
+        return FACTORY.get().getSchemaMapper();
     }
 
     public static ArrayMapper getArrayMapper() {
-        return factory.getArrayMapper();
+        return FACTORY.get().getArrayMapper();
     }
 
     public static DictionaryMapper getDictionaryMapper() {
-        return factory.getDictionaryMapper();
+        return FACTORY.get().getDictionaryMapper();
     }
 
     public static ObjectMapper getObjectMapper() {
-        return factory.getObjectMapper();
+        return FACTORY.get().getObjectMapper();
     }
 
     public static ConstantMapper getConstantMapper() {
-        return factory.getConstantMapper();
+        return FACTORY.get().getConstantMapper();
     }
 
     public static ModelPropertyMapper getModelPropertyMapper() {
-        return factory.getModelPropertyMapper();
+        return FACTORY.get().getModelPropertyMapper();
     }
 
     public static ModelMapper getModelMapper() {
-        return factory.getModelMapper();
+        return FACTORY.get().getModelMapper();
     }
 
     public static ProxyParameterMapper getProxyParameterMapper() {
-        return factory.getProxyParameterMapper();
+        return FACTORY.get().getProxyParameterMapper();
     }
 
     public static ProxyMethodMapper getProxyMethodMapper() {
-        return factory.getProxyMethodMapper();
+        return FACTORY.get().getProxyMethodMapper();
     }
 
     public static ProxyMethodExampleMapper getProxyMethodExampleMapper() {
-        return factory.getProxyMethodExampleMapper();
+        return FACTORY.get().getProxyMethodExampleMapper();
     }
 
     public static MethodGroupMapper getMethodGroupMapper() {
-        return factory.getMethodGroupMapper();
+        return FACTORY.get().getMethodGroupMapper();
     }
 
     public static ClientParameterMapper getClientParameterMapper() {
-        return factory.getClientParameterMapper();
+        return FACTORY.get().getClientParameterMapper();
     }
 
     public static ClientMethodMapper getClientMethodMapper() {
-        return factory.getClientMethodMapper();
+        return FACTORY.get().getClientMethodMapper();
     }
 
     public static ExceptionMapper getExceptionMapper() {
-        return factory.getExceptionMapper();
+        return FACTORY.get().getExceptionMapper();
     }
 
     public static ServiceClientMapper getServiceClientMapper() {
-        return factory.getServiceClientMapper();
+        return FACTORY.get().getServiceClientMapper();
     }
 
     public static ClientMapper getClientMapper() {
-        return factory.getClientMapper();
+        return FACTORY.get().getClientMapper();
     }
 
     public static AnyMapper getAnyMapper() {
-        return factory.getAnyMapper();
+        return FACTORY.get().getAnyMapper();
     }
 
     public static BinaryMapper getBinaryMapper() {
-        return factory.getBinaryMapper();
+        return FACTORY.get().getBinaryMapper();
     }
 
     public static UnionMapper getUnionMapper() {
-        return factory.getUnionMapper();
+        return FACTORY.get().getUnionMapper();
     }
 
     public static UnionModelMapper getUnionModelMapper() {
-        return factory.getUnionModelMapper();
+        return FACTORY.get().getUnionModelMapper();
     }
 
     public static GraalVmConfigMapper getGraalVmConfigMapper() {
-        return factory.getGraalVmConfigMapper();
+        return FACTORY.get().getGraalVmConfigMapper();
     }
 
     public static PomMapper getPomMapper() {
-        return factory.getPomMapper();
+        return FACTORY.get().getPomMapper();
+    }
+
+    private static final class ContextCache<K, V> implements Map<K, V> {
+        private final GenerationContext.Local<Map<K, V>> cache = new GenerationContext.Local<>(ConcurrentHashMap::new);
+
+        @Override
+        public int size() {
+            return cache.get().size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return cache.get().isEmpty();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return cache.get().containsKey(key);
+        }
+
+        @Override
+        public boolean containsValue(Object value) {
+            return cache.get().containsValue(value);
+        }
+
+        @Override
+        public V get(Object key) {
+            return cache.get().get(key);
+        }
+
+        @Override
+        public V put(K key, V value) {
+            return cache.get().put(key, value);
+        }
+
+        @Override
+        public V remove(Object key) {
+            return cache.get().remove(key);
+        }
+
+        @Override
+        public void putAll(Map<? extends K, ? extends V> m) {
+            cache.get().putAll(m);
+        }
+
+        @Override
+        public void clear() {
+            cache.get().clear();
+        }
+
+        @Override
+        public Set<K> keySet() {
+            return cache.get().keySet();
+        }
+
+        @Override
+        public Collection<V> values() {
+            return cache.get().values();
+        }
+
+        @Override
+        public Set<Entry<K, V>> entrySet() {
+            return cache.get().entrySet();
+        }
+
+        @Override
+        public V getOrDefault(Object key, V defaultValue) {
+            return cache.get().getOrDefault(key, defaultValue);
+        }
+
+        @Override
+        public void forEach(BiConsumer<? super K, ? super V> action) {
+            cache.get().forEach(action);
+        }
+
+        @Override
+        public V putIfAbsent(K key, V value) {
+            return cache.get().putIfAbsent(key, value);
+        }
+
+        @Override
+        public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+            return cache.get().computeIfAbsent(key, mappingFunction);
+        }
+
+        @Override
+        public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+            return cache.get().computeIfPresent(key, remappingFunction);
+        }
+
+        @Override
+        public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+            return cache.get().compute(key, remappingFunction);
+        }
+
+        @Override
+        public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+            return cache.get().merge(key, value, remappingFunction);
+        }
     }
 }
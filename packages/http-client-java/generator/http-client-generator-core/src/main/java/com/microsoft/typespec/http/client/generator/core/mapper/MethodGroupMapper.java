@@ -24,12 +24,11 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 public class MethodGroupMapper implements IMapper<OperationGroup, MethodGroupClient> {
     private static final MethodGroupMapper INSTANCE = new MethodGroupMapper();
-    private final Map<OperationGroup, MethodGroupClient> parsed = new ConcurrentHashMap<>();
+    private final Map<OperationGroup, MethodGroupClient> parsed = Mappers.newCache();
 
     protected MethodGroupMapper() {
     }
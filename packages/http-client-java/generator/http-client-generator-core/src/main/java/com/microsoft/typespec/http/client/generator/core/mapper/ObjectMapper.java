@@ -11,11 +11,10 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Class
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
 import com.microsoft.typespec.http.client.generator.core.util.SchemaUtil;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 public class ObjectMapper implements IMapper<ObjectSchema, IType>, NeedsPlainObjectCheck {
     private static final ObjectMapper INSTANCE = new ObjectMapper();
-    Map<ObjectSchema, ClassType> parsed = new ConcurrentHashMap<>();
+    Map<ObjectSchema, ClassType> parsed = Mappers.newCache();
 
     protected ObjectMapper() {
     }
@@ -13,12 +13,11 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Array
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.PrimitiveType;
-import java.util.HashMap;
 import java.util.Map;
 
 public class PrimitiveMapper implements IMapper<PrimitiveSchema, IType> {
     private static final PrimitiveMapper INSTANCE = new PrimitiveMapper();
-    protected Map<PrimitiveSchema, IType> parsed = new HashMap<>();
+    protected Map<PrimitiveSchema, IType> parsed = Mappers.newCache();
 
     protected PrimitiveMapper() {
     }
@@ -29,7 +29,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -46,7 +45,7 @@ public class ProxyMethodMapper implements IMapper<Operation, Map<Request, List<P
     private static final ProxyMethodMapper INSTANCE = new ProxyMethodMapper();
 
     private final Logger logger = new PluginLogger(Javagen.getPluginInstance(), ProxyMethodMapper.class);
-    private final Map<Request, List<ProxyMethod>> parsed = new ConcurrentHashMap<>();
+    private final Map<Request, List<ProxyMethod>> parsed = Mappers.newCache();
 
     protected ProxyMethodMapper() {
     }
@@ -16,11 +16,10 @@ import com.microsoft.typespec.http.client.generator.core.extension.model.codemod
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.SealedChoiceSchema;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 public class SchemaMapper implements IMapper<Schema, IType> {
     private static final SchemaMapper INSTANCE = new SchemaMapper();
-    Map<Schema, IType> parsed = new ConcurrentHashMap<>();
+    Map<Schema, IType> parsed = Mappers.newCache();
 
     private SchemaMapper() {
     }
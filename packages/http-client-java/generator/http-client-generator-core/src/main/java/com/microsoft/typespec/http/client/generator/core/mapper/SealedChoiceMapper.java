@@ -6,11 +6,10 @@ package com.microsoft.typespec.http.client.generator.core.mapper;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.SealedChoiceSchema;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 public class SealedChoiceMapper implements IMapper<SealedChoiceSchema, IType> {
     private static final SealedChoiceMapper INSTANCE = new SealedChoiceMapper();
-    Map<SealedChoiceSchema, IType> parsed = new ConcurrentHashMap<>();
+    Map<SealedChoiceSchema, IType> parsed = Mappers.newCache();
 
     protected SealedChoiceMapper() {
     }
@@ -10,11 +10,10 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Class
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
 import com.microsoft.typespec.http.client.generator.core.util.SchemaUtil;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 public class UnionMapper implements IMapper<OrSchema, IType> {
     private static final UnionMapper INSTANCE = new UnionMapper();
-    Map<OrSchema, ClassType> parsed = new ConcurrentHashMap<>();
+    Map<OrSchema, ClassType> parsed = Mappers.newCache();
 
     protected UnionMapper() {
     }
@@ -40,7 +40,6 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -63,7 +62,7 @@ public class ClientCoreProxyMethodMapper extends ProxyMethodMapper {
             PrimitiveType.DURATION_DOUBLE, ClassType.DURATION_LONG, ClassType.DURATION_DOUBLE,
             PrimitiveType.UNIX_TIME_LONG, ClassType.UNIX_TIME_LONG, ClassType.UNIX_TIME_DATE_TIME);
 
-    private final Map<Request, List<ProxyMethod>> parsed = new ConcurrentHashMap<>();
+    private final Map<Request, List<ProxyMethod>> parsed = Mappers.newCache();
 
     @Override
     public Map<Request, List<ProxyMethod>> map(Operation operation) {
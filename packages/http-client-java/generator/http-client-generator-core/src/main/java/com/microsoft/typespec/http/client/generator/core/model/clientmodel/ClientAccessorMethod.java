@@ -19,7 +19,7 @@ public class ClientAccessorMethod {
     // serviceClient is guaranteed to be set
     private ServiceClient serviceClient;
 
-    private List<ClientMethodParameter> clientMethodParameters;
+    private volatile List<ClientMethodParameter> clientMethodParameters;
 
     /**
      * Initializes the ClientAccessorMethod.
@@ -64,7 +64,8 @@ public class ClientAccessorMethod {
      */
     public List<ClientMethodParameter> getMethodParameters() {
         if (clientMethodParameters == null) {
-            clientMethodParameters = new ArrayList<>();
+            // build the list before publishing it, as templates may be rendered concurrently
+            List<ClientMethodParameter> clientMethodParameters = new ArrayList<>();
             for (ServiceClientProperty property : subClient.getProperties()) {
                 String name = property.getName();
                 if (serviceClient.getProperties().stream().noneMatch(p -> name.equals(p.getName()))) {
@@ -80,6 +81,7 @@ public class ClientAccessorMethod {
                     clientMethodParameters.add(methodParameter);
                 }
             }
+            this.clientMethodParameters = clientMethodParameters;
         }
         return clientMethodParameters;
     }
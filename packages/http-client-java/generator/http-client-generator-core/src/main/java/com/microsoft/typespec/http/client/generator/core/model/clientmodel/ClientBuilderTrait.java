@@ -8,6 +8,7 @@ import com.azure.core.client.traits.EndpointTrait;
 import com.azure.core.client.traits.KeyCredentialTrait;
 import com.azure.core.credential.AzureKeyCredential;
 import com.azure.core.util.logging.LogLevel;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.GenerationContext;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaBlock;
 import java.util.ArrayList;
@@ -21,19 +22,11 @@ import java.util.function.Consumer;
  */
 public class ClientBuilderTrait {
 
-    public static final ClientBuilderTrait HTTP_TRAIT = createHttpTrait();
+    // traits depend on JavaSettings, hence they are created on first use in each generation
+    private static final GenerationContext.Local<CommonTraits> COMMON_TRAITS
+        = new GenerationContext.Local<>(CommonTraits::new);
 
-    public static final ClientBuilderTrait CONFIGURATION_TRAIT = createConfigurationTrait();
-
-    public static final ClientBuilderTrait AZURE_KEY_CREDENTIAL_TRAIT = createAzureKeyCredentialTrait();
-
-    public static final ClientBuilderTrait KEY_CREDENTIAL_TRAIT = createKeyCredentialTrait();
-
-    public static final ClientBuilderTrait TOKEN_CREDENTIAL_TRAIT = createTokenCredentialTrait();
-
-    public static final ClientBuilderTrait PROXY_TRAIT = createProxyTrait();
-
-    private static ClientBuilderTrait endpointTrait;
+    private static final GenerationContext.Local<ClientBuilderTrait> ENDPOINT_TRAIT = new GenerationContext.Local<>();
 
     private String traitInterfaceName;
     private List<String> importPackages;
@@ -331,7 +324,7 @@ public class ClientBuilderTrait {
     }
 
     public static ClientBuilderTrait getEndpointTrait(ServiceClientProperty property) {
-        ClientBuilderTrait endpointTrait = ClientBuilderTrait.endpointTrait;
+        ClientBuilderTrait endpointTrait = ENDPOINT_TRAIT.get();
         if (endpointTrait == null) {
             endpointTrait = new ClientBuilderTrait();
             endpointTrait.setTraitInterfaceName(EndpointTrait.class.getSimpleName());
@@ -361,11 +354,56 @@ public class ClientBuilderTrait {
                 endpointProperty, "{@inheritDoc}", endpointMethodImpl);
 
             endpointClientBuilderTraitMethods.add(endpointMethod);
-            ClientBuilderTrait.endpointTrait = endpointTrait;
+            ENDPOINT_TRAIT.set(endpointTrait);
         }
         return endpointTrait;
     }
 
+    public static ClientBuilderTrait getHttpTrait() {
+        return getCommonTraits().httpTrait;
+    }
+
+    public static ClientBuilderTrait getConfigurationTrait() {
+        return getCommonTraits().configurationTrait;
+    }
+
+    public static ClientBuilderTrait getAzureKeyCredentialTrait() {
+        return getCommonTraits().azureKeyCredentialTrait;
+    }
+
+    public static ClientBuilderTrait getKeyCredentialTrait() {
+        return getCommonTraits().keyCredentialTrait;
+    }
+
+    public static ClientBuilderTrait getTokenCredentialTrait() {
+        return getCommonTraits().tokenCredentialTrait;
+    }
+
+    public static ClientBuilderTrait getProxyTrait() {
+        return getCommonTraits().proxyTrait;
+    }
+
+    /**
+     * Clears the traits, which are created from the JavaSettings of the current generation.
+     */
+    public static void clear() {
+        COMMON_TRAITS.set(null);
+        ENDPOINT_TRAIT.set(null);
+    }
+
+    private static CommonTraits getCommonTraits() {
+        return COMMON_TRAITS.get();
+    }
+
+    private static final class CommonTraits {
+        private final ClientBuilderTrait httpTrait = createHttpTrait();
+        private final ClientBuilderTrait configurationTrait = createConfigurationTrait();
+        private final ClientBuilderTrait azureKeyCredentialTrait = createAzureKeyCredentialTrait();
+        private final ClientBuilderTrait keyCredentialTrait = createKeyCredentialTrait();
+        private final ClientBuilderTrait tokenCredentialTrait = createTokenCredentialTrait();
+        private final ClientBuilderTrait proxyTrait = createProxyTrait();
+    }
+
     private static ClientBuilderTrait createTokenCredentialTrait() {
         ClientBuilderTrait tokenCredentialTrait = new ClientBuilderTrait();
         tokenCredentialTrait.setTraitInterfaceName(ClassType.TOKEN_CREDENTIAL_TRAIT.getName());
@@ -491,8 +491,13 @@ public class ClientMethod {
                 imports.add("com.azure.core.http.rest.PagedResponseBase");
 
                 if (settings.isDataPlaneClient()) {
+                    // for the helper method to read PagedResponse, see TemplateUtil.writePagingHelperMethods
+                    imports.add("com.azure.core.http.rest.PagedResponse");
+                    imports.add("com.azure.json.JsonProviders");
+                    imports.add("com.azure.json.JsonReader");
+                    imports.add("com.azure.json.JsonToken");
+                    imports.add("java.io.IOException");
                     imports.add("java.util.List");
-                    imports.add("java.util.Map");
                     ClassType.BINARY_DATA.addImportsTo(imports, includeImplementationImports);
                 }
             }
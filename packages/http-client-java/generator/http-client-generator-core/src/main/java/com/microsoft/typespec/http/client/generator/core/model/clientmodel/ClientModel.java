@@ -591,28 +591,15 @@ public class ClientModel {
         }
 
         String packageName = model.getPackage();
-        ClientModel parent = ClientModelUtil.getClientModel(model.getParentModelName());
-        ClientModel lastParent = model;
-        while (parent != null) {
-            lastParent = parent;
+        ClientModelInheritance inheritance = ClientModelUtil.getInheritance(model);
+        for (ClientModel parent : inheritance.getAncestors()) {
             if (!packageName.equals(parent.getPackage())) {
                 return false;
             }
-
-            parent = ClientModelUtil.getClientModel(parent.getParentModelName());
-        }
-
-        return checkChildrenModelsPackage(lastParent, packageName);
-    }
-
-    private static boolean checkChildrenModelsPackage(ClientModel model, String packageName) {
-        List<ClientModel> children = model.getDerivedModels();
-        if (children == null || children.isEmpty()) {
-            return true;
         }
 
-        for (ClientModel child : children) {
-            if (!packageName.equals(child.getPackage()) || !checkChildrenModelsPackage(child, packageName)) {
+        for (ClientModel child : ClientModelUtil.getInheritance(inheritance.getRootModel()).getDescendants()) {
+            if (!packageName.equals(child.getPackage())) {
                 return false;
             }
         }
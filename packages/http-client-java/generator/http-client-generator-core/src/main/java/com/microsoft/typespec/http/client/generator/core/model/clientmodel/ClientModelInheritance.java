@@ -0,0 +1,120 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.model.clientmodel;
+
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The inheritance of a client model: the models it extends, the properties they define, and the models that derive
+ * from it.
+ * <p>
+ * Instances are immutable. Use {@link ClientModels#getInheritance(ClientModel)}, which computes the inheritance of a
+ * model once, until a model is added.
+ */
+public final class ClientModelInheritance {
+    private final ClientModel model;
+    private final List<ClientModel> ancestors;
+    private final List<ClientModelProperty> parentProperties;
+    private final List<ClientModel> descendants;
+
+    private ClientModelInheritance(ClientModel model, List<ClientModel> ancestors,
+        List<ClientModelProperty> parentProperties, List<ClientModel> descendants) {
+        this.model = model;
+        this.ancestors = Collections.unmodifiableList(ancestors);
+        this.parentProperties = Collections.unmodifiableList(parentProperties);
+        this.descendants = Collections.unmodifiableList(descendants);
+    }
+
+    /**
+     * Computes the inheritance of the client model.
+     *
+     * @param model the client model.
+     * @return the inheritance of the client model.
+     */
+    static ClientModelInheritance of(ClientModel model) {
+        List<ClientModel> ancestors = new ArrayList<>();
+        String lastParentName = model.getName();
+        ClientModel parentModel = ClientModelUtil.getClientModel(model.getParentModelName());
+        while (parentModel != null && !lastParentName.equals(parentModel.getName())) {
+            ancestors.add(parentModel);
+            lastParentName = parentModel.getName();
+            parentModel = ClientModelUtil.getClientModel(parentModel.getParentModelName());
+        }
+
+        List<ClientModelProperty> parentProperties = new ArrayList<>();
+        for (int i = ancestors.size() - 1; i >= 0; i--) {
+            if (ancestors.get(i).getProperties() != null) {
+                parentProperties.addAll(ancestors.get(i).getProperties());
+            }
+        }
+
+        List<ClientModel> descendants = new ArrayList<>();
+        Set<ClientModel> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        visited.add(model);
+        addDescendants(model, descendants, visited);
+
+        return new ClientModelInheritance(model, ancestors, parentProperties, descendants);
+    }
+
+    private static void addDescendants(ClientModel model, List<ClientModel> descendants, Set<ClientModel> visited) {
+        if (model.getDerivedModels() != null) {
+            for (ClientModel derivedModel : model.getDerivedModels()) {
+                if (visited.add(derivedModel)) {
+                    descendants.add(derivedModel);
+                    addDescendants(derivedModel, descendants, visited);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the client model.
+     *
+     * @return the client model.
+     */
+    public ClientModel getModel() {
+        return model;
+    }
+
+    /**
+     * Gets the models the client model extends, from its parent model to the root model.
+     *
+     * @return the models the client model extends.
+     */
+    public List<ClientModel> getAncestors() {
+        return ancestors;
+    }
+
+    /**
+     * Gets the root model of the client model.
+     *
+     * @return the root model, or the client model itself if it doesn't extend a model.
+     */
+    public ClientModel getRootModel() {
+        return ancestors.isEmpty() ? model : ancestors.get(ancestors.size() - 1);
+    }
+
+    /**
+     * Gets the properties defined by the models the client model extends, with the properties of the root model first.
+     *
+     * @return the properties defined by the models the client model extends.
+     */
+    public List<ClientModelProperty> getParentProperties() {
+        return parentProperties;
+    }
+
+    /**
+     * Gets the models that derive from the client model, directly or indirectly, in depth-first order.
+     *
+     * @return the models that derive from the client model.
+     */
+    public List<ClientModel> getDescendants() {
+        return descendants;
+    }
+}
@@ -3,18 +3,24 @@
 
 package com.microsoft.typespec.http.client.generator.core.model.clientmodel;
 
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.GenerationContext;
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The collection of all client models stored for inheritance lookup.
  */
 public class ClientModels {
-    private static final ClientModels INSTANCE = new ClientModels();
+    private static final GenerationContext.Local<ClientModels> INSTANCE
+        = new GenerationContext.Local<>(ClientModels::new);
+    private volatile boolean frozen;
     private final Map<String, ClientModel> nameMap = new HashMap<>();
+    // the inheritance of the models, computed on first use, and discarded when a model is added
+    private final Map<String, ClientModelInheritance> inheritanceMap = new ConcurrentHashMap<>();
 
 //    private final Map<String, ArrayList<ClientModel>> derivedTypesMap = new HashMap<String, ArrayList<ClientModel>>();
     private ClientModels() {
@@ -22,10 +28,27 @@ public class ClientModels {
 
     public final void clear() {
         nameMap.clear();
+        inheritanceMap.clear();
+        frozen = false;
+    }
+
+    /**
+     * Freezes the collection, so that it can be read concurrently. Adding a model fails until the collection is
+     * unfrozen or cleared.
+     */
+    public final void freeze() {
+        frozen = true;
+    }
+
+    /**
+     * Unfreezes the collection, so that models can be added again.
+     */
+    public final void unfreeze() {
+        frozen = false;
     }
 
     public static ClientModels getInstance() {
-        return INSTANCE;
+        return INSTANCE.get();
     }
 
     /**
@@ -41,7 +64,9 @@ public class ClientModels {
     }
 
     public final void addModel(ClientModel model) {
+        checkNotFrozen(model.getName());
         nameMap.put(model.getName(), model);
+        inheritanceMap.clear();
 
 //        String parentModel = model.getParentModelName();
 //        if (parentModel != null) {
@@ -54,6 +79,31 @@ public class ClientModels {
 //        return getDerivedTypeList(parentModelName);
 //    }
 
+    /**
+     * Gets the inheritance of the model.
+     * <p>
+     * The inheritance is computed once per model, and computed again after a model is added, or after
+     * {@link #clearInheritance()}.
+     *
+     * @param model the model.
+     * @return the inheritance of the model.
+     */
+    public final ClientModelInheritance getInheritance(ClientModel model) {
+        ClientModelInheritance inheritance = inheritanceMap.get(model.getName());
+        if (inheritance == null || inheritance.getModel() != model) {
+            inheritance = ClientModelInheritance.of(model);
+            inheritanceMap.put(model.getName(), inheritance);
+        }
+        return inheritance;
+    }
+
+    /**
+     * Discards the inheritance computed for the models, e.g. when the lookup of models by name changes.
+     */
+    public final void clearInheritance() {
+        inheritanceMap.clear();
+    }
+
     public final List<ClientModel> getModels() {
         return new ArrayList<>(nameMap.values());
     }
@@ -64,4 +114,10 @@ public class ClientModels {
 //        }
 //        return derivedTypesMap.get(parentModelName);
 //    }
+
+    private void checkNotFrozen(String modelName) {
+        if (frozen) {
+            throw new IllegalStateException("Cannot add model '" + modelName + "' while the client models are frozen.");
+        }
+    }
 }
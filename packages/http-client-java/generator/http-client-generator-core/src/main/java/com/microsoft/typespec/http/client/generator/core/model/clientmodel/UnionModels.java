@@ -3,13 +3,16 @@
 
 package com.microsoft.typespec.http.client.generator.core.model.clientmodel;
 
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.GenerationContext;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 public class UnionModels {
 
-    private static final UnionModels INSTANCE = new UnionModels();
+    private static final GenerationContext.Local<UnionModels> INSTANCE
+        = new GenerationContext.Local<>(UnionModels::new);
+    private volatile boolean frozen;
     private final Map<String, List<UnionModel>> nameMap = new HashMap<>();
 
     private UnionModels() {
@@ -17,10 +20,26 @@ public class UnionModels {
 
     public final void clear() {
         nameMap.clear();
+        frozen = false;
+    }
+
+    /**
+     * Freezes the collection, so that it can be read concurrently. Adding a model fails until the collection is
+     * unfrozen or cleared.
+     */
+    public final void freeze() {
+        frozen = true;
+    }
+
+    /**
+     * Unfreezes the collection, so that models can be added again.
+     */
+    public final void unfreeze() {
+        frozen = false;
     }
 
     public static UnionModels getInstance() {
-        return INSTANCE;
+        return INSTANCE.get();
     }
 
     /**
@@ -34,6 +53,14 @@ public class UnionModels {
     }
 
     public final void addModel(List<UnionModel> models) {
-        nameMap.put(models.iterator().next().getName(), models);
+        String name = models.iterator().next().getName();
+        checkNotFrozen(name);
+        nameMap.put(name, models);
+    }
+
+    private void checkNotFrozen(String modelName) {
+        if (frozen) {
+            throw new IllegalStateException("Cannot add model '" + modelName + "' while the union models are frozen.");
+        }
     }
 }
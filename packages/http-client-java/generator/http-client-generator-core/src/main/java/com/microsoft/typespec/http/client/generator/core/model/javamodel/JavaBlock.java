@@ -88,6 +88,10 @@ public class JavaBlock implements JavaContext {
         contents.lambda(parameterType, parameterName, body);
     }
 
+    public final void lambda(String parameterName, Consumer<JavaLambda> body) {
+        contents.lambda(parameterName, body);
+    }
+
     public final void lambda(String parameterType, String parameterName, String returnExpression) {
         contents.lambda(parameterType, parameterName, returnExpression);
     }
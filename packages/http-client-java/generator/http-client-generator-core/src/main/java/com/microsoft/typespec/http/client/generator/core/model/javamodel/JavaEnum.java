@@ -73,6 +73,18 @@ public class JavaEnum {
         addNewLine = true;
     }
 
+    public final void privateStaticFinalVariable(String variableDeclaration) {
+        addExpectedSemicolonAndNewLine();
+        contents.line("private static final " + variableDeclaration + ";");
+        addNewLine = true;
+    }
+
+    public final void staticBlock(Consumer<JavaBlock> codeBlock) {
+        addExpectedSemicolonAndNewLine();
+        contents.block("static", codeBlock);
+        addNewLine = true;
+    }
+
     public final void constructor(String constructorSignature, Consumer<JavaBlock> constructor) {
         addExpectedSemicolonAndNewLine();
         contents.block(constructorSignature, constructor);
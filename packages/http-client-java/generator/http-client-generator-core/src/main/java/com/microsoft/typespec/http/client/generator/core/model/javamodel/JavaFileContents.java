@@ -4,7 +4,6 @@
 package com.microsoft.typespec.http.client.generator.core.model.javamodel;
 
 import com.azure.core.util.CoreUtils;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
@@ -14,43 +13,89 @@ import java.util.stream.Collectors;
 
 public class JavaFileContents {
     private static final String SINGLE_INDENT = "    ";
+    private static final int INITIAL_CAPACITY = 4096;
 
-    private final List<String> contents;
+    // Completed lines, each followed by a new line character, then the current line.
+    private char[] buffer;
+    private int length;
+    private int currentLineStart;
 
-    private String currentLine;
-    private String linePrefix;
+    private char[] linePrefix;
+    private int linePrefixLength;
+    private boolean linePrefixBlank;
 
     private CurrentLineType currentLineType = CurrentLineType.Empty;
 
     public JavaFileContents() {
-        this.currentLine = "";
-        this.linePrefix = "";
-        this.contents = new ArrayList<>();
+        this.buffer = new char[INITIAL_CAPACITY];
+        this.linePrefix = new char[64];
+        this.linePrefixBlank = true;
     }
 
     private static String toString(List<JavaModifier> modifiers) {
         return modifiers == null ? "" : modifiers.stream().map(JavaModifier::toString).collect(Collectors.joining(" "));
     }
 
+    /*
+     * The completed lines are joined by new line characters, and the current line directly follows the last of them.
+     */
     @Override
     public String toString() {
-        return String.join("\n", contents) + currentLine;
+        if (currentLineStart == 0) {
+            return new String(buffer, 0, length);
+        } else if (currentLineStart == length) {
+            return new String(buffer, 0, length - 1);
+        } else {
+            return new StringBuilder(length - 1).append(buffer, 0, currentLineStart - 1)
+                .append(buffer, currentLineStart, length - currentLineStart)
+                .toString();
+        }
     }
 
+    /**
+     * Checks whether any of the completed lines contains the text.
+     *
+     * @param str the text.
+     * @return whether any of the completed lines contains the text.
+     */
     public boolean contains(String str) {
-        return contents.stream().anyMatch(line -> line.contains(str));
+        // a line never contains a new line character
+        if (currentLineStart == 0 || str.indexOf('\n') >= 0) {
+            return false;
+        }
+
+        int strLength = str.length();
+        int lastStart = currentLineStart - strLength;
+        for (int i = 0; i <= lastStart; ++i) {
+            int j = 0;
+            while (j < strLength && buffer[i + j] == str.charAt(j)) {
+                ++j;
+            }
+            if (j == strLength) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public final void addToPrefix(String toAdd) {
-        linePrefix += toAdd;
+        int toAddLength = toAdd.length();
+        if (linePrefix.length < linePrefixLength + toAddLength) {
+            linePrefix = Arrays.copyOf(linePrefix, Math.max(linePrefixLength + toAddLength, linePrefix.length * 2));
+        }
+        toAdd.getChars(0, toAddLength, linePrefix, linePrefixLength);
+        linePrefixLength += toAddLength;
+        linePrefixBlank = linePrefixBlank && isBlank(toAdd, 0, toAddLength);
     }
 
     private void removeFromPrefix(String toRemove) {
-        int toRemoveLength = toRemove.length();
-        if (linePrefix.length() <= toRemoveLength) {
-            linePrefix = "";
-        } else {
-            linePrefix = linePrefix.substring(0, linePrefix.length() - toRemoveLength);
+        linePrefixLength = Math.max(0, linePrefixLength - toRemove.length());
+        linePrefixBlank = true;
+        for (int i = 0; i < linePrefixLength; ++i) {
+            if (linePrefix[i] > ' ') {
+                linePrefixBlank = false;
+                break;
+            }
         }
     }
 
@@ -69,39 +114,58 @@ public class JavaFileContents {
     }
 
     private void text(String text, boolean addPrefix, boolean completeLastLine) {
-        String prefix = addPrefix ? linePrefix : null;
-
         if (text == null || text.isEmpty()) {
-            handleLine("", prefix, true, completeLastLine);
+            handleLine("", 0, 0, addPrefix, true, completeLastLine);
         } else {
             int lineStartIndex = 0;
             int textLength = text.length();
             while (lineStartIndex < textLength) {
                 int newLineCharacterIndex = text.indexOf('\n', lineStartIndex);
                 if (newLineCharacterIndex == -1) {
-                    handleLine(text.substring(lineStartIndex), prefix, true, completeLastLine);
+                    handleLine(text, lineStartIndex, textLength, addPrefix, true, completeLastLine);
                     break;
                 } else {
-                    handleLine(text.substring(lineStartIndex, newLineCharacterIndex), prefix, false, completeLastLine);
+                    handleLine(text, lineStartIndex, newLineCharacterIndex, addPrefix, false, completeLastLine);
                     lineStartIndex = newLineCharacterIndex + 1;
                 }
             }
         }
     }
 
-    private void handleLine(String line, String prefix, boolean lastLine, boolean completeLastLine) {
-        if (prefix != null
-            && (!prefix.trim().isEmpty() || (!prefix.isEmpty() && line != null && !line.trim().isEmpty()))) {
-            currentLine += prefix;
+    private void handleLine(String text, int start, int end, boolean addPrefix, boolean lastLine,
+        boolean completeLastLine) {
+        // a prefix of only whitespace isn't added to a blank line
+        boolean appendPrefix = addPrefix && linePrefixLength > 0 && (!linePrefixBlank || !isBlank(text, start, end));
+        ensureCapacity(length + (appendPrefix ? linePrefixLength : 0) + (end - start) + 1);
+
+        if (appendPrefix) {
+            System.arraycopy(linePrefix, 0, buffer, length, linePrefixLength);
+            length += linePrefixLength;
         }
 
-        currentLine += line;
+        text.getChars(start, end, buffer, length);
+        length += end - start;
         if (!lastLine || completeLastLine) {
-            contents.add(currentLine);
-            currentLine = "";
+            buffer[length++] = '\n';
+            currentLineStart = length;
         }
     }
 
+    private void ensureCapacity(int capacity) {
+        if (buffer.length < capacity) {
+            buffer = Arrays.copyOf(buffer, Math.max(capacity, buffer.length * 2));
+        }
+    }
+
+    private static boolean isBlank(String text, int start, int end) {
+        for (int i = start; i < end; ++i) {
+            if (text.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public final void text(String text) {
         if (currentLineType == CurrentLineType.Empty) {
             text(text, true, false);
@@ -332,12 +396,32 @@ public class JavaFileContents {
     }
 
     public void lambda(String parameterType, String parameterName, Consumer<JavaLambda> body) {
-        text("(" + parameterType + " " + parameterName + ") -> ");
+        lambdaWithParameters("(" + parameterType + " " + parameterName + ")", body);
+    }
+
+    public void lambda(String parameterName, Consumer<JavaLambda> body) {
+        lambdaWithParameters(parameterName, body);
+    }
+
+    private void lambdaWithParameters(String parameters, Consumer<JavaLambda> body) {
+        text(parameters + " -> ");
         try (JavaLambda lambda = new JavaLambda(this)) {
             body.accept(lambda);
         }
     }
 
+    /**
+     * Writes the closing brace of a lambda body, continuing on its line.
+     * <p>
+     * A block that ends with a completed line, such as a catch block, isn't followed by a blank line.
+     */
+    void closeLambdaBody() {
+        if (currentLineType == CurrentLineType.AfterIf && currentLineStart == length) {
+            currentLineType = CurrentLineType.Empty;
+        }
+        text("}");
+    }
+
     public void lambda(String parameterType, String parameterName, String returnExpression) {
         lambda(parameterType, parameterName, lambda -> lambda.lambdaReturn(returnExpression));
     }
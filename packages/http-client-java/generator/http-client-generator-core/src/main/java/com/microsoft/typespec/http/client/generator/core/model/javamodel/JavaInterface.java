@@ -58,6 +58,12 @@ public class JavaInterface implements JavaType {
         method(visibility, Collections.singletonList(JavaModifier.Static), methodSignature, method);
     }
 
+    public final void finalClassBlock(String className, Consumer<JavaClass> classAction) {
+        addExpectedNewLine();
+        contents.block("final class " + className, block -> classAction.accept(new JavaClass(contents)));
+        addNewLine = true;
+    }
+
     public final void interfaceBlock(String interfaceName, Consumer<JavaInterface> interfaceAction) {
         contents.interfaceBlock(JavaVisibility.PackagePrivate, interfaceName, interfaceAction);
     }
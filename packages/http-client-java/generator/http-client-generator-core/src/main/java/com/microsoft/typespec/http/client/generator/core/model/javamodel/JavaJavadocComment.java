@@ -28,8 +28,10 @@ public class JavaJavadocComment {
     private static String processText(String value) {
         String text = CodeNamer.escapeXmlComment(ensurePeriod(trim(value)));
         if (text != null) {
-            // escape the "@"
-            text = ESCAPE_AT.matcher(text).replaceAll("&#064;");
+            // escape the "@", the regular expression is only run when there is one
+            if (text.indexOf('@') >= 0) {
+                text = ESCAPE_AT.matcher(text).replaceAll("&#064;");
+            }
             // escape tab
             text = text.replace("\t", " ");
         }
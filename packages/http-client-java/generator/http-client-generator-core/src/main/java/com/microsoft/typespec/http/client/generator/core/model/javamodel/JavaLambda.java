@@ -30,7 +30,7 @@ public class JavaLambda implements Closeable {
     public final void close() {
         if (needsClosingCurlyBracket) {
             contents.decreaseIndent();
-            contents.text("}");
+            contents.closeLambdaBody();
         }
     }
 
@@ -57,6 +57,12 @@ public class JavaLambda implements Closeable {
         return new JavaIfBlock(contents);
     }
 
+    public final JavaTryBlock tryBlock(String resource, Consumer<JavaBlock> tryAction) {
+        nonReturnStatement();
+        contents.tryBlock(resource, tryAction);
+        return new JavaTryBlock(contents);
+    }
+
     public final void lambdaReturn(String text) {
         if (isFirstStatement) {
             contents.text(text);
@@ -4,6 +4,7 @@
 package com.microsoft.typespec.http.client.generator.core.model.javamodel;
 
 import com.azure.core.util.CoreUtils;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.GenerationContext;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.NewPlugin;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.PluginLogger;
@@ -12,6 +13,7 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Clien
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientException;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethodExample;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModels;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientResponse;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.EnumType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.GraalVmConfig;
@@ -25,6 +27,7 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Servi
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.TestContext;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.TypeSpecMetadata;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.UnionModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.UnionModels;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.XmlSequenceWrapper;
 import com.microsoft.typespec.http.client.generator.core.model.projectmodel.Project;
 import com.microsoft.typespec.http.client.generator.core.model.projectmodel.TextFile;
@@ -69,8 +72,17 @@ public class JavaPackage {
 
     private final Set<String> filePaths = new HashSet<>();
 
+    private final boolean parallelTemplateRendering;
+    // templates not yet rendered, in the order their Java files were added
+    private final List<Runnable> pendingTemplates = new ArrayList<>();
+
     public JavaPackage(NewPlugin host) {
+        this(host, JavaSettings.getInstance().isParallelTemplateRendering());
+    }
+
+    JavaPackage(NewPlugin host, boolean parallelTemplateRendering) {
         this.settings = JavaSettings.getInstance();
+        this.parallelTemplateRendering = parallelTemplateRendering;
         this.javaFiles = new ArrayList<>();
         this.xmlFiles = new ArrayList<>();
         this.javaFileFactory = new JavaFileFactory(settings);
@@ -81,7 +93,13 @@ public class JavaPackage {
         return javaFileFactory;
     }
 
+    /**
+     * Gets the Java files of the package, rendering any templates that haven't been rendered yet.
+     *
+     * @return the Java files of the package.
+     */
     public List<JavaFile> getJavaFiles() {
+        renderTemplates();
         return javaFiles;
     }
 
@@ -95,14 +113,12 @@ public class JavaPackage {
 
     public final void addServiceClient(String packageKeyword, String name, ServiceClient model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getServiceClientTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> Templates.getServiceClientTemplate().write(model, javaFile));
     }
 
     public final void addAsyncServiceClient(String packageKeyWord, AsyncSyncClient asyncClient) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyWord, asyncClient.getClassName());
-        Templates.getServiceAsyncClientTemplate().write(asyncClient, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> Templates.getServiceAsyncClientTemplate().write(asyncClient, javaFile));
     }
 
     public final void addSyncServiceClient(String packageKeyWord, AsyncSyncClient syncClient) {
@@ -115,104 +131,88 @@ public class JavaPackage {
         ServiceSyncClientTemplate template = syncClientWrapAsync
             ? Templates.getServiceSyncClientWrapAsyncClientTemplate()
             : Templates.getServiceSyncClientTemplate();
-        template.write(syncClient, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> template.write(syncClient, javaFile));
     }
 
     public final void addServiceClientInterface(String name, ServiceClient model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(settings.getPackage(), name);
-        Templates.getServiceClientInterfaceTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> Templates.getServiceClientInterfaceTemplate().write(model, javaFile));
     }
 
     public final void addServiceClientInterface(String packageKeyword, String name, ServiceClient model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getServiceClientInterfaceTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> Templates.getServiceClientInterfaceTemplate().write(model, javaFile));
     }
 
     public final void addServiceClientBuilder(ClientBuilder model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(model.getPackageName(), model.getClassName());
-        Templates.getServiceClientBuilderTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> Templates.getServiceClientBuilderTemplate().write(model, javaFile));
     }
 
     public final void addServiceVersion(String packageKeyword, ServiceVersion serviceVersion) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, serviceVersion.getClassName());
-        Templates.getServiceVersionTemplate().write(serviceVersion, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> Templates.getServiceVersionTemplate().write(serviceVersion, javaFile));
     }
 
     public final void addMethodGroup(String packageKeyword, String name, MethodGroupClient model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getMethodGroupTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> Templates.getMethodGroupTemplate().write(model, javaFile));
     }
 
     public final void addMethodGroupInterface(String name, MethodGroupClient model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(settings.getPackage(), name);
-        Templates.getMethodGroupInterfaceTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> Templates.getMethodGroupInterfaceTemplate().write(model, javaFile));
     }
 
     public final void addMethodGroupInterface(String packageKeyword, String name, MethodGroupClient model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getMethodGroupInterfaceTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> Templates.getMethodGroupInterfaceTemplate().write(model, javaFile));
     }
 
     public final void addModel(String packageKeyword, String name, ClientModel model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-
-        if (settings.isStreamStyleSerialization()) {
-            Templates.getStreamStyleModelTemplate().write(model, javaFile);
-        } else {
-            Templates.getModelTemplate().write(model, javaFile);
-        }
-
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> {
+            if (settings.isStreamStyleSerialization()) {
+                Templates.getStreamStyleModelTemplate().write(model, javaFile);
+            } else {
+                Templates.getModelTemplate().write(model, javaFile);
+            }
+        });
     }
 
     public final void addException(String packageKeyword, String name, ClientException model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getExceptionTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> Templates.getExceptionTemplate().write(model, javaFile));
     }
 
     public final void addEnum(String packageKeyword, String name, EnumType model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getEnumTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> Templates.getEnumTemplate().write(model, javaFile));
     }
 
     public final void addClientResponse(String packageKeyword, String name, ClientResponse model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getResponseTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> Templates.getResponseTemplate().write(model, javaFile));
     }
 
     public final void addXmlSequenceWrapper(String packageKeyword, String name, XmlSequenceWrapper model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getXmlSequenceWrapperTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> Templates.getXmlSequenceWrapperTemplate().write(model, javaFile));
     }
 
     public final void addUnionModel(UnionModel model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(model.getPackage(), model.getName());
-        Templates.getUnionModelTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> Templates.getUnionModelTemplate().write(model, javaFile));
     }
 
     public final void addPackageInfo(String packageKeyword, String name, PackageInfo model) {
         JavaFile javaFile = javaFileFactory.createEmptySourceFile(packageKeyword, name);
-        Templates.getPackageInfoTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> Templates.getPackageInfoTemplate().write(model, javaFile));
     }
 
     public final void addModuleInfo(ModuleInfo moduleInfo) {
         JavaFile javaFile = javaFileFactory.createEmptySourceFile("", "module-info");
-        Templates.getModuleInfoTemplate().write(moduleInfo, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, () -> Templates.getModuleInfoTemplate().write(moduleInfo, javaFile));
     }
 
     public final void addPom(String name, Pom pom) {
@@ -240,6 +240,43 @@ public class JavaPackage {
         addJavaFile(javaFile);
     }
 
+    /**
+     * Renders the templates collected in parallel template rendering mode.
+     * <p>
+     * Each template writes to its own Java file, whose path is known, and checked for duplicates, when the file is
+     * added. The templates are rendered on the fork-join pool, while the order of the Java files stays the order they
+     * were added in. The client models and union models are frozen while rendering, as they are only safe to read
+     * concurrently.
+     */
+    public void renderTemplates() {
+        if (pendingTemplates.isEmpty()) {
+            return;
+        }
+
+        List<Runnable> templates = new ArrayList<>(pendingTemplates);
+        pendingTemplates.clear();
+
+        ClientModels.getInstance().freeze();
+        UnionModels.getInstance().freeze();
+        try {
+            // templates run in the threads of the common pool, which are not bound to the context of this generation
+            GenerationContext context = GenerationContext.current();
+            templates.parallelStream().forEach(context::run);
+        } finally {
+            ClientModels.getInstance().unfreeze();
+            UnionModels.getInstance().unfreeze();
+        }
+    }
+
+    private void addJavaFile(JavaFile javaFile, Runnable template) {
+        if (parallelTemplateRendering) {
+            pendingTemplates.add(template);
+        } else {
+            template.run();
+        }
+        addJavaFile(javaFile);
+    }
+
     protected void addJavaFile(JavaFile javaFile) {
         this.checkDuplicateFile(javaFile.getFilePath());
         filePaths.add(javaFile.getFilePath());
@@ -8,6 +8,7 @@ import com.google.googlejavaformat.java.FormatterException;
 import com.google.googlejavaformat.java.RemoveUnusedImports;
 import com.microsoft.typespec.http.client.generator.core.customization.implementation.Utils;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.FileUtils;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.NewPlugin;
 import java.io.File;
 import java.io.IOException;
@@ -31,6 +32,9 @@ public final class CodeFormatterUtil {
 
     /**
      * Formats the given files by removing unused imports and applying Eclipse code formatting.
+     * <p>
+     * Eclipse code formatting runs in-process unless {@link JavaSettings#isInProcessCodeFormatter()} is disabled, in
+     * which case Spotless is run through Maven.
      *
      * @param files The files to format.
      * @param plugin The plugin to use to write the formatted files.
@@ -54,12 +58,28 @@ public final class CodeFormatterUtil {
             .collect(Collectors.toList());
     }
 
-    @SuppressWarnings("DataFlowIssue")
     private static List<Map.Entry<String, String>> formatCodeInternal(Collection<Map.Entry<String, String>> files,
         Logger logger) {
         // First step to formatting code is to use the in-memory Google Java Formatter to remove unused imports.
         files = removeUnusedImports(files, logger);
 
+        if (JavaSettings.getInstance().isInProcessCodeFormatter()) {
+            try {
+                return EclipseCodeFormatter.formatCode(files, logger);
+            } catch (LinkageError error) {
+                // Eclipse JDT isn't fully available on the classpath, fall back to running Spotless through Maven.
+                if (logger != null) {
+                    logger.warn("Failed to load the in-process Eclipse formatter, falling back to Spotless.", error);
+                }
+            }
+        }
+
+        return formatCodeWithMavenSpotless(files);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    private static List<Map.Entry<String, String>> formatCodeWithMavenSpotless(
+        Collection<Map.Entry<String, String>> files) {
         Path tmpDir = null;
         try {
             tmpDir = FileUtils.createTempDirectory("spotless" + UUID.randomUUID());
@@ -0,0 +1,189 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.postprocessor.implementation;
+
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.GenerationContext;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.eclipse.jdt.core.formatter.CodeFormatter;
+import org.eclipse.jdt.internal.formatter.DefaultCodeFormatter;
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.text.edits.TextEdit;
+import org.slf4j.Logger;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+/**
+ * In-process equivalent of the Spotless {@code importOrder} and {@code eclipse} steps.
+ * <p>
+ * The Eclipse formatter profile is loaded once per process, and files are formatted in memory in parallel.
+ */
+final class EclipseCodeFormatter {
+    private static final String FORMATTER_PROFILE = "readme/eclipse-format-azure-sdk-for-java.xml";
+    private static final String LINE_SEPARATOR = "\n";
+    private static final int FORMAT_KIND = CodeFormatter.K_COMPILATION_UNIT | CodeFormatter.F_INCLUDE_COMMENTS;
+    // the "includes" of the Spotless configuration in readme/pom.xml
+    private static final List<String> INCLUDED_DIRECTORIES
+        = Arrays.asList("src/main/java/", "src/samples/java/", "src/test/java/");
+
+    private static final ThreadLocal<CodeFormatter> FORMATTER
+        = ThreadLocal.withInitial(() -> new DefaultCodeFormatter(FormatterOptionsHolder.OPTIONS));
+
+    private EclipseCodeFormatter() {
+    }
+
+    /**
+     * Sorts imports and applies Eclipse code formatting to the given files.
+     * <p>
+     * As with Spotless, only the Java files in the included source directories are formatted, other files are
+     * returned as is.
+     *
+     * @param files The files to format. The entry is filename and content.
+     * @param logger The logger to report errors to, may be null.
+     * @return the files after format, in the same order as the input.
+     * @throws IllegalStateException If any of the files could not be formatted.
+     */
+    static List<Map.Entry<String, String>> formatCode(Collection<Map.Entry<String, String>> files, Logger logger) {
+        Queue<String> errors = new ConcurrentLinkedQueue<>();
+
+        // files are formatted in the threads of the common pool, which are not bound to the context of this generation
+        List<Map.Entry<String, String>> formattedFiles = files.parallelStream().map(GenerationContext.wrap(file -> {
+            if (!isIncluded(file.getKey())) {
+                return file;
+            }
+
+            String content = sortImports(file.getValue());
+            TextEdit edit = FORMATTER.get().format(FORMAT_KIND, content, 0, content.length(), 0, LINE_SEPARATOR);
+            if (edit == null) {
+                String error = "Error in file '" + file.getKey() + "', Eclipse formatter failed to parse the file.";
+                if (logger != null) {
+                    logger.error(error);
+                }
+                errors.add(error);
+                return file;
+            }
+
+            Document document = new Document(content);
+            try {
+                edit.apply(document);
+            } catch (BadLocationException ex) {
+                throw new IllegalStateException("Failed to apply Eclipse formatting to file " + file.getKey(), ex);
+            }
+            return new AbstractMap.SimpleEntry<>(file.getKey(), document.get());
+        })).collect(Collectors.toList());
+
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException("Eclipse formatter encountered errors:\n" + String.join("\n", errors));
+        }
+
+        return formattedFiles;
+    }
+
+    static boolean isIncluded(String fileName) {
+        String path = fileName.replace('\\', '/');
+        return path.endsWith(".java") && INCLUDED_DIRECTORIES.stream().anyMatch(path::startsWith);
+    }
+
+    /*
+     * Matches the default Spotless 'importOrder' step: static imports first, then all other imports, each group
+     * sorted lexicographically by the imported name and separated by a blank line.
+     */
+    static String sortImports(String content) {
+        String[] lines = content.split("\n", -1);
+
+        int firstImport = -1;
+        int lastImport = -1;
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i].trim();
+            if (line.startsWith("import ")) {
+                if (firstImport == -1) {
+                    firstImport = i;
+                }
+                lastImport = i;
+            } else if (!line.isEmpty() && firstImport != -1) {
+                break;
+            }
+        }
+
+        if (firstImport == -1) {
+            return content;
+        }
+
+        TreeSet<String> staticImports = new TreeSet<>();
+        TreeSet<String> imports = new TreeSet<>();
+        for (int i = firstImport; i <= lastImport; i++) {
+            String line = lines[i].trim();
+            if (line.startsWith("import static ")) {
+                staticImports.add(line.substring("import static ".length(), line.length() - 1).trim());
+            } else if (line.startsWith("import ")) {
+                imports.add(line.substring("import ".length(), line.length() - 1).trim());
+            }
+        }
+
+        List<String> importLines = new ArrayList<>(staticImports.size() + imports.size() + 1);
+        staticImports.forEach(name -> importLines.add("import static " + name + ";"));
+        if (!staticImports.isEmpty() && !imports.isEmpty()) {
+            importLines.add("");
+        }
+        imports.forEach(name -> importLines.add("import " + name + ";"));
+
+        StringBuilder builder = new StringBuilder(content.length());
+        for (int i = 0; i < firstImport; i++) {
+            builder.append(lines[i]).append('\n');
+        }
+        for (String importLine : importLines) {
+            builder.append(importLine).append('\n');
+        }
+        for (int i = lastImport + 1; i < lines.length; i++) {
+            builder.append(lines[i]);
+            if (i < lines.length - 1) {
+                builder.append('\n');
+            }
+        }
+
+        return builder.toString();
+    }
+
+    private static final class FormatterOptionsHolder {
+        private static final Map<String, String> OPTIONS = loadOptions();
+
+        private static Map<String, String> loadOptions() {
+            try (InputStream profile
+                = EclipseCodeFormatter.class.getClassLoader().getResourceAsStream(FORMATTER_PROFILE)) {
+                if (profile == null) {
+                    throw new IllegalStateException("Eclipse formatter profile " + FORMATTER_PROFILE + " not found.");
+                }
+
+                NodeList settings = DocumentBuilderFactory.newInstance()
+                    .newDocumentBuilder()
+                    .parse(profile)
+                    .getElementsByTagName("setting");
+                Map<String, String> options = new HashMap<>();
+                for (int i = 0; i < settings.getLength(); i++) {
+                    Element setting = (Element) settings.item(i);
+                    options.put(setting.getAttribute("id"), setting.getAttribute("value"));
+                }
+                return options;
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            } catch (Exception ex) {
+                throw new IllegalStateException("Failed to load Eclipse formatter profile " + FORMATTER_PROFILE, ex);
+            }
+        }
+    }
+}
@@ -3,6 +3,8 @@
 
 package com.microsoft.typespec.http.client.generator.core.preprocessor;
 
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
 import com.azure.json.ReadValueCallback;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.FileUtils;
 import com.microsoft.typespec.http.client.generator.core.extension.jsonrpc.Connection;
@@ -15,6 +17,7 @@ import com.microsoft.typespec.http.client.generator.core.extension.model.codemod
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ObjectSchema;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Schema;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.SealedChoiceSchema;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.GenerationContext;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.NewPlugin;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.PluginLogger;
@@ -46,17 +49,17 @@ import org.yaml.snakeyaml.representer.Representer;
 public class Preprocessor extends NewPlugin {
     private final NewPlugin wrappedPlugin;
     private final Logger logger;
-    protected static Preprocessor instance;
+    private static final GenerationContext.Local<Preprocessor> INSTANCE = new GenerationContext.Local<>();
 
     public Preprocessor(NewPlugin wrappedPlugin, Connection connection, String plugin, String sessionId) {
         super(connection, plugin, sessionId);
         this.wrappedPlugin = wrappedPlugin;
         this.logger = new PluginLogger(this, Preprocessor.class);
-        instance = this;
+        INSTANCE.set(this);
     }
 
     public static Preprocessor getPluginInstance() {
-        return instance;
+        return INSTANCE.get();
     }
 
     public CodeModel processCodeModel() {
@@ -66,7 +69,8 @@ public class Preprocessor extends NewPlugin {
             throw new RuntimeException(String.format("Generator received incorrect number of inputs: %s : %s}",
                 files.size(), String.join(", ", files)));
         }
-        String file = readFile(files.get(0));
+        String fileName = files.get(0);
+        String file = readFile(fileName);
 
         Path codeModelFolder;
         try {
@@ -77,16 +81,24 @@ public class Preprocessor extends NewPlugin {
             throw new RuntimeException("Failed to create temp directory for code model.", ex);
         }
 
+        // write the input code model to the temp directory, to help debugging
+        String codeModelFileName = fileName.endsWith(".json") ? "code-model.json" : "code-model.yaml";
         try {
-            Files.writeString(codeModelFolder.resolve("code-model.yaml"), file);
-        } catch (Exception e) {
-            //
+            Files.writeString(codeModelFolder.resolve(codeModelFileName), file);
+        } catch (IOException e) {
+            logger.warn("Failed to write the code model to the temp directory.", e);
         }
 
         CodeModel codeModel;
         try {
-            // YAML
-            codeModel = yamlMapper.loadAs(file, CodeModel.class);
+            if (fileName.endsWith(".json")) {
+                try (JsonReader jsonReader = JsonProviders.createReader(file)) {
+                    codeModel = CodeModel.fromJson(jsonReader);
+                }
+            } else {
+                // YAML
+                codeModel = yamlMapper.loadAs(file, CodeModel.class);
+            }
         } catch (Exception e) {
             System.err.println("Got an error " + e.getMessage());
             connection.sendError(1, 500, "Cannot parse input into code model: " + e.getMessage());
@@ -949,24 +949,19 @@ public class ClientMethodTemplate extends ClientMethodTemplateBase {
 
     protected void pagedSinglePageResponseConversion(ProxyMethod restAPIMethod, ClientMethod clientMethod,
         JavaSettings settings, JavaBlock function) {
+        if (settings.isDataPlaneClient()) {
+            function.methodReturn(TemplateUtil.getPagedResponseExpression(clientMethod));
+            return;
+        }
+
         function.line("return new PagedResponseBase<>(");
         function.line("res.getRequest(),");
         function.line("res.getStatusCode(),");
         function.line("res.getHeaders(),");
-        if (settings.isDataPlaneClient()) {
-            function.line("getValues(res.getValue(), \"%s\"),",
-                clientMethod.getMethodPageDetails().getSerializedItemName());
-        } else {
-            function.line("res.getValue().%s(),",
-                CodeNamer.getModelNamer().modelPropertyGetterName(clientMethod.getMethodPageDetails().getItemName()));
-        }
+        function.line("res.getValue().%s(),",
+            CodeNamer.getModelNamer().modelPropertyGetterName(clientMethod.getMethodPageDetails().getItemName()));
         if (clientMethod.getMethodPageDetails().nonNullNextLink()) {
-            if (settings.isDataPlaneClient()) {
-                function.line("getNextLink(res.getValue(), \"%s\"),",
-                    clientMethod.getMethodPageDetails().getSerializedNextLinkName());
-            } else {
-                function.line(nextLinkLine(clientMethod));
-            }
+            function.line(nextLinkLine(clientMethod));
         } else {
             function.line("null,");
         }
@@ -1380,25 +1375,20 @@ public class ClientMethodTemplate extends ClientMethodTemplateBase {
                 function.line("return FluxUtil.withContext(context -> " + serviceMethodCall + ")");
             }
             function.indent(() -> {
+                if (settings.isDataPlaneClient() && settings.isAzureV1()) {
+                    function.line(".map(res -> %s);", TemplateUtil.getPagedResponseExpression(clientMethod));
+                    return;
+                }
+
                 function.line(".map(res -> new PagedResponseBase<>(");
                 function.indent(() -> {
                     function.line("res.getRequest(),");
                     function.line("res.getStatusCode(),");
                     function.line("res.getHeaders(),");
-                    if (settings.isDataPlaneClient() && settings.isAzureV1()) {
-                        function.line("getValues(res.getValue(), \"%s\"),",
-                            clientMethod.getMethodPageDetails().getSerializedItemName());
-                    } else {
-                        function.line("res.getValue().%s(),", CodeNamer.getModelNamer()
-                            .modelPropertyGetterName(clientMethod.getMethodPageDetails().getItemName()));
-                    }
+                    function.line("res.getValue().%s(),", CodeNamer.getModelNamer()
+                        .modelPropertyGetterName(clientMethod.getMethodPageDetails().getItemName()));
                     if (clientMethod.getMethodPageDetails().nonNullNextLink()) {
-                        if (settings.isDataPlaneClient() && settings.isAzureV1()) {
-                            function.line("getNextLink(res.getValue(), \"%s\"),",
-                                clientMethod.getMethodPageDetails().getSerializedNextLinkName());
-                        } else {
-                            function.line(nextLinkLine(clientMethod));
-                        }
+                        function.line(nextLinkLine(clientMethod));
                     } else {
                         function.line("null,");
                     }
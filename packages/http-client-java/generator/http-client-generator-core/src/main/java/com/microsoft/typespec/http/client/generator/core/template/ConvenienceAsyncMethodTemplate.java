@@ -74,9 +74,13 @@ public class ConvenienceAsyncMethodTemplate extends ConvenienceMethodTemplateBas
         IType rawResponseBodyType = convenienceMethod.getProxyMethod().getRawResponseBodyType();
 
         if (methodType == ClientMethodType.PagingAsync) {
-            String expressionMapFromBinaryData = expressionMapFromBinaryData(responseBodyType, rawResponseBodyType,
-                protocolMethod.getProxyMethod().getResponseContentTypes(), typeReferenceStaticClasses);
-            if (expressionMapFromBinaryData == null) {
+            Set<String> mediaTypes = protocolMethod.getProxyMethod().getResponseContentTypes();
+            boolean pageItemReadFromJson = isPageItemReadFromJson(responseBodyType, mediaTypes);
+            String expressionMapFromBinaryData = pageItemReadFromJson
+                ? null
+                : expressionMapFromBinaryData(responseBodyType, rawResponseBodyType, mediaTypes,
+                    typeReferenceStaticClasses);
+            if (!pageItemReadFromJson && expressionMapFromBinaryData == null) {
                 // no need to do the map
                 methodBlock
                     .methodReturn(String.format("%1$s(%2$s)", getMethodName(protocolMethod), invocationExpression));
@@ -84,16 +88,31 @@ public class ConvenienceAsyncMethodTemplate extends ConvenienceMethodTemplateBas
                 methodBlock.line("PagedFlux<BinaryData> pagedFluxResponse = %1$s(%2$s);", getMethodName(protocolMethod),
                     invocationExpression);
 
-                methodBlock.methodReturn(String.format(
-                    "PagedFlux.create(() -> (continuationTokenParam, pageSizeParam) -> {\n"
-                        + "    Flux<PagedResponse<BinaryData>> flux = (continuationTokenParam == null)\n"
-                        + "        ? pagedFluxResponse.byPage().take(1)\n"
-                        + "        : pagedFluxResponse.byPage(continuationTokenParam).take(1);\n"
-                        + "    return flux.map(pagedResponse -> new PagedResponseBase<Void, %1$s>(pagedResponse.getRequest(),\n"
-                        + "        pagedResponse.getStatusCode(),\n" + "        pagedResponse.getHeaders(),\n"
-                        + "        pagedResponse.getValue().stream().map(%2$s).collect(Collectors.toList()),\n"
-                        + "        pagedResponse.getContinuationToken(),\n" + "        null));\n" + "})",
-                    responseBodyType.asNullable(), expressionMapFromBinaryData));
+                methodBlock.line("return PagedFlux.create(() -> (continuationTokenParam, pageSizeParam) -> {");
+                methodBlock.indent(() -> {
+                    methodBlock.line("Flux<PagedResponse<BinaryData>> flux = (continuationTokenParam == null)");
+                    methodBlock.indent(() -> {
+                        methodBlock.line("? pagedFluxResponse.byPage().take(1)");
+                        methodBlock.line(": pagedFluxResponse.byPage(continuationTokenParam).take(1);");
+                    });
+                    methodBlock.line(
+                        "return flux.map(pagedResponse -> new PagedResponseBase<Void, %1$s>(pagedResponse.getRequest(),",
+                        responseBodyType.asNullable());
+                    methodBlock.indent(() -> {
+                        methodBlock.line("pagedResponse.getStatusCode(),");
+                        methodBlock.line("pagedResponse.getHeaders(),");
+                        methodBlock.text("pagedResponse.getValue().stream().map(");
+                        if (pageItemReadFromJson) {
+                            writePageItemReadFromJson(methodBlock, responseBodyType, "protocolMethodData");
+                        } else {
+                            methodBlock.text(expressionMapFromBinaryData);
+                        }
+                        methodBlock.line(").collect(Collectors.toList()),");
+                        methodBlock.line("pagedResponse.getContinuationToken(),");
+                        methodBlock.line("null));");
+                    });
+                });
+                methodBlock.line("});");
             }
         } else if (methodType == ClientMethodType.LongRunningBeginAsync) {
             String methodName = protocolMethod.getName();
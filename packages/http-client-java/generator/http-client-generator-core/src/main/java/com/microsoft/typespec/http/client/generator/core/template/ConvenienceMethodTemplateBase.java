@@ -38,6 +38,8 @@ import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.core.util.CodeNamer;
 import com.microsoft.typespec.http.client.generator.core.util.MethodUtil;
 import com.microsoft.typespec.http.client.generator.core.util.TemplateUtil;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Arrays;
@@ -425,6 +427,12 @@ abstract class ConvenienceMethodTemplateBase {
         // byte[]
         ClassType.BASE_64_URL.addImportsTo(imports, false);
 
+        // page item read by model's fromJson
+        ClassType.JSON_READER.addImportsTo(imports, false);
+        imports.add("com.azure.json.JsonProviders");
+        imports.add(IOException.class.getName());
+        imports.add(UncheckedIOException.class.getName());
+
         // flatten payload
         imports.add(Map.class.getName());
         imports.add(HashMap.class.getName());
@@ -494,6 +502,44 @@ abstract class ConvenienceMethodTemplateBase {
     protected abstract void writeInvocationAndConversion(ClientMethod convenienceMethod, ClientMethod protocolMethod,
         String invocationExpression, JavaBlock methodBlock, Set<GenericType> typeReferenceStaticClasses);
 
+    /**
+     * Checks whether the item of the page can be read by the "fromJson" method of the model.
+     * <p>
+     * The items of the protocol page are kept as their JSON text, see {@link TemplateUtil#getPagedResponseExpression}.
+     * Reading them with "fromJson" avoids the reflective lookup of the serializer in {@code BinaryData.toObject}.
+     *
+     * @param itemType the type of the item of the page.
+     * @param mediaTypes the media types of the response.
+     * @return whether the item of the page can be read by the "fromJson" method of the model.
+     */
+    protected static boolean isPageItemReadFromJson(IType itemType, Collection<String> mediaTypes) {
+        JavaSettings settings = JavaSettings.getInstance();
+        if (!settings.isStreamStyleSerialization()
+            || !settings.isAzureV1()
+            || SupportedMimeType.getResponseKnownMimeType(mediaTypes) != SupportedMimeType.JSON
+            || !ClientModelUtil.isClientModel(itemType)
+            || ClientModelUtil.isExternalModel(itemType)) {
+            return false;
+        }
+        ClientModel model = ClientModelUtil.getClientModel(((ClassType) itemType).getName());
+        return model.getXmlName() == null && !model.isStronglyTypedHeader();
+    }
+
+    /**
+     * Writes the lambda that reads the item of the page by the "fromJson" method of the model.
+     *
+     * @param block the code block, where the lambda continues the current line.
+     * @param itemType the type of the item of the page.
+     * @param parameterName the name of the lambda parameter, of type BinaryData.
+     */
+    protected static void writePageItemReadFromJson(JavaBlock block, IType itemType, String parameterName) {
+        block.lambda(parameterName,
+            lambda -> lambda
+                .tryBlock("JsonReader jsonReader = JsonProviders.createReader(" + parameterName + ".toBytes())",
+                    tryBlock -> tryBlock.methodReturn(itemType + ".fromJson(jsonReader)"))
+                .catchBlock("IOException e", catchBlock -> catchBlock.line("throw new UncheckedIOException(e);")));
+    }
+
     protected boolean isModelOrBuiltin(IType type) {
         // TODO: other built-in types
         return type == ClassType.STRING // string
@@ -95,16 +95,22 @@ public class ConvenienceSyncMethodTemplate extends ConvenienceMethodTemplateBase
             = convenienceMethod.getType() == ClientMethodType.SimpleSyncRestResponse ? "" : ".getValue()";
 
         if (convenienceMethod.getType() == ClientMethodType.PagingSync) {
-            String mapPageExpression = "";
-            if (JavaSettings.getInstance().isAzureV1()) {
-                mapPageExpression
-                    = ".mapPage(bodyItemValue -> "
+            if (isPageItemReadFromJson(responseBodyType, protocolMethod.getProxyMethod().getResponseContentTypes())) {
+                methodBlock.text(String.format("return serviceClient.%1$s(%2$s).mapPage(", protocolMethod.getName(),
+                    invocationExpression));
+                writePageItemReadFromJson(methodBlock, responseBodyType, "bodyItemValue");
+                methodBlock.line(");");
+            } else {
+                String mapPageExpression = "";
+                if (JavaSettings.getInstance().isAzureV1()) {
+                    mapPageExpression = ".mapPage(bodyItemValue -> "
                         + expressionConvertFromBinaryData(responseBodyType, rawResponseBodyType, "bodyItemValue",
                             protocolMethod.getProxyMethod().getResponseContentTypes(), typeReferenceStaticClasses)
                         + ")";
+                }
+                methodBlock.methodReturn(String.format("serviceClient.%1$s(%2$s)%3$s", protocolMethod.getName(),
+                    invocationExpression, mapPageExpression));
             }
-            methodBlock.methodReturn(String.format("serviceClient.%1$s(%2$s)%3$s", protocolMethod.getName(),
-                invocationExpression, mapPageExpression));
         } else if (convenienceMethod.getType() == ClientMethodType.LongRunningBeginSync) {
             String methodName = protocolMethod.getName();
             methodBlock.methodReturn(String.format("serviceClient.%1$s(%2$s)", methodName, invocationExpression));
@@ -10,7 +10,6 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Class
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientEnumValue;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.EnumType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
-import com.microsoft.typespec.http.client.generator.core.model.clientmodel.PrimitiveType;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaContext;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaEnum;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
@@ -19,6 +18,7 @@ import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaMod
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
 import com.microsoft.typespec.http.client.generator.core.util.CodeNamer;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -27,6 +27,7 @@ import java.util.Set;
  */
 public class EnumTemplate implements IJavaTemplate<EnumType, JavaFile> {
     private static final EnumTemplate INSTANCE = new EnumTemplate();
+    private static final String LOOKUP_KEY_METHOD_NAME = "toLookupKey";
 
     protected EnumTemplate() {
     }
@@ -143,9 +144,13 @@ public class EnumTemplate implements IJavaTemplate<EnumType, JavaFile> {
             imports.add("com.fasterxml.jackson.annotation.JsonValue");
         }
 
+        imports.add("java.util.Collections");
+        imports.add("java.util.HashMap");
+        imports.add("java.util.Map");
         addGeneratedImport(imports);
         IType elementType = enumType.getElementType();
         elementType.getClientType().addImportsTo(imports, false);
+        boolean ignoreCase = elementType == ClassType.STRING;
 
         javaFile.declareImport(imports);
         javaFile.javadocComment(comment -> comment.description(enumType.getDescription()));
@@ -158,10 +163,24 @@ public class EnumTemplate implements IJavaTemplate<EnumType, JavaFile> {
 
             String enumName = enumType.getName();
             String typeName = elementType.getClientType().toString();
+            String keyTypeName = elementType.getClientType().asNullable().toString();
+            String lookupName = getLookupVariableName(enumType);
 
             // This will be 'from*'.
             String converterName = enumType.getFromMethodName();
 
+            // lookup of the enum values by serialized value, so that 'from*' doesn't scan 'values()' on every call
+            String mapType = "Map<" + keyTypeName + ", " + enumName + ">";
+            enumBlock.privateStaticFinalVariable(mapType + " " + lookupName);
+            enumBlock.staticBlock(staticBlock -> {
+                staticBlock.line(String.format("%1$s values = new HashMap<>(%2$d);", mapType,
+                    getHashMapInitialCapacity(enumType.getValues().size())));
+                staticBlock.block("for (" + enumName + " item : " + enumName + ".values())",
+                    foreachBlock -> foreachBlock.line("values.putIfAbsent("
+                        + createLookupKey(ignoreCase, "item." + enumType.getToMethodName() + "()") + ", item);"));
+                staticBlock.line(lookupName + " = Collections.unmodifiableMap(values);");
+            });
+
             enumBlock.javadocComment("The actual serialized value for a " + enumName + " instance.");
             enumBlock.privateFinalMemberVariable(typeName, "value");
 
@@ -182,12 +201,20 @@ public class EnumTemplate implements IJavaTemplate<EnumType, JavaFile> {
                 if (elementType.isNullable()) {
                     function.ifBlock("value == null", ifAction -> ifAction.methodReturn("null"));
                 }
-                function.line(enumName + "[] items = " + enumName + ".values();");
-                function.block("for (" + enumName + " item : items)", foreachBlock -> foreachBlock
-                    .ifBlock(createEnumJsonCreatorIfCheck(enumType), ifBlock -> ifBlock.methodReturn("item")));
-                function.methodReturn("null");
+                function.methodReturn(lookupName + ".get(" + createLookupKey(ignoreCase, "value") + ")");
             });
 
+            if (ignoreCase) {
+                // the key of the values equal by String.equalsIgnoreCase, which compares each char folded this way
+                enumBlock.method(JavaVisibility.Private, Collections.singletonList(JavaModifier.Static),
+                    "String " + LOOKUP_KEY_METHOD_NAME + "(String value)", function -> {
+                        function.line("char[] chars = value.toCharArray();");
+                        function.block("for (int i = 0; i < chars.length; i++)", forBlock -> forBlock
+                            .line("chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));"));
+                        function.methodReturn("new String(chars)");
+                    });
+            }
+
             if (elementType == ClassType.STRING) {
                 enumBlock.javadocComment(JavaJavadocComment::inheritDoc);
                 if (!settings.isStreamStyleSerialization()) {
@@ -359,28 +386,25 @@ public class EnumTemplate implements IJavaTemplate<EnumType, JavaFile> {
         });
     }
 
-    /**
-     * Creates the if check used by the JsonCreator method used in the Enum type.
-     *
-     * @param enumType The enum type.
-     * @return The JsonCreator if check.
-     */
-    protected String createEnumJsonCreatorIfCheck(EnumType enumType) {
-        IType enumElementType = enumType.getElementType();
-        String toJsonMethodName = enumType.getToMethodName();
-
-        if (enumElementType == PrimitiveType.FLOAT) {
-            return String.format("Float.floatToIntBits(item.%s()) == Float.floatToIntBits(value)", toJsonMethodName);
-        } else if (enumElementType == PrimitiveType.DOUBLE) {
-            return String.format("Double.doubleToLongBits(item.%s()) == Double.doubleToLongBits(value)",
-                toJsonMethodName);
-        } else if (enumElementType instanceof PrimitiveType) {
-            return String.format("item.%s() == value", toJsonMethodName);
-        } else if (enumElementType == ClassType.STRING) {
-            return String.format("item.%s().equalsIgnoreCase(value)", toJsonMethodName);
-        } else {
-            return String.format("item.%s().equals(value)", toJsonMethodName);
+    private static String getLookupVariableName(EnumType enumType) {
+        // the name must not clash with the name of an enum value
+        Set<String> valueNames = new HashSet<>();
+        enumType.getValues().forEach(value -> valueNames.add(value.getName()));
+        String lookupName = "VALUES";
+        for (int i = 1; valueNames.contains(lookupName); ++i) {
+            lookupName = "VALUES" + i;
         }
+        return lookupName;
+    }
+
+    private static int getHashMapInitialCapacity(int size) {
+        // the capacity for the default load factor 0.75, so that the map is not resized
+        return (int) Math.ceil(size / 0.75);
+    }
+
+    private static String createLookupKey(boolean ignoreCase, String value) {
+        // String values are compared case-insensitively
+        return ignoreCase ? LOOKUP_KEY_METHOD_NAME + "(" + value + ")" : value;
     }
 
     protected void addGeneratedImport(Set<String> imports) {
@@ -0,0 +1,127 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.template;
+
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelProperty;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaClass;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
+import com.microsoft.typespec.http.client.generator.core.util.CodeNamer;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * The tracking of updated properties of a JSON merge patch model.
+ * <p>
+ * Each property gets a constant index, in the order of the properties of the parent models and then of the model.
+ * The generated "updatedProperties" field is a {@code long} bit mask, or a {@code BitSet} if the model has more
+ * properties than fit in a {@code long}.
+ */
+final class JsonMergePatchUpdatedProperties {
+    private static final String FIELD_NAME = "updatedProperties";
+    private static final int LONG_BITS = 64;
+
+    // property name to the name of its constant
+    private final Map<String, String> constantNames;
+
+    private JsonMergePatchUpdatedProperties(Map<String, String> constantNames) {
+        this.constantNames = constantNames;
+    }
+
+    /**
+     * Creates the tracking of updated properties of the JSON merge patch model.
+     *
+     * @param model the JSON merge patch model.
+     * @return the tracking of updated properties.
+     */
+    static JsonMergePatchUpdatedProperties of(ClientModel model) {
+        Map<String, String> constantNames = new LinkedHashMap<>();
+        Set<String> usedConstantNames = new HashSet<>();
+        Stream.concat(ClientModelUtil.getParentProperties(model).stream(), model.getProperties().stream())
+            .map(ClientModelProperty::getName)
+            .forEach(name -> constantNames.computeIfAbsent(name, key -> {
+                String constantName = "UPDATED_" + CodeNamer.getEnumMemberName(key);
+                // property names differing only in case or underscores map to the same constant name
+                String uniqueName = constantName;
+                for (int i = 1; !usedConstantNames.add(uniqueName); ++i) {
+                    uniqueName = constantName + i;
+                }
+                return uniqueName;
+            }));
+        return new JsonMergePatchUpdatedProperties(constantNames);
+    }
+
+    /**
+     * Whether the updated properties are tracked in a {@code BitSet}, instead of a {@code long}.
+     *
+     * @return whether the updated properties are tracked in a {@code BitSet}.
+     */
+    boolean isBitSet() {
+        return constantNames.size() > LONG_BITS;
+    }
+
+    /**
+     * Declares the constants of the properties and the field of the updated properties.
+     *
+     * @param classBlock the class of the model.
+     * @param addGeneratedAnnotation adds the generated annotation to the class block.
+     */
+    void declareFields(JavaClass classBlock, Consumer<JavaClass> addGeneratedAnnotation) {
+        int index = 0;
+        for (String constantName : constantNames.values()) {
+            // bit mask for long, index for BitSet
+            addGeneratedAnnotation.accept(classBlock);
+            classBlock.privateStaticFinalVariable(
+                isBitSet() ? "int " + constantName + " = " + index : "long " + constantName + " = 1L << " + index);
+            ++index;
+        }
+
+        classBlock.javadocComment(comment -> comment
+            .description("Stores updated model properties, as bits at the indices of the properties"));
+        addGeneratedAnnotation.accept(classBlock);
+        if (isBitSet()) {
+            classBlock.privateFinalMemberVariable("BitSet " + FIELD_NAME + " = new BitSet(" + index + ")");
+        } else {
+            classBlock.privateMemberVariable("long " + FIELD_NAME);
+        }
+    }
+
+    /**
+     * Gets the statement that marks the property as updated.
+     *
+     * @param propertyName the name of the property.
+     * @return the statement that marks the property as updated.
+     */
+    String setUpdated(String propertyName) {
+        String constantName = getConstantName(propertyName);
+        return isBitSet()
+            ? "this." + FIELD_NAME + ".set(" + constantName + ");"
+            : "this." + FIELD_NAME + " |= " + constantName + ";";
+    }
+
+    /**
+     * Gets the expression that checks whether the property is updated.
+     *
+     * @param propertyName the name of the property.
+     * @return the expression that checks whether the property is updated.
+     */
+    String isUpdated(String propertyName) {
+        String constantName = getConstantName(propertyName);
+        return isBitSet()
+            ? FIELD_NAME + ".get(" + constantName + ")"
+            : "(" + FIELD_NAME + " & " + constantName + ") != 0";
+    }
+
+    private String getConstantName(String propertyName) {
+        String constantName = constantNames.get(propertyName);
+        if (constantName == null) {
+            throw new IllegalStateException("Property '" + propertyName + "' is not tracked in JSON merge patch.");
+        }
+        return constantName;
+    }
+}
@@ -0,0 +1,198 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.template;
+
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelProperty;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MapType;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaBlock;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaClass;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
+import com.microsoft.typespec.http.client.generator.core.util.CodeNamer;
+import java.util.function.Consumer;
+
+/**
+ * The lazy reading of the additional properties of a model, in stream-style serialization.
+ * <p>
+ * The deserialization keeps the value of each additional property as its raw JSON, in a generated field next to the
+ * additional properties. The raw JSON values are read into the additional properties when these are first accessed.
+ * Until then, the serialization writes the raw JSON values back as they were read.
+ */
+final class LazyAdditionalProperties {
+    private static final String READ_RAW_JSON_METHOD_NAME = "readRawJson";
+
+    private final ClientModelProperty property;
+    private final String rawFieldName;
+
+    private LazyAdditionalProperties(ClientModelProperty property) {
+        this.property = property;
+        this.rawFieldName = property.getName() + "Json";
+    }
+
+    /**
+     * Creates the lazy reading of the additional properties of the model.
+     *
+     * @param model the model.
+     * @param settings the Java settings.
+     * @return the lazy reading of the additional properties, or null if the model doesn't define additional properties
+     * or doesn't read them lazily.
+     */
+    static LazyAdditionalProperties of(ClientModel model, JavaSettings settings) {
+        // the raw JSON values are read with azure-json JsonProviders
+        if (!settings.isStreamStyleSerialization()
+            || !settings.isStreamStyleSerializationLazyAdditionalProperties()
+            || !settings.isAzureV1()
+            || settings.isAzureV2()
+            || model.getXmlName() != null
+            || model.isStronglyTypedHeader()
+            || ClientModelUtil.isJsonMergePatchModel(model, settings)) {
+            return null;
+        }
+
+        // only the model defining the additional properties reads them lazily, subtypes access them via the setter
+        return model.getProperties()
+            .stream()
+            .filter(property -> property.isAdditionalProperties() && property.getWireType() instanceof MapType)
+            .findFirst()
+            .map(LazyAdditionalProperties::new)
+            .orElse(null);
+    }
+
+    /**
+     * Gets the additional properties property.
+     *
+     * @return the additional properties property.
+     */
+    ClientModelProperty getProperty() {
+        return property;
+    }
+
+    /**
+     * Gets the name of the field, and of the local variable in deserialization, of the raw JSON values.
+     *
+     * @return the name of the field of the raw JSON values.
+     */
+    String getRawFieldName() {
+        return rawFieldName;
+    }
+
+    /**
+     * Declares the field of the raw JSON values.
+     *
+     * @param classBlock the class of the model.
+     * @param addGeneratedAnnotation adds the generated annotation to the class block.
+     */
+    void declareField(JavaClass classBlock, Consumer<JavaClass> addGeneratedAnnotation) {
+        classBlock.blockComment("The raw JSON values of the additional properties, read on first access.");
+        addGeneratedAnnotation.accept(classBlock);
+        classBlock.privateMemberVariable("Map<String, String> " + rawFieldName);
+    }
+
+    /**
+     * Writes the reading of the raw JSON values into the additional properties, at the start of the getter.
+     *
+     * @param methodBlock the getter of the additional properties.
+     */
+    void writeReadOnFirstAccess(JavaBlock methodBlock) {
+        methodBlock.ifBlock("this." + rawFieldName + " != null", ifBlock -> {
+            ifBlock.line("this.%s = %s(this.%s);", property.getName(), getReadMethodName(), rawFieldName);
+            ifBlock.line("this.%s = null;", rawFieldName);
+        });
+    }
+
+    /**
+     * Gets the statement that discards the raw JSON values, when the additional properties are set.
+     *
+     * @return the statement that discards the raw JSON values.
+     */
+    String discardRawValues() {
+        return "this." + rawFieldName + " = null;";
+    }
+
+    /**
+     * Writes the capture of the raw JSON value of an unknown field in deserialization.
+     *
+     * @param methodBlock the deserialization, with the reader at the value of the unknown field.
+     * @param fieldNameVariableName the name of the variable of the name of the unknown field.
+     */
+    void writeRawValueCapture(JavaBlock methodBlock, String fieldNameVariableName) {
+        methodBlock.ifBlock(rawFieldName + " == null",
+            ifBlock -> ifBlock.line(rawFieldName + " = new LinkedHashMap<>();"));
+        methodBlock.line();
+        methodBlock
+            .line(rawFieldName + ".put(" + fieldNameVariableName + ", " + READ_RAW_JSON_METHOD_NAME + "(reader));");
+    }
+
+    /**
+     * Writes the serialization of the raw JSON values, if the additional properties were never accessed, otherwise the
+     * serialization of the additional properties.
+     *
+     * @param methodBlock the serialization.
+     * @param serializeAdditionalProperties the serialization of the additional properties.
+     */
+    void writeSerialization(JavaBlock methodBlock, Consumer<JavaBlock> serializeAdditionalProperties) {
+        methodBlock.ifBlock(rawFieldName + " != null", ifAction -> {
+            ifAction.line("for (Map.Entry<String, String> additionalPropertyJson : %s.entrySet()) {", rawFieldName);
+            ifAction.indent(() -> ifAction
+                .line("jsonWriter.writeRawField(additionalPropertyJson.getKey(), additionalPropertyJson.getValue());"));
+            ifAction.line("}");
+        }).elseIfBlock(property.getName() + " != null", serializeAdditionalProperties);
+    }
+
+    /**
+     * Writes the methods that capture a raw JSON value, and that read the raw JSON values into the additional
+     * properties.
+     *
+     * @param classBlock the class of the model.
+     * @param addGeneratedAnnotation adds the generated annotation to the class block.
+     * @param fieldNameVariableName the name of the variable of the name of the additional property, used by
+     * {@code readValue}.
+     * @param readValue writes the reading of the value of the additional property, with the reader at the value, into
+     * the local variable of the additional properties.
+     */
+    void writeMethods(JavaClass classBlock, Consumer<JavaClass> addGeneratedAnnotation, String fieldNameVariableName,
+        Consumer<JavaBlock> readValue) {
+        // JsonReader.readChildren only reads objects and arrays, the raw text of a string is without the quotes
+        addGeneratedAnnotation.accept(classBlock);
+        classBlock.staticMethod(JavaVisibility.Private,
+            "String " + READ_RAW_JSON_METHOD_NAME + "(JsonReader reader) throws IOException", methodBlock -> {
+                methodBlock.line("JsonToken token = reader.currentToken();");
+                methodBlock
+                    .ifBlock("token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY",
+                        ifAction -> ifAction.methodReturn("reader.readChildren()"))
+                    .elseIfBlock("token == JsonToken.STRING",
+                        elseIfAction -> elseIfAction.methodReturn("\"\\\"\" + reader.getRawText() + \"\\\"\""))
+                    .elseBlock(elseAction -> elseAction.methodReturn("reader.getRawText()"));
+            });
+
+        addGeneratedAnnotation.accept(classBlock);
+        classBlock.staticMethod(JavaVisibility.Private,
+            property.getWireType() + " " + getReadMethodName() + "(Map<String, String> " + rawFieldName + ")",
+            methodBlock -> {
+                methodBlock.line(property.getWireType() + " " + property.getName() + " = new LinkedHashMap<>();");
+                methodBlock.line("for (Map.Entry<String, String> additionalPropertyJson : %s.entrySet()) {",
+                    rawFieldName);
+                methodBlock.indent(() -> {
+                    methodBlock.line("String " + fieldNameVariableName + " = additionalPropertyJson.getKey();");
+                    methodBlock.line(
+                        "try (JsonReader reader = JsonProviders.createReader(additionalPropertyJson.getValue())) {");
+                    methodBlock.indent(() -> {
+                        methodBlock.line("reader.nextToken();");
+                        readValue.accept(methodBlock);
+                    });
+                    methodBlock.line("} catch (IOException e) {");
+                    methodBlock.indent(() -> methodBlock.line("throw new UncheckedIOException(e);"));
+                    methodBlock.line("}");
+                });
+                methodBlock.line("}");
+                methodBlock.methodReturn(property.getName());
+            });
+    }
+
+    private String getReadMethodName() {
+        return "read" + CodeNamer.toPascalCase(property.getName());
+    }
+}
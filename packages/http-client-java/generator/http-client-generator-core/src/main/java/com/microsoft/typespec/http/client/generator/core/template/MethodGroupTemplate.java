@@ -16,7 +16,9 @@ import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.core.util.ModelNamer;
 import com.microsoft.typespec.http.client.generator.core.util.TemplateUtil;
 import io.clientcore.core.serialization.ObjectSerializer;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -47,7 +49,9 @@ public class MethodGroupTemplate implements IJavaTemplate<MethodGroupClient, Jav
         String serviceClientPackageName
             = ClientModelUtil.getServiceClientPackageName(methodGroupClient.getServiceClientName());
         imports.add(String.format("%1$s.%2$s", serviceClientPackageName, methodGroupClient.getServiceClientName()));
-        imports.add(InvocationTargetException.class.getName());
+        imports.add(MethodHandle.class.getName());
+        imports.add(MethodHandles.class.getName());
+        imports.add(MethodType.class.getName());
         imports.add(ObjectSerializer.class.getName());
         ClassType.HTTP_PIPELINE.addImportsTo(imports, false);
         javaFile.declareImport(imports);
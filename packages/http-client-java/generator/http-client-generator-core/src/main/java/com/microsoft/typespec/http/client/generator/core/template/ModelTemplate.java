@@ -38,6 +38,7 @@ import java.io.UncheckedIOException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -72,10 +73,12 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
         final boolean requireSerialization = modelRequireSerialization(model);
 
         JavaSettings settings = JavaSettings.getInstance();
-        ClientModelPropertiesManager propertiesManager = new ClientModelPropertiesManager(model, settings);
+        ClientModelPropertiesManager propertiesManager = ClientModelPropertiesManager.getInstance(model, settings);
         Set<String> imports = settings.isStreamStyleSerialization() ? new StreamStyleImports() : new HashSet<>();
+        JsonMergePatchUpdatedProperties jsonMergePatchUpdatedProperties
+            = ClientModelUtil.isJsonMergePatchModel(model, settings) ? JsonMergePatchUpdatedProperties.of(model) : null;
 
-        addImports(imports, model, settings);
+        addImports(imports, model, settings, jsonMergePatchUpdatedProperties);
 
         List<ClientModelPropertyReference> propertyReferences = this.getClientModelPropertyReferences(model);
         propertyReferences.forEach(p -> p.addImportsTo(imports, false));
@@ -145,9 +148,15 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
             // properties
             addProperties(propertiesManager, classBlock);
 
+            // raw JSON values of additional properties read lazily
+            LazyAdditionalProperties lazyAdditionalProperties = LazyAdditionalProperties.of(model, settings);
+            if (lazyAdditionalProperties != null) {
+                lazyAdditionalProperties.declareField(classBlock, this::addGeneratedAnnotation);
+            }
+
             // add jsonMergePatch related properties and accessors
-            if (ClientModelUtil.isJsonMergePatchModel(model, settings)) {
-                addJsonMergePatchRelatedPropertyAndAccessors(classBlock, model);
+            if (jsonMergePatchUpdatedProperties != null) {
+                addJsonMergePatchRelatedPropertyAndAccessors(classBlock, model, jsonMergePatchUpdatedProperties);
             }
 
             // constructor
@@ -182,7 +191,7 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
                     classBlock.method(methodVisibility, null,
                         propertyClientType + " " + getGetterName(model, property) + "()",
                         methodBlock -> addGetterMethod(propertyWireType, propertyClientType, property, treatAsXml,
-                            methodBlock, settings));
+                            methodBlock, settings, lazyAdditionalProperties));
                 }
 
                 if (ClientModelUtil.needsPublicSetter(property, settings) && !immutableModel) {
@@ -193,7 +202,7 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
                         model.getName() + " " + property.getSetterName() + "(" + propertyClientType + " "
                             + property.getName() + ")",
                         methodBlock -> addSetterMethod(propertyWireType, propertyClientType, property, treatAsXml,
-                            methodBlock, settings, ClientModelUtil.isJsonMergePatchModel(model, settings)));
+                            methodBlock, settings, jsonMergePatchUpdatedProperties, lazyAdditionalProperties));
                 } else if (ClientModelUtil.needsPackagePrivateSetter(model, property, settings, streamStyle)) {
                     generateSetterJavadoc(classBlock, model, property);
                     addGeneratedAnnotation(classBlock);
@@ -201,7 +210,7 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
                         model.getName() + " " + property.getSetterName() + "(" + propertyClientType + " "
                             + property.getName() + ")",
                         methodBlock -> addSetterMethod(propertyWireType, propertyClientType, property, treatAsXml,
-                            methodBlock, settings, ClientModelUtil.isJsonMergePatchModel(model, settings)));
+                            methodBlock, settings, jsonMergePatchUpdatedProperties, lazyAdditionalProperties));
                 }
 
                 // If the property is additional properties, and stream-style serialization isn't being used, add a
@@ -238,8 +247,8 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
                     classBlock.publicMethod(methodSignature, methodBlock -> {
                         methodBlock
                             .line("super." + parentProperty.getSetterName() + "(" + parentProperty.getName() + ");");
-                        if (ClientModelUtil.isJsonMergePatchModel(model, settings)) {
-                            methodBlock.line("this.updatedProperties.add(\"" + parentProperty.getName() + "\");");
+                        if (jsonMergePatchUpdatedProperties != null) {
+                            methodBlock.line(jsonMergePatchUpdatedProperties.setUpdated(parentProperty.getName()));
                         }
                         methodBlock.methodReturn("this");
                     });
@@ -306,7 +315,7 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
             }
 
             if (requireSerialization) {
-                writeStreamStyleSerialization(classBlock, propertiesManager);
+                writeStreamStyleSerialization(classBlock, propertiesManager, jsonMergePatchUpdatedProperties);
             }
         });
     }
@@ -412,7 +421,8 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
         return null;
     }
 
-    private void addImports(Set<String> imports, ClientModel model, JavaSettings settings) {
+    private void addImports(Set<String> imports, ClientModel model, JavaSettings settings,
+        JsonMergePatchUpdatedProperties jsonMergePatchUpdatedProperties) {
         // If there is client side validation and the model will generate a ClientLogger to log the validation
         // exceptions add an import of 'com.azure.core.util.logging.ClientLogger' and
         // 'com.fasterxml.jackson.annotation.JsonIgnore'.
@@ -447,9 +457,7 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
             imports.add(JacksonAdapter.class.getName());
         }
 
-        String lastParentName = model.getName();
-        ClientModel parentModel = ClientModelUtil.getClientModel(model.getParentModelName());
-        while (parentModel != null && !lastParentName.equals(parentModel.getName())) {
+        for (ClientModel parentModel : ClientModelUtil.getInheritance(model).getAncestors()) {
             // implementation code of stream-style serialization refs to the element type of the Map
             for (ClientModelProperty parentProperty : parentModel.getProperties()) {
                 if (parentProperty.isAdditionalProperties()) {
@@ -458,8 +466,6 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
             }
 
             imports.addAll(parentModel.getImports());
-            lastParentName = parentModel.getName();
-            parentModel = ClientModelUtil.getClientModel(parentModel.getParentModelName());
         }
 
         addGeneratedImport(imports);
@@ -467,11 +473,12 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
         model.addImportsTo(imports, settings);
 
         // add Json merge patch related imports
-        if (ClientModelUtil.isJsonMergePatchModel(model, settings)) {
+        if (jsonMergePatchUpdatedProperties != null) {
             imports.add(settings.getPackage(settings.getImplementationSubpackage()) + "."
                 + ClientModelUtil.JSON_MERGE_PATCH_HELPER_CLASS_NAME);
-            imports.add(Set.class.getName());
-            imports.add(HashSet.class.getName());
+            if (jsonMergePatchUpdatedProperties.isBitSet()) {
+                imports.add(BitSet.class.getName());
+            }
         }
     }
 
@@ -1043,9 +1050,16 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
      * @param treatAsXml Whether the getter should treat the property as XML.
      * @param methodBlock Where the getter method is being added.
      * @param settings Java settings.
+     * @param lazyAdditionalProperties The lazy reading of the additional properties, if the client model reads them
+     * lazily, otherwise null.
      */
     private static void addGetterMethod(IType propertyWireType, IType propertyClientType, ClientModelProperty property,
-        boolean treatAsXml, JavaBlock methodBlock, JavaSettings settings) {
+        boolean treatAsXml, JavaBlock methodBlock, JavaSettings settings,
+        LazyAdditionalProperties lazyAdditionalProperties) {
+        if (lazyAdditionalProperties != null && property == lazyAdditionalProperties.getProperty()) {
+            lazyAdditionalProperties.writeReadOnFirstAccess(methodBlock);
+        }
+
         String sourceTypeName = propertyWireType.toString();
         String targetTypeName = propertyClientType.toString();
         String expression = "this." + property.getName();
@@ -1093,10 +1107,19 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
      * @param property The property.
      * @param treatAsXml Whether the setter should treat the property as XML.
      * @param methodBlock Where the setter method is being added.
-     * @param isJsonMergePatchModel Whether the client model is a JSON merge patch model.
+     * @param jsonMergePatchUpdatedProperties The tracking of updated properties, if the client model is a JSON merge
+     * patch model, otherwise null.
+     * @param lazyAdditionalProperties The lazy reading of the additional properties, if the client model reads them
+     * lazily, otherwise null.
      */
     private static void addSetterMethod(IType propertyWireType, IType propertyClientType, ClientModelProperty property,
-        boolean treatAsXml, JavaBlock methodBlock, JavaSettings settings, boolean isJsonMergePatchModel) {
+        boolean treatAsXml, JavaBlock methodBlock, JavaSettings settings,
+        JsonMergePatchUpdatedProperties jsonMergePatchUpdatedProperties,
+        LazyAdditionalProperties lazyAdditionalProperties) {
+        if (lazyAdditionalProperties != null && property == lazyAdditionalProperties.getProperty()) {
+            methodBlock.line(lazyAdditionalProperties.discardRawValues());
+        }
+
         String expression = (propertyClientType.equals(ArrayType.BYTE_ARRAY))
             ? TemplateHelper.getByteCloneExpression(property.getName())
             : property.getName();
@@ -1124,8 +1147,8 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
             }
         }
 
-        if (isJsonMergePatchModel) {
-            methodBlock.line("this.updatedProperties.add(\"" + property.getName() + "\");");
+        if (jsonMergePatchUpdatedProperties != null) {
+            methodBlock.line(jsonMergePatchUpdatedProperties.setUpdated(property.getName()));
         }
 
         methodBlock.methodReturn("this");
@@ -1322,8 +1345,11 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
      *
      * @param classBlock The class block where serialization methods will be written.
      * @param propertiesManager The properties manager.
+     * @param jsonMergePatchUpdatedProperties The tracking of updated properties, if the model is a JSON merge patch
+     * model, otherwise null.
      */
-    protected void writeStreamStyleSerialization(JavaClass classBlock, ClientModelPropertiesManager propertiesManager) {
+    protected void writeStreamStyleSerialization(JavaClass classBlock, ClientModelPropertiesManager propertiesManager,
+        JsonMergePatchUpdatedProperties jsonMergePatchUpdatedProperties) {
         // No-op, meant for StreamSerializationModelTemplate.
     }
 
@@ -1383,17 +1409,15 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
     /**
      * Add json-merge-patch related flag and accessors.
      */
-    private void addJsonMergePatchRelatedPropertyAndAccessors(JavaClass classBlock, ClientModel model) {
+    private void addJsonMergePatchRelatedPropertyAndAccessors(JavaClass classBlock, ClientModel model,
+        JsonMergePatchUpdatedProperties jsonMergePatchUpdatedProperties) {
         if (!model.getImplementationDetails().isInput()) {
             // Model doesn't get used in serialization, no need to add json merge patch related properties and
             // accessors.
             return;
         }
 
-        classBlock.javadocComment(comment -> comment
-            .description("Stores updated model property, the value is property name, not serialized name"));
-        addGeneratedAnnotation(classBlock);
-        classBlock.privateFinalMemberVariable("Set<String> updatedProperties = new HashSet<>()");
+        jsonMergePatchUpdatedProperties.declareFields(classBlock, this::addGeneratedAnnotation);
 
         if (model.isPolymorphic() && CoreUtils.isNullOrEmpty(model.getDerivedModels())) {
             // Only polymorphic parent models generate an accessor.
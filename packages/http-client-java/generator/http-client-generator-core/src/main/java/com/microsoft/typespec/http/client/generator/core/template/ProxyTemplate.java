@@ -26,6 +26,7 @@ import java.util.stream.Collectors;
  * Writes a Proxy to a JavaClass block.
  */
 public class ProxyTemplate implements IJavaTemplate<Proxy, JavaClass> {
+    private static final String SERVICE_IMPL_HOLDER = "ServiceImplHolder";
     private static final ProxyTemplate INSTANCE = new ProxyTemplate();
 
     protected ProxyTemplate() {
@@ -59,33 +60,7 @@ public class ProxyTemplate implements IJavaTemplate<Proxy, JavaClass> {
             classBlock.interfaceBlock(visibility, restAPI.getName(), interfaceBlock -> {
 
                 if (settings.isAzureV2() || !settings.isAzureV1()) {
-                    StringBuilder params = new StringBuilder();
-                    params.append("HttpPipeline pipeline");
-
-                    StringBuilder paramTypes = new StringBuilder();
-                    paramTypes.append("HttpPipeline.class");
-
-                    StringBuilder reflectionParams = new StringBuilder();
-                    reflectionParams.append("pipeline");
-
-                    interfaceBlock.staticMethod(JavaVisibility.PackagePrivate,
-                        restAPI.getName() + " getNewInstance(" + params + ")", javaBlock -> {
-
-                            String serviceClientInterfacePackageName
-                                = ClientModelUtil.getServiceClientInterfacePackageName();
-                            javaBlock.tryBlock(tryBlock -> {
-                                tryBlock.line(
-                                    "Class<?> clazz = Class.forName(" + "\"" + JavaSettings.getInstance().getPackage()
-                                        + ".implementation." + restAPI.getName() + "Impl" + "\");");
-                                tryBlock.line("return (" + restAPI.getName() + ") clazz.getMethod(\"getNewInstance\", "
-                                    + paramTypes + ").invoke(null, " + reflectionParams + ");");
-                            })
-                                .catchBlock(
-                                    "ClassNotFoundException | NoSuchMethodException | IllegalAccessException | InvocationTargetException e",
-                                    catchBlock -> {
-                                        catchBlock.line("throw new RuntimeException(e);");
-                                    });
-                        });
+                    writeGetNewInstance(interfaceBlock, restAPI);
                 }
 
                 for (ProxyMethod restAPIMethod : restAPI.getMethods()) {
@@ -297,6 +272,55 @@ public class ProxyTemplate implements IJavaTemplate<Proxy, JavaClass> {
         }
     }
 
+    /**
+     * Writes the static "getNewInstance" method that creates the service implementation generated by the annotation
+     * processor.
+     * <p>
+     * The implementation is looked up by name, as it doesn't exist until the annotation processor runs. The lookup is
+     * done once per service interface, in a nested holder class, and the resulting method handle is reused for every
+     * new instance.
+     *
+     * @param interfaceBlock the service interface.
+     * @param restAPI the proxy of the service interface.
+     */
+    private static void writeGetNewInstance(JavaInterface interfaceBlock, Proxy restAPI) {
+        String serviceName = restAPI.getName();
+        interfaceBlock.staticMethod(JavaVisibility.PackagePrivate,
+            serviceName + " getNewInstance(HttpPipeline pipeline)", javaBlock -> {
+                javaBlock.ifBlock(SERVICE_IMPL_HOLDER + ".NEW_INSTANCE == null", ifBlock -> ifBlock
+                    .line("throw new RuntimeException(" + SERVICE_IMPL_HOLDER + ".LOOKUP_EXCEPTION);"));
+                javaBlock
+                    .tryBlock(tryBlock -> tryBlock.methodReturn(
+                        "(" + serviceName + ") " + SERVICE_IMPL_HOLDER + ".NEW_INSTANCE.invokeExact(pipeline)"))
+                    .catchBlock("RuntimeException | Error e", catchBlock -> catchBlock.line("throw e;"))
+                    .catchBlock("Throwable e", catchBlock -> catchBlock.line("throw new RuntimeException(e);"));
+            });
+
+        interfaceBlock.javadocComment(comment -> comment.description(
+            "Holds the method handle of the getNewInstance method of the service implementation, looked up once."));
+        interfaceBlock.finalClassBlock(SERVICE_IMPL_HOLDER, classBlock -> {
+            classBlock.privateStaticFinalVariable("MethodHandle NEW_INSTANCE");
+            classBlock.privateStaticFinalVariable("ReflectiveOperationException LOOKUP_EXCEPTION");
+            classBlock.staticBlock(staticBlock -> {
+                staticBlock.line("MethodHandle newInstance = null;");
+                staticBlock.line("ReflectiveOperationException lookupException = null;");
+                staticBlock.tryBlock(tryBlock -> {
+                    tryBlock.line("Class<?> clazz = Class.forName(\"" + JavaSettings.getInstance().getPackage()
+                        + ".implementation." + serviceName + "Impl\");");
+                    tryBlock.line("newInstance = MethodHandles.lookup()");
+                    tryBlock.increaseIndent();
+                    tryBlock.line(".unreflect(clazz.getMethod(\"getNewInstance\", HttpPipeline.class))");
+                    tryBlock.line(".asType(MethodType.methodType(" + serviceName + ".class, HttpPipeline.class));");
+                    tryBlock.decreaseIndent();
+                })
+                    .catchBlock("ClassNotFoundException | NoSuchMethodException | IllegalAccessException e",
+                        catchBlock -> catchBlock.line("lookupException = e;"));
+                staticBlock.line("NEW_INSTANCE = newInstance;");
+                staticBlock.line("LOOKUP_EXCEPTION = lookupException;");
+            });
+        });
+    }
+
     /**
      * Extension to write Headers annotation for proxy method.
      *
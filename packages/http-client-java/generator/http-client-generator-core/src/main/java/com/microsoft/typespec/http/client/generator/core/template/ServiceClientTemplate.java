@@ -23,7 +23,9 @@ import com.microsoft.typespec.http.client.generator.core.util.MethodUtil;
 import com.microsoft.typespec.http.client.generator.core.util.ModelNamer;
 import com.microsoft.typespec.http.client.generator.core.util.TemplateUtil;
 import io.clientcore.core.serialization.ObjectSerializer;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -75,7 +77,9 @@ public class ServiceClientTemplate implements IJavaTemplate<ServiceClient, JavaF
             imports.add("com.azure.core.util.serializer.JacksonAdapter");
         }
 
-        imports.add(InvocationTargetException.class.getName());
+        imports.add(MethodHandle.class.getName());
+        imports.add(MethodHandles.class.getName());
+        imports.add(MethodType.class.getName());
         imports.add(ObjectSerializer.class.getName());
         ClassType.HTTP_PIPELINE.addImportsTo(imports, false);
 
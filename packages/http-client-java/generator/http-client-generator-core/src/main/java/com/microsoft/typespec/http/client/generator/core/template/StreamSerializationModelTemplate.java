@@ -7,6 +7,7 @@ import static com.microsoft.typespec.http.client.generator.core.util.ClientModel
 import static com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil.includePropertyInConstructor;
 
 import com.azure.core.util.CoreUtils;
+import com.azure.json.JsonProviders;
 import com.azure.xml.XmlSerializable;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.implementation.ClientModelPropertiesManager;
@@ -29,8 +30,10 @@ import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaJav
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -53,6 +56,12 @@ import javax.xml.stream.XMLStreamException;
 public class StreamSerializationModelTemplate extends ModelTemplate {
     private static final StreamSerializationModelTemplate INSTANCE = new StreamSerializationModelTemplate();
     private static final String READ_MANAGEMENT_ERROR_METHOD_NAME = "readManagementError";
+    private static final String JSON_FIELDS_METHOD_NAME = "fromJsonFields";
+    private static final String JSON_POLYMORPHIC_FIELDS_METHOD_NAME = "fromJsonPolymorphicFields";
+
+    // The number of JSON field names from which deserialization dispatches on the field name with a string switch,
+    // if enabled by JavaSettings.isStreamStyleSerializationSwitch().
+    private static final int SWITCH_FIELD_NAME_THRESHOLD = 8;
 
     // TODO (alzimmer): Future enhancements:
     // - Create a utility class in the implementation package containing base serialization for polymorphic types.
@@ -86,6 +95,11 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
             ClassType.JSON_WRITER.addImportsTo(imports, false);
             ClassType.JSON_READER.addImportsTo(imports, false);
             ClassType.JSON_TOKEN.addImportsTo(imports, false);
+
+            if (LazyAdditionalProperties.of(model, settings) != null) {
+                imports.add(JsonProviders.class.getName());
+                imports.add(UncheckedIOException.class.getName());
+            }
         }
 
         ClassType.CORE_UTILS.addImportsTo(imports, false);
@@ -362,14 +376,15 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
     }
 
     @Override
-    protected void writeStreamStyleSerialization(JavaClass classBlock, ClientModelPropertiesManager propertiesManager) {
+    protected void writeStreamStyleSerialization(JavaClass classBlock, ClientModelPropertiesManager propertiesManager,
+        JsonMergePatchUpdatedProperties jsonMergePatchUpdatedProperties) {
         // Early out as strongly-typed headers do their own thing.
         if (propertiesManager.getModel().isStronglyTypedHeader()) {
             return;
         }
 
-        new StreamSerializationGenerator(propertiesManager, this::isManagementErrorSubclass)
-            .writeStreamStyleSerialization(classBlock);
+        new StreamSerializationGenerator(propertiesManager, jsonMergePatchUpdatedProperties,
+            this::isManagementErrorSubclass).writeStreamStyleSerialization(classBlock);
     }
 
     private static final class StreamSerializationGenerator {
@@ -380,9 +395,12 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
 
         private final Consumer<JavaClass> addGeneratedAnnotation;
         private final boolean isJsonMergePatchModel;
+        private final JsonMergePatchUpdatedProperties jsonMergePatchUpdatedProperties;
+        private final LazyAdditionalProperties lazyAdditionalProperties;
         private final boolean useFromJsonShared;
 
         private StreamSerializationGenerator(ClientModelPropertiesManager propertiesManager,
+            JsonMergePatchUpdatedProperties jsonMergePatchUpdatedProperties,
             Predicate<ClientModel> isManagementErrorSubclass) {
             this.propertiesManager = propertiesManager;
             this.model = propertiesManager.getModel();
@@ -390,7 +408,9 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
             this.isManagementErrorSubclass = isManagementErrorSubclass;
 
             this.addGeneratedAnnotation = Templates.getModelTemplate()::addGeneratedAnnotation;
-            this.isJsonMergePatchModel = ClientModelUtil.isJsonMergePatchModel(model, settings);
+            this.isJsonMergePatchModel = jsonMergePatchUpdatedProperties != null;
+            this.jsonMergePatchUpdatedProperties = jsonMergePatchUpdatedProperties;
+            this.lazyAdditionalProperties = LazyAdditionalProperties.of(model, settings);
             this.useFromJsonShared = canUseFromJsonShared(propertiesManager);
         }
 
@@ -445,7 +465,14 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                 if (isSuperTypeWithDiscriminator(model)) {
                     writeSuperTypeFromJson(classBlock);
                 } else {
-                    readJsonObject(classBlock, false, this::writeFromJsonDeserialization);
+                    readJsonObjectFields(classBlock, false);
+                }
+
+                if (lazyAdditionalProperties != null) {
+                    String fieldNameVariableName = propertiesManager.getJsonReaderFieldNameVariableName();
+                    lazyAdditionalProperties.writeMethods(classBlock, addGeneratedAnnotation, fieldNameVariableName,
+                        methodBlock -> deserializeAdditionalProperty(methodBlock,
+                            lazyAdditionalProperties.getProperty(), fieldNameVariableName));
                 }
 
                 if (isManagementErrorSubclass.test(model)) {
@@ -606,7 +633,7 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                     ? propertiesManager.getAdditionalProperties().getWireType()
                     : propertiesManager.getSuperAdditionalPropertiesProperty().getWireType();
 
-                methodBlock.ifBlock(additionalPropertiesAccessExpr + " != null", ifAction -> {
+                Consumer<JavaBlock> serializeAdditionalProperties = ifAction -> {
                     IType valueType = ((MapType) wireType).getValueType().asNullable();
                     ifAction.line("for (Map.Entry<String, %s> additionalProperty : %s.entrySet()) {", valueType,
                         additionalPropertiesAccessExpr);
@@ -625,7 +652,13 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                         }
                     });
                     ifAction.line("}");
-                });
+                };
+
+                if (lazyAdditionalProperties != null) {
+                    lazyAdditionalProperties.writeSerialization(methodBlock, serializeAdditionalProperties);
+                } else {
+                    methodBlock.ifBlock(additionalPropertiesAccessExpr + " != null", serializeAdditionalProperties);
+                }
             }
         }
 
@@ -647,8 +680,8 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
          * terminal location of a flattened structure.
          * @param isJsonMergePatch Whether the serialization is for a JSON Merge Patch model.
          */
-        private static void serializeJsonProperty(JavaBlock methodBlock, ClientModelProperty property,
-            String serializedName, boolean fromSuperType, boolean ignoreFlattening, boolean isJsonMergePatch) {
+        private void serializeJsonProperty(JavaBlock methodBlock, ClientModelProperty property, String serializedName,
+            boolean fromSuperType, boolean ignoreFlattening, boolean isJsonMergePatch) {
             if ((ignoreFlattening && property.getNeedsFlatten()) || property.isAdditionalProperties()) {
                 // Property will be handled later by flattened or additional properties serialization.
                 return;
@@ -661,7 +694,7 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
 
             if (isJsonMergePatch) {
                 if (!property.isPolymorphicDiscriminator()) {
-                    methodBlock.ifBlock("updatedProperties.contains(\"" + property.getName() + "\")", codeBlock -> {
+                    methodBlock.ifBlock(jsonMergePatchUpdatedProperties.isUpdated(property.getName()), codeBlock -> {
                         if (property.getClientType().isNullable()) {
                             codeBlock
                                 .ifBlock(getPropertyGetterStatement(property, fromSuperType) + " == null",
@@ -901,7 +934,7 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
             }
         }
 
-        private static void handleFlattenedPropertiesSerializationHelper(JavaBlock methodBlock,
+        private void handleFlattenedPropertiesSerializationHelper(JavaBlock methodBlock,
             JsonFlattenedPropertiesTree flattenedProperties, boolean isJsonMergePatch,
             boolean callToJsonSharedForParentProperties) {
             ClientModelPropertyWithMetadata flattenedProperty = flattenedProperties.getProperty();
@@ -968,6 +1001,23 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
          * @param classBlock The class having {@code fromJson(JsonReader)} written to it.
          */
         private void writeSuperTypeFromJson(JavaClass classBlock) {
+            if (canReadDiscriminatorFirst(model)) {
+                readJsonObject(classBlock, false, JSON_POLYMORPHIC_FIELDS_METHOD_NAME,
+                    this::writeDiscriminatorFirstDeserialization);
+            } else {
+                readJsonObject(classBlock, false, this::writeBufferedDiscriminatorDeserialization);
+            }
+
+            readJsonObjectFields(classBlock, true);
+        }
+
+        /**
+         * Writes the deserialization of a super type that buffers the JSON object to find the discriminator, then
+         * reads the buffered JSON object as the subtype the discriminator determines.
+         *
+         * @param methodBlock The method handling deserialization.
+         */
+        private void writeBufferedDiscriminatorDeserialization(JavaBlock methodBlock) {
             // Handling polymorphic fields while determining which subclass, or the class itself, to deserialize handles
             // the
             // discriminator type always as a String. This is permissible as the found discriminator is never being used
@@ -977,95 +1027,201 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
             // type as the field.
             String fieldNameVariableName = propertiesManager.getJsonReaderFieldNameVariableName();
             ClientModelPropertyWithMetadata discriminatorProperty = propertiesManager.getDiscriminatorProperty();
-            readJsonObject(classBlock, false, methodBlock -> {
-                // For now, reading polymorphic types will always buffer the current object.
-                // In the future this can be enhanced to switch if the first property is the discriminator field and to
-                // use
-                // a Map to contain all properties found while searching for the discriminator field.
-                // TODO (alzimmer): Need to handle non-string wire type discriminator types.
-                methodBlock.line("String discriminatorValue = null;");
-                methodBlock.tryBlock("JsonReader readerToUse = reader.bufferObject()", tryStatement -> {
-                    tryStatement.line("readerToUse.nextToken(); // Prepare for reading");
-                    tryStatement.line("while (readerToUse.nextToken() != JsonToken.END_OBJECT) {");
-                    tryStatement.increaseIndent();
-                    tryStatement.line("String " + fieldNameVariableName + " = readerToUse.getFieldName();");
-                    tryStatement.line("readerToUse.nextToken();");
-                    tryStatement.ifBlock("\"" + discriminatorProperty.getProperty().getSerializedName() + "\".equals("
-                        + fieldNameVariableName + ")", ifStatement -> {
-                            ifStatement.line("discriminatorValue = readerToUse.getString();");
-                            ifStatement.line("break;");
-                        }).elseBlock(elseBlock -> elseBlock.line("readerToUse.skipChildren();"));
-
-                    tryStatement.decreaseIndent();
-                    tryStatement.line("}");
-
-                    tryStatement
-                        .line("// Use the discriminator value to determine which subtype should be deserialized.");
-
-                    // Add deserialization for the super type itself.
-                    JavaIfBlock ifBlock = null;
 
-                    // Add deserialization for all child types.
-                    List<ClientModel> childTypes = getAllChildTypes(model, new ArrayList<>());
-                    for (ClientModel childType : childTypes) {
-                        // Determine which serialization method to use based on whether the child type is also a
-                        // polymorphic
-                        // parent and the child shares the same polymorphic discriminator as this model.
-                        // If the child and parent have different discriminator names then the child will need to be
-                        // deserialized checking the multi-level polymorphic discriminator.
-                        // Using the nested discriminator sample, there is
-                        // Fish : kind
-                        // - Salmon : kind
-                        // - Shark : sharktype
-                        // - Sawshark : sharktype
-                        // So, if deserialization enters Fish and the "kind" is "Shark" then it needs to check the
-                        // "sharktype" to determine if it's a Sawshark or another subtype of Shark.
-                        boolean sameDiscriminator = Objects.equals(childType.getPolymorphicDiscriminatorName(),
-                            model.getPolymorphicDiscriminatorName());
-
-                        if (!sameDiscriminator && !Objects.equals(childType.getParentModelName(), model.getName())) {
-                            // Child model and parent model don't share the same discriminator and the child isn't a
-                            // direct
-                            // child of the parent model, so skip this child model. This is done as the child model
-                            // should
-                            // be deserialized by the subtype that defines the different polymorphic discriminator.
-                            // Using
-                            // the sample above, Fish can't use "kind" to deserialize to a Shark subtype, it needs to
-                            // use
-                            // "sharktype".
-                            continue;
-                        }
+            // The JSON object is buffered, so that when the discriminator isn't the first property, the properties
+            // read while searching for the discriminator field are kept for the deserialization of the subtype.
+            // TODO (alzimmer): Need to handle non-string wire type discriminator types.
+            methodBlock.line("String discriminatorValue = null;");
+            methodBlock.tryBlock("JsonReader readerToUse = reader.bufferObject()", tryStatement -> {
+                tryStatement.line("readerToUse.nextToken(); // Prepare for reading");
+                tryStatement.line("while (readerToUse.nextToken() != JsonToken.END_OBJECT) {");
+                tryStatement.increaseIndent();
+                tryStatement.line("String " + fieldNameVariableName + " = readerToUse.getFieldName();");
+                tryStatement.line("readerToUse.nextToken();");
+                tryStatement.ifBlock("\"" + discriminatorProperty.getProperty().getSerializedName() + "\".equals("
+                    + fieldNameVariableName + ")", ifStatement -> {
+                        ifStatement.line("discriminatorValue = readerToUse.getString();");
+                        ifStatement.line("break;");
+                    }).elseBlock(elseBlock -> elseBlock.line("readerToUse.skipChildren();"));
+
+                tryStatement.decreaseIndent();
+                tryStatement.line("}");
+
+                tryStatement.line("// Use the discriminator value to determine which subtype should be deserialized.");
 
-                        String deserializationMethod = (isSuperTypeWithDiscriminator(childType) && sameDiscriminator)
+                // Add deserialization for the super type itself.
+                JavaIfBlock ifBlock = null;
+
+                // Add deserialization for all child types.
+                for (ClientModel childType : getDeserializedChildTypes(model)) {
+                    String deserializationMethod
+                        = (isSuperTypeWithDiscriminator(childType) && isSameDiscriminator(model, childType))
                             ? ".fromJsonKnownDiscriminator(readerToUse.reset())"
                             : ".fromJson(readerToUse.reset())";
 
-                        ifBlock = ifOrElseIf(tryStatement, ifBlock,
+                    ifBlock = ifOrElseIf(tryStatement, ifBlock,
+                        "\"" + childType.getSerializedName() + "\".equals(discriminatorValue)",
+                        ifStatement -> ifStatement.methodReturn(childType.getName() + deserializationMethod));
+                }
+
+                if (ifBlock == null) {
+                    tryStatement.methodReturn("fromJsonKnownDiscriminator(readerToUse.reset())");
+                } else {
+                    ifBlock.elseBlock(
+                        elseBlock -> elseBlock.methodReturn("fromJsonKnownDiscriminator(readerToUse.reset())"));
+                }
+            });
+        }
+
+        /**
+         * Writes the deserialization of a super type that reads the discriminator if it is the first field of the JSON
+         * object, then reads the remaining fields as the subtype the discriminator determines, without buffering the
+         * JSON object. The JSON object is only buffered if the discriminator isn't the first field.
+         * <p>
+         * The reader is positioned either at the start of the JSON object, or at the value of the discriminator of a
+         * super type, which was the previous field.
+         *
+         * @param methodBlock The method handling deserialization.
+         */
+        private void writeDiscriminatorFirstDeserialization(JavaBlock methodBlock) {
+            ClientModelProperty discriminator = propertiesManager.getDiscriminatorProperty().getProperty();
+            String deserializedModelName = propertiesManager.getDeserializedModelName();
+
+            methodBlock.ifBlock("reader.nextToken() == JsonToken.FIELD_NAME && \"" + discriminator.getSerializedName()
+                + "\".equals(reader.getFieldName())", ifAction -> {
+                    ifAction.line("reader.nextToken();");
+                    ifAction.line("String discriminatorValue = reader.getString();");
+
+                    // The subtypes read the remaining fields, their discriminator is already known.
+                    JavaIfBlock ifBlock = null;
+                    for (ClientModel childType : getDeserializedChildTypes(model)) {
+                        String deserializationMethod
+                            = (isSuperTypeWithDiscriminator(childType) && !isSameDiscriminator(model, childType))
+                                ? JSON_POLYMORPHIC_FIELDS_METHOD_NAME
+                                : JSON_FIELDS_METHOD_NAME;
+
+                        ifBlock = ifOrElseIf(ifAction, ifBlock,
                             "\"" + childType.getSerializedName() + "\".equals(discriminatorValue)",
-                            ifStatement -> ifStatement.methodReturn(childType.getName() + deserializationMethod));
+                            ifStatement -> ifStatement
+                                .methodReturn(childType.getName() + "." + deserializationMethod + "(reader)"));
                     }
 
+                    // This type reads the remaining fields, then sets the discriminator it didn't read.
+                    Consumer<JavaBlock> readThisType = block -> {
+                        block.line(discriminator.getWireType() + " " + discriminator.getName() + " = "
+                            + getSimpleJsonDeserialization(discriminator.getWireType(), "reader") + ";");
+                        block.line(model.getName() + " " + deserializedModelName + " = " + JSON_FIELDS_METHOD_NAME
+                            + "(reader);");
+                        handleSettingDeserializedValue(block, discriminator, discriminator.getName(), false);
+                        block.methodReturn(deserializedModelName);
+                    };
                     if (ifBlock == null) {
-                        tryStatement.methodReturn("fromJsonKnownDiscriminator(readerToUse.reset())");
+                        readThisType.accept(ifAction);
                     } else {
-                        ifBlock.elseBlock(
-                            elseBlock -> elseBlock.methodReturn("fromJsonKnownDiscriminator(readerToUse.reset())"));
+                        ifBlock.elseBlock(readThisType);
                     }
-                });
-            });
+                })
+                .elseIfBlock("reader.currentToken() == JsonToken.END_OBJECT",
+                    elseIfAction -> elseIfAction.methodReturn(JSON_FIELDS_METHOD_NAME + "(reader)"));
+
+            methodBlock.line();
+            methodBlock.line("// The discriminator isn't the first field, buffer the remaining fields to find it.");
+            writeBufferedDiscriminatorDeserialization(methodBlock);
+        }
+
+        /**
+         * Whether the JSON deserialization of the model reads its fields in a separate {@code fromJsonFields} method,
+         * which the deserialization of its super type can call after it has read the discriminator.
+         *
+         * @param model The model.
+         * @return Whether the model has a {@code fromJsonFields} method.
+         */
+        private boolean hasJsonFieldsMethod(ClientModel model) {
+            return settings.isStreamStyleSerializationDiscriminatorFirst()
+                && model.isPolymorphic()
+                && model.getXmlName() == null
+                && !isManagementErrorSubclass.test(model);
+        }
+
+        /**
+         * Whether the JSON deserialization of the super type can read the discriminator first.
+         * <p>
+         * This requires the discriminator to be defined by the super type, so that the super type can set it after
+         * reading the remaining fields, and all the subtypes it deserializes to be able to read their remaining fields.
+         *
+         * @param superType The super type.
+         * @return Whether the deserialization of the super type can read the discriminator first.
+         */
+        private boolean canReadDiscriminatorFirst(ClientModel superType) {
+            if (!isSuperTypeWithDiscriminator(superType) || !hasJsonFieldsMethod(superType)) {
+                return false;
+            }
 
-            readJsonObject(classBlock, true, this::writeFromJsonDeserialization);
+            ClientModelProperty discriminator = superType.getProperties()
+                .stream()
+                .filter(property -> property.isPolymorphicDiscriminator()
+                    && Objects.equals(property.getSerializedName(), superType.getPolymorphicDiscriminatorName()))
+                .findFirst()
+                .orElse(null);
+            if (discriminator == null
+                || includePropertyInConstructor(discriminator, settings)
+                || !Objects.equals(discriminator.getWireType(), discriminator.getClientType())
+                || getSimpleJsonDeserialization(discriminator.getWireType(), "reader") == null) {
+                return false;
+            }
+
+            for (ClientModel childType : getDeserializedChildTypes(superType)) {
+                if (!hasJsonFieldsMethod(childType)) {
+                    return false;
+                }
+
+                if (isSuperTypeWithDiscriminator(childType)
+                    && !isSameDiscriminator(superType, childType)
+                    && !canReadDiscriminatorFirst(childType)) {
+                    return false;
+                }
+            }
+            return true;
         }
 
-        private static List<ClientModel> getAllChildTypes(ClientModel model, List<ClientModel> childTypes) {
-            for (ClientModel childType : model.getDerivedModels()) {
-                childTypes.add(childType);
-                if (!CoreUtils.isNullOrEmpty(childType.getDerivedModels())) {
-                    getAllChildTypes(childType, childTypes);
+        /**
+         * Gets the subtypes that the deserialization of the super type determines by its discriminator.
+         *
+         * @param superType The super type.
+         * @return The subtypes that the deserialization of the super type determines by its discriminator.
+         */
+        private static List<ClientModel> getDeserializedChildTypes(ClientModel superType) {
+            List<ClientModel> deserializedChildTypes = new ArrayList<>();
+            for (ClientModel childType : ClientModelUtil.getInheritance(superType).getDescendants()) {
+                // Determine which serialization method to use based on whether the child type is also a polymorphic
+                // parent and the child shares the same polymorphic discriminator as this model.
+                // If the child and parent have different discriminator names then the child will need to be
+                // deserialized checking the multi-level polymorphic discriminator.
+                // Using the nested discriminator sample, there is
+                // Fish : kind
+                // - Salmon : kind
+                // - Shark : sharktype
+                // - Sawshark : sharktype
+                // So, if deserialization enters Fish and the "kind" is "Shark" then it needs to check the
+                // "sharktype" to determine if it's a Sawshark or another subtype of Shark.
+                if (!isSameDiscriminator(superType, childType)
+                    && !Objects.equals(childType.getParentModelName(), superType.getName())) {
+                    // Child model and parent model don't share the same discriminator and the child isn't a direct
+                    // child of the parent model, so skip this child model. This is done as the child model should
+                    // be deserialized by the subtype that defines the different polymorphic discriminator. Using
+                    // the sample above, Fish can't use "kind" to deserialize to a Shark subtype, it needs to use
+                    // "sharktype".
+                    continue;
                 }
+
+                deserializedChildTypes.add(childType);
             }
+            return deserializedChildTypes;
+        }
 
-            return childTypes;
+        private static boolean isSameDiscriminator(ClientModel superType, ClientModel childType) {
+            return Objects.equals(childType.getPolymorphicDiscriminatorName(),
+                superType.getPolymorphicDiscriminatorName());
         }
 
         /**
@@ -1101,10 +1257,26 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
         }
 
         private void writeFromJsonDeserialization0(JavaBlock methodBlock) {
+            writeFromJsonDeserialization0(methodBlock, false);
+        }
+
+        /**
+         * Writes the deserialization of the JSON object fields into the model.
+         *
+         * @param methodBlock The method handling deserialization.
+         * @param mayStartAtEndObject Whether the reader may be positioned at the end of the JSON object, when the
+         * discriminator read by the super type deserialization was the last field.
+         */
+        private void writeFromJsonDeserialization0(JavaBlock methodBlock, boolean mayStartAtEndObject) {
             // Initialize local variables to track what has been deserialized.
             initializeLocalVariables(methodBlock, false);
             String fieldNameVariableName = propertiesManager.getJsonReaderFieldNameVariableName();
 
+            if (mayStartAtEndObject) {
+                methodBlock.line("if (reader.currentToken() != JsonToken.END_OBJECT) {");
+                methodBlock.increaseIndent();
+            }
+
             // Add the outermost while loop to read the JSON object.
             addReaderWhileLoop(methodBlock, true, false, whileBlock -> {
                 if (useFromJsonShared && model.isPolymorphicParent()) {
@@ -1151,7 +1323,6 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                             superRequiredToDeserialized.put(property.getName(), property);
                         }
                     });
-                    superRequiredToDeserialized.values().forEach(property -> consumer.accept(property, true));
 
                     // Child classes may contain properties that shadow parents' ones.
                     // Thus, we only take the shadowing ones, not the ones shadowed.
@@ -1161,6 +1332,13 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                             superSettersToDeserialized.put(property.getName(), property);
                         }
                     });
+
+                    if (addJsonFieldNameSwitch(whileBlock, superRequiredToDeserialized.values(),
+                        superSettersToDeserialized.values())) {
+                        return;
+                    }
+
+                    superRequiredToDeserialized.values().forEach(property -> consumer.accept(property, true));
                     superSettersToDeserialized.values().forEach(property -> consumer.accept(property, true));
                 }
 
@@ -1171,6 +1349,11 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                 generateUnknownFieldLogic(whileBlock, ifBlockReference.get());
             });
 
+            if (mayStartAtEndObject) {
+                methodBlock.decreaseIndent();
+                methodBlock.line("}");
+            }
+
             // Add the validation and return logic.
             handleReadReturn(methodBlock);
         }
@@ -1178,6 +1361,20 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
         private void generateThisFromJson(AtomicReference<JavaIfBlock> ifBlockReference,
             BiConsumer<ClientModelProperty, Boolean> consumer, JavaBlock methodBlock, boolean isFromJsonShared,
             boolean usingFromJsonShared) {
+            forEachThisJsonProperty(consumer, isFromJsonShared, usingFromJsonShared);
+
+            JavaIfBlock ifBlock = ifBlockReference.get();
+
+            // Add flattened properties if we aren't using 'fromJsonShared' or some of the flattened properties are
+            // defined
+            // by this model.
+            if (!usingFromJsonShared || !propertiesManager.isAllFlattenedPropertiesFromParent()) {
+                handleFlattenedPropertiesDeserialization(methodBlock, ifBlock, isFromJsonShared);
+            }
+        }
+
+        private void forEachThisJsonProperty(BiConsumer<ClientModelProperty, Boolean> consumer,
+            boolean isFromJsonShared, boolean usingFromJsonShared) {
             propertiesManager.forEachRequiredProperty(property -> {
                 if (property.isConstant()) {
                     return;
@@ -1196,15 +1393,77 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
 
                 consumer.accept(property, false);
             });
+        }
 
-            JavaIfBlock ifBlock = ifBlockReference.get();
+        /**
+         * Adds a string switch on the JSON field name that handles deserializing the properties, instead of the
+         * if-else-if chain of field name comparisons.
+         * <p>
+         * The switch is only added if it is enabled, the model has enough JSON field names for the switch to be faster,
+         * and all the JSON field names are distinct. Each field is then handled the same as by the if-else-if chain,
+         * with the unknown fields handled by the default case.
+         *
+         * @param whileBlock The while loop reading the JSON object.
+         * @param superRequiredProperties The required properties of the super types to deserialize.
+         * @param superSetterProperties The setter properties of the super types to deserialize.
+         * @return Whether the switch was added.
+         */
+        private boolean addJsonFieldNameSwitch(JavaBlock whileBlock,
+            Collection<ClientModelProperty> superRequiredProperties,
+            Collection<ClientModelProperty> superSetterProperties) {
+            if (!settings.isStreamStyleSerializationSwitch()) {
+                return false;
+            }
 
-            // Add flattened properties if we aren't using 'fromJsonShared' or some of the flattened properties are
-            // defined
-            // by this model.
-            if (!usingFromJsonShared || !propertiesManager.isAllFlattenedPropertiesFromParent()) {
-                handleFlattenedPropertiesDeserialization(methodBlock, ifBlock, isFromJsonShared);
+            // The cases in the order of the if-else-if chain.
+            Map<String, Consumer<JavaBlock>> cases = new LinkedHashMap<>();
+            List<String> fieldNames = new ArrayList<>();
+            BiConsumer<ClientModelProperty, Boolean> propertyCase = (property, fromSuper) -> {
+                String jsonPropertyName = property.getSerializedName();
+                if (!property.getNeedsFlatten() && !CoreUtils.isNullOrEmpty(jsonPropertyName)) {
+                    fieldNames.add(jsonPropertyName);
+                    cases.put(jsonPropertyName,
+                        caseBlock -> generateJsonDeserializationLogic(caseBlock, property, fromSuper));
+                }
+            };
+            superRequiredProperties.forEach(property -> propertyCase.accept(property, true));
+            superSetterProperties.forEach(property -> propertyCase.accept(property, true));
+            forEachThisJsonProperty(propertyCase, false, false);
+
+            for (JsonFlattenedPropertiesTree structure : propertiesManager.getJsonFlattenedPropertiesTree()
+                .getChildrenNodes()
+                .values()) {
+                fieldNames.add(structure.getNodeName());
+                cases.put(structure.getNodeName(), caseBlock -> {
+                    ClientModelPropertyWithMetadata propertyWithMetadata = structure.getProperty();
+                    if (propertyWithMetadata != null) {
+                        generateJsonDeserializationLogic(caseBlock, propertyWithMetadata.getProperty(),
+                            propertyWithMetadata.isFromSuperClass());
+                    } else {
+                        caseBlock
+                            .ifBlock("reader.currentToken() == JsonToken.START_OBJECT",
+                                ifAction -> addFlattenedReaderWhileLoop(ifAction, structure, false, 0))
+                            .elseBlock(elseAction -> generateUnknownFieldLogic(elseAction, null));
+                    }
+                });
             }
+
+            if (cases.size() < SWITCH_FIELD_NAME_THRESHOLD || cases.size() != fieldNames.size()) {
+                return false;
+            }
+
+            whileBlock.block("switch (" + propertiesManager.getJsonReaderFieldNameVariableName() + ")", switchBlock -> {
+                // Each case is a block, as the deserialization logic of the cases may declare the same variables.
+                cases.forEach((fieldName, caseLogic) -> switchBlock.block("case \"" + fieldName + "\":", caseBlock -> {
+                    caseLogic.accept(caseBlock);
+                    caseBlock.line("break;");
+                }));
+                switchBlock.block("default:", defaultBlock -> {
+                    generateUnknownFieldLogic(defaultBlock, null);
+                    defaultBlock.line("break;");
+                });
+            });
+            return true;
         }
 
         private boolean skipDeserializingParentDefinedDiscriminator(boolean usingFromJsonShared,
@@ -1238,6 +1497,25 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
          * @param deserializationBlock Logic for deserializing the object.
          */
         private void readJsonObject(JavaClass classBlock, boolean superTypeReading,
+            Consumer<JavaBlock> deserializationBlock) {
+            readJsonObject(classBlock, superTypeReading, null, deserializationBlock);
+        }
+
+        /**
+         * Adds a static method to the class with the signature that handles reading the JSON string into the object
+         * type, as {@link #readJsonObject(JavaClass, boolean, Consumer)}.
+         * <p>
+         * If {@code fieldsMethodName} isn't null, the deserialization logic is added as a package-private method of
+         * that name, which reads the fields of the JSON object from the reader positioned in it. This allows the
+         * deserialization of the super type to continue reading the JSON object after its discriminator.
+         *
+         * @param classBlock The class where the {@code fromJson} method is being written.
+         * @param superTypeReading Whether the object reading is for a super type.
+         * @param fieldsMethodName The name of the method reading the fields of the JSON object, or null if the
+         * deserialization logic is in the {@code fromJson} method.
+         * @param deserializationBlock Logic for deserializing the object.
+         */
+        private void readJsonObject(JavaClass classBlock, boolean superTypeReading, String fieldsMethodName,
             Consumer<JavaBlock> deserializationBlock) {
             JavaVisibility visibility = superTypeReading ? JavaVisibility.PackagePrivate : JavaVisibility.Public;
             String methodName = superTypeReading ? "fromJsonKnownDiscriminator" : "fromJson";
@@ -1265,8 +1543,20 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
 
             addGeneratedAnnotation.accept(classBlock);
             classBlock.staticMethod(visibility,
-                modelName + " " + methodName + "(JsonReader jsonReader) throws IOException",
-                methodBlock -> readJsonObjectMethodBody(methodBlock, deserializationBlock));
+                modelName + " " + methodName + "(JsonReader jsonReader) throws IOException", methodBlock -> {
+                    if (fieldsMethodName == null) {
+                        readJsonObjectMethodBody(methodBlock, deserializationBlock);
+                    } else {
+                        methodBlock.methodReturn("jsonReader.readObject(" + modelName + "::" + fieldsMethodName + ")");
+                    }
+                });
+
+            if (fieldsMethodName != null) {
+                addGeneratedAnnotation.accept(classBlock);
+                classBlock.staticMethod(JavaVisibility.PackagePrivate,
+                    modelName + " " + fieldsMethodName + "(JsonReader reader) throws IOException",
+                    deserializationBlock);
+            }
 
             if (superTypeReading && useFromJsonShared && model.isPolymorphicParent()) {
                 // Add a package-private 'fromJsonShared' method that can handle deserializing properties defined in the
@@ -1297,6 +1587,24 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
             }
         }
 
+        /**
+         * Adds the static method reading the JSON object into this type, after the subtype has been determined.
+         *
+         * @param classBlock The class where the method is being written.
+         * @param superTypeReading Whether the object reading is for a super type.
+         */
+        private void readJsonObjectFields(JavaClass classBlock, boolean superTypeReading) {
+            if (hasJsonFieldsMethod(model)) {
+                // The super type reads the fields of the JSON object as its own type if the discriminator was the
+                // last field.
+                boolean mayStartAtEndObject = canReadDiscriminatorFirst(model);
+                readJsonObject(classBlock, superTypeReading, JSON_FIELDS_METHOD_NAME,
+                    methodBlock -> writeFromJsonDeserialization0(methodBlock, mayStartAtEndObject));
+            } else {
+                readJsonObject(classBlock, superTypeReading, this::writeFromJsonDeserialization);
+            }
+        }
+
         private static void readJsonObjectMethodBody(JavaBlock methodBlock, Consumer<JavaBlock> deserializationBlock) {
             // For now, use the basic readObject which will return null if the JsonReader is pointing to JsonToken.NULL.
             //
@@ -1353,7 +1661,9 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
             }
 
             ClientModelProperty additionalProperty = getAdditionalPropertiesPropertyInModelOrFromSuper();
-            if (additionalProperty != null) {
+            if (lazyAdditionalProperties != null) {
+                methodBlock.line("Map<String, String> " + lazyAdditionalProperties.getRawFieldName() + " = null;");
+            } else if (additionalProperty != null) {
                 initializeLocalVariable(methodBlock, additionalProperty, false);
             }
         }
@@ -1493,17 +1803,7 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                 // Otherwise this is an intermediate location and a while loop reader needs to be added.
                 return ifOrElseIf(methodBlock, ifBlock, "\"" + flattenedProperties.getNodeName() + "\".equals("
                     + fieldNameVariableName + ") && reader.currentToken() == JsonToken.START_OBJECT", ifAction -> {
-                        addReaderWhileLoop(ifAction, false, false, whileBlock -> {
-                            JavaIfBlock innerIfBlock = null;
-                            for (JsonFlattenedPropertiesTree structure : flattenedProperties.getChildrenNodes()
-                                .values()) {
-                                innerIfBlock = handleFlattenedPropertiesDeserializationHelper(structure, methodBlock,
-                                    innerIfBlock, isFromJsonShared, depth + 1);
-                            }
-
-                            handleUnknownJsonFieldDeserialization(whileBlock, innerIfBlock,
-                                propertiesManager.getAdditionalProperties());
-                        });
+                        addFlattenedReaderWhileLoop(ifAction, flattenedProperties, isFromJsonShared, depth);
 
                         if (isFromJsonShared && depth == 0) {
                             // Flattening will handle skipping and additional properties itself.
@@ -1513,6 +1813,20 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
             }
         }
 
+        private void addFlattenedReaderWhileLoop(JavaBlock methodBlock, JsonFlattenedPropertiesTree flattenedProperties,
+            boolean isFromJsonShared, int depth) {
+            addReaderWhileLoop(methodBlock, false, false, whileBlock -> {
+                JavaIfBlock innerIfBlock = null;
+                for (JsonFlattenedPropertiesTree structure : flattenedProperties.getChildrenNodes().values()) {
+                    innerIfBlock = handleFlattenedPropertiesDeserializationHelper(structure, methodBlock, innerIfBlock,
+                        isFromJsonShared, depth + 1);
+                }
+
+                handleUnknownJsonFieldDeserialization(whileBlock, innerIfBlock,
+                    propertiesManager.getAdditionalProperties());
+            });
+        }
+
         private void generateJsonDeserializationLogic(JavaBlock deserializationBlock, ClientModelProperty property,
             boolean fromSuper) {
             IType wireType = property.getWireType();
@@ -1704,35 +2018,50 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                 : wireType.jsonDeserializationMethod(readerName);
         }
 
+        /**
+         * Writes the deserialization of the value of an additional property, and puts it into the local variable of the
+         * additional properties.
+         *
+         * @param javaBlock The deserialization, with the reader at the value of the additional property.
+         * @param additionalProperties The additional properties property.
+         * @param fieldNameVariableName The name of the variable of the name of the additional property.
+         */
+        private void deserializeAdditionalProperty(JavaBlock javaBlock, ClientModelProperty additionalProperties,
+            String fieldNameVariableName) {
+            // Assumption, additional properties is a Map of String-Object
+            IType valueType = ((MapType) additionalProperties.getWireType()).getValueType();
+            if (valueType == ClassType.OBJECT) {
+                // String fieldName should be a local variable accessible in this spot of code.
+                javaBlock.line(
+                    additionalProperties.getName() + ".put(" + fieldNameVariableName + ", reader.readUntyped());");
+            } else if (valueType instanceof IterableType) {
+                // The case that element is a List
+                String varName = additionalProperties.getName() + "ArrayItem";
+                javaBlock.text(valueType + " " + varName + " = ");
+                deserializeJsonContainerProperty(javaBlock, "readArray", valueType,
+                    ((IterableType) valueType).getElementType(), ((IterableType) valueType).getElementType(), 0);
+                javaBlock
+                    .line(additionalProperties.getName() + ".put(" + fieldNameVariableName + ", " + varName + ");");
+            } else {
+                // Another assumption, the additional properties value type is simple.
+                javaBlock.line(additionalProperties.getName() + ".put(" + fieldNameVariableName + ", "
+                    + getSimpleJsonDeserialization(valueType, "reader") + ");");
+            }
+        }
+
         private void handleUnknownJsonFieldDeserialization(JavaBlock methodBlock, JavaIfBlock ifBlock,
             ClientModelProperty additionalProperties) {
             String fieldNameVariableName = propertiesManager.getJsonReaderFieldNameVariableName();
             Consumer<JavaBlock> unknownFieldConsumer = javaBlock -> {
-                if (additionalProperties != null) {
+                if (lazyAdditionalProperties != null
+                    && additionalProperties == lazyAdditionalProperties.getProperty()) {
+                    lazyAdditionalProperties.writeRawValueCapture(javaBlock, fieldNameVariableName);
+                } else if (additionalProperties != null) {
                     javaBlock.ifBlock(additionalProperties.getName() + " == null",
                         ifAction -> ifAction.line(additionalProperties.getName() + " = new LinkedHashMap<>();"));
                     javaBlock.line();
 
-                    // Assumption, additional properties is a Map of String-Object
-                    IType valueType = ((MapType) additionalProperties.getWireType()).getValueType();
-                    if (valueType == ClassType.OBJECT) {
-                        // String fieldName should be a local variable accessible in this spot of code.
-                        javaBlock.line(additionalProperties.getName() + ".put(" + fieldNameVariableName
-                            + ", reader.readUntyped());");
-                    } else if (valueType instanceof IterableType) {
-                        // The case that element is a List
-                        String varName = additionalProperties.getName() + "ArrayItem";
-                        javaBlock.text(valueType + " " + varName + " = ");
-                        deserializeJsonContainerProperty(javaBlock, "readArray", valueType,
-                            ((IterableType) valueType).getElementType(), ((IterableType) valueType).getElementType(),
-                            0);
-                        javaBlock.line(
-                            additionalProperties.getName() + ".put(" + fieldNameVariableName + ", " + varName + ");");
-                    } else {
-                        // Another assumption, the additional properties value type is simple.
-                        javaBlock.line(additionalProperties.getName() + ".put(" + fieldNameVariableName + ", "
-                            + getSimpleJsonDeserialization(valueType, "reader") + ");");
-                    }
+                    deserializeAdditionalProperty(javaBlock, additionalProperties, fieldNameVariableName);
                 } else {
                     javaBlock.line("reader.skipChildren();");
                 }
@@ -1825,7 +2154,11 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                     .forEachSetterProperty(property -> handleSettingDeserializedValue.accept(property, false));
             }
 
-            if (propertiesManager.getAdditionalProperties() != null) {
+            if (lazyAdditionalProperties != null) {
+                methodBlock.line(
+                    propertiesManager.getDeserializedModelName() + "." + lazyAdditionalProperties.getRawFieldName()
+                        + " = " + lazyAdditionalProperties.getRawFieldName() + ";");
+            } else if (propertiesManager.getAdditionalProperties() != null) {
                 handleSettingDeserializedValue(methodBlock, propertiesManager.getAdditionalProperties(),
                     propertiesManager.getAdditionalProperties().getName(), false);
             } else if (propertiesManager.getSuperAdditionalPropertiesProperty() != null) {
@@ -2131,7 +2464,7 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                 JavaIfBlock ifBlock = null;
 
                 // Add deserialization for all child types.
-                List<ClientModel> childTypes = getAllChildTypes(model, new ArrayList<>());
+                List<ClientModel> childTypes = ClientModelUtil.getInheritance(model).getDescendants();
                 for (ClientModel childType : childTypes) {
                     ifBlock = ifOrElseIf(methodBlock, ifBlock,
                         "\"" + childType.getSerializedName() + "\".equals(discriminatorValue)",
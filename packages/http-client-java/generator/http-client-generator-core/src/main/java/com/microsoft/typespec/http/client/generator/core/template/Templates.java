@@ -3,122 +3,125 @@
 
 package com.microsoft.typespec.http.client.generator.core.template;
 
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.GenerationContext;
+
 /**
  * A collection of templates for writing JV models to Java files and contexts.
  */
 public class Templates {
 
-    private static TemplateFactory factory = new DefaultTemplateFactory();
+    private static final GenerationContext.Local<TemplateFactory> FACTORY
+        = new GenerationContext.Local<>(DefaultTemplateFactory::new);
 
     public static void setFactory(TemplateFactory templateFactory) {
-        factory = templateFactory;
+        FACTORY.set(templateFactory);
     }
 
     public static ServiceClientInterfaceTemplate getServiceClientInterfaceTemplate() {
-        return factory.getServiceClientInterfaceTemplate();
+        return FACTORY.get().getServiceClientInterfaceTemplate();
     }
 
     public static ServiceClientTemplate getServiceClientTemplate() {
-        return factory.getServiceClientTemplate();
+        return FACTORY.get().getServiceClientTemplate();
     }
 
     public static ServiceClientBuilderTemplate getServiceClientBuilderTemplate() {
-        return factory.getServiceClientBuilderTemplate();
+        return FACTORY.get().getServiceClientBuilderTemplate();
     }
 
     public static ServiceVersionTemplate getServiceVersionTemplate() {
-        return factory.getServiceVersionTemplate();
+        return FACTORY.get().getServiceVersionTemplate();
     }
 
     public static MethodGroupInterfaceTemplate getMethodGroupInterfaceTemplate() {
-        return factory.getMethodGroupInterfaceTemplate();
+        return FACTORY.get().getMethodGroupInterfaceTemplate();
     }
 
     public static MethodGroupTemplate getMethodGroupTemplate() {
-        return factory.getMethodGroupTemplate();
+        return FACTORY.get().getMethodGroupTemplate();
     }
 
     public static ProxyTemplate getProxyTemplate() {
-        return factory.getProxyTemplate();
+        return FACTORY.get().getProxyTemplate();
     }
 
     public static ClientMethodTemplate getClientMethodTemplate() {
-        return factory.getClientMethodTemplate();
+        return FACTORY.get().getClientMethodTemplate();
     }
 
     public static ModelTemplate getModelTemplate() {
-        return factory.getModelTemplate();
+        return FACTORY.get().getModelTemplate();
     }
 
     public static StreamSerializationModelTemplate getStreamStyleModelTemplate() {
-        return factory.getStreamStyleModelTemplate();
+        return FACTORY.get().getStreamStyleModelTemplate();
     }
 
     public static ExceptionTemplate getExceptionTemplate() {
-        return factory.getExceptionTemplate();
+        return FACTORY.get().getExceptionTemplate();
     }
 
     public static EnumTemplate getEnumTemplate() {
-        return factory.getEnumTemplate();
+        return FACTORY.get().getEnumTemplate();
     }
 
     public static ResponseTemplate getResponseTemplate() {
-        return factory.getResponseTemplate();
+        return FACTORY.get().getResponseTemplate();
     }
 
     public static XmlSequenceWrapperTemplate getXmlSequenceWrapperTemplate() {
-        return factory.getXmlSequenceWrapperTemplate();
+        return FACTORY.get().getXmlSequenceWrapperTemplate();
     }
 
     public static PackageInfoTemplate getPackageInfoTemplate() {
-        return factory.getPackageInfoTemplate();
+        return FACTORY.get().getPackageInfoTemplate();
     }
 
     public static ServiceAsyncClientTemplate getServiceAsyncClientTemplate() {
-        return factory.getServiceAsyncClientTemplate();
+        return FACTORY.get().getServiceAsyncClientTemplate();
     }
 
     public static WrapperClientMethodTemplate getWrapperClientMethodTemplate() {
-        return factory.getWrapperClientMethodTemplate();
+        return FACTORY.get().getWrapperClientMethodTemplate();
     }
 
     public static ServiceSyncClientTemplate getServiceSyncClientTemplate() {
-        return factory.getServiceSynClientTemplate();
+        return FACTORY.get().getServiceSynClientTemplate();
     }
 
     public static ServiceSyncClientTemplate getServiceSyncClientWrapAsyncClientTemplate() {
-        return factory.getServiceSyncClientWrapAsyncClientTemplate();
+        return FACTORY.get().getServiceSyncClientWrapAsyncClientTemplate();
     }
 
     public static PomTemplate getPomTemplate() {
-        return factory.getPomTemplate();
+        return FACTORY.get().getPomTemplate();
     }
 
     public static ModuleInfoTemplate getModuleInfoTemplate() {
-        return factory.getModuleInfoTemplate();
+        return FACTORY.get().getModuleInfoTemplate();
     }
 
     public static ProtocolSampleTemplate getProtocolSampleTemplate() {
-        return factory.getProtocolSampleTemplate();
+        return FACTORY.get().getProtocolSampleTemplate();
     }
 
     public static ConvenienceAsyncMethodTemplate getConvenienceAsyncMethodTemplate() {
-        return factory.getConvenienceAsyncMethodTemplate();
+        return FACTORY.get().getConvenienceAsyncMethodTemplate();
     }
 
     public static ConvenienceSyncMethodTemplate getConvenienceSyncMethodTemplate() {
-        return factory.getConvenienceSyncMethodTemplate();
+        return FACTORY.get().getConvenienceSyncMethodTemplate();
     }
 
     public static UnionModelTemplate getUnionModelTemplate() {
-        return factory.getUnionModelTemplate();
+        return FACTORY.get().getUnionModelTemplate();
     }
 
     public static ClientMethodSampleTemplate getClientMethodSampleTemplate() {
-        return factory.getClientMethodSampleTemplate();
+        return FACTORY.get().getClientMethodSampleTemplate();
     }
 
     public static JsonMergePatchHelperTemplate getJsonMergePatchHelperTemplate() {
-        return factory.getJsonMergePatchHelperTemplate();
+        return FACTORY.get().getJsonMergePatchHelperTemplate();
     }
 }
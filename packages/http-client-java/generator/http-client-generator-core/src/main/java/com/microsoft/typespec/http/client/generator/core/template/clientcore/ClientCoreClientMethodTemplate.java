@@ -682,25 +682,17 @@ public class ClientCoreClientMethodTemplate extends ClientMethodTemplate {
             String serviceMethodCall
                 = checkAndReplaceParamNameCollision(clientMethod, restAPIMethod, requestOptionsLocal, settings);
             function.line(String.format("%s res = %s;", restAPIMethod.getReturnType(), serviceMethodCall));
-            if (settings.isAzureV1()) {
+            if (settings.isAzureV1() && settings.isDataPlaneClient()) {
+                function.methodReturn(TemplateUtil.getPagedResponseExpression(clientMethod));
+            } else if (settings.isAzureV1()) {
                 function.line("return new PagedResponseBase<>(");
                 function.line("res.getRequest(),");
                 function.line("res.getStatusCode(),");
                 function.line("res.getHeaders(),");
-                if (settings.isDataPlaneClient()) {
-                    function.line("getValues(res.getValue(), \"%s\"),",
-                        clientMethod.getMethodPageDetails().getSerializedItemName());
-                } else {
-                    function.line("res.getValue().%s(),", CodeNamer.getModelNamer()
-                        .modelPropertyGetterName(clientMethod.getMethodPageDetails().getItemName()));
-                }
+                function.line("res.getValue().%s(),", CodeNamer.getModelNamer()
+                    .modelPropertyGetterName(clientMethod.getMethodPageDetails().getItemName()));
                 if (clientMethod.getMethodPageDetails().nonNullNextLink()) {
-                    if (settings.isDataPlaneClient()) {
-                        function.line("getNextLink(res.getValue(), \"%s\"),",
-                            clientMethod.getMethodPageDetails().getSerializedNextLinkName());
-                    } else {
-                        function.line(nextLinkLine(clientMethod));
-                    }
+                    function.line(nextLinkLine(clientMethod));
                 } else {
                     function.line("null,");
                 }
@@ -8,9 +8,9 @@ import com.azure.json.JsonWriter;
 import com.microsoft.typespec.http.client.generator.core.Javagen;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.PluginLogger;
+import com.microsoft.typespec.http.client.generator.core.implementation.ClientModelPropertiesManager;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
-import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelProperty;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ModelProperty;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.PrimitiveType;
@@ -26,7 +26,6 @@ import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaBlo
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaClass;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaModifier;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
-import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.core.util.TemplateUtil;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -40,7 +39,6 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import org.slf4j.Logger;
 
 public class ModelExampleWriter {
@@ -289,19 +287,13 @@ public class ModelExampleWriter {
                 imports.add(model.getFullName());
 
                 StringBuilder builder = new StringBuilder();
-                if (JavaSettings.getInstance().isRequiredFieldsAsConstructorArgs()) {
-                    List<ClientModelProperty> requiredParentProperties
-                        = ClientModelUtil.getRequiredWritableParentProperties(model);
-                    List<ClientModelProperty> requiredProperties = model.getProperties()
+                JavaSettings settings = JavaSettings.getInstance();
+                if (settings.isRequiredFieldsAsConstructorArgs()) {
+                    List<ModelProperty> properties = ClientModelPropertiesManager.getInstance(model, settings)
+                        .getRequiredWritableProperties()
                         .stream()
-                        .filter(ClientModelProperty::isRequired)
-                        .filter(property -> !property.isConstant() && !property.isReadOnly())
+                        .map(ModelProperty::ofClientModelProperty)
                         .collect(Collectors.toList());
-
-                    List<ModelProperty> properties
-                        = Stream.concat(requiredParentProperties.stream(), requiredProperties.stream())
-                            .map(ModelProperty::ofClientModelProperty)
-                            .collect(Collectors.toList());
                     Map<ModelProperty, Integer> ctorPosition = new HashMap<>();
                     for (int i = 0; i < properties.size(); ++i) {
                         ctorPosition.put(properties.get(i), i);
@@ -12,12 +12,14 @@ import com.microsoft.typespec.http.client.generator.core.extension.model.codemod
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Operation;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.OperationGroup;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Parameter;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.GenerationContext;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.mapper.Mappers;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.AsyncSyncClient;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethod;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelInheritance;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelProperty;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelPropertyAccess;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModels;
@@ -430,8 +432,8 @@ public class ClientModelUtil {
         return Arrays.asList(values);
     }
 
-    private static Function<String, ClientModel> getClientModelFunction
-        = name -> ClientModels.getInstance().getModel(name);
+    private static final GenerationContext.Local<Function<String, ClientModel>> GET_CLIENT_MODEL_FUNCTION
+        = new GenerationContext.Local<>(() -> name -> ClientModels.getInstance().getModel(name));
 
     /**
      * Replace the default function of getting ClientModel by name.
@@ -442,7 +444,18 @@ public class ClientModelUtil {
      * @param function the function of getting ClientModel by name
      */
     public static void setGetClientModelFunction(Function<String, ClientModel> function) {
-        getClientModelFunction = function;
+        GET_CLIENT_MODEL_FUNCTION.set(function);
+        ClientModels.getInstance().clearInheritance();
+    }
+
+    /**
+     * Gets the inheritance of the ClientModel, computed once per model.
+     *
+     * @param model the ClientModel.
+     * @return the inheritance of the ClientModel.
+     */
+    public static ClientModelInheritance getInheritance(ClientModel model) {
+        return ClientModels.getInstance().getInheritance(model);
     }
 
     /**
@@ -452,7 +465,7 @@ public class ClientModelUtil {
      * @return the ClientModel instance. <code>null</code> if not found.
      */
     public static ClientModel getClientModel(String name) {
-        return getClientModelFunction.apply(name);
+        return GET_CLIENT_MODEL_FUNCTION.get().apply(name);
     }
 
     /**
@@ -562,7 +575,7 @@ public class ClientModelUtil {
      * @return Returns all properties that are defined by super types of the client model.
      */
     public static List<ClientModelProperty> getParentProperties(ClientModel model, boolean parentPropertiesFirst) {
-        return getParentProperties(model, parentPropertiesFirst, m -> true);
+        return getParentProperties(model, parentPropertiesFirst, null);
     }
 
     /**
@@ -570,52 +583,38 @@ public class ClientModelUtil {
      *
      * @param model The client model.
      * @param parentPropertiesFirst whether parent properties are in the front of the return list
-     * @param modelFilter Filter parent models.
-     * @return Returns all properties that are defined by super types of the client model.
+     * @param modelFilter Filter parent models, or null for all parent models.
+     * @return Returns all properties that are defined by super types of the client model. The list is unmodifiable.
      */
     public static List<ClientModelProperty> getParentProperties(ClientModel model, boolean parentPropertiesFirst,
         Predicate<ClientModel> modelFilter) {
-        String lastParentName = model.getName();
-        ClientModel parentModel = getClientModel(model.getParentModelName());
-        List<ClientModelProperty> parentProperties = new ArrayList<>();
-        while (parentModel != null && !lastParentName.equals(parentModel.getName())) {
-            if (modelFilter == null || modelFilter.test(parentModel)) {
-                // Add the properties in inverse order as they be reverse at the end.
-                List<ClientModelProperty> parentProps = new ArrayList<>(parentModel.getProperties());
-                for (int i = parentProps.size() - 1; i >= 0; i--) {
-                    parentProperties.add(parentProps.get(i));
+        List<ClientModelProperty> parentProperties;
+        if (modelFilter == null) {
+            if (parentPropertiesFirst) {
+                // the properties are computed once per model, with the properties of the root model first
+                return getInheritance(model).getParentProperties();
+            }
+            parentProperties = new ArrayList<>(getInheritance(model).getParentProperties());
+        } else {
+            parentProperties = new ArrayList<>();
+            List<ClientModel> ancestors = getInheritance(model).getAncestors();
+            for (int i = ancestors.size() - 1; i >= 0; i--) {
+                if (modelFilter.test(ancestors.get(i))) {
+                    parentProperties.addAll(ancestors.get(i).getProperties());
                 }
             }
-
-            lastParentName = parentModel.getName();
-            parentModel = getClientModel(parentModel.getParentModelName());
         }
-        if (parentPropertiesFirst) {
+        if (!parentPropertiesFirst) {
             Collections.reverse(parentProperties);
         }
-        return parentProperties;
+        return Collections.unmodifiableList(parentProperties);
     }
 
     public static List<ClientModelProperty> getRequiredWritableParentProperties(ClientModel model) {
-        String lastParentName = model.getName();
-        ClientModel parentModel = getClientModel(model.getParentModelName());
-        List<ClientModelProperty> requiredParentProperties = new ArrayList<>();
-        while (parentModel != null && !lastParentName.equals(parentModel.getName())) {
-            // Add the properties in inverse order as they be reverse at the end.
-            List<ClientModelProperty> ctorArgs = parentModel.getProperties()
-                .stream()
-                .filter(property -> property.isRequired() && !property.isConstant() && !property.isReadOnly())
-                .collect(Collectors.toList());
-
-            for (int i = ctorArgs.size() - 1; i >= 0; i--) {
-                requiredParentProperties.add(ctorArgs.get(i));
-            }
-
-            lastParentName = parentModel.getName();
-            parentModel = getClientModel(parentModel.getParentModelName());
-        }
-        Collections.reverse(requiredParentProperties);
-        return requiredParentProperties;
+        return getInheritance(model).getParentProperties()
+            .stream()
+            .filter(property -> property.isRequired() && !property.isConstant() && !property.isReadOnly())
+            .collect(Collectors.toList());
     }
 
     /**
@@ -630,21 +629,14 @@ public class ClientModelUtil {
      * constructor.
      */
     public static List<ClientModelProperty> getParentConstructorProperties(ClientModel model, JavaSettings settings) {
-        String lastParentName = model.getName();
-        ClientModel parentModel = getClientModel(model.getParentModelName());
+        // Add the properties in inverse order as they be reverse at the end.
+        List<ClientModelProperty> parentProperties = getInheritance(model).getParentProperties();
         Set<ClientModelProperty> constructorProperties = new LinkedHashSet<>();
-        while (parentModel != null && !lastParentName.equals(parentModel.getName())) {
-            // Add the properties in inverse order as they be reverse at the end.
-            List<ClientModelProperty> parentProperties = parentModel.getProperties();
-            for (int i = parentProperties.size() - 1; i >= 0; i--) {
-                ClientModelProperty property = parentProperties.get(i);
-                if (includePropertyInConstructor(property, settings)) {
-                    constructorProperties.add(property);
-                }
+        for (int i = parentProperties.size() - 1; i >= 0; i--) {
+            ClientModelProperty property = parentProperties.get(i);
+            if (includePropertyInConstructor(property, settings)) {
+                constructorProperties.add(property);
             }
-
-            lastParentName = parentModel.getName();
-            parentModel = getClientModel(parentModel.getParentModelName());
         }
 
         List<ClientModelProperty> propertyList = new ArrayList<>(constructorProperties);
@@ -797,11 +789,7 @@ public class ClientModelUtil {
             return model;
         }
 
-        while (model.getParentModelName() != null) {
-            model = getClientModel(model.getParentModelName());
-        }
-
-        return model;
+        return getInheritance(model).getRootModel();
     }
 
     public static Set<String> getExternalPackageNamesUsedInClient(List<ClientModel> models, CodeModel codeModel) {
@@ -901,12 +889,13 @@ public class ClientModelUtil {
      * @return The {@link ClientModel} that defines the given {@link ClientModelProperty}.
      */
     public static ClientModel getDefiningModel(ClientModel model, ClientModelProperty property) {
-        ClientModel current = model;
-        while (current != null) {
-            if (ClientModelUtil.modelDefinesProperty(current, property)) {
-                return current;
+        if (ClientModelUtil.modelDefinesProperty(model, property)) {
+            return model;
+        }
+        for (ClientModel ancestor : getInheritance(model).getAncestors()) {
+            if (ClientModelUtil.modelDefinesProperty(ancestor, property)) {
+                return ancestor;
             }
-            current = ClientModelUtil.getClientModel(current.getParentModelName());
         }
         throw new IllegalArgumentException("unable to find defining model for property: " + property);
     }
@@ -5,6 +5,7 @@ package com.microsoft.typespec.http.client.generator.core.util;
 
 import static com.microsoft.typespec.http.client.generator.core.preprocessor.namer.CodeNamer.getBasicLatinCharacter;
 
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.GenerationContext;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.regex.Pattern;
@@ -12,17 +13,18 @@ import org.atteo.evo.inflector.English;
 
 public class CodeNamer {
 
-    private static NamerFactory factory = new DefaultNamerFactory();
+    private static final GenerationContext.Local<NamerFactory> FACTORY
+        = new GenerationContext.Local<>(DefaultNamerFactory::new);
 
     private static final Pattern MERGE_UNDERSCORES = Pattern.compile("_{2,}");
     private static final Pattern CHARACTERS_TO_REPLACE_WITH_UNDERSCORE = Pattern.compile("[\\\\/.+ -]+");
 
     public static void setFactory(NamerFactory templateFactory) {
-        factory = templateFactory;
+        FACTORY.set(templateFactory);
     }
 
     public static ModelNamer getModelNamer() {
-        return factory.getModelNamer();
+        return FACTORY.get().getModelNamer();
     }
 
     private CodeNamer() {
@@ -4,12 +4,13 @@
 package com.microsoft.typespec.http.client.generator.core.util;
 
 import com.azure.core.util.Base64Url;
-import com.azure.core.util.CoreUtils;
 import com.azure.core.util.DateTimeRfc1123;
 import com.azure.core.util.serializer.CollectionFormat;
 import com.microsoft.typespec.http.client.generator.core.Javagen;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.RequestParameterLocation;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.PluginLogger;
+import com.microsoft.typespec.http.client.generator.core.implementation.ClientModelPropertiesManager;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelProperty;
@@ -425,15 +426,9 @@ public class ModelExampleUtil {
         Map<String, ModelProperty> propertiesMap = new LinkedHashMap<>();
         List<ModelProperty> properties = new ArrayList<>();
 
-        List<ClientModel> parentModels = new ArrayList<>();
-        String parentModelName = model.getParentModelName();
-        while (!CoreUtils.isNullOrEmpty(parentModelName)) {
-            ClientModel parentModel = ClientModelUtil.getClientModel(parentModelName);
-            if (parentModel != null) {
-                parentModels.add(parentModel);
-            }
-            parentModelName = parentModel == null ? null : parentModel.getParentModelName();
-        }
+        List<ClientModel> parentModels = ClientModelPropertiesManager.getInstance(model, JavaSettings.getInstance())
+            .getInheritance()
+            .getAncestors();
 
         List<List<ModelProperty>> propertiesFromTypeAndParents = new ArrayList<>();
         propertiesFromTypeAndParents.add(new ArrayList<>());
@@ -3,8 +3,9 @@
 
 package com.microsoft.typespec.http.client.generator.core.util;
 
-import com.azure.core.util.CoreUtils;
 import com.azure.core.util.DateTimeRfc1123;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.implementation.ClientModelPropertiesManager;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientEnumValue;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
@@ -70,17 +71,14 @@ public class ModelTestCaseUtil {
         }
 
         // superclasses
-        String parentModelName = model.getParentModelName();
-        while (!CoreUtils.isNullOrEmpty(parentModelName)) {
-            ClientModel parentModel = ClientModelUtil.getClientModel(parentModelName);
-            if (parentModel != null) {
-                for (ClientModelProperty property : parentModel.getProperties()) {
-                    if (!property.isPolymorphicDiscriminator()) {
-                        addForProperty(depth, jsonObject, property, parentModel.getNeedsFlatten());
-                    }
+        for (ClientModel parentModel : ClientModelPropertiesManager.getInstance(model, JavaSettings.getInstance())
+            .getInheritance()
+            .getAncestors()) {
+            for (ClientModelProperty property : parentModel.getProperties()) {
+                if (!property.isPolymorphicDiscriminator()) {
+                    addForProperty(depth, jsonObject, property, parentModel.getNeedsFlatten());
                 }
             }
-            parentModelName = parentModel == null ? null : parentModel.getParentModelName();
         }
 
         return jsonObject;
@@ -16,6 +16,7 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Clien
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.EnumType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.GenericType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MethodPageDetails;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MethodPollingDetails;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.PrimitiveType;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaClass;
@@ -242,24 +243,60 @@ public class TemplateUtil {
     }
 
     /**
-     * Helper function to write helper methods for LLC paging
+     * Gets the expression to convert the response "res" of LLC paging to PagedResponse, see
+     * {@link #writePagingHelperMethods(JavaClass)}.
+     *
+     * @param clientMethod the client method of paging.
+     * @return the expression of PagedResponse.
+     */
+    public static String getPagedResponseExpression(ClientMethod clientMethod) {
+        MethodPageDetails pageDetails = clientMethod.getMethodPageDetails();
+        return String.format("toPagedResponse(res, %s, %s)",
+            ClassType.STRING.defaultValueExpression(pageDetails.getSerializedItemName()),
+            pageDetails.nonNullNextLink()
+                ? ClassType.STRING.defaultValueExpression(pageDetails.getSerializedNextLinkName())
+                : "null");
+    }
+
+    /**
+     * Helper function to write helper methods for LLC paging.
+     * <p>
+     * The items and the next link are read from the response body in a single pass. Each item is kept as its JSON
+     * text, so that it is deserialized only once, when converted to the model.
      *
      * @param classBlock Java class block
      */
     private static void writePagingHelperMethods(JavaClass classBlock) {
-        classBlock.privateMethod("List<BinaryData> getValues(BinaryData binaryData, String path)", block -> {
-            block.line("try {");
-            block.line("Map<?, ?> obj = binaryData.toObject(Map.class);");
-            block.line("List<?> values = (List<?>) obj.get(path);");
-            block.line("return values.stream().map(BinaryData::fromObject).collect(Collectors.toList());");
-            block.line("} catch (RuntimeException e) { return null; }");
-        });
-        classBlock.privateMethod("String getNextLink(BinaryData binaryData, String path)", block -> {
-            block.line("try {");
-            block.line("Map<?, ?> obj = binaryData.toObject(Map.class);");
-            block.line("return (String) obj.get(path);");
-            block.line("} catch (RuntimeException e) { return null; }");
-        });
+        classBlock.privateMethod(
+            "PagedResponse<BinaryData> toPagedResponse(Response<BinaryData> res, String itemsName, String nextLinkName)",
+            block -> {
+                block.line("List<BinaryData> values = null;");
+                block.line("String nextLink = null;");
+                block.line("try (JsonReader jsonReader = JsonProviders.createReader(res.getValue().toBytes())) {");
+                block.line("if (jsonReader.nextToken() == JsonToken.START_OBJECT) {");
+                block.line("while (jsonReader.nextToken() != JsonToken.END_OBJECT) {");
+                block.line("String fieldName = jsonReader.getFieldName();");
+                block.line("jsonReader.nextToken();");
+                block.line("if (fieldName.equals(itemsName)) {");
+                block.line("values = jsonReader.readArray(reader -> {");
+                block.line("JsonToken token = reader.currentToken();");
+                block.line("return token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY");
+                block.line("? BinaryData.fromString(reader.readChildren())");
+                block.line(": BinaryData.fromObject(reader.readUntyped());");
+                block.line("});");
+                block.line("} else if (fieldName.equals(nextLinkName)) {");
+                block.line("nextLink = jsonReader.getString();");
+                block.line("} else {");
+                block.line("jsonReader.skipChildren();");
+                block.line("}");
+                block.line("}");
+                block.line("}");
+                block.line("} catch (IOException | RuntimeException e) {");
+                block.line("// values or next link not in the expected format is returned as null");
+                block.line("}");
+                block.line(
+                    "return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(), values, nextLink, null);");
+            });
     }
 
     /**
@@ -2,11 +2,12 @@ import io.clientcore.core.http.models.HttpHeaderName;
 import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.models.binarydata.BinaryData;
 
-import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
-import java.io.SequenceInputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -40,7 +41,16 @@ public final class MultipartFormDataHelper {
      */
     private final Charset encoderCharset = StandardCharsets.UTF_8;
 
-    private InputStream requestDataStream = new ByteArrayInputStream(new byte[0]);
+    /**
+     * The segments of the multipart HTTP request body, in order. The content of the files is not copied.
+     */
+    private final List<BinaryData> requestSegments = new ArrayList<>();
+
+    /**
+     * The bytes of the separators, headers and text or JSON values, which are not yet added to the segments.
+     * Consecutive bytes are merged into a single segment.
+     */
+    private final ByteArrayOutputStream pendingBytes = new ByteArrayOutputStream();
     private long requestLength = 0;
 
     private RequestContext requestContext;
@@ -102,12 +112,14 @@ public final class MultipartFormDataHelper {
      */
     public MultipartFormDataHelper serializeJsonField(String fieldName, Object jsonObject) {
         if (jsonObject != null) {
-            String serialized = partSeparator + CRLF
+            String jsonFieldPreamble = partSeparator + CRLF
                     + "Content-Disposition: form-data; name=\"" + escapeName(fieldName) + "\""
                     + CRLF + "Content-Type: application/json"
-                    + CRLF + CRLF + BinaryData.fromObject(jsonObject) + CRLF;
-            byte[] data = serialized.getBytes(encoderCharset);
-            appendBytes(data);
+                    + CRLF + CRLF;
+            appendBytes(jsonFieldPreamble.getBytes(encoderCharset));
+            // the JSON is serialized to UTF-8 bytes, no need to go through a String
+            appendBytes(BinaryData.fromObject(jsonObject).toBytes());
+            appendBytes(CRLF.getBytes(encoderCharset));
         }
         return this;
     }
@@ -171,8 +183,9 @@ public final class MultipartFormDataHelper {
     public MultipartFormDataHelper end() {
         byte[] data = endMarker.getBytes(encoderCharset);
         appendBytes(data);
+        flushPendingBytes();
 
-        requestBody = BinaryData.fromStream(requestDataStream, requestLength);
+        requestBody = BinaryData.fromStream(new SegmentsInputStream(requestSegments), requestLength);
 
         requestContext = requestContext.toBuilder()
                 .setHeader(HttpHeaderName.CONTENT_TYPE, "multipart/form-data; boundary=" + this.boundary)
@@ -195,9 +208,10 @@ public final class MultipartFormDataHelper {
         byte[] data = fileFieldPreamble.getBytes(encoderCharset);
         appendBytes(data);
 
-        // Writing the file into the request as a byte stream
+        // Adding the file into the request as its own segment
+        flushPendingBytes();
         requestLength += file.getLength();
-        requestDataStream = new SequenceInputStream(requestDataStream, file.toStream());
+        requestSegments.add(file);
 
         // CRLF
         data = CRLF.getBytes(encoderCharset);
@@ -206,10 +220,134 @@ public final class MultipartFormDataHelper {
 
     private void appendBytes(byte[] bytes) {
         requestLength += bytes.length;
-        requestDataStream = new SequenceInputStream(requestDataStream, new ByteArrayInputStream(bytes));
+        pendingBytes.write(bytes, 0, bytes.length);
+    }
+
+    private void flushPendingBytes() {
+        if (pendingBytes.size() > 0) {
+            requestSegments.add(BinaryData.fromBytes(pendingBytes.toByteArray()));
+            pendingBytes.reset();
+        }
     }
 
     private static String escapeName(String name) {
         return name.replace("\n", "%0A").replace("\r", "%0D").replace("\"", "%22");
     }
+
+    /**
+     * Reads the segments one after another, as a single flat stream.
+     * <p>
+     * Mark and reset are supported if all segments are replayable, so that the request body is replayable as well.
+     */
+    private static final class SegmentsInputStream extends InputStream {
+        private final List<BinaryData> segments;
+        private final boolean replayable;
+
+        private int segmentIndex = 0;
+        private InputStream segmentStream;
+        private long position = 0;
+        private long markPosition = 0;
+
+        private SegmentsInputStream(List<BinaryData> segments) {
+            this.segments = segments;
+            this.replayable = segments.stream().allMatch(BinaryData::isReplayable);
+        }
+
+        @Override
+        public int read() throws IOException {
+            while (segmentIndex < segments.size()) {
+                int b = currentSegmentStream().read();
+                if (b >= 0) {
+                    ++position;
+                    return b;
+                }
+                nextSegment();
+            }
+            return -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            while (segmentIndex < segments.size()) {
+                int count = currentSegmentStream().read(b, off, len);
+                if (count > 0) {
+                    position += count;
+                    return count;
+                }
+                if (count < 0) {
+                    nextSegment();
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return segmentStream == null ? 0 : segmentStream.available();
+        }
+
+        @Override
+        public boolean markSupported() {
+            return replayable;
+        }
+
+        @Override
+        public synchronized void mark(int readLimit) {
+            markPosition = position;
+        }
+
+        @Override
+        public synchronized void reset() throws IOException {
+            if (!replayable) {
+                throw new IOException("mark/reset not supported");
+            }
+            closeSegmentStream();
+
+            // skip the whole segments before the mark, then skip within the segment of the mark
+            segmentIndex = 0;
+            position = 0;
+            while (segmentIndex < segments.size()
+                    && position + segments.get(segmentIndex).getLength() <= markPosition) {
+                position += segments.get(segmentIndex).getLength();
+                ++segmentIndex;
+            }
+            while (position < markPosition) {
+                long skipped = currentSegmentStream().skip(markPosition - position);
+                if (skipped <= 0) {
+                    if (currentSegmentStream().read() < 0) {
+                        throw new IOException("Segment is shorter than its length.");
+                    }
+                    skipped = 1;
+                }
+                position += skipped;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            closeSegmentStream();
+        }
+
+        private InputStream currentSegmentStream() {
+            if (segmentStream == null) {
+                segmentStream = segments.get(segmentIndex).toStream();
+            }
+            return segmentStream;
+        }
+
+        private void nextSegment() throws IOException {
+            closeSegmentStream();
+            ++segmentIndex;
+        }
+
+        private void closeSegmentStream() throws IOException {
+            if (segmentStream != null) {
+                segmentStream.close();
+                segmentStream = null;
+            }
+        }
+    }
 }
@@ -4,10 +4,16 @@ import com.azure.core.util.BinaryData;
 import com.azure.core.util.CoreUtils;
 import com.azure.core.util.DateTimeRfc1123;
 import com.azure.core.util.logging.ClientLogger;
+import com.azure.core.util.polling.LongRunningOperationStatus;
 import com.azure.core.util.serializer.ObjectSerializer;
 import com.azure.core.util.serializer.TypeReference;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonToken;
 import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.DateTimeException;
@@ -31,6 +37,7 @@ final class PollingUtils {
     public static final String HTTP_METHOD = "httpMethod";
     public static final String REQUEST_URL = "requestURL";
     public static final String POLL_RESPONSE_BODY = "pollResponseBody";
+    public static final String RESOURCE_LOCATION = "resourceLocation";
 
     private static final String FORWARD_SLASH = "/";
     public static String getAbsolutePath(String path, String endpoint, ClientLogger logger) {
@@ -83,6 +90,117 @@ final class PollingUtils {
         return value;
     }
 
+    /**
+     * The "status" and "resourceLocation" of a poll response body.
+     */
+    static final class PollStatus {
+        private final LongRunningOperationStatus status;
+        private final String resourceLocation;
+
+        private PollStatus(LongRunningOperationStatus status, String resourceLocation) {
+            this.status = status;
+            this.resourceLocation = resourceLocation;
+        }
+
+        LongRunningOperationStatus getStatus() {
+            return status;
+        }
+
+        String getResourceLocation() {
+            return resourceLocation;
+        }
+    }
+
+    /**
+     * Reads only the "status" and "resourceLocation" of a poll response body, skipping all other properties without
+     * deserializing them.
+     *
+     * @param binaryData the poll response body.
+     * @return the status of the poll response, or null if the body is not a JSON object with a string "status".
+     */
+    public static PollStatus readPollStatus(BinaryData binaryData) {
+        if (binaryData == null) {
+            return null;
+        }
+        try (JsonReader reader = JsonProviders.createReader(binaryData.toBytes())) {
+            if (reader.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            String status = null;
+            String resourceLocation = null;
+            while (reader.nextToken() != JsonToken.END_OBJECT) {
+                String fieldName = reader.getFieldName();
+                JsonToken token = reader.nextToken();
+                if (token != JsonToken.STRING) {
+                    // "status" and "resourceLocation" are strings, other values are skipped with their children
+                    reader.skipChildren();
+                } else if ("status".equals(fieldName)) {
+                    status = reader.getString();
+                } else if ("resourceLocation".equals(fieldName)) {
+                    resourceLocation = reader.getString();
+                }
+            }
+            return status == null ? null : new PollStatus(toLongRunningOperationStatus(status), resourceLocation);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads the raw JSON of a property of a response body, without deserializing the other properties.
+     *
+     * @param binaryData the response body.
+     * @param propertyName the name of the property.
+     * @return the raw JSON of the property, or null if the body is not a JSON object with the non-null property.
+     */
+    public static BinaryData readProperty(BinaryData binaryData, String propertyName) {
+        if (binaryData == null) {
+            return null;
+        }
+        try (JsonReader reader = JsonProviders.createReader(binaryData.toBytes())) {
+            if (reader.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (reader.nextToken() != JsonToken.END_OBJECT) {
+                String fieldName = reader.getFieldName();
+                JsonToken token = reader.nextToken();
+                if (propertyName.equals(fieldName)) {
+                    if (token == JsonToken.NULL) {
+                        return null;
+                    } else if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                        return BinaryData.fromString(reader.readChildren());
+                    } else if (token == JsonToken.STRING) {
+                        // the raw text of a string is without the quotes
+                        return BinaryData.fromString("\"" + reader.getRawText() + "\"");
+                    } else {
+                        return BinaryData.fromString(reader.getRawText());
+                    }
+                } else {
+                    reader.skipChildren();
+                }
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static LongRunningOperationStatus toLongRunningOperationStatus(String status) {
+        if ("NotStarted".equalsIgnoreCase(status)) {
+            return LongRunningOperationStatus.NOT_STARTED;
+        } else if ("InProgress".equalsIgnoreCase(status) || "Running".equalsIgnoreCase(status)) {
+            return LongRunningOperationStatus.IN_PROGRESS;
+        } else if ("Succeeded".equalsIgnoreCase(status)) {
+            return LongRunningOperationStatus.SUCCESSFULLY_COMPLETED;
+        } else if ("Failed".equalsIgnoreCase(status)) {
+            return LongRunningOperationStatus.FAILED;
+        } else if ("Canceled".equalsIgnoreCase(status)) {
+            return LongRunningOperationStatus.USER_CANCELLED;
+        } else {
+            return LongRunningOperationStatus.fromString(status, true);
+        }
+    }
+
     private static final HttpHeaderName RETRY_AFTER_MS_HEADER = HttpHeaderName.fromString("retry-after-ms");
     private static final HttpHeaderName X_MS_RETRY_AFTER_MS_HEADER = HttpHeaderName.fromString("x-ms-retry-after-ms");
     public static Duration getRetryAfterFromHeaders(HttpHeaders headers, Supplier<OffsetDateTime> nowSupplier) {
@@ -0,0 +1,44 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.customization;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.eclipse.lsp4j.Position;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class EditorTests {
+
+    private static final String FILE_NAME = "src/main/java/com/azure/A.java";
+
+    @TempDir
+    Path rootDir;
+
+    @Test
+    public void testInMemory() throws IOException {
+        Editor editor = new Editor(Map.of(FILE_NAME, "class A {\n}\n"));
+        editor.replace(FILE_NAME, new Position(0, 6), new Position(0, 7), "B");
+        editor.addFile("src/main/java/com/azure/C.java", "class C {}");
+
+        Assertions.assertTrue(editor.getFileContent(FILE_NAME).startsWith("class B {"));
+        Assertions.assertEquals("class B {", editor.getFileLine(FILE_NAME, 0));
+        Assertions.assertEquals(2, editor.getContents().size());
+
+        // no file written before materialize
+        try (Stream<Path> files = Files.list(rootDir)) {
+            Assertions.assertEquals(0, files.count());
+        }
+
+        editor.materialize(rootDir);
+        editor.renameFile("src/main/java/com/azure/C.java", "src/main/java/com/azure/D.java");
+        Assertions.assertEquals(editor.getFileContent(FILE_NAME), Files.readString(rootDir.resolve(FILE_NAME)));
+        Assertions.assertTrue(Files.notExists(rootDir.resolve("src/main/java/com/azure/C.java")));
+        Assertions.assertEquals("class C {}", Files.readString(rootDir.resolve("src/main/java/com/azure/D.java")));
+    }
+}
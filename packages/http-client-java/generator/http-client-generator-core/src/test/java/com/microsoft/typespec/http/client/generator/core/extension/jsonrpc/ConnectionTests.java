@@ -0,0 +1,110 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.extension.jsonrpc;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ConnectionTests {
+    private static final int PIPE_SIZE = 64 * 1024;
+
+    @Test
+    public void testMessageWithoutContentLength() throws Exception {
+        // JSON value spread over several lines, with braces and escaped quotes inside string literals.
+        String message = "{\"jsonrpc\":\"2.0\",\n\"method\":\"notify\",\n"
+            + "\"params\":[\"{not [a] \\\"value\\\"}\", \"line\\nbreak\"]}\r\n";
+        List<String> received = receive(message.getBytes(StandardCharsets.UTF_8));
+
+        Assertions.assertEquals(Arrays.asList("{not [a] \"value\"}", "line\nbreak"), received);
+    }
+
+    @Test
+    public void testMessageWithContentLength() throws Exception {
+        String body = "{\"jsonrpc\":\"2.0\",\"method\":\"notify\",\"params\":[\"é中\",\"b\"]}";
+        byte[] bodyBytes = body.getBytes(StandardCharsets.UTF_8);
+        byte[] header = ("Content-Length: " + bodyBytes.length + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+        byte[] message = new byte[header.length + bodyBytes.length];
+        System.arraycopy(header, 0, message, 0, header.length);
+        System.arraycopy(bodyBytes, 0, message, header.length, bodyBytes.length);
+
+        List<String> received = receive(message);
+
+        Assertions.assertEquals(Arrays.asList("é中", "b"), received);
+    }
+
+    @Test
+    public void testLoopbackRequest() throws Exception {
+        try (Loopback loopback = new Loopback()) {
+            String payload = createPayload(256 * 1024);
+            loopback.server.dispatch("readFile", () -> payload);
+
+            Assertions.assertEquals(decode(payload), loopback.client.request("readFile"));
+        }
+    }
+
+    private static List<String> receive(byte[] message) throws Exception {
+        CompletableFuture<List<String>> received = new CompletableFuture<>();
+        Connection connection = new Connection(OutputStream.nullOutputStream(), new ByteArrayInputStream(message));
+        connection.dispatch("notify", (first, second) -> received.complete(Arrays.asList(first, second)));
+        try {
+            return received.get(10, TimeUnit.SECONDS);
+        } finally {
+            connection.stop();
+        }
+    }
+
+    private static String createPayload(int size) {
+        // JSON string literal with escapes and structural characters, as found in file content.
+        StringBuilder builder = new StringBuilder(size + 2).append('"');
+        String chunk = "line: {\\\"key\\\": [1, 2]}\\n";
+        while (builder.length() + chunk.length() < size) {
+            builder.append(chunk);
+        }
+        return builder.append('"').toString();
+    }
+
+    private static String decode(String jsonString) throws IOException {
+        try (JsonReader jsonReader = JsonProviders.createReader(jsonString)) {
+            jsonReader.nextToken();
+            return jsonReader.getString();
+        }
+    }
+
+    private static final class Loopback implements AutoCloseable {
+        private final PipedOutputStream clientOutput;
+        private final PipedOutputStream serverOutput;
+        private final Connection client;
+        private final Connection server;
+
+        private Loopback() throws IOException {
+            PipedInputStream clientInput = new PipedInputStream(PIPE_SIZE);
+            PipedInputStream serverInput = new PipedInputStream(PIPE_SIZE);
+            this.clientOutput = new PipedOutputStream(serverInput);
+            this.serverOutput = new PipedOutputStream(clientInput);
+            this.client = new Connection(clientOutput, clientInput);
+            this.server = new Connection(serverOutput, serverInput);
+        }
+
+        @Override
+        public void close() throws IOException {
+            client.stop();
+            server.stop();
+            // Closing the pipes ends the listen loops blocked on reading.
+            clientOutput.close();
+            serverOutput.close();
+        }
+    }
+}
@@ -0,0 +1,195 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.inspector.TrustedTagInspector;
+import org.yaml.snakeyaml.representer.Representer;
+
+public class CodeModelJsonTests {
+
+    @Test
+    public void testReferencesAndPolymorphicSchemas() throws IOException {
+        String json = "{\"info\":{\"title\":\"Test\"},\"schemas\":{"
+            + "\"strings\":[{\"$id\":\"0\",\"type\":\"string\",\"language\":{\"default\":{\"name\":\"name\"}}}],"
+            + "\"objects\":[{\"$id\":\"1\",\"type\":\"object\",\"language\":{\"default\":{\"name\":\"Pet\"}},"
+            + "\"usage\":[\"input\",\"output\"],\"properties\":[{\"schema\":{\"$ref\":\"0\"},"
+            + "\"serializedName\":\"name\",\"required\":true},{\"schema\":{\"$ref\":\"1\"},\"serializedName\":\"parent\"},"
+            + "{\"schema\":{\"type\":\"array\",\"elementType\":{\"$ref\":\"0\"}},\"serializedName\":\"tags\"}],"
+            + "\"unknownField\":{\"nested\":[1,2]}}]}}";
+
+        CodeModel codeModel = read(json);
+
+        Assertions.assertEquals("Test", codeModel.getInfo().getTitle());
+        StringSchema stringSchema = codeModel.getSchemas().getStrings().get(0);
+        ObjectSchema objectSchema = codeModel.getSchemas().getObjects().get(0);
+        Assertions.assertEquals("Pet", objectSchema.getLanguage().getDefault().getName());
+        Assertions.assertEquals(Arrays.asList(SchemaContext.INPUT, SchemaContext.OUTPUT),
+            List.copyOf(objectSchema.getUsage()));
+
+        List<Property> properties = objectSchema.getProperties();
+        Assertions.assertEquals(3, properties.size());
+        Assertions.assertSame(stringSchema, properties.get(0).getSchema());
+        Assertions.assertTrue(properties.get(0).isRequired());
+        Assertions.assertSame(objectSchema, properties.get(1).getSchema());
+        ArraySchema arraySchema = Assertions.assertInstanceOf(ArraySchema.class, properties.get(2).getSchema());
+        Assertions.assertSame(stringSchema, arraySchema.getElementType());
+    }
+
+    @Test
+    public void testSharedArrayAndUntypedValues() throws IOException {
+        String json = "{\"schemas\":{\"constants\":[{\"type\":\"constant\",\"value\":{\"value\":{\"a\":[1,"
+            + "3000000000,1.5,true,\"s\"]}},\"valueType\":{\"type\":\"integer\",\"precision\":32}}],"
+            + "\"objects\":[{\"type\":\"object\",\"properties\":{\"$id\":\"0\",\"$values\":[{\"serializedName\":\"p\"}]}},"
+            + "{\"type\":\"object\",\"properties\":{\"$ref\":\"0\"}}]}}";
+
+        CodeModel codeModel = read(json);
+
+        ConstantSchema constantSchema = codeModel.getSchemas().getConstants().get(0);
+        Assertions.assertInstanceOf(NumberSchema.class, constantSchema.getValueType());
+        Map<?, ?> value = Assertions.assertInstanceOf(Map.class, constantSchema.getValue().getValue());
+        Assertions.assertEquals(Arrays.asList(1, 3000000000L, 1.5, true, "s"), value.get("a"));
+
+        List<ObjectSchema> objects = codeModel.getSchemas().getObjects();
+        Assertions.assertEquals("p", objects.get(0).getProperties().get(0).getSerializedName());
+        Assertions.assertSame(objects.get(0).getProperties(), objects.get(1).getProperties());
+    }
+
+    @Test
+    public void testExtensions() throws IOException {
+        String json = "{\"schemas\":{\"objects\":[{\"type\":\"object\",\"extensions\":{"
+            + "\"x-ms-azure-resource\":true,\"x-ms-client-flatten\":true,\"xmsEnum\":{\"name\":\"Color\"}}}]}}";
+
+        CodeModel codeModel = read(json);
+
+        ObjectSchema objectSchema = codeModel.getSchemas().getObjects().get(0);
+        Assertions.assertTrue(objectSchema.getExtensions().isXmsAzureResource());
+        Assertions.assertTrue(objectSchema.getExtensions().isXmsClientFlatten());
+        Assertions.assertEquals("Color", objectSchema.getExtensions().getXmsEnum().getName());
+    }
+
+    @Test
+    public void testYamlParity() throws IOException {
+        // code-model.json is code-model.yaml, serialized by the emitter (see code-model-serializer.ts)
+        CodeModel yamlCodeModel = readYaml(loadResource("codemodel/code-model.yaml"));
+        CodeModel jsonCodeModel = read(loadResource("codemodel/code-model.json"));
+
+        assertSameGraph(yamlCodeModel, jsonCodeModel, "codeModel", new IdentityHashMap<>(), new IdentityHashMap<>());
+
+        // a few of the references, in case both readers got them wrong the same way
+        ObjectSchema pet = jsonCodeModel.getSchemas().getObjects().get(0);
+        ObjectSchema dog = jsonCodeModel.getSchemas().getObjects().get(1);
+        Assertions.assertSame(pet, jsonCodeModel.getSchemas().getArrays().get(0).getElementType());
+        Assertions.assertSame(dog, pet.getDiscriminator().getAll().get("dog"));
+        Assertions.assertSame(pet, dog.getParents().getImmediate().get(0));
+        Assertions.assertSame(pet.getProperties().get(0), pet.getDiscriminator().getProperty());
+        Client client = jsonCodeModel.getClients().get(0);
+        Assertions.assertSame(jsonCodeModel.getGlobalParameters(), client.getGlobalParameters());
+        Operation list = jsonCodeModel.getOperationGroups().get(0).getOperations().get(0);
+        Assertions.assertSame(list, list.getExtensions().getXmsPageable().getNextOperation());
+        Assertions.assertSame(jsonCodeModel.getGlobalParameters().get(0), list.getParameters().get(0));
+    }
+
+    /*
+     * Asserts that the two object graphs have the same values, and the same objects shared in the same places.
+     */
+    private static void assertSameGraph(Object expected, Object actual, String path, Map<Object, Object> visited,
+        Map<Object, Object> visitedActual) {
+        if (expected == null || actual == null) {
+            Assertions.assertEquals(expected, actual, path);
+            return;
+        }
+        Assertions.assertEquals(expected.getClass(), actual.getClass(), path);
+        if (expected instanceof String || expected instanceof Number || expected instanceof Boolean
+            || expected instanceof Enum || expected instanceof Set) {
+            Assertions.assertEquals(expected, actual, path);
+            return;
+        }
+
+        Object visitedValue = visited.putIfAbsent(expected, actual);
+        if (visitedValue != null) {
+            Assertions.assertSame(visitedValue, actual, path);
+            return;
+        }
+        Assertions.assertNull(visitedActual.put(actual, expected), path);
+
+        if (expected instanceof List) {
+            List<?> expectedList = (List<?>) expected;
+            List<?> actualList = (List<?>) actual;
+            Assertions.assertEquals(expectedList.size(), actualList.size(), path);
+            for (int i = 0; i < expectedList.size(); i++) {
+                assertSameGraph(expectedList.get(i), actualList.get(i), path + "[" + i + "]", visited, visitedActual);
+            }
+        } else if (expected instanceof Map) {
+            Map<?, ?> expectedMap = (Map<?, ?>) expected;
+            Map<?, ?> actualMap = (Map<?, ?>) actual;
+            Assertions.assertEquals(expectedMap.keySet(), actualMap.keySet(), path);
+            Iterator<?> actualKeys = actualMap.keySet().iterator();
+            for (Map.Entry<?, ?> entry : expectedMap.entrySet()) {
+                Assertions.assertEquals(entry.getKey(), actualKeys.next(), path);
+                assertSameGraph(entry.getValue(), actualMap.get(entry.getKey()), path + "." + entry.getKey(), visited,
+                    visitedActual);
+            }
+        } else {
+            for (Class<?> clazz = expected.getClass(); clazz != Object.class; clazz = clazz.getSuperclass()) {
+                for (Field field : clazz.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    try {
+                        assertSameGraph(field.get(expected), field.get(actual), path + "." + field.getName(), visited,
+                            visitedActual);
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }
+        }
+    }
+
+    private static CodeModel readYaml(String yaml) {
+        // same as NewPlugin
+        Representer representer = new Representer(new DumperOptions());
+        representer.setPropertyUtils(new AnnotatedPropertyUtils());
+        representer.getPropertyUtils().setSkipMissingProperties(true);
+        LoaderOptions loaderOptions = new LoaderOptions();
+        loaderOptions.setCodePointLimit(50 * 1024 * 1024);
+        loaderOptions.setMaxAliasesForCollections(Integer.MAX_VALUE);
+        loaderOptions.setNestingDepthLimit(Integer.MAX_VALUE);
+        loaderOptions.setTagInspector(new TrustedTagInspector());
+        Yaml yamlMapper = new Yaml(new CodeModelCustomConstructor(loaderOptions), representer, new DumperOptions(),
+            loaderOptions);
+        return yamlMapper.loadAs(yaml, CodeModel.class);
+    }
+
+    private static String loadResource(String fileName) throws IOException {
+        try (InputStream inputStream = CodeModelJsonTests.class.getClassLoader().getResourceAsStream(fileName)) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static CodeModel read(String json) throws IOException {
+        try (JsonReader jsonReader = JsonProviders.createReader(json)) {
+            return CodeModel.fromJson(jsonReader);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.extension.plugin;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class GenerationContextTests {
+
+    @Test
+    public void testValueIsScopedToContext() throws Exception {
+        GenerationContext.Local<List<String>> local = new GenerationContext.Local<>(ArrayList::new);
+
+        GenerationContext context1 = new GenerationContext();
+        GenerationContext context2 = new GenerationContext();
+        context1.run(() -> local.get().add("a"));
+        context2.run(() -> local.get().add("b"));
+
+        Assertions.assertEquals(List.of("a"), context1.call(local::get));
+        Assertions.assertEquals(List.of("b"), context2.call(local::get));
+        Assertions.assertTrue(local.get().isEmpty());
+
+        // nested context restores the outer one
+        context1.run(() -> {
+            context2.run(() -> Assertions.assertEquals(List.of("b"), local.get()));
+            Assertions.assertEquals(List.of("a"), local.get());
+        });
+
+        context1.run(() -> local.set(null));
+        Assertions.assertTrue(context1.call(local::get).isEmpty());
+    }
+
+    @Test
+    public void testWrap() throws Exception {
+        GenerationContext.Local<String> local = new GenerationContext.Local<>();
+        GenerationContext context = new GenerationContext();
+        AtomicReference<String> value = new AtomicReference<>();
+
+        context.run(() -> {
+            local.set("value");
+            Thread thread = new Thread(GenerationContext.wrap(() -> value.set(local.get())));
+            thread.start();
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        Assertions.assertEquals("value", value.get());
+        Assertions.assertNull(local.get());
+    }
+
+    @Test
+    public void testWrapFunction() throws Exception {
+        GenerationContext.Local<String> local = new GenerationContext.Local<>();
+        GenerationContext context = new GenerationContext();
+
+        List<String> values = context.call(() -> {
+            local.set("value");
+            // the items are processed in the threads of the common pool
+            return IntStream.range(0, 100)
+                .boxed()
+                .parallel()
+                .map(GenerationContext.wrap(i -> local.get() + i))
+                .collect(Collectors.toList());
+        });
+
+        for (int i = 0; i < values.size(); i++) {
+            Assertions.assertEquals("value" + i, values.get(i));
+        }
+        Assertions.assertEquals(100, values.size());
+        Assertions.assertNull(local.get());
+    }
+}
@@ -0,0 +1,59 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.implementation;
+
+import static com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelTestUtils.model;
+
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.GenerationContext;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModels;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ClientModelPropertiesManagerTests {
+
+    @AfterEach
+    public void cleanup() {
+        ClientModels.getInstance().clear();
+    }
+
+    @Test
+    public void testGetInstance() {
+        JavaSettings settings = JavaSettings.getInstance();
+        ClientModel model = model("Child", "Parent", Collections.emptyList(), "childProperty");
+        ClientModels.getInstance().addModel(model);
+
+        // the model template and the example and test writers share the instance
+        ClientModelPropertiesManager propertiesManager = ClientModelPropertiesManager.getInstance(model, settings);
+        Assertions.assertSame(propertiesManager, ClientModelPropertiesManager.getInstance(model, settings));
+        Assertions.assertEquals(Collections.emptyList(), superSetterProperties(propertiesManager));
+        Assertions.assertEquals(Collections.emptyList(), propertiesManager.getInheritance().getAncestors());
+
+        // the parent model changes the inheritance of the model, so the instance is computed again
+        ClientModel parent = model("Parent", null, Collections.singletonList(model), "parentProperty");
+        ClientModels.getInstance().addModel(parent);
+        ClientModelPropertiesManager newPropertiesManager = ClientModelPropertiesManager.getInstance(model, settings);
+        Assertions.assertNotSame(propertiesManager, newPropertiesManager);
+        Assertions.assertEquals(Collections.singletonList("parentProperty"),
+            superSetterProperties(newPropertiesManager));
+        Assertions.assertEquals(Collections.singletonList(parent),
+            newPropertiesManager.getInheritance().getAncestors());
+        Assertions.assertSame(newPropertiesManager, ClientModelPropertiesManager.getInstance(model, settings));
+
+        // the instances are stored in the generation context
+        new GenerationContext().run(() -> Assertions.assertNotSame(newPropertiesManager,
+            ClientModelPropertiesManager.getInstance(model, settings)));
+    }
+
+    private static List<String> superSetterProperties(ClientModelPropertiesManager propertiesManager) {
+        List<String> names = new ArrayList<>();
+        propertiesManager.forEachSuperSetterProperty(property -> names.add(property.getName()));
+        return names;
+    }
+}
@@ -0,0 +1,66 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.model.clientmodel;
+
+import static com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelTestUtils.model;
+
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ClientModelInheritanceTests {
+
+    @AfterEach
+    public void cleanup() {
+        ClientModels.getInstance().clear();
+    }
+
+    @Test
+    public void testInheritance() {
+        ClientModel leaf = model("Leaf", "Middle", Collections.emptyList(), "leafProperty");
+        ClientModel middle
+            = model("Middle", "Root", Collections.singletonList(leaf), "middleProperty1", "middleProperty2");
+        ClientModel root = model("Root", null, Collections.singletonList(middle), "rootProperty");
+        ClientModels.getInstance().addModel(leaf);
+        ClientModels.getInstance().addModel(middle);
+        ClientModels.getInstance().addModel(root);
+
+        ClientModelInheritance inheritance = ClientModelUtil.getInheritance(leaf);
+        Assertions.assertEquals(Arrays.asList(middle, root), inheritance.getAncestors());
+        Assertions.assertSame(root, inheritance.getRootModel());
+        Assertions.assertEquals(Arrays.asList("rootProperty", "middleProperty1", "middleProperty2"),
+            names(inheritance.getParentProperties()));
+        // without a filter, the parent properties computed for the model are used, not collected again
+        Assertions.assertSame(inheritance.getParentProperties(), ClientModelUtil.getParentProperties(leaf));
+        Assertions.assertEquals(Arrays.asList("middleProperty2", "middleProperty1", "rootProperty"),
+            names(ClientModelUtil.getParentProperties(leaf, false)));
+        Assertions.assertEquals(Collections.singletonList("rootProperty"),
+            names(ClientModelUtil.getParentProperties(leaf, m -> m == root)));
+        Assertions.assertSame(inheritance, ClientModelUtil.getInheritance(leaf));
+
+        Assertions.assertEquals(Arrays.asList(middle, leaf), ClientModelUtil.getInheritance(root).getDescendants());
+        Assertions.assertSame(root, ClientModelUtil.getInheritance(root).getRootModel());
+        Assertions.assertTrue(ClientModelUtil.getInheritance(root).getParentProperties().isEmpty());
+    }
+
+    @Test
+    public void testInheritanceComputedAgainAfterModelAdded() {
+        ClientModel leaf = model("Leaf", "Root", Collections.emptyList(), "leafProperty");
+        ClientModels.getInstance().addModel(leaf);
+        Assertions.assertTrue(ClientModelUtil.getInheritance(leaf).getAncestors().isEmpty());
+
+        ClientModel root = model("Root", null, Collections.singletonList(leaf), "rootProperty");
+        ClientModels.getInstance().addModel(root);
+        Assertions.assertEquals(Collections.singletonList(root), ClientModelUtil.getInheritance(leaf).getAncestors());
+    }
+
+    private static List<String> names(List<ClientModelProperty> properties) {
+        return properties.stream().map(ClientModelProperty::getName).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,39 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.model.clientmodel;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public final class ClientModelTestUtils {
+
+    private ClientModelTestUtils() {
+    }
+
+    /**
+     * Creates a model with string properties.
+     *
+     * @param name the name of the model.
+     * @param parentModelName the name of the parent model, or null.
+     * @param derivedModels the models derived from the model.
+     * @param propertyNames the names of the string properties.
+     * @return the model.
+     */
+    public static ClientModel model(String name, String parentModelName, List<ClientModel> derivedModels,
+        String... propertyNames) {
+        return new ClientModel.Builder().packageName("com.azure.models")
+            .name(name)
+            .parentModelName(parentModelName)
+            .derivedModels(derivedModels)
+            .properties(Arrays.stream(propertyNames)
+                .map(propertyName -> new ClientModelProperty.Builder().name(propertyName)
+                    .serializedName(propertyName)
+                    .wireType(ClassType.STRING)
+                    .clientType(ClassType.STRING)
+                    .build())
+                .collect(Collectors.toList()))
+            .build();
+    }
+}
@@ -0,0 +1,61 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.model.javamodel;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class JavaFileContentsTests {
+
+    @Test
+    public void testContents() {
+        JavaFileContents contents = new JavaFileContents();
+        contents.declarePackage("com.azure.mock");
+        contents.line();
+        contents.javadocComment(comment -> comment.description("Line one.\nLine two."));
+        contents.classBlock(JavaVisibility.Public, null, "Mock", classBlock -> {
+            classBlock.lineComment("comment\n\nafter blank line");
+            classBlock.method(JavaVisibility.Public, null, "void run(int value)", method -> {
+                method.ifBlock("value > 0", ifBlock -> ifBlock.line("value--;"))
+                    .elseIfBlock("value < 0", ifBlock -> ifBlock.line("value++;"))
+                    .elseBlock(elseBlock -> elseBlock.text("return"));
+                method.text("call(");
+                method.text("value);");
+                method.line();
+                method.line("%s(%d);", "call", 1);
+            });
+        });
+        contents.text("trailing");
+
+        String expected = "package com.azure.mock;\n" + "\n" + "/**\n" + " * Line one.\n" + " * Line two.\n" + " */\n"
+            + "public class Mock {\n" + "    // comment\n" + "    // \n" + "    // after blank line\n"
+            + "    public void run(int value) {\n" + "        if (value > 0) {\n" + "            value--;\n"
+            + "        } else if (value < 0) {\n" + "            value++;\n" + "        } else {\n"
+            + "            return}\n" + "        call(value);\n" + "        call(1);\n" + "    }\n" + "}trailing";
+        Assertions.assertEquals(expected, contents.toString());
+
+        Assertions.assertTrue(contents.contains("value++;"));
+        Assertions.assertFalse(contents.contains("trailing"));
+        Assertions.assertFalse(contents.contains("{\n"));
+    }
+
+    @Test
+    public void testLambda() {
+        JavaFileContents contents = new JavaFileContents();
+        contents.text("list.map(");
+        new JavaBlock(contents).lambda("item",
+            lambda -> lambda.tryBlock("Reader reader = open(item)", tryBlock -> tryBlock.methodReturn("read(reader)"))
+                .catchBlock("IOException e", catchBlock -> catchBlock.line("throw new UncheckedIOException(e);")));
+        contents.line(");");
+        contents.text("list.map(");
+        new JavaBlock(contents).lambda("item", lambda -> lambda.lambdaReturn("item.name()"));
+        contents.line(");");
+
+        // the lambda body is closed right after the catch block, without a blank line
+        String expected = "list.map(item -> {\n" + "    try (Reader reader = open(item)) {\n"
+            + "        return read(reader);\n" + "    } catch (IOException e) {\n"
+            + "        throw new UncheckedIOException(e);\n" + "    }\n" + "});\n" + "list.map(item -> item.name());";
+        Assertions.assertEquals(expected, contents.toString());
+    }
+}
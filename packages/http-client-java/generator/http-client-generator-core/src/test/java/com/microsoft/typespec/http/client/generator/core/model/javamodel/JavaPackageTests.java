@@ -0,0 +1,48 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.model.javamodel;
+
+import com.microsoft.typespec.http.client.generator.core.MockUnitJavagen;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientEnumValue;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.EnumType;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class JavaPackageTests {
+
+    @Test
+    public void testParallelTemplateRendering() {
+        MockUnitJavagen host = new MockUnitJavagen();
+        JavaPackage sequentialPackage = new JavaPackage(host, false);
+        JavaPackage parallelPackage = new JavaPackage(host, true);
+        for (int i = 0; i < 50; ++i) {
+            EnumType enumType = createEnumType("Color" + i);
+            sequentialPackage.addEnum(enumType.getPackage(), enumType.getName(), enumType);
+            parallelPackage.addEnum(enumType.getPackage(), enumType.getName(), enumType);
+        }
+
+        List<JavaFile> expected = sequentialPackage.getJavaFiles();
+        List<JavaFile> actual = parallelPackage.getJavaFiles();
+
+        Assertions.assertEquals(expected.stream().map(JavaFile::getFilePath).collect(Collectors.toList()),
+            actual.stream().map(JavaFile::getFilePath).collect(Collectors.toList()));
+        for (int i = 0; i < expected.size(); ++i) {
+            Assertions.assertEquals(expected.get(i).getContents().toString(), actual.get(i).getContents().toString());
+        }
+    }
+
+    private static EnumType createEnumType(String name) {
+        return new EnumType.Builder().name(name)
+            .packageName("com.azure.mock.models")
+            .description("Enum " + name + ".")
+            .expandable(true)
+            .elementType(ClassType.STRING)
+            .values(Arrays.asList(new ClientEnumValue("RED", "red"), new ClientEnumValue("GREEN", "green")))
+            .build();
+    }
+}
@@ -0,0 +1,134 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.postprocessor.implementation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class EclipseCodeFormatterTests {
+
+    // generated files, as formatted by Spotless
+    private static final List<String> SPOTLESS_FORMATTED_FILES
+        = Arrays.asList("Salmon.java", "ApiKeyClientBuilder.java", "PageableClientImpl.java",
+            "OperationLocationPollingStrategy.java", "package-info.java");
+
+    @Test
+    public void testSortImports() {
+        String content = String.join("\n", "// Copyright", "", "package com.azure.test;", "",
+            "import java.util.Map.Entry;", "import com.azure.core.util.logging.ClientLogger;",
+            "import static org.junit.jupiter.api.Assertions.assertEquals;", "import java.util.Map;",
+            "import com.azure.core.util.BinaryData;", "import java.util.Map;", "", "public class Test {", "}", "");
+
+        String expected = String.join("\n", "// Copyright", "", "package com.azure.test;", "",
+            "import static org.junit.jupiter.api.Assertions.assertEquals;", "",
+            "import com.azure.core.util.BinaryData;", "import com.azure.core.util.logging.ClientLogger;",
+            "import java.util.Map;", "import java.util.Map.Entry;", "", "public class Test {", "}", "");
+
+        Assertions.assertEquals(expected, EclipseCodeFormatter.sortImports(content));
+    }
+
+    @Test
+    public void testSortImportsWithoutImports() {
+        String content = String.join("\n", "package com.azure.test;", "", "public class Test {", "}", "");
+
+        Assertions.assertSame(content, EclipseCodeFormatter.sortImports(content));
+    }
+
+    @Test
+    public void testSpotlessParity() {
+        for (String fileName : SPOTLESS_FORMATTED_FILES) {
+            String expected = loadResource(fileName);
+            String path = "src/main/java/com/azure/test/" + fileName;
+
+            // formatted code is left as is
+            Assertions.assertEquals(expected, format(path, expected), fileName);
+            // unformatted code, as written by the templates, is formatted the same as Spotless
+            Assertions.assertEquals(expected, format(path, unformat(expected)), fileName);
+        }
+    }
+
+    @Test
+    public void testIncludedFiles() {
+        Assertions.assertTrue(EclipseCodeFormatter.isIncluded("src/main/java/com/azure/test/Test.java"));
+        Assertions.assertTrue(EclipseCodeFormatter.isIncluded("src/samples/java/com/azure/test/TestSample.java"));
+        Assertions.assertTrue(EclipseCodeFormatter.isIncluded("src\\test\\java\\com\\azure\\test\\TestTests.java"));
+
+        Assertions.assertFalse(EclipseCodeFormatter.isIncluded("Test.java"));
+        Assertions.assertFalse(EclipseCodeFormatter.isIncluded("src/main/resources/Test.java"));
+        Assertions.assertFalse(EclipseCodeFormatter.isIncluded("src/main/java/com/azure/test/test.properties"));
+
+        String content = unformat(loadResource("Salmon.java"));
+        Assertions.assertEquals(content, format("Salmon.java", content));
+        Assertions.assertEquals(content, format("src/main/resources/Salmon.java", content));
+    }
+
+    private static String format(String fileName, String content) {
+        List<Map.Entry<String, String>> files = EclipseCodeFormatter
+            .formatCode(Collections.singletonList(new AbstractMap.SimpleEntry<>(fileName, content)), null);
+        Assertions.assertEquals(1, files.size());
+        Assertions.assertEquals(fileName, files.get(0).getKey());
+        return files.get(0).getValue();
+    }
+
+    /*
+     * Undoes the formatting: reduces the indentation to one space, joins the wrapped lines of code, and reverses the
+     * order of the imports.
+     */
+    private static String unformat(String content) {
+        List<String> lines = new ArrayList<>();
+        List<String> imports = new ArrayList<>();
+        boolean inComment = false;
+        for (String line : content.split("\n", -1)) {
+            String trimmed = line.stripLeading();
+            if (!trimmed.isEmpty() && trimmed.length() < line.length()) {
+                // the templates indent the code, Eclipse doesn't indent the line comments in the first column
+                trimmed = " " + trimmed;
+            }
+            if (trimmed.startsWith("import ")) {
+                imports.add(0, trimmed.trim());
+                continue;
+            }
+            if (!imports.isEmpty()) {
+                lines.addAll(imports);
+                imports.clear();
+            }
+
+            if (trimmed.trim().startsWith("/*")) {
+                inComment = true;
+            }
+            String previous = lines.isEmpty() ? "" : lines.get(lines.size() - 1);
+            boolean wrapped = !inComment && !previous.trim().startsWith("//")
+                && (trimmed.startsWith(" .") || trimmed.startsWith(" = ") || trimmed.startsWith(" + ")
+                    || previous.endsWith(",") || previous.endsWith("("));
+            if (wrapped && !lines.isEmpty()) {
+                lines.set(lines.size() - 1, previous + trimmed);
+            } else {
+                lines.add(trimmed);
+            }
+            if (trimmed.trim().endsWith("*/")) {
+                inComment = false;
+            }
+        }
+        return String.join("\n", lines);
+    }
+
+    private static String loadResource(String fileName) {
+        try (InputStream inputStream
+            = EclipseCodeFormatterTests.class.getClassLoader().getResourceAsStream("formatter/" + fileName)) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.template;
+
+import com.microsoft.typespec.http.client.generator.core.MockUnitJavagen;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientEnumValue;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.EnumType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.PrimitiveType;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFileFactory;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class EnumTemplateTests {
+
+    @Test
+    public void testEnumLookup() throws Exception {
+        new MockUnitJavagen();
+
+        EnumType enumType = new EnumType.Builder().name("Color")
+            .packageName("com.azure.mock.models")
+            .description("Enum Color.")
+            .expandable(false)
+            .elementType(ClassType.STRING)
+            .values(Arrays.asList(new ClientEnumValue("RED", "red"), new ClientEnumValue("VALUES", "values"),
+                new ClientEnumValue("SIT", "sit")))
+            .build();
+        String contents = write(enumType);
+
+        // the lookup is named not to clash with the enum value "VALUES", and the key is case-insensitive
+        Assertions.assertTrue(contents.contains("private static final Map<String, Color> VALUES1;"), contents);
+        Assertions.assertTrue(contents.contains("return VALUES1.get(toLookupKey(value));"), contents);
+        Assertions.assertFalse(contents.contains("Color.values();"), contents);
+
+        // the lookup matches the values as String.equalsIgnoreCase does, including chars that toLowerCase doesn't fold
+        Method fromString = compile(enumType, contents).getMethod("fromString", String.class);
+        for (String value : Arrays.asList("sit", "SIT", "\u017Fit", "s\u0131t", "S\u0130T")) {
+            Assertions.assertTrue("sit".equalsIgnoreCase(value), value);
+            Assertions.assertEquals("SIT", name(fromString.invoke(null, value)), value);
+        }
+        Assertions.assertEquals("RED", name(fromString.invoke(null, "Red")));
+        Assertions.assertNull(fromString.invoke(null, "blue"));
+        Assertions.assertNull(fromString.invoke(null, (String) null));
+    }
+
+    @Test
+    public void testNumericEnumLookup() throws Exception {
+        new MockUnitJavagen();
+
+        EnumType enumType = new EnumType.Builder().name("Ratio")
+            .packageName("com.azure.mock.models")
+            .description("Enum Ratio.")
+            .expandable(false)
+            .elementType(PrimitiveType.DOUBLE)
+            .values(Arrays.asList(new ClientEnumValue("ONE_TWO_FIVE", "1.25"), new ClientEnumValue("ZERO", "0.0")))
+            .build();
+        String contents = write(enumType);
+
+        // numeric keys are boxed, and are not case-folded
+        Assertions.assertTrue(contents.contains("private static final Map<Double, Ratio> VALUES;"), contents);
+        Assertions.assertTrue(contents.contains("return VALUES.get(value);"), contents);
+        Assertions.assertFalse(contents.contains("toLookupKey"), contents);
+
+        // boxed doubles are equal as compared by Double.doubleToLongBits
+        Method fromDouble = compile(enumType, contents).getMethod("fromDouble", double.class);
+        Assertions.assertEquals("ONE_TWO_FIVE", name(fromDouble.invoke(null, 1.25)));
+        Assertions.assertEquals("ZERO", name(fromDouble.invoke(null, 0.0)));
+        Assertions.assertNull(fromDouble.invoke(null, -0.0));
+        Assertions.assertNull(fromDouble.invoke(null, 2.5));
+    }
+
+    private static String name(Object enumValue) {
+        return enumValue == null ? null : ((Enum<?>) enumValue).name();
+    }
+
+    private static String write(EnumType enumType) {
+        JavaFile javaFile = new JavaFileFactory(JavaSettings.getInstance()).createSourceFile(enumType.getPackage(),
+            enumType.getName());
+        EnumTemplate.getInstance().write(enumType, javaFile);
+        return javaFile.getContents().toString();
+    }
+
+    private static Class<?> compile(EnumType enumType, String contents) throws ClassNotFoundException {
+        String className = enumType.getPackage() + "." + enumType.getName();
+        return GeneratedCodeCompiler.compile(Collections.singletonMap(className, contents)).loadClass(className);
+    }
+}
@@ -0,0 +1,111 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.template;
+
+import com.azure.core.util.CoreUtils;
+import com.azure.json.JsonReader;
+import io.clientcore.core.annotations.Metadata;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+
+/**
+ * Compiles generated Java code in memory, so that tests can run it.
+ */
+final class GeneratedCodeCompiler {
+
+    private GeneratedCodeCompiler() {
+    }
+
+    /**
+     * Compiles the generated code, against azure-core (with reactor-core), azure-json and clientcore.
+     *
+     * @param sources the source code, by the fully qualified name of the class.
+     * @return the class loader of the compiled classes.
+     * @throws IllegalStateException if the code does not compile.
+     */
+    static ClassLoader compile(Map<String, String> sources) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        Map<String, ByteArrayOutputStream> classes = new HashMap<>();
+        List<JavaFileObject> compilationUnits = new ArrayList<>();
+        sources.forEach((className, source) -> compilationUnits.add(new SourceFile(className, source)));
+
+        StringWriter diagnostics = new StringWriter();
+        StandardJavaFileManager standardFileManager = compiler.getStandardFileManager(null, null, null);
+        JavaFileManager fileManager = new ForwardingJavaFileManager<JavaFileManager>(standardFileManager) {
+            @Override
+            public JavaFileObject getJavaFileForOutput(Location location, String className, JavaFileObject.Kind kind,
+                FileObject sibling) {
+                return new SimpleJavaFileObject(URI.create("mem:///" + className.replace('.', '/') + kind.extension),
+                    kind) {
+                    @Override
+                    public OutputStream openOutputStream() {
+                        return classes.computeIfAbsent(className, name -> new ByteArrayOutputStream());
+                    }
+                };
+            }
+        };
+
+        List<String> options = Arrays.asList("-proc:none", "-classpath", classpath());
+        if (!compiler.getTask(diagnostics, fileManager, null, options, null, compilationUnits).call()) {
+            throw new IllegalStateException("Generated code failed to compile: " + diagnostics);
+        }
+
+        return new ClassLoader(GeneratedCodeCompiler.class.getClassLoader()) {
+            @Override
+            protected Class<?> findClass(String name) throws ClassNotFoundException {
+                ByteArrayOutputStream bytes = classes.get(name);
+                if (bytes == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                return defineClass(name, bytes.toByteArray(), 0, bytes.size());
+            }
+        };
+    }
+
+    private static String classpath() {
+        return Stream.of(CoreUtils.class, Mono.class, Publisher.class, JsonReader.class, Metadata.class).map(clazz -> {
+            try {
+                return Paths.get(clazz.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+            } catch (URISyntaxException e) {
+                throw new IllegalStateException(e);
+            }
+        }).collect(Collectors.joining(File.pathSeparator));
+    }
+
+    private static final class SourceFile extends SimpleJavaFileObject {
+        private final String source;
+
+        private SourceFile(String className, String source) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.template;
+
+import com.azure.core.http.rest.RequestOptions;
+import io.clientcore.core.http.models.RequestContext;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Constructor;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MultipartFormDataHelperTests {
+
+    private static final String PACKAGE_NAME = "com.azure.mock.implementation";
+
+    @Test
+    public void testMultipartFormDataHelper() throws Exception {
+        testHelper(Helper.load("MultipartFormDataHelper", com.azure.core.util.BinaryData.class, RequestOptions.class,
+            new RequestOptions()));
+    }
+
+    @Test
+    public void testGenericMultipartFormDataHelper() throws Exception {
+        testHelper(Helper.load("GenericMultipartFormDataHelper", io.clientcore.core.models.binarydata.BinaryData.class,
+            RequestContext.class, RequestContext.none()));
+    }
+
+    private static void testHelper(Helper helper) throws Exception {
+        testRequestBody(helper);
+        testReadAcrossSegments(helper);
+        testMarkReset(helper);
+        testNotReplayable(helper);
+    }
+
+    private static void testRequestBody(Helper helper) throws Exception {
+        Object multipart = helper.newHelper("boundary1");
+        Class<?> helperClass = multipart.getClass();
+        helperClass.getMethod("serializeTextField", String.class, String.class).invoke(multipart, "name", "value1");
+        helperClass.getMethod("serializeFileField", String.class, helper.binaryDataClass, String.class, String.class)
+            .invoke(multipart, "file", helper.replayable("content1"), "text/plain", "file1.txt");
+        helperClass.getMethod("serializeFileFields", String.class, List.class, List.class, List.class)
+            .invoke(multipart, "files",
+                Arrays.asList(helper.notReplayable("content2"), helper.replayable(""), helper.replayable("c")),
+                Arrays.asList(null, "", "image/png"), Arrays.asList("file2.txt", null, "file3.png"));
+        helperClass.getMethod("end").invoke(multipart);
+
+        String expected = "--boundary1\r\nContent-Disposition: form-data; name=\"name\"\r\n\r\nvalue1\r\n"
+            + "--boundary1\r\nContent-Disposition: form-data; name=\"file\"; filename=\"file1.txt\"\r\n"
+            + "Content-Type: text/plain\r\n\r\ncontent1\r\n"
+            + "--boundary1\r\nContent-Disposition: form-data; name=\"files\"; filename=\"file2.txt\"\r\n"
+            + "Content-Type: application/octet-stream\r\n\r\ncontent2\r\n"
+            + "--boundary1\r\nContent-Disposition: form-data; name=\"files\"\r\n"
+            + "Content-Type: application/octet-stream\r\n\r\n\r\n"
+            + "--boundary1\r\nContent-Disposition: form-data; name=\"files\"; filename=\"file3.png\"\r\n"
+            + "Content-Type: image/png\r\n\r\nc\r\n--boundary1--";
+        Object requestBody = helperClass.getMethod("getRequestBody").invoke(multipart);
+        Assertions.assertEquals((long) expected.length(),
+            requestBody.getClass().getMethod("getLength").invoke(requestBody));
+        try (InputStream stream = (InputStream) requestBody.getClass().getMethod("toStream").invoke(requestBody)) {
+            // one of the files isn't replayable
+            Assertions.assertFalse(stream.markSupported());
+            Assertions.assertEquals(expected, readAll(stream, 7));
+        }
+
+        multipart = helper.newHelper("boundary2");
+        helperClass.getMethod("serializeFileField", String.class, helper.binaryDataClass, String.class, String.class)
+            .invoke(multipart, "file", helper.replayable("content1"), "text/plain", null);
+        helperClass.getMethod("end").invoke(multipart);
+        expected = "--boundary2\r\nContent-Disposition: form-data; name=\"file\"\r\n"
+            + "Content-Type: text/plain\r\n\r\ncontent1\r\n--boundary2--";
+        requestBody = helperClass.getMethod("getRequestBody").invoke(multipart);
+        try (InputStream stream = (InputStream) requestBody.getClass().getMethod("toStream").invoke(requestBody)) {
+            // all segments are replayable, so the request body can be sent again
+            Assertions.assertTrue(stream.markSupported());
+            stream.mark(Integer.MAX_VALUE);
+            Assertions.assertEquals(expected, readAll(stream, 5));
+            stream.reset();
+            Assertions.assertEquals(expected, readAll(stream, 64));
+        }
+    }
+
+    private static void testReadAcrossSegments(Helper helper) throws Exception {
+        // the segments are "abc", "", "defg", "h"
+        try (InputStream stream = helper.newSegmentsStream(helper::replayable)) {
+            byte[] buffer = new byte[16];
+            Assertions.assertEquals(0, stream.read(buffer, 0, 0));
+            Assertions.assertEquals('a', stream.read());
+            // a read ends at the end of the current segment
+            Assertions.assertEquals(2, stream.read(buffer, 1, 10));
+            Assertions.assertEquals("bc", new String(buffer, 1, 2, StandardCharsets.UTF_8));
+            // the empty segment is skipped
+            Assertions.assertEquals(3, stream.read(buffer, 5, 3));
+            Assertions.assertEquals("def", new String(buffer, 5, 3, StandardCharsets.UTF_8));
+            Assertions.assertEquals('g', stream.read());
+            Assertions.assertEquals(1, stream.read(buffer, 0, 16));
+            Assertions.assertEquals('h', buffer[0]);
+            Assertions.assertEquals(-1, stream.read(buffer, 0, 16));
+            Assertions.assertEquals(-1, stream.read());
+        }
+
+        for (int bufferSize = 1; bufferSize <= 9; bufferSize++) {
+            try (InputStream stream = helper.newSegmentsStream(helper::replayable)) {
+                Assertions.assertEquals("abcdefgh", readAll(stream, bufferSize));
+            }
+        }
+    }
+
+    private static void testMarkReset(Helper helper) throws Exception {
+        // mark at every position, including the segment boundaries, then read on to the end twice
+        for (int markPosition = 0; markPosition <= 8; markPosition++) {
+            try (InputStream stream = helper.newSegmentsStream(helper::replayable)) {
+                Assertions.assertTrue(stream.markSupported());
+                for (int i = 0; i < markPosition; i++) {
+                    stream.read();
+                }
+                stream.mark(Integer.MAX_VALUE);
+                String rest = "abcdefgh".substring(markPosition);
+                Assertions.assertEquals(rest, readAll(stream, 3));
+                stream.reset();
+                Assertions.assertEquals(rest, readAll(stream, 2));
+                // reset again, after reading only part of the rest
+                stream.reset();
+                if (stream.read() >= 0) {
+                    stream.reset();
+                }
+                Assertions.assertEquals(rest, readAll(stream, 16));
+            }
+        }
+    }
+
+    private static void testNotReplayable(Helper helper) throws Exception {
+        try (InputStream stream = helper.newSegmentsStream(helper::notReplayable)) {
+            Assertions.assertFalse(stream.markSupported());
+            stream.mark(Integer.MAX_VALUE);
+            Assertions.assertEquals("abcdefgh", readAll(stream, 3));
+            Assertions.assertThrows(IOException.class, stream::reset);
+        }
+    }
+
+    private static String readAll(InputStream stream, int bufferSize) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[bufferSize];
+        int count;
+        while ((count = stream.read(buffer, 0, bufferSize)) >= 0) {
+            outputStream.write(buffer, 0, count);
+        }
+        return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The helper class from the resources, compiled against either azure-core or clientcore.
+     */
+    private static final class Helper {
+        private final Class<?> helperClass;
+        private final Class<?> binaryDataClass;
+        private final Class<?> requestOptionsClass;
+        private final Object requestOptions;
+
+        private Helper(Class<?> helperClass, Class<?> binaryDataClass, Class<?> requestOptionsClass,
+            Object requestOptions) {
+            this.helperClass = helperClass;
+            this.binaryDataClass = binaryDataClass;
+            this.requestOptionsClass = requestOptionsClass;
+            this.requestOptions = requestOptions;
+        }
+
+        private static Helper load(String resourceName, Class<?> binaryDataClass, Class<?> requestOptionsClass,
+            Object requestOptions) throws Exception {
+            String source;
+            try (InputStream inputStream
+                = MultipartFormDataHelperTests.class.getClassLoader().getResourceAsStream(resourceName + ".java")) {
+                source = new String(readAllBytes(inputStream), StandardCharsets.UTF_8);
+            }
+            // the helper is written as MultipartFormDataHelper, whichever the resource
+            String className = PACKAGE_NAME + ".MultipartFormDataHelper";
+            ClassLoader classLoader = GeneratedCodeCompiler
+                .compile(Collections.singletonMap(className, "package " + PACKAGE_NAME + ";\n\n" + source));
+            return new Helper(classLoader.loadClass(className), binaryDataClass, requestOptionsClass, requestOptions);
+        }
+
+        private Object newHelper(String boundary) throws Exception {
+            Constructor<?> constructor = helperClass.getDeclaredConstructor(requestOptionsClass, String.class);
+            constructor.setAccessible(true);
+            return constructor.newInstance(requestOptions, boundary);
+        }
+
+        private InputStream newSegmentsStream(Function<String, Object> segmentFactory) throws Exception {
+            Class<?> streamClass
+                = helperClass.getClassLoader().loadClass(helperClass.getName() + "$SegmentsInputStream");
+            Constructor<?> constructor = streamClass.getDeclaredConstructor(List.class);
+            constructor.setAccessible(true);
+            List<Object> segments = Arrays.asList(segmentFactory.apply("abc"), segmentFactory.apply(""),
+                segmentFactory.apply("defg"), segmentFactory.apply("h"));
+            return (InputStream) constructor.newInstance(segments);
+        }
+
+        private Object replayable(String content) {
+            return invokeFactory("fromBytes", byte[].class, content.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private Object notReplayable(String content) {
+            byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+            // a stream without mark support isn't replayable
+            InputStream inputStream = new FilterInputStream(new ByteArrayInputStream(bytes)) {
+                @Override
+                public boolean markSupported() {
+                    return false;
+                }
+            };
+            try {
+                return binaryDataClass.getMethod("fromStream", InputStream.class, Long.class)
+                    .invoke(null, inputStream, (long) bytes.length);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private Object invokeFactory(String methodName, Class<?> parameterType, Object argument) {
+            try {
+                return binaryDataClass.getMethod(methodName, parameterType).invoke(null, argument);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private static byte[] readAllBytes(InputStream inputStream) {
+            try {
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                byte[] buffer = new byte[8192];
+                int count;
+                while ((count = inputStream.read(buffer)) >= 0) {
+                    outputStream.write(buffer, 0, count);
+                }
+                return outputStream.toByteArray();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,273 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.template;
+
+import com.azure.core.exception.AzureException;
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpPipelineBuilder;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.rest.SimpleResponse;
+import com.azure.core.util.BinaryData;
+import com.azure.core.util.polling.LongRunningOperationStatus;
+import com.azure.core.util.polling.PollResponse;
+import com.azure.core.util.polling.PollingStrategyOptions;
+import com.azure.core.util.polling.SyncPoller;
+import com.azure.core.util.polling.SyncPollingStrategy;
+import com.azure.core.util.serializer.TypeReference;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class PollingUtilsTests {
+
+    private static final String PACKAGE_NAME = "com.azure.mock.implementation";
+    private static final String OPERATION_LOCATION = "https://endpoint/operations/1";
+    private static final TypeReference<BinaryData> BINARY_DATA_TYPE = TypeReference.createInstance(BinaryData.class);
+
+    private static ClassLoader classLoader;
+
+    @BeforeAll
+    public static void compile() {
+        Map<String, String> sources = new HashMap<>();
+        for (String className : Arrays.asList("PollingUtils", "SyncOperationLocationPollingStrategy")) {
+            sources.put(PACKAGE_NAME + "." + className, "package " + PACKAGE_NAME + ";\n\n" + readResource(className));
+        }
+        classLoader = GeneratedCodeCompiler.compile(sources);
+    }
+
+    @Test
+    public void testReadPollStatus() throws Exception {
+        Map<String, LongRunningOperationStatus> statuses = new HashMap<>();
+        statuses.put("NotStarted", LongRunningOperationStatus.NOT_STARTED);
+        statuses.put("InProgress", LongRunningOperationStatus.IN_PROGRESS);
+        statuses.put("Running", LongRunningOperationStatus.IN_PROGRESS);
+        statuses.put("Succeeded", LongRunningOperationStatus.SUCCESSFULLY_COMPLETED);
+        statuses.put("Failed", LongRunningOperationStatus.FAILED);
+        statuses.put("Canceled", LongRunningOperationStatus.USER_CANCELLED);
+        for (Map.Entry<String, LongRunningOperationStatus> entry : statuses.entrySet()) {
+            String status = entry.getKey();
+            for (String casing : Arrays.asList(status, status.toLowerCase(Locale.ROOT),
+                status.toUpperCase(Locale.ROOT))) {
+                Object pollStatus = readPollStatus("{\"status\":\"" + casing + "\"}");
+                Assertions.assertEquals(entry.getValue(), getPollStatus(pollStatus, "getStatus"), casing);
+                Assertions.assertNull(getPollStatus(pollStatus, "getResourceLocation"), casing);
+            }
+        }
+
+        // other statuses are kept as they are
+        Assertions.assertEquals(LongRunningOperationStatus.fromString("Deleting", true),
+            getPollStatus(readPollStatus("{\"status\":\"Deleting\"}"), "getStatus"));
+
+        // missing or non-string status
+        for (String json : Arrays.asList("{}", "{\"id\":\"1\"}", "{\"status\":null}", "{\"status\":1}",
+            "{\"status\":true}", "{\"status\":[\"Succeeded\"]}", "{\"status\":{\"status\":\"Succeeded\"}}",
+            "{\"result\":{\"status\":\"Succeeded\"}}", "[{\"status\":\"Succeeded\"}]", "\"Succeeded\"")) {
+            Assertions.assertNull(readPollStatus(json), json);
+        }
+        Assertions.assertNull(invokePollingUtils("readPollStatus", null));
+
+        // the properties of nested objects are skipped
+        Object pollStatus = readPollStatus("{\"id\":\"1\",\"error\":{\"status\":\"Failed\",\"resourceLocation\":"
+            + "\"/wrong\",\"details\":[{\"status\":\"Canceled\"}]},\"percentComplete\":100,\"tags\":[\"a\",{}],"
+            + "\"resourceLocation\":\"/resource\",\"status\":\"Succeeded\"}");
+        Assertions.assertEquals(LongRunningOperationStatus.SUCCESSFULLY_COMPLETED,
+            getPollStatus(pollStatus, "getStatus"));
+        Assertions.assertEquals("/resource", getPollStatus(pollStatus, "getResourceLocation"));
+
+        // a non-string resourceLocation is skipped
+        pollStatus = readPollStatus("{\"resourceLocation\":{\"status\":\"Failed\"},\"status\":\"Running\"}");
+        Assertions.assertEquals(LongRunningOperationStatus.IN_PROGRESS, getPollStatus(pollStatus, "getStatus"));
+        Assertions.assertNull(getPollStatus(pollStatus, "getResourceLocation"));
+    }
+
+    @Test
+    public void testReadProperty() throws Exception {
+        String json = "{\"status\":\"Succeeded\",\"error\":{\"result\":1},\"result\":{\"b\":[1,{\"c\":\"d\"}],"
+            + "\"e\":null},\"string\":\"x\\\"y\",\"number\":-1.5e3,\"flag\":true,\"nothing\":null,\"array\":[1,[2]]}";
+        Assertions.assertEquals("{\"b\":[1,{\"c\":\"d\"}],\"e\":null}", readProperty(json, "result"));
+        Assertions.assertEquals("\"x\\\"y\"", readProperty(json, "string"));
+        Assertions.assertEquals("-1.5e3", readProperty(json, "number"));
+        Assertions.assertEquals("true", readProperty(json, "flag"));
+        Assertions.assertEquals("[1,[2]]", readProperty(json, "array"));
+        Assertions.assertNull(readProperty(json, "nothing"));
+        Assertions.assertNull(readProperty(json, "missing"));
+        Assertions.assertNull(readProperty("[{\"result\":1}]", "result"));
+    }
+
+    @Test
+    public void testPoll() throws Exception {
+        String succeeded = "{\"id\":\"1\",\"error\":null,\"status\":\"succeeded\",\"result\":{\"name\":\"done\"}}";
+        List<String> pollResponseBodies = new ArrayList<>();
+        SyncPoller<BinaryData, BinaryData> poller = createPoller(pollResponseBodies,
+            "{\"id\":\"1\",\"result\":{\"status\":\"Succeeded\"},\"status\":\"Running\"}",
+            "{\"status\":\"NotStarted\"}", succeeded);
+
+        Assertions.assertEquals(LongRunningOperationStatus.IN_PROGRESS, poller.poll().getStatus());
+        Assertions.assertEquals(LongRunningOperationStatus.NOT_STARTED, poller.poll().getStatus());
+        PollResponse<BinaryData> pollResponse = poller.waitForCompletion();
+        Assertions.assertEquals(LongRunningOperationStatus.SUCCESSFULLY_COMPLETED, pollResponse.getStatus());
+        Assertions.assertEquals(succeeded, pollResponse.getValue().toString());
+        // the poll response body is kept only when the operation is complete
+        Assertions.assertEquals(Arrays.asList(null, null, succeeded), pollResponseBodies);
+        Assertions.assertEquals("{\"name\":\"done\"}", poller.getFinalResult().toString());
+
+        // failed operation
+        poller = createPoller(new ArrayList<>(), "{\"status\":\"InProgress\"}", "{\"status\":\"FAILED\"}");
+        Assertions.assertEquals(LongRunningOperationStatus.FAILED, poller.waitForCompletion().getStatus());
+        Assertions.assertThrows(AzureException.class, poller::getFinalResult);
+
+        // poll response without status
+        SyncPoller<BinaryData, BinaryData> noStatusPoller
+            = createPoller(new ArrayList<>(), "{\"result\":{\"status\":\"Succeeded\"}}");
+        Assertions.assertThrows(AzureException.class, noStatusPoller::poll);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SyncPoller<BinaryData, BinaryData> createPoller(List<String> pollResponseBodies,
+        String... responseBodies) throws Exception {
+        Deque<String> responses = new ArrayDeque<>(Arrays.asList(responseBodies));
+        HttpPipeline httpPipeline = new HttpPipelineBuilder().httpClient(request -> {
+            Assertions.assertEquals(OPERATION_LOCATION, request.getUrl().toString());
+            return Mono.just(new MockHttpResponse(request, responses.remove()));
+        }).build();
+        SyncPollingStrategy<BinaryData, BinaryData> strategy = (SyncPollingStrategy<BinaryData, BinaryData>) classLoader
+            .loadClass(PACKAGE_NAME + ".SyncOperationLocationPollingStrategy")
+            .getConstructor(PollingStrategyOptions.class, String.class)
+            .newInstance(new PollingStrategyOptions(httpPipeline).setEndpoint("https://endpoint"), "result");
+
+        HttpHeaders headers
+            = new HttpHeaders().set(HttpHeaderName.fromString("Operation-Location"), OPERATION_LOCATION);
+        SimpleResponse<BinaryData> initialResponse = new SimpleResponse<>(
+            new HttpRequest(HttpMethod.POST, "https://endpoint/operations"), 202, headers, BinaryData.fromString("{}"));
+        String pollResponseBody = (String) pollingUtilsField("POLL_RESPONSE_BODY");
+        return SyncPoller.createPoller(Duration.ofMillis(1),
+            context -> strategy.onInitialResponse(initialResponse, context, BINARY_DATA_TYPE), context -> {
+                PollResponse<BinaryData> response = strategy.poll(context, BINARY_DATA_TYPE);
+                pollResponseBodies.add(context.getData(pollResponseBody));
+                return response;
+            }, (context, response) -> null, context -> strategy.getResult(context, BINARY_DATA_TYPE));
+    }
+
+    private static Object readPollStatus(String json) throws Exception {
+        return invokePollingUtils("readPollStatus", BinaryData.fromString(json));
+    }
+
+    private static String readProperty(String json, String propertyName) throws Exception {
+        Method method = pollingUtils().getMethod("readProperty", BinaryData.class, String.class);
+        method.setAccessible(true);
+        BinaryData property = (BinaryData) method.invoke(null, BinaryData.fromString(json), propertyName);
+        return property == null ? null : property.toString();
+    }
+
+    private static Object invokePollingUtils(String methodName, BinaryData binaryData) throws Exception {
+        Method method = pollingUtils().getMethod(methodName, BinaryData.class);
+        method.setAccessible(true);
+        return method.invoke(null, binaryData);
+    }
+
+    private static Object pollingUtilsField(String fieldName) throws Exception {
+        Field field = pollingUtils().getField(fieldName);
+        field.setAccessible(true);
+        return field.get(null);
+    }
+
+    private static Object getPollStatus(Object pollStatus, String methodName) throws Exception {
+        Method method = pollStatus.getClass().getDeclaredMethod(methodName);
+        method.setAccessible(true);
+        return method.invoke(pollStatus);
+    }
+
+    private static Class<?> pollingUtils() throws ClassNotFoundException {
+        return classLoader.loadClass(PACKAGE_NAME + ".PollingUtils");
+    }
+
+    private static String readResource(String className) {
+        try (InputStream inputStream
+            = PollingUtilsTests.class.getClassLoader().getResourceAsStream(className + ".java")) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int count;
+            while ((count = inputStream.read(buffer)) >= 0) {
+                outputStream.write(buffer, 0, count);
+            }
+            return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class MockHttpResponse extends HttpResponse {
+        private final byte[] body;
+
+        private MockHttpResponse(HttpRequest request, String body) {
+            super(request);
+            this.body = body.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public int getStatusCode() {
+            return 200;
+        }
+
+        @Override
+        @Deprecated
+        public String getHeaderValue(String name) {
+            return null;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return new HttpHeaders();
+        }
+
+        @Override
+        public Flux<ByteBuffer> getBody() {
+            return Flux.just(ByteBuffer.wrap(body));
+        }
+
+        @Override
+        public Mono<byte[]> getBodyAsByteArray() {
+            return Mono.just(body);
+        }
+
+        @Override
+        public Mono<String> getBodyAsString() {
+            return Mono.just(new String(body, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public Mono<String> getBodyAsString(Charset charset) {
+            return Mono.just(new String(body, charset));
+        }
+
+        @Override
+        public BinaryData getBodyAsBinaryData() {
+            return BinaryData.fromBytes(body);
+        }
+    }
+}
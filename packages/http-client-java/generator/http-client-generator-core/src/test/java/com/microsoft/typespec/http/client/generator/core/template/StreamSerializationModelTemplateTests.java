@@ -0,0 +1,411 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.template;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonSerializable;
+import com.azure.json.ReadValueCallback;
+import com.microsoft.typespec.http.client.generator.core.MockUnitJavagen;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.GenerationContext;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelProperty;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModels;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ImplementationDetails;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MapType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.PrimitiveType;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFileFactory;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class StreamSerializationModelTemplateTests {
+
+    private static final String PACKAGE_NAME = "com.azure.mock.models";
+
+    @Test
+    public void testJsonFieldNameSwitch() throws Exception {
+        List<ClientModelProperty> properties = new ArrayList<>();
+        for (String name : Arrays.asList("id", "name", "kind", "location", "etag", "description")) {
+            properties.add(property(name, name, ClassType.STRING));
+        }
+        properties.add(property("count", "count", ClassType.INTEGER));
+        properties.add(property("enabled", "enabled", ClassType.BOOLEAN));
+        properties.add(flattenedProperty("provisioningState", "properties.provisioningState", ClassType.STRING));
+        properties.add(flattenedProperty("size", "properties.size", ClassType.INTEGER));
+        properties.add(flattenedProperty("subnet", "properties.network.subnet", ClassType.STRING));
+        properties.add(additionalProperties());
+        ClientModel model = model("Resource", properties);
+
+        String ifChain = generate(Collections.emptyMap(), model).get(model.getFullName());
+        Assertions.assertTrue(ifChain.contains("\"count\".equals(fieldName)"), ifChain);
+        Assertions.assertFalse(ifChain.contains("switch (fieldName)"), ifChain);
+
+        String switchCode = generate(Collections.singletonMap("stream-style-serialization-switch", true), model)
+            .get(model.getFullName());
+        Assertions.assertTrue(switchCode.contains("switch (fieldName)"), switchCode);
+        for (String fieldName : Arrays.asList("id", "name", "kind", "location", "etag", "description", "count",
+            "enabled", "properties")) {
+            Assertions.assertTrue(switchCode.contains("case \"" + fieldName + "\":"), fieldName);
+        }
+        Assertions.assertTrue(switchCode.contains("default:"), switchCode);
+        Assertions.assertFalse(switchCode.contains("\"count\".equals(fieldName)"), switchCode);
+        // the nested flattened objects are still read with the if-else-if chain
+        Assertions.assertTrue(switchCode.contains("\"network\".equals(fieldName)"), switchCode);
+
+        // both read the same JSON to the same model
+        ClassLoader ifChainClasses
+            = GeneratedCodeCompiler.compile(Collections.singletonMap(model.getFullName(), ifChain));
+        ClassLoader switchClasses
+            = GeneratedCodeCompiler.compile(Collections.singletonMap(model.getFullName(), switchCode));
+        String json
+            = "{\"id\":\"id1\",\"name\":\"name1\",\"kind\":\"kind1\",\"location\":\"westus\",\"etag\":\"etag1\","
+                + "\"description\":\"description1\",\"count\":3,\"enabled\":true,\"properties\":{\"provisioningState\":"
+                + "\"Succeeded\",\"size\":5,\"network\":{\"subnet\":\"subnet1\"}},\"extra\":{\"a\":[1,2]}}";
+        String expected = roundTrip(ifChainClasses, model.getFullName(), json);
+        Assertions.assertEquals(expected, roundTrip(switchClasses, model.getFullName(), json));
+        Assertions.assertTrue(expected.contains("\"subnet\":\"subnet1\""), expected);
+        Assertions.assertTrue(expected.contains("\"extra\":{\"a\":[1,2]}"), expected);
+
+        // a flattened node that is not an object is an unknown field
+        String notObject = "{\"id\":\"id1\",\"properties\":\"value\",\"count\":3}";
+        expected = roundTrip(ifChainClasses, model.getFullName(), notObject);
+        Assertions.assertEquals(expected, roundTrip(switchClasses, model.getFullName(), notObject));
+        Assertions.assertTrue(expected.contains("\"properties\":\"value\""), expected);
+    }
+
+    @Test
+    public void testDiscriminatorFirst() throws Exception {
+        // Fish, with discriminator "kind"
+        // - Salmon
+        // - Shark, with discriminator "sharktype"
+        // - SawShark
+        ClientModel sawShark = polymorphicModel("SawShark", "saw", "Shark", Collections.emptyList(),
+            discriminator("sharktype", "saw"), property("teeth", "teeth", PrimitiveType.INT));
+        ClientModel shark = polymorphicModel("Shark", "shark", "Fish", Collections.singletonList(sawShark),
+            discriminator("sharktype", "shark"));
+        ClientModel salmon = polymorphicModel("Salmon", "salmon", "Fish", Collections.emptyList(),
+            discriminator("kind", "salmon"), property("name", "name", ClassType.STRING),
+            property("partner", "partner", new ClassType.Builder().packageName(PACKAGE_NAME).name("Fish").build()));
+        ClientModel fish
+            = polymorphicModel("Fish", "Fish", null, Arrays.asList(salmon, shark), discriminator("kind", "Fish"),
+                new ClientModelProperty.Builder().name("age")
+                    .serializedName("age")
+                    .description("The age.")
+                    .wireType(PrimitiveType.INT)
+                    .clientType(PrimitiveType.INT)
+                    .required(true)
+                    .build());
+        shark.getParentPolymorphicDiscriminators().add(discriminator("kind", "shark"));
+        sawShark.getParentPolymorphicDiscriminators().add(discriminator("kind", "shark"));
+
+        Map<String, Object> options = new HashMap<>();
+        options.put("required-fields-as-ctor-args", true);
+        Map<String, String> buffered = generate(options, fish, salmon, shark, sawShark);
+        Assertions.assertFalse(buffered.get(fish.getFullName()).contains("fromJsonFields"));
+
+        options.put("stream-style-serialization-discriminator-first", true);
+        Map<String, String> discriminatorFirst = generate(options, fish, salmon, shark, sawShark);
+        Assertions.assertTrue(discriminatorFirst.get(fish.getFullName()).contains("fromJsonFields"));
+        // Shark is both a subtype and a super type
+        Assertions.assertTrue(discriminatorFirst.get(shark.getFullName()).contains("fromJsonPolymorphicFields"));
+
+        ClassLoader bufferedClasses = GeneratedCodeCompiler.compile(buffered);
+        ClassLoader discriminatorFirstClasses = GeneratedCodeCompiler.compile(discriminatorFirst);
+        String[][] cases = new String[][] {
+            // discriminator first
+            { "Fish", "Salmon", "{\"kind\":\"salmon\",\"age\":1,\"name\":\"salmon1\"}" },
+            // discriminator late
+            { "Fish", "Salmon", "{\"age\":1,\"name\":\"salmon1\",\"kind\":\"salmon\"}" },
+            // unknown discriminator value
+            { "Fish", "Fish", "{\"kind\":\"tuna\",\"age\":2}" },
+            { "Fish", "Shark", "{\"kind\":\"shark\",\"sharktype\":\"hammerhead\",\"age\":3}" },
+            // multi-level hierarchy, with the discriminators first, late, or in the other order
+            { "Fish", "SawShark", "{\"kind\":\"shark\",\"sharktype\":\"saw\",\"age\":4,\"teeth\":50}" },
+            { "Fish", "SawShark", "{\"kind\":\"shark\",\"age\":4,\"teeth\":50,\"sharktype\":\"saw\"}" },
+            { "Fish", "SawShark", "{\"sharktype\":\"saw\",\"kind\":\"shark\",\"age\":4,\"teeth\":50}" },
+            { "Shark", "SawShark", "{\"sharktype\":\"saw\",\"age\":4,\"teeth\":50}" },
+            // nested polymorphic property, followed by more fields
+            {
+                "Fish",
+                "Salmon",
+                "{\"kind\":\"salmon\",\"partner\":{\"kind\":\"shark\",\"sharktype\":\"saw\","
+                    + "\"age\":5,\"teeth\":40},\"age\":6,\"name\":\"salmon2\"}" } };
+        for (String[] testCase : cases) {
+            String className = PACKAGE_NAME + "." + testCase[0];
+            // read as an element of an array, to check that the reader is left at the end of the object
+            String json = "[" + testCase[2] + "," + testCase[2] + "]";
+            List<JsonSerializable<?>> expected = fromJsonArray(bufferedClasses, className, json);
+            List<JsonSerializable<?>> actual = fromJsonArray(discriminatorFirstClasses, className, json);
+
+            Assertions.assertEquals(2, actual.size(), testCase[2]);
+            for (int i = 0; i < actual.size(); i++) {
+                Assertions.assertEquals(testCase[1], actual.get(i).getClass().getSimpleName(), testCase[2]);
+                Assertions.assertEquals(expected.get(i).getClass().getSimpleName(),
+                    actual.get(i).getClass().getSimpleName(), testCase[2]);
+                Assertions.assertEquals(expected.get(i).toJsonString(), actual.get(i).toJsonString(), testCase[2]);
+            }
+        }
+    }
+
+    @Test
+    public void testLazyAdditionalProperties() throws Exception {
+        ClientModel model
+            = model("Pet", Arrays.asList(property("name", "name", ClassType.STRING), additionalProperties()));
+        Map<String, String> eager = generate(Collections.emptyMap(), model);
+        Map<String, String> lazy
+            = generate(Collections.singletonMap("stream-style-serialization-lazy-additional-properties", true), model);
+        Assertions.assertTrue(lazy.get(model.getFullName()).contains("additionalPropertiesJson"));
+
+        ClassLoader eagerClasses = GeneratedCodeCompiler.compile(eager);
+        ClassLoader lazyClasses = GeneratedCodeCompiler.compile(lazy);
+        String json = "{\"name\":\"pet1\",\"escaped\":\"quote \\\" backslash \\\\ control \\n\\t\\r\\b\\f\","
+            + "\"nested\":{\"a\":[1,{\"b\":\"x\\\"y\"},null,true],\"c\":{\"d\":-1.5e3}},\"arrays\":[[],{},[\"\\\\\"]],"
+            + "\"number\":-12.50,\"flag\":false,\"nothing\":null}";
+
+        // untouched additional properties are written back as they were read
+        Assertions.assertEquals(json, roundTrip(lazyClasses, model.getFullName(), json));
+
+        // other escapes may be written back unescaped, as the same JSON values
+        String escapedJson
+            = "{\"name\":\"pet1\",\"escaped\":\"slash \\/ unicode \\u00e9 \\ud83d\\ude00 control \\u0001\","
+                + "\"nested\":{\"\\u0061\":[\"\\/\\u0002\"]}}";
+        String lazyJson = roundTrip(lazyClasses, model.getFullName(), escapedJson);
+        Assertions.assertEquals(readUntyped(escapedJson), readUntyped(lazyJson), lazyJson);
+
+        // read on access, the additional properties are the same as read eagerly
+        JsonSerializable<?> eagerPet = fromJson(eagerClasses, model.getFullName(), json);
+        JsonSerializable<?> lazyPet = fromJson(lazyClasses, model.getFullName(), json);
+        Object additionalProperties = lazyPet.getClass().getMethod("getAdditionalProperties").invoke(lazyPet);
+        Assertions.assertEquals(eagerPet.getClass().getMethod("getAdditionalProperties").invoke(eagerPet),
+            additionalProperties);
+        Assertions.assertEquals(eagerPet.toJsonString(), lazyPet.toJsonString());
+        Assertions.assertEquals("quote \" backslash \\ control \n\t\r\b\f",
+            ((Map<?, ?>) additionalProperties).get("escaped"));
+    }
+
+    @Test
+    public void testJsonMergePatchUpdatedProperties() throws Exception {
+        ClientModel longModel = jsonMergePatchModel("LongModel", 64);
+        ClientModel bitSetModel = jsonMergePatchModel("BitSetModel", 65);
+        Map<String, String> sources = generate(Collections.emptyMap(), longModel, bitSetModel);
+
+        // up to 64 properties are tracked in a long bit mask
+        String longSource = sources.get(longModel.getFullName());
+        Assertions.assertTrue(longSource.contains("private static final long UPDATED_P63 = 1L << 63;"), longSource);
+        Assertions.assertTrue(longSource.contains("private long updatedProperties;"), longSource);
+        Assertions.assertTrue(longSource.contains("this.updatedProperties |= UPDATED_P63;"), longSource);
+        Assertions.assertTrue(longSource.contains("if ((updatedProperties & UPDATED_P63) != 0) {"), longSource);
+        Assertions.assertFalse(longSource.contains("BitSet"), longSource);
+
+        // more properties are tracked in a BitSet
+        String bitSetSource = sources.get(bitSetModel.getFullName());
+        Assertions.assertTrue(bitSetSource.contains("private static final int UPDATED_P64 = 64;"), bitSetSource);
+        Assertions.assertTrue(bitSetSource.contains("private final BitSet updatedProperties = new BitSet(65);"),
+            bitSetSource);
+        Assertions.assertTrue(bitSetSource.contains("this.updatedProperties.set(UPDATED_P64);"), bitSetSource);
+        Assertions.assertTrue(bitSetSource.contains("if (updatedProperties.get(UPDATED_P64)) {"), bitSetSource);
+
+        // only the updated properties are serialized, for the first and the last index
+        ClassLoader classLoader = GeneratedCodeCompiler.compile(sources);
+        Class<?> helper = classLoader.loadClass("com.azure.mock.implementation.JsonMergePatchHelper");
+        for (ClientModel model : Arrays.asList(longModel, bitSetModel)) {
+            int last = model.getProperties().size() - 1;
+            Class<?> clazz = classLoader.loadClass(model.getFullName());
+            Object instance = clazz.getConstructor().newInstance();
+            clazz.getMethod("setP0", String.class).invoke(instance, (Object) null);
+            clazz.getMethod("setP" + last, String.class).invoke(instance, "value");
+
+            // the accessor is set when the model class is initialized
+            Method getAccessor = helper.getMethod("get" + model.getName() + "Accessor");
+            getAccessor.getReturnType()
+                .getMethod("prepareModelForJsonMergePatch", clazz, boolean.class)
+                .invoke(getAccessor.invoke(null), instance, true);
+            Assertions.assertEquals("{\"p0\":null,\"p" + last + "\":\"value\"}",
+                ((JsonSerializable<?>) instance).toJsonString(), model.getName());
+        }
+    }
+
+    static Map<String, String> generate(Map<String, Object> options, ClientModel... models) throws Exception {
+        return new GenerationContext().call(() -> {
+            new MockJavagen(options);
+            Arrays.stream(models).forEach(ClientModels.getInstance()::addModel);
+
+            Map<String, String> sources = new LinkedHashMap<>();
+            for (ClientModel model : models) {
+                JavaFile javaFile = new JavaFileFactory(JavaSettings.getInstance()).createSourceFile(model.getPackage(),
+                    model.getName());
+                StreamSerializationModelTemplate.getInstance().write(model, javaFile);
+                sources.put(model.getFullName(), javaFile.getContents().toString());
+            }
+
+            JavaSettings settings = JavaSettings.getInstance();
+            List<ClientModel> jsonMergePatchModels = Arrays.stream(models)
+                .filter(model -> ClientModelUtil.isJsonMergePatchModel(model, settings))
+                .collect(Collectors.toList());
+            if (!jsonMergePatchModels.isEmpty()) {
+                String helperPackage = settings.getPackage(settings.getImplementationSubpackage());
+                JavaFile javaFile = new JavaFileFactory(settings).createSourceFile(helperPackage,
+                    ClientModelUtil.JSON_MERGE_PATCH_HELPER_CLASS_NAME);
+                JsonMergePatchHelperTemplate.getInstance().write(jsonMergePatchModels, javaFile);
+                sources.put(helperPackage + "." + ClientModelUtil.JSON_MERGE_PATCH_HELPER_CLASS_NAME,
+                    javaFile.getContents().toString());
+            }
+            return sources;
+        });
+    }
+
+    static String roundTrip(ClassLoader classLoader, String className, String json) throws Exception {
+        return fromJson(classLoader, className, json).toJsonString();
+    }
+
+    static JsonSerializable<?> fromJson(ClassLoader classLoader, String className, String json) throws Exception {
+        Class<?> clazz = classLoader.loadClass(className);
+        try (JsonReader jsonReader = JsonProviders.createReader(json)) {
+            return (JsonSerializable<?>) clazz.getMethod("fromJson", JsonReader.class).invoke(null, jsonReader);
+        }
+    }
+
+    static List<JsonSerializable<?>> fromJsonArray(ClassLoader classLoader, String className, String json)
+        throws Exception {
+        Method fromJson = classLoader.loadClass(className).getMethod("fromJson", JsonReader.class);
+        try (JsonReader jsonReader = JsonProviders.createReader(json)) {
+            return jsonReader.readArray(reader -> {
+                try {
+                    return (JsonSerializable<?>) fromJson.invoke(null, reader);
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+    }
+
+    static Object readUntyped(String json) throws IOException {
+        try (JsonReader jsonReader = JsonProviders.createReader(json)) {
+            jsonReader.nextToken();
+            return jsonReader.readUntyped();
+        }
+    }
+
+    static ClientModelProperty property(String name, String serializedName, IType type) {
+        return new ClientModelProperty.Builder().name(name)
+            .serializedName(serializedName)
+            .description("The " + name + ".")
+            .wireType(type)
+            .clientType(type)
+            .build();
+    }
+
+    static ClientModelProperty flattenedProperty(String name, String serializedName, IType type) {
+        return new ClientModelProperty.Builder().name(name)
+            .serializedName(serializedName)
+            .description("The " + name + ".")
+            .wireType(type)
+            .clientType(type)
+            .needsFlatten(true)
+            .build();
+    }
+
+    static ClientModelProperty discriminator(String name, String value) {
+        return new ClientModelProperty.Builder().name(name)
+            .serializedName(name)
+            .description("The " + name + ".")
+            .wireType(ClassType.STRING)
+            .clientType(ClassType.STRING)
+            .polymorphicDiscriminator(true)
+            .readOnly(true)
+            .defaultValue("\"" + value + "\"")
+            .build();
+    }
+
+    static ClientModelProperty additionalProperties() {
+        MapType mapType = new MapType(ClassType.OBJECT);
+        return new ClientModelProperty.Builder().name("additionalProperties")
+            .serializedName("")
+            .description("Additional properties.")
+            .additionalProperties(true)
+            .wireType(mapType)
+            .clientType(mapType)
+            .build();
+    }
+
+    static ClientModel model(String name, List<ClientModelProperty> properties) {
+        return model(name, properties, ImplementationDetails.Usage.INPUT, ImplementationDetails.Usage.OUTPUT);
+    }
+
+    static ClientModel jsonMergePatchModel(String name, int propertyCount) {
+        List<ClientModelProperty> properties = new ArrayList<>();
+        for (int i = 0; i < propertyCount; ++i) {
+            properties.add(property("p" + i, "p" + i, ClassType.STRING));
+        }
+        return model(name, properties, ImplementationDetails.Usage.INPUT, ImplementationDetails.Usage.JSON_MERGE_PATCH);
+    }
+
+    static ClientModel model(String name, List<ClientModelProperty> properties, ImplementationDetails.Usage... usages) {
+        ClassType modelType = new ClassType.Builder().packageName(PACKAGE_NAME).name(name).build();
+        return new ClientModel.Builder().packageName(PACKAGE_NAME)
+            .name(name)
+            .type(modelType)
+            .description("The " + name + " model.")
+            .imports(new ArrayList<>())
+            .properties(properties)
+            .propertyReferences(Collections.emptyList())
+            .serializedName(name)
+            .needsFlatten(properties.stream().anyMatch(ClientModelProperty::getNeedsFlatten))
+            .implementationDetails(
+                new ImplementationDetails.Builder().usages(new HashSet<>(Arrays.asList(usages))).build())
+            .build();
+    }
+
+    static ClientModel polymorphicModel(String name, String serializedName, String parentModelName,
+        List<ClientModel> derivedModels, ClientModelProperty discriminator, ClientModelProperty... properties) {
+        List<ClientModelProperty> modelProperties = new ArrayList<>();
+        modelProperties.add(discriminator);
+        modelProperties.addAll(Arrays.asList(properties));
+        return new ClientModel.Builder().packageName(PACKAGE_NAME)
+            .name(name)
+            .type(new ClassType.Builder().packageName(PACKAGE_NAME).name(name).build())
+            .description("The " + name + " model.")
+            .imports(new ArrayList<>())
+            .properties(modelProperties)
+            .propertyReferences(Collections.emptyList())
+            .polymorphic(true)
+            .polymorphicDiscriminator(discriminator)
+            .polymorphicDiscriminatorName(discriminator.getSerializedName())
+            .serializedName(serializedName)
+            .parentModelName(parentModelName)
+            .derivedModels(derivedModels)
+            .build();
+    }
+
+    private static final class MockJavagen extends MockUnitJavagen {
+        private final Map<String, Object> options;
+
+        private MockJavagen(Map<String, Object> options) {
+            this.options = options;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> T getValue(String key, ReadValueCallback<String, T> converter) {
+            // the plugin constructor reads values before the options are set
+            return options != null && options.containsKey(key) ? (T) options.get(key) : super.getValue(key, converter);
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package authentication.apikey;
+
+import authentication.apikey.implementation.ApiKeyClientImpl;
+import io.clientcore.core.annotations.Metadata;
+import io.clientcore.core.annotations.MetadataProperties;
+import io.clientcore.core.annotations.ServiceClientBuilder;
+import io.clientcore.core.credentials.KeyCredential;
+import io.clientcore.core.http.client.HttpClient;
+import io.clientcore.core.http.models.ProxyOptions;
+import io.clientcore.core.http.pipeline.HttpInstrumentationOptions;
+import io.clientcore.core.http.pipeline.HttpInstrumentationPolicy;
+import io.clientcore.core.http.pipeline.HttpPipeline;
+import io.clientcore.core.http.pipeline.HttpPipelineBuilder;
+import io.clientcore.core.http.pipeline.HttpPipelinePolicy;
+import io.clientcore.core.http.pipeline.HttpRedirectOptions;
+import io.clientcore.core.http.pipeline.HttpRedirectPolicy;
+import io.clientcore.core.http.pipeline.HttpRetryOptions;
+import io.clientcore.core.http.pipeline.HttpRetryPolicy;
+import io.clientcore.core.http.pipeline.KeyCredentialPolicy;
+import io.clientcore.core.traits.ConfigurationTrait;
+import io.clientcore.core.traits.EndpointTrait;
+import io.clientcore.core.traits.HttpTrait;
+import io.clientcore.core.traits.KeyCredentialTrait;
+import io.clientcore.core.traits.ProxyTrait;
+import io.clientcore.core.utils.configuration.Configuration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A builder for creating a new instance of the ApiKeyClient type.
+ */
+@ServiceClientBuilder(serviceClients = { ApiKeyClient.class })
+public final class ApiKeyClientBuilder
+    implements HttpTrait<ApiKeyClientBuilder>, ProxyTrait<ApiKeyClientBuilder>, ConfigurationTrait<ApiKeyClientBuilder>,
+    KeyCredentialTrait<ApiKeyClientBuilder>, EndpointTrait<ApiKeyClientBuilder> {
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private static final String SDK_NAME = "name";
+
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private static final String SDK_VERSION = "version";
+
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private final List<HttpPipelinePolicy> pipelinePolicies;
+
+    /**
+     * Create an instance of the ApiKeyClientBuilder.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    public ApiKeyClientBuilder() {
+        this.pipelinePolicies = new ArrayList<>();
+    }
+
+    /*
+     * The HTTP client used to send the request.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpClient httpClient;
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    @Override
+    public ApiKeyClientBuilder httpClient(HttpClient httpClient) {
+        this.httpClient = httpClient;
+        return this;
+    }
+
+    /*
+     * The retry options to configure retry policy for failed requests.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpRetryOptions retryOptions;
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    @Override
+    public ApiKeyClientBuilder httpRetryOptions(HttpRetryOptions retryOptions) {
+        this.retryOptions = retryOptions;
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    @Override
+    public ApiKeyClientBuilder addHttpPipelinePolicy(HttpPipelinePolicy customPolicy) {
+        Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
+        pipelinePolicies.add(customPolicy);
+        return this;
+    }
+
+    /*
+     * The redirect options to configure redirect policy
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpRedirectOptions redirectOptions;
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    @Override
+    public ApiKeyClientBuilder httpRedirectOptions(HttpRedirectOptions redirectOptions) {
+        this.redirectOptions = redirectOptions;
+        return this;
+    }
+
+    /*
+     * The instrumentation configuration for HTTP requests and responses.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpInstrumentationOptions httpInstrumentationOptions;
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    @Override
+    public ApiKeyClientBuilder httpInstrumentationOptions(HttpInstrumentationOptions httpInstrumentationOptions) {
+        this.httpInstrumentationOptions = httpInstrumentationOptions;
+        return this;
+    }
+
+    /*
+     * The proxy options used during construction of the service client.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private ProxyOptions proxyOptions;
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    @Override
+    public ApiKeyClientBuilder proxyOptions(ProxyOptions proxyOptions) {
+        this.proxyOptions = proxyOptions;
+        return this;
+    }
+
+    /*
+     * The configuration store that is used during construction of the service client.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private Configuration configuration;
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    @Override
+    public ApiKeyClientBuilder configuration(Configuration configuration) {
+        this.configuration = configuration;
+        return this;
+    }
+
+    /*
+     * The KeyCredential used for authentication.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private KeyCredential keyCredential;
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    @Override
+    public ApiKeyClientBuilder credential(KeyCredential keyCredential) {
+        this.keyCredential = keyCredential;
+        return this;
+    }
+
+    /*
+     * The service endpoint
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private String endpoint;
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    @Override
+    public ApiKeyClientBuilder endpoint(String endpoint) {
+        this.endpoint = endpoint;
+        return this;
+    }
+
+    /**
+     * Builds an instance of ApiKeyClientImpl with the provided parameters.
+     * 
+     * @return an instance of ApiKeyClientImpl.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private ApiKeyClientImpl buildInnerClient() {
+        this.validateClient();
+        String localEndpoint = (endpoint != null) ? endpoint : "http://localhost:3000";
+        ApiKeyClientImpl client = new ApiKeyClientImpl(createHttpPipeline(), localEndpoint);
+        return client;
+    }
+
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private void validateClient() {
+        // This method is invoked from 'buildInnerClient'/'buildClient' method.
+        // Developer can customize this method, to validate that the necessary conditions are met for the new client.
+    }
+
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline createHttpPipeline() {
+        Configuration buildConfiguration
+            = (configuration == null) ? Configuration.getGlobalConfiguration() : configuration;
+        HttpInstrumentationOptions localHttpInstrumentationOptions = this.httpInstrumentationOptions == null
+            ? new HttpInstrumentationOptions()
+            : this.httpInstrumentationOptions;
+        HttpPipelineBuilder httpPipelineBuilder = new HttpPipelineBuilder();
+        List<HttpPipelinePolicy> policies = new ArrayList<>();
+        policies.add(redirectOptions == null ? new HttpRedirectPolicy() : new HttpRedirectPolicy(redirectOptions));
+        policies.add(retryOptions == null ? new HttpRetryPolicy() : new HttpRetryPolicy(retryOptions));
+        this.pipelinePolicies.stream().forEach(p -> policies.add(p));
+        if (keyCredential != null) {
+            policies.add(new KeyCredentialPolicy("x-ms-api-key", keyCredential, null));
+        }
+        policies.add(new HttpInstrumentationPolicy(localHttpInstrumentationOptions));
+        policies.forEach(httpPipelineBuilder::addPolicy);
+        return httpPipelineBuilder.httpClient(httpClient).build();
+    }
+
+    /**
+     * Builds an instance of ApiKeyClient class.
+     * 
+     * @return an instance of ApiKeyClient.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    public ApiKeyClient buildClient() {
+        return new ApiKeyClient(buildInnerClient());
+    }
+}
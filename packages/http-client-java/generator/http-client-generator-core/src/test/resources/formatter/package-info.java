@@ -0,0 +1,11 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+// Code generated by Microsoft (R) TypeSpec Code Generator.
+
+/**
+ * <!-- start generated doc -->
+ * Package containing the data models for NestedDiscriminator.
+ * Illustrates multiple level inheritance with multiple discriminators.
+ * <!-- end generated doc -->
+ */
+package type.model.inheritance.nesteddiscriminator.models;
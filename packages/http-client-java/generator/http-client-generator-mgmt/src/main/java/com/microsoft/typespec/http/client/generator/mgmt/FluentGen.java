@@ -7,6 +7,7 @@ import com.azure.core.util.CoreUtils;
 import com.microsoft.typespec.http.client.generator.core.Javagen;
 import com.microsoft.typespec.http.client.generator.core.extension.jsonrpc.Connection;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.GenerationContext;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.PluginLogger;
 import com.microsoft.typespec.http.client.generator.core.mapper.Mappers;
@@ -66,7 +67,7 @@ import org.yaml.snakeyaml.representer.Representer;
 public class FluentGen extends Javagen {
 
     private final Logger logger = new PluginLogger(this, FluentGen.class);
-    static FluentGen instance;
+    private static final GenerationContext.Local<FluentGen> INSTANCE = new GenerationContext.Local<>();
 
     private FluentJavaSettings fluentJavaSettings;
     private FluentMapper fluentMapper;
@@ -75,13 +76,12 @@ public class FluentGen extends Javagen {
 
     public FluentGen(Connection connection, String plugin, String sessionId) {
         super(connection, plugin, sessionId);
-        instance = this;
-        Javagen.instance = this;
+        INSTANCE.set(this);
         ClientModelUtil.setGetClientModelFunction(FluentUtils::getClientModel);
     }
 
     public static FluentGen getPluginInstance() {
-        return instance;
+        return INSTANCE.get();
     }
 
     @Override
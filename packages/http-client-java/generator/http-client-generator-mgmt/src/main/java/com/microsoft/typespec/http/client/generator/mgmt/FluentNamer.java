@@ -6,6 +6,7 @@ package com.microsoft.typespec.http.client.generator.mgmt;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.FileUtils;
 import com.microsoft.typespec.http.client.generator.core.extension.jsonrpc.Connection;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.GenerationContext;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.NewPlugin;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.PluginLogger;
@@ -35,16 +36,16 @@ import org.yaml.snakeyaml.representer.Representer;
 public class FluentNamer extends Preprocessor {
 
     private final Logger logger;
-    private static FluentNamer instance;
+    private static final GenerationContext.Local<FluentNamer> INSTANCE = new GenerationContext.Local<>();
 
     public FluentNamer(NewPlugin plugin, Connection connection, String pluginName, String sessionId) {
         super(plugin, connection, pluginName, sessionId);
         this.logger = new PluginLogger(this, FluentNamer.class);
-        FluentNamer.instance = this;
+        INSTANCE.set(this);
     }
 
     public static FluentNamer getPluginInstance() {
-        return instance;
+        return INSTANCE.get();
     }
 
     public CodeModel processCodeModel() {
@@ -85,9 +86,11 @@ public class FluentNamer extends Preprocessor {
                 files.size(), String.join(", ", files)));
         }
         // Read input file
-        String file = readFile(files.get(0));
+        String fileName = files.get(0);
+        String file = readFile(fileName);
         // Write the input code model file to a local code model file to help debugging
-        Files.writeString(codeModelFolder.resolve("code-model.yaml"), file);
+        Files.writeString(codeModelFolder.resolve(fileName.endsWith(".json") ? "code-model.json" : "code-model.yaml"),
+            file);
         // Deserialize the input code model string to CodeModel object
         return loadCodeModel(file);
     }
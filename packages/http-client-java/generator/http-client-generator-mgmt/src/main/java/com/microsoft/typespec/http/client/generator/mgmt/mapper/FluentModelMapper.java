@@ -3,17 +3,18 @@
 
 package com.microsoft.typespec.http.client.generator.mgmt.mapper;
 
+import com.microsoft.typespec.http.client.generator.core.mapper.Mappers;
 import com.microsoft.typespec.http.client.generator.core.mapper.ModelMapper;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
 import com.microsoft.typespec.http.client.generator.mgmt.model.FluentType;
-import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 public class FluentModelMapper extends ModelMapper {
 
     private static final FluentModelMapper INSTANCE = new FluentModelMapper();
 
-    private final Set<String> removedModels = new HashSet<>();
+    private final Map<String, Boolean> removedModels = Mappers.newCache();
 
     public static FluentModelMapper getInstance() {
         return INSTANCE;
@@ -24,10 +25,10 @@ public class FluentModelMapper extends ModelMapper {
         return !FluentType.nonResourceType(modelType)
             || !FluentType.nonManagementError(modelType)
             || !FluentType.nonSystemData(modelType)
-            || removedModels.contains(modelType.getName());
+            || removedModels.containsKey(modelType.getName());
     }
 
     public void addRemovedModels(Set<String> models) {
-        removedModels.addAll(models);
+        models.forEach(model -> removedModels.put(model, Boolean.TRUE));
     }
 }
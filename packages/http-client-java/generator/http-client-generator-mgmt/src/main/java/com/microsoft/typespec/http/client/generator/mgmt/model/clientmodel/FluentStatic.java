@@ -3,6 +3,7 @@
 
 package com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel;
 
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.GenerationContext;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Client;
 import com.microsoft.typespec.http.client.generator.mgmt.util.FluentJavaSettings;
 
@@ -13,11 +14,12 @@ import com.microsoft.typespec.http.client.generator.mgmt.util.FluentJavaSettings
  */
 public class FluentStatic {
 
-    private static Client client;
+    private static final GenerationContext.Local<Client> CLIENT = new GenerationContext.Local<>();
 
-    private static FluentClient fluentClient;
+    private static final GenerationContext.Local<FluentClient> FLUENT_CLIENT = new GenerationContext.Local<>();
 
-    private static FluentJavaSettings fluentJavaSettings;
+    private static final GenerationContext.Local<FluentJavaSettings> FLUENT_JAVA_SETTINGS
+        = new GenerationContext.Local<>();
 
     private FluentStatic() {
     }
@@ -26,32 +28,32 @@ public class FluentStatic {
      * @return the client on service client and method groups.
      */
     public static Client getClient() {
-        return client;
+        return CLIENT.get();
     }
 
     public static void setClient(Client client) {
-        FluentStatic.client = client;
+        CLIENT.set(client);
     }
 
     /**
      * @return the client on Fluent manager, resource collections and instances (models)
      */
     public static FluentManager getFluentManager() {
-        return fluentClient.getManager();
+        return FLUENT_CLIENT.get().getManager();
     }
 
     public static void setFluentClient(FluentClient fluentClient) {
-        FluentStatic.fluentClient = fluentClient;
+        FLUENT_CLIENT.set(fluentClient);
     }
 
     /**
      * @return settings for Fluent.
      */
     public static FluentJavaSettings getFluentJavaSettings() {
-        return fluentJavaSettings;
+        return FLUENT_JAVA_SETTINGS.get();
     }
 
     public static void setFluentJavaSettings(FluentJavaSettings fluentJavaSettings) {
-        FluentStatic.fluentJavaSettings = fluentJavaSettings;
+        FLUENT_JAVA_SETTINGS.set(fluentJavaSettings);
     }
 }
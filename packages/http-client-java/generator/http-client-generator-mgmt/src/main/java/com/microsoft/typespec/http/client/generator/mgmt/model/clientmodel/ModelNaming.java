@@ -29,6 +29,8 @@ public class ModelNaming {
 
     public static final String METHOD_PARAMETER_NAME_ID = "id";
 
+    public static final String LOCAL_VARIABLE_VALUES_FROM_ID = "valuesFromId";
+
     public static final String CLASS_RESOURCE_MANAGER_UTILS = "ResourceManagerUtils";
 
     private ModelNaming() {
@@ -107,19 +107,18 @@ public class CollectionMethodOperationByIdTemplate implements ImmutableMethod {
                 dummyClientMethodForJavadoc.getProxyMethod(), true))
             .methodSignature(this.getMethodSignature(returnType, parameters))
             .method(block -> {
-                // init path parameters from resource id
-                pathParameters.forEach(p -> {
+                // init path parameters from resource id, all values in a single pass
+                if (!pathParameters.isEmpty()) {
+                    block.line(String.format("String[] %1$s = %2$s;", ModelNaming.LOCAL_VARIABLE_VALUES_FROM_ID,
+                        FluentUtils.getValuesFromIdExpression(ModelNaming.METHOD_PARAMETER_NAME_ID, urlPathSegments,
+                            pathParameters.stream()
+                                .map(MethodParameter::getSerializedName)
+                                .collect(Collectors.toList()))));
+                }
+                for (int i = 0; i < pathParameters.size(); ++i) {
+                    MethodParameter p = pathParameters.get(i);
                     String urlSegmentName = urlSegmentNameByParameterName.get(p.getSerializedName());
-                    String valueFromIdText;
-                    if (urlPathSegments.hasScope()) {
-                        valueFromIdText = String.format("%1$s.getValueFromIdByParameterName(%2$s, \"%3$s\", \"%4$s\")",
-                            ModelNaming.CLASS_RESOURCE_MANAGER_UTILS, ModelNaming.METHOD_PARAMETER_NAME_ID,
-                            urlPathSegments.getPath(), p.getSerializedName());
-                    } else {
-                        valueFromIdText = String.format("%1$s.getValueFromIdByName(%2$s, \"%3$s\")",
-                            ModelNaming.CLASS_RESOURCE_MANAGER_UTILS, ModelNaming.METHOD_PARAMETER_NAME_ID,
-                            urlSegmentName);
-                    }
+                    String valueFromIdText = String.format("%1$s[%2$d]", ModelNaming.LOCAL_VARIABLE_VALUES_FROM_ID, i);
                     LocalVariable var = localVariables.getLocalVariableByMethodParameter(p.getClientMethodParameter());
                     // need additional conversion from String to LocalVariable.variableType
                     boolean needsLocalVar = var.getVariableType() != ClassType.STRING;
@@ -141,7 +140,7 @@ public class CollectionMethodOperationByIdTemplate implements ImmutableMethod {
                         block.line(String.format("%1$s %2$s = %3$s.fromString(%4$s);", var.getVariableType().toString(),
                             var.getName(), var.getVariableType().toString(), varName));
                     }
-                });
+                }
 
                 if (!includeContextParameter) {
                     // init local variables to default value
@@ -13,9 +13,8 @@ import com.microsoft.typespec.http.client.generator.mgmt.model.arm.UrlPathSegmen
 import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.FluentResourceModel;
 import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.ModelNaming;
 import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.fluentmodel.ResourceLocalVariables;
-import java.util.Collections;
+import com.microsoft.typespec.http.client.generator.mgmt.util.FluentUtils;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -43,26 +42,18 @@ public class FluentConstructorByInner extends FluentMethod {
                 block.line(String.format("this.%1$s = %2$s;", ModelNaming.MODEL_PROPERTY_MANAGER,
                     ModelNaming.MODEL_PROPERTY_MANAGER));
 
-                List<UrlPathSegments.ParameterSegment> segments = urlPathSegments.getReverseParameterSegments();
-                Collections.reverse(segments);
-                Map<String, String> urlSegmentNameByParameterName = urlPathSegments.getReverseParameterSegments()
-                    .stream()
-                    .collect(Collectors.toMap(UrlPathSegments.ParameterSegment::getParameterName,
-                        UrlPathSegments.ParameterSegment::getSegmentName));
-
-                // init from resource id
-                pathParameters.forEach(p -> {
-                    String valueFromIdText;
-                    if (urlPathSegments.hasScope()) {
-                        valueFromIdText
-                            = String.format("%1$s.getValueFromIdByParameterName(%2$s.id(), \"%3$s\", \"%4$s\")",
-                                ModelNaming.CLASS_RESOURCE_MANAGER_UTILS, ModelNaming.MODEL_PROPERTY_INNER,
-                                urlPathSegments.getPath(), p.getSerializedName());
-                    } else {
-                        valueFromIdText = String.format("%1$s.getValueFromIdByName(%2$s.id(), \"%3$s\")",
-                            ModelNaming.CLASS_RESOURCE_MANAGER_UTILS, ModelNaming.MODEL_PROPERTY_INNER,
-                            urlSegmentNameByParameterName.get(p.getSerializedName()));
-                    }
+                // init from resource id, all values in a single pass
+                if (!pathParameters.isEmpty()) {
+                    block.line(String.format("String[] %1$s = %2$s;", ModelNaming.LOCAL_VARIABLE_VALUES_FROM_ID,
+                        FluentUtils.getValuesFromIdExpression(
+                            String.format("%1$s.id()", ModelNaming.MODEL_PROPERTY_INNER), urlPathSegments,
+                            pathParameters.stream()
+                                .map(MethodParameter::getSerializedName)
+                                .collect(Collectors.toList()))));
+                }
+                for (int i = 0; i < pathParameters.size(); ++i) {
+                    MethodParameter p = pathParameters.get(i);
+                    String valueFromIdText = String.format("%1$s[%2$d]", ModelNaming.LOCAL_VARIABLE_VALUES_FROM_ID, i);
                     if (p.getClientMethodParameter().getClientType() != ClassType.STRING) {
                         valueFromIdText = String.format("%1$s.fromString(%2$s)",
                             p.getClientMethodParameter().getClientType().toString(), valueFromIdText);
@@ -71,7 +62,7 @@ public class FluentConstructorByInner extends FluentMethod {
                         resourceLocalVariables.getLocalVariableByMethodParameter(p.getClientMethodParameter())
                             .getName(),
                         valueFromIdText));
-                });
+                }
             })
             .build();
     }
@@ -3,29 +3,31 @@
 
 package com.microsoft.typespec.http.client.generator.mgmt.template;
 
-import com.azure.core.http.rest.PagedFlux;
 import com.azure.core.http.rest.PagedIterable;
 import com.azure.core.http.rest.PagedResponse;
 import com.azure.core.http.rest.PagedResponseBase;
-import com.azure.core.util.CoreUtils;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaModifier;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
 import com.microsoft.typespec.http.client.generator.core.template.IJavaTemplate;
 import com.microsoft.typespec.http.client.generator.core.template.prototype.MethodTemplate;
+import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.FluentStatic;
 import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.ModelNaming;
 import com.microsoft.typespec.http.client.generator.mgmt.util.FluentUtils;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import reactor.core.publisher.Flux;
 
 public class ResourceManagerUtilsTemplate implements IJavaTemplate<Void, JavaFile> {
 
@@ -38,32 +40,53 @@ public class ResourceManagerUtilsTemplate implements IJavaTemplate<Void, JavaFil
     private static final List<MethodTemplate> METHOD_TEMPLATES = new ArrayList<>();
     static {
         MethodTemplate getValueFromIdByNameMethod = MethodTemplate.builder()
-            .imports(Arrays.asList(Arrays.class.getName(), Iterator.class.getName()))
             .visibility(JavaVisibility.PackagePrivate)
             .modifiers(Collections.singletonList(JavaModifier.Static))
             .methodSignature("String getValueFromIdByName(String id, String name)")
-            .method(
-                block -> block.line(FluentUtils.loadTextFromResource("ResourceManagerUtils_getValueFromIdByName.txt")))
+            .method(block -> block.methodReturn("getValuesFromIdByName(id, name)[0]"))
             .build();
         METHOD_TEMPLATES.add(getValueFromIdByNameMethod);
 
         MethodTemplate getValueFromIdByParameterNameMethod = MethodTemplate.builder()
-            .imports(Arrays.asList(Arrays.class.getName(), Iterator.class.getName(), List.class.getName(),
-                ArrayList.class.getName(), CoreUtils.class.getName(), Collections.class.getName()))
             .visibility(JavaVisibility.PackagePrivate)
             .modifiers(Collections.singletonList(JavaModifier.Static))
             .methodSignature(
                 "String getValueFromIdByParameterName(String id, String pathTemplate, String parameterName)")
-            .method(block -> block
-                .line(FluentUtils.loadTextFromResource("ResourceManagerUtils_getValueFromIdByParameterName.txt")))
+            .method(block -> block.methodReturn("getValuesFromIdByParameterName(id, pathTemplate, parameterName)[0]"))
             .build();
         METHOD_TEMPLATES.add(getValueFromIdByParameterNameMethod);
     }
 
+    // the values are parsed in a single pass over the resource ID, without split
+    private static final List<MethodTemplate> PARSE_METHOD_TEMPLATES = new ArrayList<>();
+    static {
+        MethodTemplate parseValuesFromIdByNameMethod = MethodTemplate.builder()
+            .visibility(JavaVisibility.Private)
+            .modifiers(Collections.singletonList(JavaModifier.Static))
+            .methodSignature("String[] parseValuesFromIdByName(String id, String[] names)")
+            .method(block -> block
+                .line(FluentUtils.loadTextFromResource("ResourceManagerUtils_parseValuesFromIdByName.txt")))
+            .build();
+        PARSE_METHOD_TEMPLATES.add(parseValuesFromIdByNameMethod);
+
+        MethodTemplate parseValuesFromIdByParameterNameMethod = MethodTemplate.builder()
+            .visibility(JavaVisibility.Private)
+            .modifiers(Collections.singletonList(JavaModifier.Static))
+            .methodSignature(
+                "String[] parseValuesFromIdByParameterName(String id, String pathTemplate, String[] parameterNames)")
+            .method(block -> block
+                .line(FluentUtils.loadTextFromResource("ResourceManagerUtils_parseValuesFromIdByParameterName.txt")))
+            .build();
+        PARSE_METHOD_TEMPLATES.add(parseValuesFromIdByParameterNameMethod);
+    }
+
+    private static final List<String> IMPORTS_RESOURCE_ID_CACHE = Arrays.asList(Arrays.class.getName(),
+        LinkedHashMap.class.getName(), Map.class.getName(), Objects.class.getName());
+
     private static final List<String> IMPORTS_UTILS_PAGED_ITERABLE
-        = Arrays.asList(PagedFlux.class.getName(), PagedIterable.class.getName(), PagedResponse.class.getName(),
-            PagedResponseBase.class.getName(), Flux.class.getName(), Iterator.class.getName(), Function.class.getName(),
-            Collectors.class.getName(), Stream.class.getName());
+        = Arrays.asList(PagedIterable.class.getName(), PagedResponse.class.getName(), PagedResponseBase.class.getName(),
+            AbstractList.class.getName(), Iterator.class.getName(), List.class.getName(),
+            AtomicReferenceArray.class.getName(), Function.class.getName(), Stream.class.getName());
 
     public void write(JavaFile javaFile) {
         write(null, javaFile);
@@ -71,9 +94,22 @@ public class ResourceManagerUtilsTemplate implements IJavaTemplate<Void, JavaFil
 
     @Override
     public void write(Void ignored, JavaFile javaFile) {
+        boolean resourceIdCache = FluentStatic.getFluentJavaSettings().isResourceIdCache();
+        List<MethodTemplate> methodTemplates = new ArrayList<>(METHOD_TEMPLATES);
+        methodTemplates.add(getValuesFromIdMethod("String[] getValuesFromIdByName(String id, String... names)", "null",
+            "names", "parseValuesFromIdByName(id, names)", resourceIdCache));
+        methodTemplates.add(getValuesFromIdMethod(
+            "String[] getValuesFromIdByParameterName(String id, String pathTemplate, String... parameterNames)",
+            "pathTemplate", "parameterNames", "parseValuesFromIdByParameterName(id, pathTemplate, parameterNames)",
+            resourceIdCache));
+        methodTemplates.addAll(PARSE_METHOD_TEMPLATES);
+
         Set<String> imports = new HashSet<>();
-        METHOD_TEMPLATES.forEach(mt -> mt.addImportsTo(imports));
+        methodTemplates.forEach(mt -> mt.addImportsTo(imports));
         imports.addAll(IMPORTS_UTILS_PAGED_ITERABLE);
+        if (resourceIdCache) {
+            imports.addAll(IMPORTS_RESOURCE_ID_CACHE);
+        }
         javaFile.declareImport(imports);
 
         javaFile.classBlock(JavaVisibility.PackagePrivate, Collections.singletonList(JavaModifier.Final),
@@ -81,7 +117,12 @@ public class ResourceManagerUtilsTemplate implements IJavaTemplate<Void, JavaFil
                 classBlock.constructor(JavaVisibility.Private,
                     String.format("%s()", ModelNaming.CLASS_RESOURCE_MANAGER_UTILS), (constructorBlock) -> {
                     });
-                METHOD_TEMPLATES.forEach(mt -> mt.writeMethod(classBlock));
+                methodTemplates.forEach(mt -> mt.writeMethod(classBlock));
+
+                if (resourceIdCache) {
+                    javaFile.line();
+                    javaFile.text(FluentUtils.loadTextFromResource("ResourceManagerUtils_ResourceIdCache.txt"));
+                }
 
                 // mapPage and PagedIterableImpl class
                 javaFile.line();
@@ -90,4 +131,36 @@ public class ResourceManagerUtilsTemplate implements IJavaTemplate<Void, JavaFil
                 javaFile.text(configurableClassText);
             });
     }
+
+    /**
+     * Creates the method that gets the values of the segments of a resource ID, from the cache of recent resource IDs
+     * if enabled.
+     *
+     * @param methodSignature the signature of the method.
+     * @param pathTemplate the expression of the path template.
+     * @param names the name of the names parameter.
+     * @param parseExpression the expression that parses the values from the resource ID.
+     * @param resourceIdCache whether the values of recent resource IDs are cached.
+     * @return the method.
+     */
+    private static MethodTemplate getValuesFromIdMethod(String methodSignature, String pathTemplate, String names,
+        String parseExpression, boolean resourceIdCache) {
+        return MethodTemplate.builder()
+            .visibility(JavaVisibility.PackagePrivate)
+            .modifiers(Collections.singletonList(JavaModifier.Static))
+            .methodSignature(methodSignature)
+            .method(block -> {
+                if (resourceIdCache) {
+                    block.line("String[] values = ResourceIdCache.get(id, %s, %s);", pathTemplate, names);
+                    block.ifBlock("values == null", ifBlock -> {
+                        ifBlock.line("values = %s;", parseExpression);
+                        ifBlock.line("ResourceIdCache.put(id, %s, %s, values);", pathTemplate, names);
+                    });
+                    block.methodReturn("values");
+                } else {
+                    block.methodReturn(parseExpression);
+                }
+            })
+            .build();
+    }
 }
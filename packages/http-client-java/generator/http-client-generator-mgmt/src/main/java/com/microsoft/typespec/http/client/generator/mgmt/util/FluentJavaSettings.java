@@ -84,6 +84,8 @@ public class FluentJavaSettings {
 
     private boolean sdkIntegration = false;
 
+    private boolean resourceIdCache = false;
+
     private enum SampleGeneration {
         NONE, AGGREGATED
     }
@@ -173,6 +175,10 @@ public class FluentJavaSettings {
         return sdkIntegration;
     }
 
+    public boolean isResourceIdCache() {
+        return resourceIdCache;
+    }
+
     private void loadSettings() {
         loadStringSetting("add-inner", s -> splitStringToSet(s, javaNamesForAddInner));
 
@@ -236,6 +242,8 @@ public class FluentJavaSettings {
 
         loadBooleanSetting("sdk-integration", b -> sdkIntegration = b);
 
+        loadBooleanSetting("resource-id-cache", b -> resourceIdCache = b);
+
         Map<String, String> namingOverride = host.getValueWithJsonReader("pipeline.fluentgen.naming.override",
             jsonReader -> jsonReader.readMap(JsonReader::getString));
 
@@ -31,6 +31,7 @@ import com.microsoft.typespec.http.client.generator.mgmt.FluentGen;
 import com.microsoft.typespec.http.client.generator.mgmt.model.ResourceTypeName;
 import com.microsoft.typespec.http.client.generator.mgmt.model.arm.ErrorClientModel;
 import com.microsoft.typespec.http.client.generator.mgmt.model.arm.ResourceClientModel;
+import com.microsoft.typespec.http.client.generator.mgmt.model.arm.UrlPathSegments;
 import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.FluentCollectionMethod;
 import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.FluentResourceModel;
 import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.FluentStatic;
@@ -42,6 +43,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -235,6 +237,34 @@ public class FluentUtils {
         return TemplateUtil.loadTextFromResource(filename, replacements);
     }
 
+    /**
+     * Gets the expression that reads the values of the path parameters from the resource ID, in a single pass over the
+     * resource ID.
+     *
+     * @param idExpression the expression of the resource ID.
+     * @param urlPathSegments the segments of the URL path of the resource.
+     * @param pathParameterNames the serialized names of the path parameters.
+     * @return the expression of the array of the values, in the order of the path parameters.
+     */
+    public static String getValuesFromIdExpression(String idExpression, UrlPathSegments urlPathSegments,
+        List<String> pathParameterNames) {
+        if (urlPathSegments.hasScope()) {
+            return String.format("%1$s.getValuesFromIdByParameterName(%2$s, \"%3$s\", %4$s)",
+                ModelNaming.CLASS_RESOURCE_MANAGER_UTILS, idExpression, urlPathSegments.getPath(),
+                pathParameterNames.stream().map(name -> "\"" + name + "\"").collect(Collectors.joining(", ")));
+        } else {
+            Map<String, String> urlSegmentNameByParameterName = urlPathSegments.getReverseParameterSegments()
+                .stream()
+                .collect(Collectors.toMap(UrlPathSegments.ParameterSegment::getParameterName,
+                    UrlPathSegments.ParameterSegment::getSegmentName));
+            return String.format("%1$s.getValuesFromIdByName(%2$s, %3$s)", ModelNaming.CLASS_RESOURCE_MANAGER_UTILS,
+                idExpression,
+                pathParameterNames.stream()
+                    .map(name -> "\"" + urlSegmentNameByParameterName.get(name) + "\"")
+                    .collect(Collectors.joining(", ")));
+        }
+    }
+
     /**
      * Get the name of the argument for the method call.
      *
@@ -17,7 +17,6 @@ public class MockJavagen extends Javagen {
 
     public MockJavagen(Connection connection) {
         super(connection, "dummy", "dummy");
-        instance = this;
     }
 
     @SuppressWarnings("unchecked")
@@ -44,7 +44,6 @@ public class TestUtils {
 
         public MockFluentGen() {
             super(new MockConnection(), "dummy", "dummy");
-            instance = this;
 
             JavaSettingsAccessor.setHost(this);
 
@@ -0,0 +1,117 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.mgmt.transformer;
+
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ArraySchema;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ChoiceSchema;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Language;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Languages;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Metadata;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ObjectSchema;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Operation;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.OperationGroup;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Property;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Response;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Schema;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Schemas;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.GenerationContext;
+import com.microsoft.typespec.http.client.generator.mgmt.FluentNamer;
+import com.microsoft.typespec.http.client.generator.mgmt.TestUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SchemaCleanupTests {
+
+    @Test
+    public void testRemoveUnreachableSchemas() {
+        ObjectSchema response = objectSchema("Response");
+        ObjectSchema usedModel = objectSchema("UsedModel");
+        ObjectSchema usedElementModel = objectSchema("UsedElementModel");
+        ChoiceSchema usedChoice = named(new ChoiceSchema(), "UsedChoice");
+        addProperty(response, usedModel);
+        ArraySchema arraySchema = new ArraySchema();
+        arraySchema.setElementType(usedElementModel);
+        addProperty(usedModel, arraySchema);
+        addProperty(usedElementModel, usedChoice);
+
+        // a chain of unused models longer than the passes of repeated cleanup, and a cycle of unused models
+        ObjectSchema unusedModel1 = objectSchema("UnusedModel1");
+        ObjectSchema unusedModel2 = objectSchema("UnusedModel2");
+        ObjectSchema unusedModel3 = objectSchema("UnusedModel3");
+        ObjectSchema unusedModel4 = objectSchema("UnusedModel4");
+        ObjectSchema unusedModel5 = objectSchema("UnusedModel5");
+        ObjectSchema unusedModel6 = objectSchema("UnusedModel6");
+        ChoiceSchema unusedChoice = named(new ChoiceSchema(), "UnusedChoice");
+        addProperty(unusedModel1, unusedModel2);
+        addProperty(unusedModel2, unusedModel3);
+        addProperty(unusedModel3, unusedModel4);
+        addProperty(unusedModel4, unusedModel5);
+        addProperty(unusedModel5, unusedModel6);
+        addProperty(unusedModel6, unusedChoice);
+        ObjectSchema cycleModel1 = objectSchema("CycleModel1");
+        ObjectSchema cycleModel2 = objectSchema("CycleModel2");
+        addProperty(cycleModel1, cycleModel2);
+        addProperty(cycleModel2, cycleModel1);
+
+        ObjectSchema preservedModel = objectSchema("PreservedModel");
+
+        Schemas schemas = new Schemas();
+        schemas
+            .setObjects(new ArrayList<>(Arrays.asList(response, usedModel, usedElementModel, unusedModel1, unusedModel2,
+                unusedModel3, unusedModel4, unusedModel5, unusedModel6, cycleModel1, cycleModel2, preservedModel)));
+        schemas.setChoices(new ArrayList<>(Arrays.asList(usedChoice, unusedChoice)));
+
+        Response operationResponse = new Response();
+        operationResponse.setSchema(response);
+        Operation operation = new Operation();
+        operation.setRequests(Collections.emptyList());
+        operation.setResponses(Collections.singletonList(operationResponse));
+        OperationGroup operationGroup = new OperationGroup();
+        operationGroup.setOperations(Collections.singletonList(operation));
+
+        CodeModel codeModel = new CodeModel();
+        codeModel.setSchemas(schemas);
+        codeModel.setOperationGroups(Collections.singletonList(operationGroup));
+
+        // SchemaCleanup logs to the FluentNamer plugin
+        new GenerationContext().run(() -> {
+            new FluentNamer(new TestUtils.MockFluentGen(), new TestUtils.MockConnection(), "dummy", "dummy");
+            new SchemaCleanup(Collections.singleton("PreservedModel")).process(codeModel);
+        });
+
+        Assertions.assertEquals(Arrays.asList("Response", "UsedModel", "UsedElementModel", "PreservedModel"),
+            javaNames(codeModel.getSchemas().getObjects()));
+        Assertions.assertEquals(Collections.singletonList("UsedChoice"),
+            javaNames(codeModel.getSchemas().getChoices()));
+    }
+
+    private static ObjectSchema objectSchema(String name) {
+        return named(new ObjectSchema(), name);
+    }
+
+    private static <T extends Metadata> T named(T schema, String name) {
+        Language java = new Language();
+        java.setName(name);
+        Languages languages = new Languages();
+        languages.setJava(java);
+        schema.setLanguage(languages);
+        return schema;
+    }
+
+    private static void addProperty(ObjectSchema objectSchema, Schema propertySchema) {
+        Property property = new Property();
+        property.setSchema(propertySchema);
+        objectSchema.getProperties().add(property);
+    }
+
+    private static List<String> javaNames(List<? extends Metadata> schemas) {
+        return schemas.stream().map(s -> s.getLanguage().getJava().getName()).collect(Collectors.toList());
+    }
+}
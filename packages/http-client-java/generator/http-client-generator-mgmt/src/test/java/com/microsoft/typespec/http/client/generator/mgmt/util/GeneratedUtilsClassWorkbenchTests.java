@@ -9,6 +9,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -69,6 +70,95 @@ public class GeneratedUtilsClassWorkbenchTests {
         }
     }
 
+    // ResourceManagerUtils_parseValuesFromId*.txt, single pass over the resource ID, without split
+    static final class SinglePassUtils {
+        static String[] parseValuesFromIdByName(String id, String[] names) {
+            String[] values = new String[names.length];
+            if (id == null) {
+                return values;
+            }
+            // trailing empty segments are ignored, so the last segment has no value
+            int length = id.length();
+            while (length > 0 && id.charAt(length - 1) == '/') {
+                --length;
+            }
+            int unresolvedCount = names.length;
+            int start = 0;
+            while (start < length && unresolvedCount > 0) {
+                int end = id.indexOf('/', start);
+                if (end < 0) {
+                    end = length;
+                }
+                for (int i = 0; i < names.length; ++i) {
+                    String name = names[i];
+                    if (values[i] == null
+                        && name.length() == end - start
+                        && id.regionMatches(true, start, name, 0, end - start)
+                        && !name.trim().isEmpty()) {
+                        // the value is the next segment
+                        if (end < length) {
+                            int valueEnd = id.indexOf('/', end + 1);
+                            values[i] = id.substring(end + 1, valueEnd < 0 ? length : valueEnd);
+                        }
+                        --unresolvedCount;
+                    }
+                }
+                start = end + 1;
+            }
+            return values;
+        }
+
+        static String[] parseValuesFromIdByParameterName(String id, String pathTemplate, String[] parameterNames) {
+            String[] values = new String[parameterNames.length];
+            if (id == null || pathTemplate == null) {
+                return values;
+            }
+            // segments are matched from the end of the id and the end of the path template, trailing empty segments are
+            // ignored
+            int idEnd = id.length();
+            while (idEnd > 0 && id.charAt(idEnd - 1) == '/') {
+                --idEnd;
+            }
+            int pathEnd = pathTemplate.length();
+            while (pathEnd > 0 && pathTemplate.charAt(pathEnd - 1) == '/') {
+                --pathEnd;
+            }
+            boolean hasIdSegment = idEnd > 0 || id.isEmpty();
+            boolean hasPathSegment = pathEnd > 0 || pathTemplate.isEmpty();
+            int unresolvedCount = parameterNames.length;
+            while (hasIdSegment && hasPathSegment && unresolvedCount > 0) {
+                int idStart = id.lastIndexOf('/', idEnd - 1) + 1;
+                int pathStart = pathTemplate.lastIndexOf('/', pathEnd - 1) + 1;
+                if (idStart < idEnd
+                    && pathEnd - pathStart >= 2
+                    && pathTemplate.charAt(pathStart) == '{'
+                    && pathTemplate.charAt(pathEnd - 1) == '}') {
+                    for (int i = 0; i < parameterNames.length; ++i) {
+                        String parameterName = parameterNames[i];
+                        if (values[i] == null
+                            && parameterName.length() == pathEnd - pathStart - 2
+                            && pathTemplate.regionMatches(true, pathStart + 1, parameterName, 0,
+                                parameterName.length())) {
+                            if (pathStart <= 1) {
+                                // the parameter at the start of the path template is the scope, which is the rest of
+                                // the id
+                                values[i] = id.substring(id.startsWith("/") ? 1 : 0, idEnd);
+                            } else {
+                                values[i] = id.substring(idStart, idEnd);
+                            }
+                            --unresolvedCount;
+                        }
+                    }
+                }
+                hasIdSegment = idStart > 0;
+                hasPathSegment = pathStart > 0;
+                idEnd = idStart - 1;
+                pathEnd = pathStart - 1;
+            }
+            return values;
+        }
+    }
+
     @Test
     public void testGetValueFromIdByName() {
         String id
@@ -106,4 +196,99 @@ public class GeneratedUtilsClassWorkbenchTests {
             "subscriptions/00000000-0000-0000-0000-000000000000/resourceGroups/rg-weidxu/providers/Microsoft.Compute/virtualMachines/vm1",
             Utils.getValueFromIdByParameterName(id, pathTemplate, "resourceUri"));
     }
+
+    @Test
+    public void testSinglePassGetValuesFromIdByName() {
+        List<String> ids = Arrays.asList(null, "", "/", "//",
+            "/subscriptions/sub1/resourceGroups/rg1/providers/Microsoft.ServiceBus/namespaces/ns1/queues/queue1",
+            // trailing slash
+            "/subscriptions/sub1/resourceGroups/rg1/", "/subscriptions/sub1/resourceGroups/",
+            // empty segments
+            "/subscriptions//resourceGroups/rg1", "subscriptions/sub1//resourceGroups//rg1//",
+            // odd segment counts, the last name has no value
+            "/subscriptions/sub1/resourceGroups", "subscriptions", "/subscriptions/sub1/resourceGroups/rg1/queues",
+            // case-insensitive keys, the first match wins
+            "/SUBSCRIPTIONS/sub1/ResourceGroups/rg1/resourcegroups/rg2",
+            // blank segments
+            "/ /sub1/subscriptions/ /resourceGroups/rg1");
+        List<String> names
+            = Arrays.asList("subscriptions", "resourceGroups", "ResourceGroups", "queues", "sub1", " ", "", "notExist");
+
+        for (String id : ids) {
+            String[] values = SinglePassUtils.parseValuesFromIdByName(id, names.toArray(new String[0]));
+            for (int i = 0; i < names.size(); ++i) {
+                Assertions.assertEquals(Utils.getValueFromIdByName(id, names.get(i)), values[i],
+                    "id: " + id + ", name: " + names.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testSinglePassGetValuesFromIdByParameterName() {
+        List<String> pathTemplates
+            = Arrays.asList(null, "/{scope}/providers/Microsoft.Authorization/roleAssignments/{roleAssignmentName}",
+                "{scope}/providers/Microsoft.Authorization/roleAssignments/{roleAssignmentName}/",
+                "/subscriptions/{subscriptionId}/resourceGroups/{resourceGroupName}/queues/{queueName}",
+                "/subscriptions/{SubscriptionId}//resourceGroups/{resourceGroupName}", "/{scope}", "", "/", "{}");
+        List<String> ids = Arrays.asList(null, "", "/", "//",
+            "/subscriptions/sub1/resourceGroups/rg1/providers/Microsoft.Authorization/roleAssignments/ra1",
+            // trailing slash
+            "/subscriptions/sub1/resourceGroups/rg1/queues/queue1/",
+            "/subscriptions/sub1/providers/Microsoft.Authorization/roleAssignments/ra1//",
+            // empty segments
+            "/subscriptions/sub1//resourceGroups/rg1", "//subscriptions/sub1/resourceGroups//rg1/queues/queue1",
+            // odd segment counts
+            "/subscriptions/sub1/resourceGroups/rg1/queues", "subscriptions/sub1/resourceGroups/rg1/queues/queue1",
+            "/providers/Microsoft.Authorization/roleAssignments/ra1", "ra1");
+        List<String> parameterNames = Arrays.asList("scope", "roleAssignmentName", "subscriptionId", "SUBSCRIPTIONID",
+            "resourceGroupName", "queueName", "", "notExist");
+
+        for (String pathTemplate : pathTemplates) {
+            for (String id : ids) {
+                assertSinglePassMatchesSplit(id, pathTemplate, parameterNames);
+            }
+        }
+    }
+
+    @Test
+    public void testSinglePassMatchesSplitOnRandomIds() {
+        List<String> segments = Arrays.asList("", " ", "a", "A", "b", "subscriptions", "{a}", "{B}", "{}");
+        Random random = new Random(42);
+        for (int n = 0; n < 10000; ++n) {
+            String id = randomPath(random, segments);
+            String pathTemplate = randomPath(random, segments);
+            List<String> names = Arrays.asList("a", "b", "subscriptions", " ", "");
+
+            String[] values = SinglePassUtils.parseValuesFromIdByName(id, names.toArray(new String[0]));
+            for (int i = 0; i < names.size(); ++i) {
+                Assertions.assertEquals(Utils.getValueFromIdByName(id, names.get(i)), values[i],
+                    "id: " + id + ", name: " + names.get(i));
+            }
+            assertSinglePassMatchesSplit(id, pathTemplate, names);
+        }
+    }
+
+    private static void assertSinglePassMatchesSplit(String id, String pathTemplate, List<String> parameterNames) {
+        String[] values
+            = SinglePassUtils.parseValuesFromIdByParameterName(id, pathTemplate, parameterNames.toArray(new String[0]));
+        for (int i = 0; i < parameterNames.size(); ++i) {
+            Assertions.assertEquals(Utils.getValueFromIdByParameterName(id, pathTemplate, parameterNames.get(i)),
+                values[i], "id: " + id + ", path template: " + pathTemplate + ", name: " + parameterNames.get(i));
+        }
+    }
+
+    private static String randomPath(Random random, List<String> segments) {
+        StringBuilder path = new StringBuilder(random.nextBoolean() ? "/" : "");
+        int count = random.nextInt(7);
+        for (int i = 0; i < count; ++i) {
+            if (i > 0) {
+                path.append('/');
+            }
+            path.append(segments.get(random.nextInt(segments.size())));
+        }
+        if (random.nextInt(4) == 0) {
+            path.append('/');
+        }
+        return path.toString();
+    }
 }
@@ -20,6 +20,10 @@ import com.azure.core.http.rest.PagedIterable;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 /**
@@ -475,7 +479,13 @@ public final class BasicClient {
                 }
             }
         }
-        return serviceClient.list(requestOptions).mapPage(bodyItemValue -> bodyItemValue.toObject(User.class));
+        return serviceClient.list(requestOptions).mapPage(bodyItemValue -> {
+            try (JsonReader jsonReader = JsonProviders.createReader(bodyItemValue.toBytes())) {
+                return User.fromJson(jsonReader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
     }
 
     /**
@@ -495,7 +505,13 @@ public final class BasicClient {
     public PagedIterable<User> list() {
         // Generated convenience method for list
         RequestOptions requestOptions = new RequestOptions();
-        return serviceClient.list(requestOptions).mapPage(bodyItemValue -> bodyItemValue.toObject(User.class));
+        return serviceClient.list(requestOptions).mapPage(bodyItemValue -> {
+            try (JsonReader jsonReader = JsonProviders.createReader(bodyItemValue.toBytes())) {
+                return User.fromJson(jsonReader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
     }
 
     /**
@@ -12,9 +12,7 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonToken;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  * Details about a user.
@@ -45,11 +43,23 @@ public final class User implements JsonSerializable<User> {
     @Generated
     private String etag;
 
+    @Generated
+    private static final long UPDATED_ID = 1L << 0;
+
+    @Generated
+    private static final long UPDATED_NAME = 1L << 1;
+
+    @Generated
+    private static final long UPDATED_ORDERS = 1L << 2;
+
+    @Generated
+    private static final long UPDATED_ETAG = 1L << 3;
+
     /**
-     * Stores updated model property, the value is property name, not serialized name.
+     * Stores updated model properties, as bits at the indices of the properties.
      */
     @Generated
-    private final Set<String> updatedProperties = new HashSet<>();
+    private long updatedProperties;
 
     @Generated
     private boolean jsonMergePatch;
@@ -111,7 +121,7 @@ public final class User implements JsonSerializable<User> {
     @Generated
     public User setName(String name) {
         this.name = name;
-        this.updatedProperties.add("name");
+        this.updatedProperties |= UPDATED_NAME;
         return this;
     }
 
@@ -134,7 +144,7 @@ public final class User implements JsonSerializable<User> {
     @Generated
     public User setOrders(List<UserOrder> orders) {
         this.orders = orders;
-        this.updatedProperties.add("orders");
+        this.updatedProperties |= UPDATED_ORDERS;
         return this;
     }
 
@@ -167,14 +177,14 @@ public final class User implements JsonSerializable<User> {
     @Generated
     private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        if (updatedProperties.contains("name")) {
+        if ((updatedProperties & UPDATED_NAME) != 0) {
             if (this.name == null) {
                 jsonWriter.writeNullField("name");
             } else {
                 jsonWriter.writeStringField("name", this.name);
             }
         }
-        if (updatedProperties.contains("orders")) {
+        if ((updatedProperties & UPDATED_ORDERS) != 0) {
             if (this.orders == null) {
                 jsonWriter.writeNullField("orders");
             } else {
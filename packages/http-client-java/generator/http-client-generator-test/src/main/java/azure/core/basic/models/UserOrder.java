@@ -12,8 +12,6 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonToken;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
-import java.util.HashSet;
-import java.util.Set;
 
 /**
  * UserOrder for testing list with expand.
@@ -38,11 +36,20 @@ public final class UserOrder implements JsonSerializable<UserOrder> {
     @Generated
     private String detail;
 
+    @Generated
+    private static final long UPDATED_ID = 1L << 0;
+
+    @Generated
+    private static final long UPDATED_USER_ID = 1L << 1;
+
+    @Generated
+    private static final long UPDATED_DETAIL = 1L << 2;
+
     /**
-     * Stores updated model property, the value is property name, not serialized name.
+     * Stores updated model properties, as bits at the indices of the properties.
      */
     @Generated
-    private final Set<String> updatedProperties = new HashSet<>();
+    private long updatedProperties;
 
     @Generated
     private boolean jsonMergePatch;
@@ -104,7 +111,7 @@ public final class UserOrder implements JsonSerializable<UserOrder> {
     @Generated
     public UserOrder setUserId(int userId) {
         this.userId = userId;
-        this.updatedProperties.add("userId");
+        this.updatedProperties |= UPDATED_USER_ID;
         return this;
     }
 
@@ -128,7 +135,7 @@ public final class UserOrder implements JsonSerializable<UserOrder> {
     @Generated
     public UserOrder setDetail(String detail) {
         this.detail = detail;
-        this.updatedProperties.add("detail");
+        this.updatedProperties |= UPDATED_DETAIL;
         return this;
     }
 
@@ -151,10 +158,10 @@ public final class UserOrder implements JsonSerializable<UserOrder> {
     @Generated
     private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        if (updatedProperties.contains("userId")) {
+        if ((updatedProperties & UPDATED_USER_ID) != 0) {
             jsonWriter.writeIntField("userId", this.userId);
         }
-        if (updatedProperties.contains("detail")) {
+        if ((updatedProperties & UPDATED_DETAIL) != 0) {
             if (this.detail == null) {
                 jsonWriter.writeNullField("detail");
             } else {
@@ -6,8 +6,15 @@ package azure.core.lro.rpc.implementation;
 
 import com.azure.core.exception.AzureException;
 import com.azure.core.http.HttpHeader;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import com.azure.core.util.Context;
+import com.azure.core.util.CoreUtils;
+import com.azure.core.util.UrlBuilder;
 import com.azure.core.util.logging.ClientLogger;
 import com.azure.core.util.polling.LongRunningOperationStatus;
 import com.azure.core.util.polling.PollResponse;
@@ -20,7 +27,6 @@ import com.azure.core.util.serializer.TypeReference;
 import java.io.UncheckedIOException;
 import java.time.Duration;
 import java.time.OffsetDateTime;
-import java.util.Map;
 
 // DO NOT modify this helper class
 
@@ -35,8 +41,11 @@ public final class SyncOperationLocationPollingStrategy<T, U> extends SyncOperat
 
     private static final ClientLogger LOGGER = new ClientLogger(SyncOperationLocationPollingStrategy.class);
 
+    private final HttpPipeline httpPipeline;
     private final ObjectSerializer serializer;
     private final String endpoint;
+    private final Context context;
+    private final String serviceVersion;
     private final String propertyName;
 
     /**
@@ -59,7 +68,10 @@ public final class SyncOperationLocationPollingStrategy<T, U> extends SyncOperat
     public SyncOperationLocationPollingStrategy(PollingStrategyOptions pollingStrategyOptions, String propertyName) {
         super(PollingUtils.OPERATION_LOCATION_HEADER, pollingStrategyOptions);
         this.propertyName = propertyName;
+        this.httpPipeline = pollingStrategyOptions.getHttpPipeline();
         this.endpoint = pollingStrategyOptions.getEndpoint();
+        this.context = pollingStrategyOptions.getContext() != null ? pollingStrategyOptions.getContext() : Context.NONE;
+        this.serviceVersion = pollingStrategyOptions.getServiceVersion();
         this.serializer = pollingStrategyOptions.getSerializer() != null
             ? pollingStrategyOptions.getSerializer()
             : JsonSerializerProviders.createInstance(true);
@@ -104,6 +116,39 @@ public final class SyncOperationLocationPollingStrategy<T, U> extends SyncOperat
                 response.getValue())));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only the "status" and "resourceLocation" of the poll response body are read to determine the status. The poll
+     * response body is kept for the final result only when the operation is complete.
+     */
+    @Override
+    public PollResponse<T> poll(PollingContext<T> pollingContext, TypeReference<T> pollResponseType) {
+        String url = pollingContext.getData(PollingUtils.OPERATION_LOCATION_HEADER.getCaseSensitiveName());
+        if (!CoreUtils.isNullOrEmpty(serviceVersion)) {
+            url = UrlBuilder.parse(url).setQueryParameter("api-version", serviceVersion).toString();
+        }
+        try (HttpResponse response = httpPipeline.sendSync(new HttpRequest(HttpMethod.GET, url), context)) {
+            BinaryData responseBody = response.getBodyAsBinaryData();
+            PollingUtils.PollStatus pollStatus = PollingUtils.readPollStatus(responseBody);
+            if (pollStatus == null) {
+                throw LOGGER.logExceptionAsError(new AzureException(String.format(
+                    "Cannot get status of the operation from poll response with status code %d, and response body: %s",
+                    response.getStatusCode(), responseBody)));
+            }
+            if (pollStatus.getResourceLocation() != null) {
+                pollingContext.setData(PollingUtils.RESOURCE_LOCATION,
+                    PollingUtils.getAbsolutePath(pollStatus.getResourceLocation(), endpoint, LOGGER));
+            }
+            if (pollStatus.getStatus().isComplete()) {
+                pollingContext.setData(PollingUtils.POLL_RESPONSE_BODY, responseBody.toString());
+            }
+            Duration retryAfter = PollingUtils.getRetryAfterFromHeaders(response.getHeaders(), OffsetDateTime::now);
+            return new PollResponse<>(pollStatus.getStatus(),
+                PollingUtils.deserializeResponseSync(responseBody, serializer, pollResponseType), retryAfter);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -115,14 +160,12 @@ public final class SyncOperationLocationPollingStrategy<T, U> extends SyncOperat
         }
         if (propertyName != null) {
             // take the last poll response body from PollingContext,
-            // and de-serialize the <propertyName> property as final result
+            // and de-serialize only the <propertyName> property as final result
             BinaryData latestResponseBody
                 = BinaryData.fromString(pollingContext.getData(PollingUtils.POLL_RESPONSE_BODY));
-            Map<String, Object> pollResult = PollingUtils.deserializeResponseSync(latestResponseBody, serializer,
-                PollingUtils.POST_POLL_RESULT_TYPE_REFERENCE);
-            if (pollResult != null && pollResult.get(propertyName) != null) {
-                return PollingUtils.deserializeResponseSync(BinaryData.fromObject(pollResult.get(propertyName)),
-                    serializer, resultType);
+            BinaryData result = PollingUtils.readProperty(latestResponseBody, propertyName);
+            if (result != null) {
+                return PollingUtils.deserializeResponseSync(result, serializer, resultType);
             } else {
                 throw LOGGER.logExceptionAsError(new AzureException("Cannot get final result"));
             }
@@ -19,6 +19,10 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.PagedIterable;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.util.BinaryData;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 /**
  * Initializes a new instance of the synchronous PageClient type.
@@ -216,7 +220,13 @@ public final class PageClient {
     public PagedIterable<User> listWithPage() {
         // Generated convenience method for listWithPage
         RequestOptions requestOptions = new RequestOptions();
-        return serviceClient.listWithPage(requestOptions).mapPage(bodyItemValue -> bodyItemValue.toObject(User.class));
+        return serviceClient.listWithPage(requestOptions).mapPage(bodyItemValue -> {
+            try (JsonReader jsonReader = JsonProviders.createReader(bodyItemValue.toBytes())) {
+                return User.fromJson(jsonReader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
     }
 
     /**
@@ -241,7 +251,13 @@ public final class PageClient {
             requestOptions.addQueryParam("another", another.toString(), false);
         }
         return serviceClient.listWithParameters(BinaryData.fromObject(bodyInput), requestOptions)
-            .mapPage(bodyItemValue -> bodyItemValue.toObject(User.class));
+            .mapPage(bodyItemValue -> {
+                try (JsonReader jsonReader = JsonProviders.createReader(bodyItemValue.toBytes())) {
+                    return User.fromJson(jsonReader);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
     }
 
     /**
@@ -262,7 +278,13 @@ public final class PageClient {
         // Generated convenience method for listWithParameters
         RequestOptions requestOptions = new RequestOptions();
         return serviceClient.listWithParameters(BinaryData.fromObject(bodyInput), requestOptions)
-            .mapPage(bodyItemValue -> bodyItemValue.toObject(User.class));
+            .mapPage(bodyItemValue -> {
+                try (JsonReader jsonReader = JsonProviders.createReader(bodyItemValue.toBytes())) {
+                    return User.fromJson(jsonReader);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
     }
 
     /**
@@ -280,8 +302,13 @@ public final class PageClient {
     public PagedIterable<User> listWithCustomPageModel() {
         // Generated convenience method for listWithCustomPageModel
         RequestOptions requestOptions = new RequestOptions();
-        return serviceClient.listWithCustomPageModel(requestOptions)
-            .mapPage(bodyItemValue -> bodyItemValue.toObject(User.class));
+        return serviceClient.listWithCustomPageModel(requestOptions).mapPage(bodyItemValue -> {
+            try (JsonReader jsonReader = JsonProviders.createReader(bodyItemValue.toBytes())) {
+                return User.fromJson(jsonReader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
     }
 
     /**
@@ -305,8 +332,13 @@ public final class PageClient {
         if (includePending != null) {
             requestOptions.addQueryParam("includePending", String.valueOf(includePending), false);
         }
-        return serviceClient.withParameterizedNextLink(select, requestOptions)
-            .mapPage(bodyItemValue -> bodyItemValue.toObject(User.class));
+        return serviceClient.withParameterizedNextLink(select, requestOptions).mapPage(bodyItemValue -> {
+            try (JsonReader jsonReader = JsonProviders.createReader(bodyItemValue.toBytes())) {
+                return User.fromJson(jsonReader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
     }
 
     /**
@@ -326,7 +358,12 @@ public final class PageClient {
     public PagedIterable<User> withParameterizedNextLink(String select) {
         // Generated convenience method for withParameterizedNextLink
         RequestOptions requestOptions = new RequestOptions();
-        return serviceClient.withParameterizedNextLink(select, requestOptions)
-            .mapPage(bodyItemValue -> bodyItemValue.toObject(User.class));
+        return serviceClient.withParameterizedNextLink(select, requestOptions).mapPage(bodyItemValue -> {
+            try (JsonReader jsonReader = JsonProviders.createReader(bodyItemValue.toBytes())) {
+                return User.fromJson(jsonReader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
     }
 }
@@ -20,6 +20,10 @@ import com.azure.core.http.rest.PagedResponse;
 import com.azure.core.http.rest.PagedResponseBase;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.util.BinaryData;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.stream.Collectors;
 import reactor.core.publisher.Flux;
 
@@ -116,11 +120,13 @@ public final class TwoModelsAsPageItemAsyncClient {
                 : pagedFluxResponse.byPage(continuationTokenParam).take(1);
             return flux.map(pagedResponse -> new PagedResponseBase<Void, FirstItem>(pagedResponse.getRequest(),
                 pagedResponse.getStatusCode(), pagedResponse.getHeaders(),
-                pagedResponse.getValue()
-                    .stream()
-                    .map(protocolMethodData -> protocolMethodData.toObject(FirstItem.class))
-                    .collect(Collectors.toList()),
-                pagedResponse.getContinuationToken(), null));
+                pagedResponse.getValue().stream().map(protocolMethodData -> {
+                    try (JsonReader jsonReader = JsonProviders.createReader(protocolMethodData.toBytes())) {
+                        return FirstItem.fromJson(jsonReader);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }).collect(Collectors.toList()), pagedResponse.getContinuationToken(), null));
         });
     }
 
@@ -147,11 +153,13 @@ public final class TwoModelsAsPageItemAsyncClient {
                 : pagedFluxResponse.byPage(continuationTokenParam).take(1);
             return flux.map(pagedResponse -> new PagedResponseBase<Void, SecondItem>(pagedResponse.getRequest(),
                 pagedResponse.getStatusCode(), pagedResponse.getHeaders(),
-                pagedResponse.getValue()
-                    .stream()
-                    .map(protocolMethodData -> protocolMethodData.toObject(SecondItem.class))
-                    .collect(Collectors.toList()),
-                pagedResponse.getContinuationToken(), null));
+                pagedResponse.getValue().stream().map(protocolMethodData -> {
+                    try (JsonReader jsonReader = JsonProviders.createReader(protocolMethodData.toBytes())) {
+                        return SecondItem.fromJson(jsonReader);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }).collect(Collectors.toList()), pagedResponse.getContinuationToken(), null));
         });
     }
 }
@@ -18,6 +18,10 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.PagedIterable;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.util.BinaryData;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 /**
  * Initializes a new instance of the synchronous PageClient type.
@@ -105,8 +109,13 @@ public final class TwoModelsAsPageItemClient {
     public PagedIterable<FirstItem> listFirstItem() {
         // Generated convenience method for listFirstItem
         RequestOptions requestOptions = new RequestOptions();
-        return serviceClient.listFirstItem(requestOptions)
-            .mapPage(bodyItemValue -> bodyItemValue.toObject(FirstItem.class));
+        return serviceClient.listFirstItem(requestOptions).mapPage(bodyItemValue -> {
+            try (JsonReader jsonReader = JsonProviders.createReader(bodyItemValue.toBytes())) {
+                return FirstItem.fromJson(jsonReader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
     }
 
     /**
@@ -125,7 +134,12 @@ public final class TwoModelsAsPageItemClient {
     public PagedIterable<SecondItem> listSecondItem() {
         // Generated convenience method for listSecondItem
         RequestOptions requestOptions = new RequestOptions();
-        return serviceClient.listSecondItem(requestOptions)
-            .mapPage(bodyItemValue -> bodyItemValue.toObject(SecondItem.class));
+        return serviceClient.listSecondItem(requestOptions).mapPage(bodyItemValue -> {
+            try (JsonReader jsonReader = JsonProviders.createReader(bodyItemValue.toBytes())) {
+                return SecondItem.fromJson(jsonReader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
     }
 }
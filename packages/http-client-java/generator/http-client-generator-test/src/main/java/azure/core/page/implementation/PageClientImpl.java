@@ -38,9 +38,11 @@ import com.azure.core.util.Context;
 import com.azure.core.util.FluxUtil;
 import com.azure.core.util.serializer.JacksonAdapter;
 import com.azure.core.util.serializer.SerializerAdapter;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonToken;
+import java.io.IOException;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 import reactor.core.publisher.Mono;
 
 /**
@@ -363,8 +365,7 @@ public final class PageClientImpl {
         return FluxUtil
             .withContext(context -> service.listWithPage(this.getEndpoint(), this.getServiceVersion().getVersion(),
                 accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> toPagedResponse(res, "value", "nextLink"));
     }
 
     /**
@@ -437,8 +438,7 @@ public final class PageClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res = service.listWithPageSync(this.getEndpoint(), this.getServiceVersion().getVersion(),
             accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null);
+        return toPagedResponse(res, "value", "nextLink");
     }
 
     /**
@@ -532,8 +532,7 @@ public final class PageClientImpl {
         return FluxUtil
             .withContext(context -> service.listWithParameters(this.getEndpoint(),
                 this.getServiceVersion().getVersion(), accept, bodyInput, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> toPagedResponse(res, "value", "nextLink"));
     }
 
     /**
@@ -645,8 +644,7 @@ public final class PageClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res = service.listWithParametersSync(this.getEndpoint(),
             this.getServiceVersion().getVersion(), accept, bodyInput, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null);
+        return toPagedResponse(res, "value", "nextLink");
     }
 
     /**
@@ -739,8 +737,7 @@ public final class PageClientImpl {
         return FluxUtil
             .withContext(context -> service.listWithCustomPageModel(this.getEndpoint(),
                 this.getServiceVersion().getVersion(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "items"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> toPagedResponse(res, "items", "nextLink"));
     }
 
     /**
@@ -813,8 +810,7 @@ public final class PageClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res = service.listWithCustomPageModelSync(this.getEndpoint(),
             this.getServiceVersion().getVersion(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "items"), getNextLink(res.getValue(), "nextLink"), null);
+        return toPagedResponse(res, "items", "nextLink");
     }
 
     /**
@@ -896,8 +892,7 @@ public final class PageClientImpl {
         final String accept = "application/json";
         return FluxUtil.withContext(
             context -> service.withParameterizedNextLink(this.getEndpoint(), select, accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "values"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> toPagedResponse(res, "values", "nextLink"));
     }
 
     /**
@@ -987,8 +982,7 @@ public final class PageClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res
             = service.withParameterizedNextLinkSync(this.getEndpoint(), select, accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "values"), getNextLink(res.getValue(), "nextLink"), null);
+        return toPagedResponse(res, "values", "nextLink");
     }
 
     /**
@@ -1072,8 +1066,7 @@ public final class PageClientImpl {
         return FluxUtil
             .withContext(
                 context -> service.listWithPageNext(nextLink, this.getEndpoint(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> toPagedResponse(res, "value", "nextLink"));
     }
 
     /**
@@ -1110,8 +1103,7 @@ public final class PageClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res
             = service.listWithPageNextSync(nextLink, this.getEndpoint(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null);
+        return toPagedResponse(res, "value", "nextLink");
     }
 
     /**
@@ -1149,8 +1141,7 @@ public final class PageClientImpl {
         final String accept = "application/json";
         return FluxUtil.withContext(
             context -> service.listWithParametersNext(nextLink, this.getEndpoint(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> toPagedResponse(res, "value", "nextLink"));
     }
 
     /**
@@ -1187,8 +1178,7 @@ public final class PageClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res
             = service.listWithParametersNextSync(nextLink, this.getEndpoint(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null);
+        return toPagedResponse(res, "value", "nextLink");
     }
 
     /**
@@ -1227,8 +1217,7 @@ public final class PageClientImpl {
         return FluxUtil
             .withContext(context -> service.listWithCustomPageModelNext(nextLink, this.getEndpoint(), accept,
                 requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "items"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> toPagedResponse(res, "items", "nextLink"));
     }
 
     /**
@@ -1266,8 +1255,7 @@ public final class PageClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res = service.listWithCustomPageModelNextSync(nextLink, this.getEndpoint(), accept,
             requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "items"), getNextLink(res.getValue(), "nextLink"), null);
+        return toPagedResponse(res, "items", "nextLink");
     }
 
     /**
@@ -1306,8 +1294,7 @@ public final class PageClientImpl {
         return FluxUtil
             .withContext(context -> service.withParameterizedNextLinkNext(nextLink, this.getEndpoint(), accept,
                 requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "values"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> toPagedResponse(res, "values", "nextLink"));
     }
 
     /**
@@ -1345,26 +1332,34 @@ public final class PageClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res = service.withParameterizedNextLinkNextSync(nextLink, this.getEndpoint(), accept,
             requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "values"), getNextLink(res.getValue(), "nextLink"), null);
+        return toPagedResponse(res, "values", "nextLink");
     }
 
-    private List<BinaryData> getValues(BinaryData binaryData, String path) {
-        try {
-            Map<?, ?> obj = binaryData.toObject(Map.class);
-            List<?> values = (List<?>) obj.get(path);
-            return values.stream().map(BinaryData::fromObject).collect(Collectors.toList());
-        } catch (RuntimeException e) {
-            return null;
-        }
-    }
-
-    private String getNextLink(BinaryData binaryData, String path) {
-        try {
-            Map<?, ?> obj = binaryData.toObject(Map.class);
-            return (String) obj.get(path);
-        } catch (RuntimeException e) {
-            return null;
+    private PagedResponse<BinaryData> toPagedResponse(Response<BinaryData> res, String itemsName, String nextLinkName) {
+        List<BinaryData> values = null;
+        String nextLink = null;
+        try (JsonReader jsonReader = JsonProviders.createReader(res.getValue().toBytes())) {
+            if (jsonReader.nextToken() == JsonToken.START_OBJECT) {
+                while (jsonReader.nextToken() != JsonToken.END_OBJECT) {
+                    String fieldName = jsonReader.getFieldName();
+                    jsonReader.nextToken();
+                    if (fieldName.equals(itemsName)) {
+                        values = jsonReader.readArray(reader -> {
+                            JsonToken token = reader.currentToken();
+                            return token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY
+                                ? BinaryData.fromString(reader.readChildren())
+                                : BinaryData.fromObject(reader.readUntyped());
+                        });
+                    } else if (fieldName.equals(nextLinkName)) {
+                        nextLink = jsonReader.getString();
+                    } else {
+                        jsonReader.skipChildren();
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // values or next link not in the expected format is returned as null
         }
+        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(), values, nextLink, null);
     }
 }
@@ -4,6 +4,10 @@
 
 package azure.core.page.models;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * An extensible enum input parameter.
  */
@@ -18,6 +22,16 @@ public enum ListItemInputExtensibleEnum {
      */
     SECOND("Second");
 
+    private static final Map<String, ListItemInputExtensibleEnum> VALUES;
+
+    static {
+        Map<String, ListItemInputExtensibleEnum> values = new HashMap<>(3);
+        for (ListItemInputExtensibleEnum item : ListItemInputExtensibleEnum.values()) {
+            values.putIfAbsent(toLookupKey(item.toString()), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a ListItemInputExtensibleEnum instance.
      */
@@ -37,13 +51,15 @@ public enum ListItemInputExtensibleEnum {
         if (value == null) {
             return null;
         }
-        ListItemInputExtensibleEnum[] items = ListItemInputExtensibleEnum.values();
-        for (ListItemInputExtensibleEnum item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
+        return VALUES.get(toLookupKey(value));
+    }
+
+    private static String toLookupKey(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
         }
-        return null;
+        return new String(chars);
     }
 
     /**
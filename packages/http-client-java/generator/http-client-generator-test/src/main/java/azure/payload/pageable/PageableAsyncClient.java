@@ -19,6 +19,10 @@ import com.azure.core.http.rest.PagedResponse;
 import com.azure.core.http.rest.PagedResponseBase;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.util.BinaryData;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.stream.Collectors;
 import reactor.core.publisher.Flux;
 
@@ -94,11 +98,13 @@ public final class PageableAsyncClient {
                 : pagedFluxResponse.byPage(continuationTokenParam).take(1);
             return flux.map(pagedResponse -> new PagedResponseBase<Void, User>(pagedResponse.getRequest(),
                 pagedResponse.getStatusCode(), pagedResponse.getHeaders(),
-                pagedResponse.getValue()
-                    .stream()
-                    .map(protocolMethodData -> protocolMethodData.toObject(User.class))
-                    .collect(Collectors.toList()),
-                pagedResponse.getContinuationToken(), null));
+                pagedResponse.getValue().stream().map(protocolMethodData -> {
+                    try (JsonReader jsonReader = JsonProviders.createReader(protocolMethodData.toBytes())) {
+                        return User.fromJson(jsonReader);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }).collect(Collectors.toList()), pagedResponse.getContinuationToken(), null));
         });
     }
 }
@@ -17,6 +17,10 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.PagedIterable;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.util.BinaryData;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 /**
  * Initializes a new instance of the synchronous PageableClient type.
@@ -83,6 +87,12 @@ public final class PageableClient {
     public PagedIterable<User> list() {
         // Generated convenience method for list
         RequestOptions requestOptions = new RequestOptions();
-        return serviceClient.list(requestOptions).mapPage(bodyItemValue -> bodyItemValue.toObject(User.class));
+        return serviceClient.list(requestOptions).mapPage(bodyItemValue -> {
+            try (JsonReader jsonReader = JsonProviders.createReader(bodyItemValue.toBytes())) {
+                return User.fromJson(jsonReader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
     }
 }
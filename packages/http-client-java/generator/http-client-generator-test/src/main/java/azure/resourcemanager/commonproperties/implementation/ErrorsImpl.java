@@ -49,12 +49,14 @@ public final class ErrorsImpl implements Errors {
     }
 
     public ConfidentialResource getById(String id) {
-        String resourceGroupName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroups");
+        String[] valuesFromId
+            = ResourceManagerUtils.getValuesFromIdByName(id, "resourceGroups", "confidentialResources");
+        String resourceGroupName = valuesFromId[0];
         if (resourceGroupName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceGroups'.", id)));
         }
-        String confidentialResourceName = ResourceManagerUtils.getValueFromIdByName(id, "confidentialResources");
+        String confidentialResourceName = valuesFromId[1];
         if (confidentialResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'confidentialResources'.", id)));
@@ -64,12 +66,14 @@ public final class ErrorsImpl implements Errors {
     }
 
     public Response<ConfidentialResource> getByIdWithResponse(String id, Context context) {
-        String resourceGroupName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroups");
+        String[] valuesFromId
+            = ResourceManagerUtils.getValuesFromIdByName(id, "resourceGroups", "confidentialResources");
+        String resourceGroupName = valuesFromId[0];
         if (resourceGroupName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceGroups'.", id)));
         }
-        String confidentialResourceName = ResourceManagerUtils.getValueFromIdByName(id, "confidentialResources");
+        String confidentialResourceName = valuesFromId[1];
         if (confidentialResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'confidentialResources'.", id)));
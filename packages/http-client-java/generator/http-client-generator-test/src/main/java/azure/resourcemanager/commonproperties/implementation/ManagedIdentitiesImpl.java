@@ -50,13 +50,14 @@ public final class ManagedIdentitiesImpl implements ManagedIdentities {
     }
 
     public ManagedIdentityTrackedResource getById(String id) {
-        String resourceGroupName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroups");
+        String[] valuesFromId
+            = ResourceManagerUtils.getValuesFromIdByName(id, "resourceGroups", "managedIdentityTrackedResources");
+        String resourceGroupName = valuesFromId[0];
         if (resourceGroupName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceGroups'.", id)));
         }
-        String managedIdentityTrackedResourceName
-            = ResourceManagerUtils.getValueFromIdByName(id, "managedIdentityTrackedResources");
+        String managedIdentityTrackedResourceName = valuesFromId[1];
         if (managedIdentityTrackedResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String.format(
                 "The resource ID '%s' is not valid. Missing path segment 'managedIdentityTrackedResources'.", id)));
@@ -66,13 +67,14 @@ public final class ManagedIdentitiesImpl implements ManagedIdentities {
     }
 
     public Response<ManagedIdentityTrackedResource> getByIdWithResponse(String id, Context context) {
-        String resourceGroupName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroups");
+        String[] valuesFromId
+            = ResourceManagerUtils.getValuesFromIdByName(id, "resourceGroups", "managedIdentityTrackedResources");
+        String resourceGroupName = valuesFromId[0];
         if (resourceGroupName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceGroups'.", id)));
         }
-        String managedIdentityTrackedResourceName
-            = ResourceManagerUtils.getValueFromIdByName(id, "managedIdentityTrackedResources");
+        String managedIdentityTrackedResourceName = valuesFromId[1];
         if (managedIdentityTrackedResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String.format(
                 "The resource ID '%s' is not valid. Missing path segment 'managedIdentityTrackedResources'.", id)));
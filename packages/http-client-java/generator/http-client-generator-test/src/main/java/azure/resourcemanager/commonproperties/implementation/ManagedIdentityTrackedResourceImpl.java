@@ -137,9 +137,10 @@ public final class ManagedIdentityTrackedResourceImpl implements ManagedIdentity
         azure.resourcemanager.commonproperties.CommonPropertiesManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.resourceGroupName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "resourceGroups");
-        this.managedIdentityTrackedResourceName
-            = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "managedIdentityTrackedResources");
+        String[] valuesFromId = ResourceManagerUtils.getValuesFromIdByName(innerObject.id(), "resourceGroups",
+            "managedIdentityTrackedResources");
+        this.resourceGroupName = valuesFromId[0];
+        this.managedIdentityTrackedResourceName = valuesFromId[1];
     }
 
     public ManagedIdentityTrackedResource refresh() {
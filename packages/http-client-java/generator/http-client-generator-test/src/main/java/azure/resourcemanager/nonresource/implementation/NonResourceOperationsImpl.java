@@ -46,12 +46,13 @@ public final class NonResourceOperationsImpl implements NonResourceOperations {
     }
 
     public NonResource getById(String id) {
-        String location = ResourceManagerUtils.getValueFromIdByName(id, "locations");
+        String[] valuesFromId = ResourceManagerUtils.getValuesFromIdByName(id, "locations", "otherParameters");
+        String location = valuesFromId[0];
         if (location == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'locations'.", id)));
         }
-        String parameter = ResourceManagerUtils.getValueFromIdByName(id, "otherParameters");
+        String parameter = valuesFromId[1];
         if (parameter == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'otherParameters'.", id)));
@@ -60,12 +61,13 @@ public final class NonResourceOperationsImpl implements NonResourceOperations {
     }
 
     public Response<NonResource> getByIdWithResponse(String id, Context context) {
-        String location = ResourceManagerUtils.getValueFromIdByName(id, "locations");
+        String[] valuesFromId = ResourceManagerUtils.getValuesFromIdByName(id, "locations", "otherParameters");
+        String location = valuesFromId[0];
         if (location == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'locations'.", id)));
         }
-        String parameter = ResourceManagerUtils.getValueFromIdByName(id, "otherParameters");
+        String parameter = valuesFromId[1];
         if (parameter == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'otherParameters'.", id)));
@@ -4,76 +4,118 @@
 
 package azure.resourcemanager.nonresource.implementation;
 
-import com.azure.core.http.rest.PagedFlux;
 import com.azure.core.http.rest.PagedIterable;
 import com.azure.core.http.rest.PagedResponse;
 import com.azure.core.http.rest.PagedResponseBase;
-import com.azure.core.util.CoreUtils;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
+import java.util.AbstractList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import reactor.core.publisher.Flux;
 
 final class ResourceManagerUtils {
     private ResourceManagerUtils() {
     }
 
     static String getValueFromIdByName(String id, String name) {
+        return getValuesFromIdByName(id, name)[0];
+    }
+
+    static String getValueFromIdByParameterName(String id, String pathTemplate, String parameterName) {
+        return getValuesFromIdByParameterName(id, pathTemplate, parameterName)[0];
+    }
+
+    static String[] getValuesFromIdByName(String id, String... names) {
+        return parseValuesFromIdByName(id, names);
+    }
+
+    static String[] getValuesFromIdByParameterName(String id, String pathTemplate, String... parameterNames) {
+        return parseValuesFromIdByParameterName(id, pathTemplate, parameterNames);
+    }
+
+    private static String[] parseValuesFromIdByName(String id, String[] names) {
+        String[] values = new String[names.length];
         if (id == null) {
-            return null;
-        }
-        Iterator<String> itr = Arrays.stream(id.split("/")).iterator();
-        while (itr.hasNext()) {
-            String part = itr.next();
-            if (part != null && !part.trim().isEmpty()) {
-                if (part.equalsIgnoreCase(name)) {
-                    if (itr.hasNext()) {
-                        return itr.next();
-                    } else {
-                        return null;
+            return values;
+        }
+        // trailing empty segments are ignored, so the last segment has no value
+        int length = id.length();
+        while (length > 0 && id.charAt(length - 1) == '/') {
+            --length;
+        }
+        int unresolvedCount = names.length;
+        int start = 0;
+        while (start < length && unresolvedCount > 0) {
+            int end = id.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+            for (int i = 0; i < names.length; ++i) {
+                String name = names[i];
+                if (values[i] == null
+                    && name.length() == end - start
+                    && id.regionMatches(true, start, name, 0, end - start)
+                    && !name.trim().isEmpty()) {
+                    // the value is the next segment
+                    if (end < length) {
+                        int valueEnd = id.indexOf('/', end + 1);
+                        values[i] = id.substring(end + 1, valueEnd < 0 ? length : valueEnd);
                     }
+                    --unresolvedCount;
                 }
             }
+            start = end + 1;
         }
-        return null;
+        return values;
     }
 
-    static String getValueFromIdByParameterName(String id, String pathTemplate, String parameterName) {
+    private static String[] parseValuesFromIdByParameterName(String id, String pathTemplate, String[] parameterNames) {
+        String[] values = new String[parameterNames.length];
         if (id == null || pathTemplate == null) {
-            return null;
-        }
-        String parameterNameParentheses = "{" + parameterName + "}";
-        List<String> idSegmentsReverted = Arrays.asList(id.split("/"));
-        List<String> pathSegments = Arrays.asList(pathTemplate.split("/"));
-        Collections.reverse(idSegmentsReverted);
-        Iterator<String> idItrReverted = idSegmentsReverted.iterator();
-        int pathIndex = pathSegments.size();
-        while (idItrReverted.hasNext() && pathIndex > 0) {
-            String idSegment = idItrReverted.next();
-            String pathSegment = pathSegments.get(--pathIndex);
-            if (!CoreUtils.isNullOrEmpty(idSegment) && !CoreUtils.isNullOrEmpty(pathSegment)) {
-                if (pathSegment.equalsIgnoreCase(parameterNameParentheses)) {
-                    if (pathIndex == 0 || (pathIndex == 1 && pathSegments.get(0).isEmpty())) {
-                        List<String> segments = new ArrayList<>();
-                        segments.add(idSegment);
-                        idItrReverted.forEachRemaining(segments::add);
-                        Collections.reverse(segments);
-                        if (!segments.isEmpty() && segments.get(0).isEmpty()) {
-                            segments.remove(0);
+            return values;
+        }
+        // segments are matched from the end of the id and the end of the path template, trailing empty segments are
+        // ignored
+        int idEnd = id.length();
+        while (idEnd > 0 && id.charAt(idEnd - 1) == '/') {
+            --idEnd;
+        }
+        int pathEnd = pathTemplate.length();
+        while (pathEnd > 0 && pathTemplate.charAt(pathEnd - 1) == '/') {
+            --pathEnd;
+        }
+        boolean hasIdSegment = idEnd > 0 || id.isEmpty();
+        boolean hasPathSegment = pathEnd > 0 || pathTemplate.isEmpty();
+        int unresolvedCount = parameterNames.length;
+        while (hasIdSegment && hasPathSegment && unresolvedCount > 0) {
+            int idStart = id.lastIndexOf('/', idEnd - 1) + 1;
+            int pathStart = pathTemplate.lastIndexOf('/', pathEnd - 1) + 1;
+            if (idStart < idEnd
+                && pathEnd - pathStart >= 2
+                && pathTemplate.charAt(pathStart) == '{'
+                && pathTemplate.charAt(pathEnd - 1) == '}') {
+                for (int i = 0; i < parameterNames.length; ++i) {
+                    String parameterName = parameterNames[i];
+                    if (values[i] == null
+                        && parameterName.length() == pathEnd - pathStart - 2
+                        && pathTemplate.regionMatches(true, pathStart + 1, parameterName, 0, parameterName.length())) {
+                        if (pathStart <= 1) {
+                            // the parameter at the start of the path template is the scope, which is the rest of the id
+                            values[i] = id.substring(id.startsWith("/") ? 1 : 0, idEnd);
+                        } else {
+                            values[i] = id.substring(idStart, idEnd);
                         }
-                        return String.join("/", segments);
-                    } else {
-                        return idSegment;
+                        --unresolvedCount;
                     }
                 }
             }
+            hasIdSegment = idStart > 0;
+            hasPathSegment = pathStart > 0;
+            idEnd = idStart - 1;
+            pathEnd = pathStart - 1;
         }
-        return null;
+        return values;
     }
 
     static <T, S> PagedIterable<S> mapPage(PagedIterable<T> pageIterable, Function<T, S> mapper) {
@@ -87,16 +129,25 @@ final class ResourceManagerUtils {
         private final Function<PagedResponse<T>, PagedResponse<S>> pageMapper;
 
         private PagedIterableImpl(PagedIterable<T> pagedIterable, Function<T, S> mapper) {
-            super(PagedFlux.create(() -> (continuationToken, pageSize) -> Flux
-                .fromStream(pagedIterable.streamByPage().map(getPageMapper(mapper)))));
+            super(
+                pageSize -> getFirstPage(
+                    pageSize == null ? pagedIterable.iterableByPage() : pagedIterable.iterableByPage(pageSize), mapper),
+                (continuationToken,
+                    pageSize) -> getFirstPage(pageSize == null
+                        ? pagedIterable.iterableByPage(continuationToken)
+                        : pagedIterable.iterableByPage(continuationToken, pageSize), mapper));
             this.pagedIterable = pagedIterable;
             this.mapper = mapper;
             this.pageMapper = getPageMapper(mapper);
         }
 
+        private static <T, S> PagedResponse<S> getFirstPage(Iterable<PagedResponse<T>> pages, Function<T, S> mapper) {
+            return getPageMapper(mapper).apply(pages.iterator().next());
+        }
+
         private static <T, S> Function<PagedResponse<T>, PagedResponse<S>> getPageMapper(Function<T, S> mapper) {
             return page -> new PagedResponseBase<Void, S>(page.getRequest(), page.getStatusCode(), page.getHeaders(),
-                page.getElements().stream().map(mapper).collect(Collectors.toList()), page.getContinuationToken(),
+                page.getValue() == null ? null : new MappedList<>(page.getValue(), mapper), page.getContinuationToken(),
                 null);
         }
 
@@ -192,4 +243,41 @@ final class ResourceManagerUtils {
             return new IteratorImpl<>(iterable.iterator(), mapper);
         }
     }
+
+    private static final class MappedList<T, S> extends AbstractList<S> {
+
+        // stands for an item that the mapper maps to null
+        private static final Object NULL_ITEM = new Object();
+
+        private final List<T> list;
+        private final Function<T, S> mapper;
+        // the mapped items, each mapped on first access
+        // concurrent first accesses may map an item more than once, but all of them get the item that is stored first
+        private final AtomicReferenceArray<Object> mappedItems;
+
+        private MappedList(List<T> list, Function<T, S> mapper) {
+            this.list = list;
+            this.mapper = mapper;
+            this.mappedItems = new AtomicReferenceArray<>(list.size());
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public S get(int index) {
+            Object item = mappedItems.get(index);
+            if (item == null) {
+                S mappedItem = mapper.apply(list.get(index));
+                item = mappedItem == null ? NULL_ITEM : mappedItem;
+                if (!mappedItems.compareAndSet(index, null, item)) {
+                    item = mappedItems.get(index);
+                }
+            }
+            return item == NULL_ITEM ? null : (S) item;
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+    }
 }
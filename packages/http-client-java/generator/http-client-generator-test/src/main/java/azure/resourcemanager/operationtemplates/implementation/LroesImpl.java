@@ -52,12 +52,13 @@ public final class LroesImpl implements Lroes {
     }
 
     public void deleteById(String id) {
-        String resourceGroupName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroups");
+        String[] valuesFromId = ResourceManagerUtils.getValuesFromIdByName(id, "resourceGroups", "orders");
+        String resourceGroupName = valuesFromId[0];
         if (resourceGroupName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceGroups'.", id)));
         }
-        String orderName = ResourceManagerUtils.getValueFromIdByName(id, "orders");
+        String orderName = valuesFromId[1];
         if (orderName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'orders'.", id)));
@@ -66,12 +67,13 @@ public final class LroesImpl implements Lroes {
     }
 
     public void deleteByIdWithResponse(String id, Context context) {
-        String resourceGroupName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroups");
+        String[] valuesFromId = ResourceManagerUtils.getValuesFromIdByName(id, "resourceGroups", "orders");
+        String resourceGroupName = valuesFromId[0];
         if (resourceGroupName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceGroups'.", id)));
         }
-        String orderName = ResourceManagerUtils.getValueFromIdByName(id, "orders");
+        String orderName = valuesFromId[1];
         if (orderName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'orders'.", id)));
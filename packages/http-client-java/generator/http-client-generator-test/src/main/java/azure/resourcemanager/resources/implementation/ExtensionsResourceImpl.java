@@ -97,12 +97,11 @@ public final class ExtensionsResourceImpl
         azure.resourcemanager.resources.ResourcesManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.resourceUri = ResourceManagerUtils.getValueFromIdByParameterName(innerObject.id(),
+        String[] valuesFromId = ResourceManagerUtils.getValuesFromIdByParameterName(innerObject.id(),
             "/{resourceUri}/providers/Azure.ResourceManager.Resources/extensionsResources/{extensionsResourceName}",
-            "resourceUri");
-        this.extensionsResourceName = ResourceManagerUtils.getValueFromIdByParameterName(innerObject.id(),
-            "/{resourceUri}/providers/Azure.ResourceManager.Resources/extensionsResources/{extensionsResourceName}",
-            "extensionsResourceName");
+            "resourceUri", "extensionsResourceName");
+        this.resourceUri = valuesFromId[0];
+        this.extensionsResourceName = valuesFromId[1];
     }
 
     public ExtensionsResource refresh() {
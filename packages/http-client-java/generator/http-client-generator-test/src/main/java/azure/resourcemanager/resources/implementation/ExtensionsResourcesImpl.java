@@ -68,16 +68,15 @@ public final class ExtensionsResourcesImpl implements ExtensionsResources {
     }
 
     public ExtensionsResource getById(String id) {
-        String resourceUri = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        String[] valuesFromId = ResourceManagerUtils.getValuesFromIdByParameterName(id,
             "/{resourceUri}/providers/Azure.ResourceManager.Resources/extensionsResources/{extensionsResourceName}",
-            "resourceUri");
+            "resourceUri", "extensionsResourceName");
+        String resourceUri = valuesFromId[0];
         if (resourceUri == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceUri'.", id)));
         }
-        String extensionsResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
-            "/{resourceUri}/providers/Azure.ResourceManager.Resources/extensionsResources/{extensionsResourceName}",
-            "extensionsResourceName");
+        String extensionsResourceName = valuesFromId[1];
         if (extensionsResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'extensionsResources'.", id)));
@@ -86,16 +85,15 @@ public final class ExtensionsResourcesImpl implements ExtensionsResources {
     }
 
     public Response<ExtensionsResource> getByIdWithResponse(String id, Context context) {
-        String resourceUri = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        String[] valuesFromId = ResourceManagerUtils.getValuesFromIdByParameterName(id,
             "/{resourceUri}/providers/Azure.ResourceManager.Resources/extensionsResources/{extensionsResourceName}",
-            "resourceUri");
+            "resourceUri", "extensionsResourceName");
+        String resourceUri = valuesFromId[0];
         if (resourceUri == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceUri'.", id)));
         }
-        String extensionsResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
-            "/{resourceUri}/providers/Azure.ResourceManager.Resources/extensionsResources/{extensionsResourceName}",
-            "extensionsResourceName");
+        String extensionsResourceName = valuesFromId[1];
         if (extensionsResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'extensionsResources'.", id)));
@@ -104,16 +102,15 @@ public final class ExtensionsResourcesImpl implements ExtensionsResources {
     }
 
     public void deleteById(String id) {
-        String resourceUri = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        String[] valuesFromId = ResourceManagerUtils.getValuesFromIdByParameterName(id,
             "/{resourceUri}/providers/Azure.ResourceManager.Resources/extensionsResources/{extensionsResourceName}",
-            "resourceUri");
+            "resourceUri", "extensionsResourceName");
+        String resourceUri = valuesFromId[0];
         if (resourceUri == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceUri'.", id)));
         }
-        String extensionsResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
-            "/{resourceUri}/providers/Azure.ResourceManager.Resources/extensionsResources/{extensionsResourceName}",
-            "extensionsResourceName");
+        String extensionsResourceName = valuesFromId[1];
         if (extensionsResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'extensionsResources'.", id)));
@@ -122,16 +119,15 @@ public final class ExtensionsResourcesImpl implements ExtensionsResources {
     }
 
     public Response<Void> deleteByIdWithResponse(String id, Context context) {
-        String resourceUri = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        String[] valuesFromId = ResourceManagerUtils.getValuesFromIdByParameterName(id,
             "/{resourceUri}/providers/Azure.ResourceManager.Resources/extensionsResources/{extensionsResourceName}",
-            "resourceUri");
+            "resourceUri", "extensionsResourceName");
+        String resourceUri = valuesFromId[0];
         if (resourceUri == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceUri'.", id)));
         }
-        String extensionsResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
-            "/{resourceUri}/providers/Azure.ResourceManager.Resources/extensionsResources/{extensionsResourceName}",
-            "extensionsResourceName");
+        String extensionsResourceName = valuesFromId[1];
         if (extensionsResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'extensionsResources'.", id)));
@@ -99,8 +99,10 @@ public final class LocationResourceImpl
         azure.resourcemanager.resources.ResourcesManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.location = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "locations");
-        this.locationResourceName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "locationResources");
+        String[] valuesFromId
+            = ResourceManagerUtils.getValuesFromIdByName(innerObject.id(), "locations", "locationResources");
+        this.location = valuesFromId[0];
+        this.locationResourceName = valuesFromId[1];
     }
 
     public LocationResource refresh() {
@@ -107,11 +107,11 @@ public final class NestedProxyResourceImpl
         azure.resourcemanager.resources.ResourcesManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.resourceGroupName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "resourceGroups");
-        this.topLevelTrackedResourceName
-            = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "topLevelTrackedResources");
-        this.nextedProxyResourceName
-            = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "nestedProxyResources");
+        String[] valuesFromId = ResourceManagerUtils.getValuesFromIdByName(innerObject.id(), "resourceGroups",
+            "topLevelTrackedResources", "nestedProxyResources");
+        this.resourceGroupName = valuesFromId[0];
+        this.topLevelTrackedResourceName = valuesFromId[1];
+        this.nextedProxyResourceName = valuesFromId[2];
     }
 
     public NestedProxyResource refresh() {
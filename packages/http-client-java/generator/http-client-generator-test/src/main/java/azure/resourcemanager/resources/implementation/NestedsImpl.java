@@ -73,17 +73,19 @@ public final class NestedsImpl implements Nesteds {
     }
 
     public NestedProxyResource getById(String id) {
-        String resourceGroupName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroups");
+        String[] valuesFromId = ResourceManagerUtils.getValuesFromIdByName(id, "resourceGroups",
+            "topLevelTrackedResources", "nestedProxyResources");
+        String resourceGroupName = valuesFromId[0];
         if (resourceGroupName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceGroups'.", id)));
         }
-        String topLevelTrackedResourceName = ResourceManagerUtils.getValueFromIdByName(id, "topLevelTrackedResources");
+        String topLevelTrackedResourceName = valuesFromId[1];
         if (topLevelTrackedResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'topLevelTrackedResources'.", id)));
         }
-        String nextedProxyResourceName = ResourceManagerUtils.getValueFromIdByName(id, "nestedProxyResources");
+        String nextedProxyResourceName = valuesFromId[2];
         if (nextedProxyResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'nestedProxyResources'.", id)));
@@ -94,17 +96,19 @@ public final class NestedsImpl implements Nesteds {
     }
 
     public Response<NestedProxyResource> getByIdWithResponse(String id, Context context) {
-        String resourceGroupName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroups");
+        String[] valuesFromId = ResourceManagerUtils.getValuesFromIdByName(id, "resourceGroups",
+            "topLevelTrackedResources", "nestedProxyResources");
+        String resourceGroupName = valuesFromId[0];
         if (resourceGroupName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceGroups'.", id)));
         }
-        String topLevelTrackedResourceName = ResourceManagerUtils.getValueFromIdByName(id, "topLevelTrackedResources");
+        String topLevelTrackedResourceName = valuesFromId[1];
         if (topLevelTrackedResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'topLevelTrackedResources'.", id)));
         }
-        String nextedProxyResourceName = ResourceManagerUtils.getValueFromIdByName(id, "nestedProxyResources");
+        String nextedProxyResourceName = valuesFromId[2];
         if (nextedProxyResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'nestedProxyResources'.", id)));
@@ -113,17 +117,19 @@ public final class NestedsImpl implements Nesteds {
     }
 
     public void deleteById(String id) {
-        String resourceGroupName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroups");
+        String[] valuesFromId = ResourceManagerUtils.getValuesFromIdByName(id, "resourceGroups",
+            "topLevelTrackedResources", "nestedProxyResources");
+        String resourceGroupName = valuesFromId[0];
         if (resourceGroupName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceGroups'.", id)));
         }
-        String topLevelTrackedResourceName = ResourceManagerUtils.getValueFromIdByName(id, "topLevelTrackedResources");
+        String topLevelTrackedResourceName = valuesFromId[1];
         if (topLevelTrackedResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'topLevelTrackedResources'.", id)));
         }
-        String nextedProxyResourceName = ResourceManagerUtils.getValueFromIdByName(id, "nestedProxyResources");
+        String nextedProxyResourceName = valuesFromId[2];
         if (nextedProxyResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'nestedProxyResources'.", id)));
@@ -132,17 +138,19 @@ public final class NestedsImpl implements Nesteds {
     }
 
     public void deleteByIdWithResponse(String id, Context context) {
-        String resourceGroupName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroups");
+        String[] valuesFromId = ResourceManagerUtils.getValuesFromIdByName(id, "resourceGroups",
+            "topLevelTrackedResources", "nestedProxyResources");
+        String resourceGroupName = valuesFromId[0];
         if (resourceGroupName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceGroups'.", id)));
         }
-        String topLevelTrackedResourceName = ResourceManagerUtils.getValueFromIdByName(id, "topLevelTrackedResources");
+        String topLevelTrackedResourceName = valuesFromId[1];
         if (topLevelTrackedResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'topLevelTrackedResources'.", id)));
         }
-        String nextedProxyResourceName = ResourceManagerUtils.getValueFromIdByName(id, "nestedProxyResources");
+        String nextedProxyResourceName = valuesFromId[2];
         if (nextedProxyResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'nestedProxyResources'.", id)));
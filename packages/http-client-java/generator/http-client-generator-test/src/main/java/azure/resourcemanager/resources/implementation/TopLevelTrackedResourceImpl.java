@@ -125,9 +125,10 @@ public final class TopLevelTrackedResourceImpl
         azure.resourcemanager.resources.ResourcesManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.resourceGroupName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "resourceGroups");
-        this.topLevelTrackedResourceName
-            = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "topLevelTrackedResources");
+        String[] valuesFromId = ResourceManagerUtils.getValuesFromIdByName(innerObject.id(), "resourceGroups",
+            "topLevelTrackedResources");
+        this.resourceGroupName = valuesFromId[0];
+        this.topLevelTrackedResourceName = valuesFromId[1];
     }
 
     public TopLevelTrackedResource refresh() {
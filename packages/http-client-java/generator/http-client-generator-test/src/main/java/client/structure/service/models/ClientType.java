@@ -4,6 +4,10 @@
 
 package client.structure.service.models;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines values for ClientType.
  */
@@ -33,6 +37,16 @@ public enum ClientType {
      */
     CLIENT_OPERATION_GROUP("client-operation-group");
 
+    private static final Map<String, ClientType> VALUES;
+
+    static {
+        Map<String, ClientType> values = new HashMap<>(7);
+        for (ClientType item : ClientType.values()) {
+            values.putIfAbsent(toLookupKey(item.toString()), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a ClientType instance.
      */
@@ -52,13 +66,15 @@ public enum ClientType {
         if (value == null) {
             return null;
         }
-        ClientType[] items = ClientType.values();
-        for (ClientType item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
+        return VALUES.get(toLookupKey(value));
+    }
+
+    private static String toLookupKey(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
         }
-        return null;
+        return new String(chars);
     }
 
     /**
@@ -15,6 +15,10 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.PagedIterable;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.util.BinaryData;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import payload.pageable.implementation.ServerDrivenPaginationsImpl;
 import payload.pageable.models.Pet;
 
@@ -77,6 +81,12 @@ public final class ServerDrivenPaginationClient {
     public PagedIterable<Pet> link() {
         // Generated convenience method for link
         RequestOptions requestOptions = new RequestOptions();
-        return serviceClient.link(requestOptions).mapPage(bodyItemValue -> bodyItemValue.toObject(Pet.class));
+        return serviceClient.link(requestOptions).mapPage(bodyItemValue -> {
+            try (JsonReader jsonReader = JsonProviders.createReader(bodyItemValue.toBytes())) {
+                return Pet.fromJson(jsonReader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
     }
 }
@@ -16,6 +16,10 @@ import com.azure.core.http.HttpHeaderName;
 import com.azure.core.http.rest.PagedIterable;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.util.BinaryData;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import payload.pageable.implementation.ServerDrivenPaginationContinuationTokensImpl;
 import payload.pageable.models.Pet;
 
@@ -229,8 +233,13 @@ public final class ServerDrivenPaginationContinuationTokenClient {
         if (bar != null) {
             requestOptions.addQueryParam("bar", bar, false);
         }
-        return serviceClient.requestQueryResponseBody(requestOptions)
-            .mapPage(bodyItemValue -> bodyItemValue.toObject(Pet.class));
+        return serviceClient.requestQueryResponseBody(requestOptions).mapPage(bodyItemValue -> {
+            try (JsonReader jsonReader = JsonProviders.createReader(bodyItemValue.toBytes())) {
+                return Pet.fromJson(jsonReader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
     }
 
     /**
@@ -248,8 +257,13 @@ public final class ServerDrivenPaginationContinuationTokenClient {
     public PagedIterable<Pet> requestQueryResponseBody() {
         // Generated convenience method for requestQueryResponseBody
         RequestOptions requestOptions = new RequestOptions();
-        return serviceClient.requestQueryResponseBody(requestOptions)
-            .mapPage(bodyItemValue -> bodyItemValue.toObject(Pet.class));
+        return serviceClient.requestQueryResponseBody(requestOptions).mapPage(bodyItemValue -> {
+            try (JsonReader jsonReader = JsonProviders.createReader(bodyItemValue.toBytes())) {
+                return Pet.fromJson(jsonReader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
     }
 
     /**
@@ -280,8 +294,13 @@ public final class ServerDrivenPaginationContinuationTokenClient {
         if (bar != null) {
             requestOptions.addQueryParam("bar", bar, false);
         }
-        return serviceClient.requestHeaderResponseBody(requestOptions)
-            .mapPage(bodyItemValue -> bodyItemValue.toObject(Pet.class));
+        return serviceClient.requestHeaderResponseBody(requestOptions).mapPage(bodyItemValue -> {
+            try (JsonReader jsonReader = JsonProviders.createReader(bodyItemValue.toBytes())) {
+                return Pet.fromJson(jsonReader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
     }
 
     /**
@@ -299,8 +318,13 @@ public final class ServerDrivenPaginationContinuationTokenClient {
     public PagedIterable<Pet> requestHeaderResponseBody() {
         // Generated convenience method for requestHeaderResponseBody
         RequestOptions requestOptions = new RequestOptions();
-        return serviceClient.requestHeaderResponseBody(requestOptions)
-            .mapPage(bodyItemValue -> bodyItemValue.toObject(Pet.class));
+        return serviceClient.requestHeaderResponseBody(requestOptions).mapPage(bodyItemValue -> {
+            try (JsonReader jsonReader = JsonProviders.createReader(bodyItemValue.toBytes())) {
+                return Pet.fromJson(jsonReader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
     }
 
     /**
@@ -331,8 +355,13 @@ public final class ServerDrivenPaginationContinuationTokenClient {
         if (bar != null) {
             requestOptions.addQueryParam("bar", bar, false);
         }
-        return serviceClient.requestQueryResponseHeader(requestOptions)
-            .mapPage(bodyItemValue -> bodyItemValue.toObject(Pet.class));
+        return serviceClient.requestQueryResponseHeader(requestOptions).mapPage(bodyItemValue -> {
+            try (JsonReader jsonReader = JsonProviders.createReader(bodyItemValue.toBytes())) {
+                return Pet.fromJson(jsonReader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
     }
 
     /**
@@ -350,8 +379,13 @@ public final class ServerDrivenPaginationContinuationTokenClient {
     public PagedIterable<Pet> requestQueryResponseHeader() {
         // Generated convenience method for requestQueryResponseHeader
         RequestOptions requestOptions = new RequestOptions();
-        return serviceClient.requestQueryResponseHeader(requestOptions)
-            .mapPage(bodyItemValue -> bodyItemValue.toObject(Pet.class));
+        return serviceClient.requestQueryResponseHeader(requestOptions).mapPage(bodyItemValue -> {
+            try (JsonReader jsonReader = JsonProviders.createReader(bodyItemValue.toBytes())) {
+                return Pet.fromJson(jsonReader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
     }
 
     /**
@@ -382,8 +416,13 @@ public final class ServerDrivenPaginationContinuationTokenClient {
         if (bar != null) {
             requestOptions.addQueryParam("bar", bar, false);
         }
-        return serviceClient.requestHeaderResponseHeader(requestOptions)
-            .mapPage(bodyItemValue -> bodyItemValue.toObject(Pet.class));
+        return serviceClient.requestHeaderResponseHeader(requestOptions).mapPage(bodyItemValue -> {
+            try (JsonReader jsonReader = JsonProviders.createReader(bodyItemValue.toBytes())) {
+                return Pet.fromJson(jsonReader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
     }
 
     /**
@@ -401,7 +440,12 @@ public final class ServerDrivenPaginationContinuationTokenClient {
     public PagedIterable<Pet> requestHeaderResponseHeader() {
         // Generated convenience method for requestHeaderResponseHeader
         RequestOptions requestOptions = new RequestOptions();
-        return serviceClient.requestHeaderResponseHeader(requestOptions)
-            .mapPage(bodyItemValue -> bodyItemValue.toObject(Pet.class));
+        return serviceClient.requestHeaderResponseHeader(requestOptions).mapPage(bodyItemValue -> {
+            try (JsonReader jsonReader = JsonProviders.createReader(bodyItemValue.toBytes())) {
+                return Pet.fromJson(jsonReader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
     }
 }
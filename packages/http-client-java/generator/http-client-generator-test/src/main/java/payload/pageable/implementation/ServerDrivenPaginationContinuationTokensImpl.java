@@ -27,9 +27,11 @@ import com.azure.core.http.rest.RestProxy;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.Context;
 import com.azure.core.util.FluxUtil;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonToken;
+import java.io.IOException;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 import reactor.core.publisher.Mono;
 
 /**
@@ -178,8 +180,7 @@ public final class ServerDrivenPaginationContinuationTokensImpl {
         return FluxUtil
             .withContext(
                 context -> service.requestQueryResponseBody(this.client.getEndpoint(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "pets"), null, null));
+            .map(res -> toPagedResponse(res, "pets", null));
     }
 
     /**
@@ -262,8 +263,7 @@ public final class ServerDrivenPaginationContinuationTokensImpl {
         final String accept = "application/json";
         Response<BinaryData> res
             = service.requestQueryResponseBodySync(this.client.getEndpoint(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "pets"), null, null);
+        return toPagedResponse(res, "pets", null);
     }
 
     /**
@@ -346,8 +346,7 @@ public final class ServerDrivenPaginationContinuationTokensImpl {
         final String accept = "application/json";
         return FluxUtil.withContext(
             context -> service.requestHeaderResponseBody(this.client.getEndpoint(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "pets"), null, null));
+            .map(res -> toPagedResponse(res, "pets", null));
     }
 
     /**
@@ -430,8 +429,7 @@ public final class ServerDrivenPaginationContinuationTokensImpl {
         final String accept = "application/json";
         Response<BinaryData> res
             = service.requestHeaderResponseBodySync(this.client.getEndpoint(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "pets"), null, null);
+        return toPagedResponse(res, "pets", null);
     }
 
     /**
@@ -514,8 +512,7 @@ public final class ServerDrivenPaginationContinuationTokensImpl {
         final String accept = "application/json";
         return FluxUtil.withContext(
             context -> service.requestQueryResponseHeader(this.client.getEndpoint(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "pets"), null, null));
+            .map(res -> toPagedResponse(res, "pets", null));
     }
 
     /**
@@ -598,8 +595,7 @@ public final class ServerDrivenPaginationContinuationTokensImpl {
         final String accept = "application/json";
         Response<BinaryData> res
             = service.requestQueryResponseHeaderSync(this.client.getEndpoint(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "pets"), null, null);
+        return toPagedResponse(res, "pets", null);
     }
 
     /**
@@ -682,8 +678,7 @@ public final class ServerDrivenPaginationContinuationTokensImpl {
         final String accept = "application/json";
         return FluxUtil.withContext(
             context -> service.requestHeaderResponseHeader(this.client.getEndpoint(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "pets"), null, null));
+            .map(res -> toPagedResponse(res, "pets", null));
     }
 
     /**
@@ -766,8 +761,7 @@ public final class ServerDrivenPaginationContinuationTokensImpl {
         final String accept = "application/json";
         Response<BinaryData> res
             = service.requestHeaderResponseHeaderSync(this.client.getEndpoint(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "pets"), null, null);
+        return toPagedResponse(res, "pets", null);
     }
 
     /**
@@ -810,22 +804,31 @@ public final class ServerDrivenPaginationContinuationTokensImpl {
         return new PagedIterable<>(() -> requestHeaderResponseHeaderSinglePage(requestOptions));
     }
 
-    private List<BinaryData> getValues(BinaryData binaryData, String path) {
-        try {
-            Map<?, ?> obj = binaryData.toObject(Map.class);
-            List<?> values = (List<?>) obj.get(path);
-            return values.stream().map(BinaryData::fromObject).collect(Collectors.toList());
-        } catch (RuntimeException e) {
-            return null;
-        }
-    }
-
-    private String getNextLink(BinaryData binaryData, String path) {
-        try {
-            Map<?, ?> obj = binaryData.toObject(Map.class);
-            return (String) obj.get(path);
-        } catch (RuntimeException e) {
-            return null;
+    private PagedResponse<BinaryData> toPagedResponse(Response<BinaryData> res, String itemsName, String nextLinkName) {
+        List<BinaryData> values = null;
+        String nextLink = null;
+        try (JsonReader jsonReader = JsonProviders.createReader(res.getValue().toBytes())) {
+            if (jsonReader.nextToken() == JsonToken.START_OBJECT) {
+                while (jsonReader.nextToken() != JsonToken.END_OBJECT) {
+                    String fieldName = jsonReader.getFieldName();
+                    jsonReader.nextToken();
+                    if (fieldName.equals(itemsName)) {
+                        values = jsonReader.readArray(reader -> {
+                            JsonToken token = reader.currentToken();
+                            return token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY
+                                ? BinaryData.fromString(reader.readChildren())
+                                : BinaryData.fromObject(reader.readUntyped());
+                        });
+                    } else if (fieldName.equals(nextLinkName)) {
+                        nextLink = jsonReader.getString();
+                    } else {
+                        jsonReader.skipChildren();
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // values or next link not in the expected format is returned as null
         }
+        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(), values, nextLink, null);
     }
 }
@@ -109,15 +109,12 @@ public final class ChildExtensionResourceImpl
         tsptest.armresourceprovider.ArmResourceProviderManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.resourceUri = ResourceManagerUtils.getValueFromIdByParameterName(innerObject.id(),
+        String[] valuesFromId = ResourceManagerUtils.getValuesFromIdByParameterName(innerObject.id(),
             "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
-            "resourceUri");
-        this.topLevelArmResourceName = ResourceManagerUtils.getValueFromIdByParameterName(innerObject.id(),
-            "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
-            "topLevelArmResourceName");
-        this.childExtensionResourceName = ResourceManagerUtils.getValueFromIdByParameterName(innerObject.id(),
-            "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
-            "childExtensionResourceName");
+            "resourceUri", "topLevelArmResourceName", "childExtensionResourceName");
+        this.resourceUri = valuesFromId[0];
+        this.topLevelArmResourceName = valuesFromId[1];
+        this.childExtensionResourceName = valuesFromId[2];
     }
 
     public ChildExtensionResource refresh() {
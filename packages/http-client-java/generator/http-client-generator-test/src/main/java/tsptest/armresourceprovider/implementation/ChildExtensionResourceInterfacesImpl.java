@@ -74,23 +74,20 @@ public final class ChildExtensionResourceInterfacesImpl implements ChildExtensio
     }
 
     public ChildExtensionResource getById(String id) {
-        String resourceUri = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        String[] valuesFromId = ResourceManagerUtils.getValuesFromIdByParameterName(id,
             "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
-            "resourceUri");
+            "resourceUri", "topLevelArmResourceName", "childExtensionResourceName");
+        String resourceUri = valuesFromId[0];
         if (resourceUri == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceUri'.", id)));
         }
-        String topLevelArmResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
-            "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
-            "topLevelArmResourceName");
+        String topLevelArmResourceName = valuesFromId[1];
         if (topLevelArmResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'topLevelArmResources'.", id)));
         }
-        String childExtensionResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
-            "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
-            "childExtensionResourceName");
+        String childExtensionResourceName = valuesFromId[2];
         if (childExtensionResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'childExtensionResources'.", id)));
@@ -100,23 +97,20 @@ public final class ChildExtensionResourceInterfacesImpl implements ChildExtensio
     }
 
     public Response<ChildExtensionResource> getByIdWithResponse(String id, Context context) {
-        String resourceUri = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        String[] valuesFromId = ResourceManagerUtils.getValuesFromIdByParameterName(id,
             "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
-            "resourceUri");
+            "resourceUri", "topLevelArmResourceName", "childExtensionResourceName");
+        String resourceUri = valuesFromId[0];
         if (resourceUri == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceUri'.", id)));
         }
-        String topLevelArmResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
-            "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
-            "topLevelArmResourceName");
+        String topLevelArmResourceName = valuesFromId[1];
         if (topLevelArmResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'topLevelArmResources'.", id)));
         }
-        String childExtensionResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
-            "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
-            "childExtensionResourceName");
+        String childExtensionResourceName = valuesFromId[2];
         if (childExtensionResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'childExtensionResources'.", id)));
@@ -125,23 +119,20 @@ public final class ChildExtensionResourceInterfacesImpl implements ChildExtensio
     }
 
     public void deleteById(String id) {
-        String resourceUri = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        String[] valuesFromId = ResourceManagerUtils.getValuesFromIdByParameterName(id,
             "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
-            "resourceUri");
+            "resourceUri", "topLevelArmResourceName", "childExtensionResourceName");
+        String resourceUri = valuesFromId[0];
         if (resourceUri == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceUri'.", id)));
         }
-        String topLevelArmResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
-            "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
-            "topLevelArmResourceName");
+        String topLevelArmResourceName = valuesFromId[1];
         if (topLevelArmResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'topLevelArmResources'.", id)));
         }
-        String childExtensionResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
-            "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
-            "childExtensionResourceName");
+        String childExtensionResourceName = valuesFromId[2];
         if (childExtensionResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'childExtensionResources'.", id)));
@@ -150,23 +141,20 @@ public final class ChildExtensionResourceInterfacesImpl implements ChildExtensio
     }
 
     public void deleteByIdWithResponse(String id, Context context) {
-        String resourceUri = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        String[] valuesFromId = ResourceManagerUtils.getValuesFromIdByParameterName(id,
             "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
-            "resourceUri");
+            "resourceUri", "topLevelArmResourceName", "childExtensionResourceName");
+        String resourceUri = valuesFromId[0];
         if (resourceUri == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceUri'.", id)));
         }
-        String topLevelArmResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
-            "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
-            "topLevelArmResourceName");
+        String topLevelArmResourceName = valuesFromId[1];
         if (topLevelArmResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'topLevelArmResources'.", id)));
         }
-        String childExtensionResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
-            "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
-            "childExtensionResourceName");
+        String childExtensionResourceName = valuesFromId[2];
         if (childExtensionResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'childExtensionResources'.", id)));
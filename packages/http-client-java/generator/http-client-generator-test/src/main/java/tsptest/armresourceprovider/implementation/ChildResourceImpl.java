@@ -134,10 +134,11 @@ public final class ChildResourceImpl implements ChildResource, ChildResource.Def
         tsptest.armresourceprovider.ArmResourceProviderManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.resourceGroupName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "resourceGroups");
-        this.topLevelArmResourceName
-            = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "topLevelArmResources");
-        this.childResourceName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "childResources");
+        String[] valuesFromId = ResourceManagerUtils.getValuesFromIdByName(innerObject.id(), "resourceGroups",
+            "topLevelArmResources", "childResources");
+        this.resourceGroupName = valuesFromId[0];
+        this.topLevelArmResourceName = valuesFromId[1];
+        this.childResourceName = valuesFromId[2];
     }
 
     public ChildResource refresh() {
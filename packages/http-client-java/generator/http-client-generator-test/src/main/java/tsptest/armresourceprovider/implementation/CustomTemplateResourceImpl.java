@@ -160,9 +160,10 @@ public final class CustomTemplateResourceImpl
         tsptest.armresourceprovider.ArmResourceProviderManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.resourceGroupName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "resourceGroups");
-        this.customTemplateResourceName
-            = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "customTemplateResources");
+        String[] valuesFromId
+            = ResourceManagerUtils.getValuesFromIdByName(innerObject.id(), "resourceGroups", "customTemplateResources");
+        this.resourceGroupName = valuesFromId[0];
+        this.customTemplateResourceName = valuesFromId[1];
     }
 
     public CustomTemplateResourceImpl withRegion(Region location) {
@@ -105,8 +105,10 @@ public final class NginxConfigurationResponseImpl
         tsptest.armresourceprovider.ArmResourceProviderManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.resourceGroupName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "resourceGroups");
-        this.configurationName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "configurations");
+        String[] valuesFromId
+            = ResourceManagerUtils.getValuesFromIdByName(innerObject.id(), "resourceGroups", "configurations");
+        this.resourceGroupName = valuesFromId[0];
+        this.configurationName = valuesFromId[1];
     }
 
     public NginxConfigurationResponseImpl withRootFile(String rootFile) {
@@ -157,9 +157,10 @@ public final class TopLevelArmResourceImpl
         tsptest.armresourceprovider.ArmResourceProviderManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.resourceGroupName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "resourceGroups");
-        this.topLevelArmResourceName
-            = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "topLevelArmResources");
+        String[] valuesFromId
+            = ResourceManagerUtils.getValuesFromIdByName(innerObject.id(), "resourceGroups", "topLevelArmResources");
+        this.resourceGroupName = valuesFromId[0];
+        this.topLevelArmResourceName = valuesFromId[1];
     }
 
     public TopLevelArmResource refresh() {
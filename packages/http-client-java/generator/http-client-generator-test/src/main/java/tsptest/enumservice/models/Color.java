@@ -4,6 +4,10 @@
 
 package tsptest.enumservice.models;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines values for Color.
  */
@@ -23,6 +27,16 @@ public enum Color {
      */
     GREEN("Green");
 
+    private static final Map<String, Color> VALUES;
+
+    static {
+        Map<String, Color> values = new HashMap<>(4);
+        for (Color item : Color.values()) {
+            values.putIfAbsent(toLookupKey(item.toString()), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a Color instance.
      */
@@ -42,13 +56,15 @@ public enum Color {
         if (value == null) {
             return null;
         }
-        Color[] items = Color.values();
-        for (Color item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
+        return VALUES.get(toLookupKey(value));
+    }
+
+    private static String toLookupKey(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
         }
-        return null;
+        return new String(chars);
     }
 
     /**
@@ -4,6 +4,10 @@
 
 package tsptest.enumservice.models;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines values for OperationName.
  */
@@ -18,6 +22,16 @@ public enum OperationName {
      */
     WRITE("Write");
 
+    private static final Map<String, OperationName> VALUES;
+
+    static {
+        Map<String, OperationName> values = new HashMap<>(3);
+        for (OperationName item : OperationName.values()) {
+            values.putIfAbsent(toLookupKey(item.toString()), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a OperationName instance.
      */
@@ -37,13 +51,15 @@ public enum OperationName {
         if (value == null) {
             return null;
         }
-        OperationName[] items = OperationName.values();
-        for (OperationName item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
+        return VALUES.get(toLookupKey(value));
+    }
+
+    private static String toLookupKey(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
         }
-        return null;
+        return new String(chars);
     }
 
     /**
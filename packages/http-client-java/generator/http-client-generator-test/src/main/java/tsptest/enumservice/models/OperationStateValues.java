@@ -4,6 +4,10 @@
 
 package tsptest.enumservice.models;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines values for OperationStateValues.
  */
@@ -23,6 +27,16 @@ public enum OperationStateValues {
      */
     FAILED("Failed");
 
+    private static final Map<String, OperationStateValues> VALUES;
+
+    static {
+        Map<String, OperationStateValues> values = new HashMap<>(4);
+        for (OperationStateValues item : OperationStateValues.values()) {
+            values.putIfAbsent(toLookupKey(item.toString()), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a OperationStateValues instance.
      */
@@ -42,13 +56,15 @@ public enum OperationStateValues {
         if (value == null) {
             return null;
         }
-        OperationStateValues[] items = OperationStateValues.values();
-        for (OperationStateValues item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
+        return VALUES.get(toLookupKey(value));
+    }
+
+    private static String toLookupKey(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
         }
-        return null;
+        return new String(chars);
     }
 
     /**
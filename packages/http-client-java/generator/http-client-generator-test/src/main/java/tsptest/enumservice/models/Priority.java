@@ -4,6 +4,10 @@
 
 package tsptest.enumservice.models;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines values for Priority.
  */
@@ -18,6 +22,16 @@ public enum Priority {
      */
     LOW(0);
 
+    private static final Map<Integer, Priority> VALUES;
+
+    static {
+        Map<Integer, Priority> values = new HashMap<>(3);
+        for (Priority item : Priority.values()) {
+            values.putIfAbsent(item.toInt(), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a Priority instance.
      */
@@ -34,13 +48,7 @@ public enum Priority {
      * @return the parsed Priority object, or null if unable to parse.
      */
     public static Priority fromInt(int value) {
-        Priority[] items = Priority.values();
-        for (Priority item : items) {
-            if (item.toInt() == value) {
-                return item;
-            }
-        }
-        return null;
+        return VALUES.get(value);
     }
 
     /**
@@ -4,6 +4,10 @@
 
 package tsptest.enumservice.models;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines values for Unit.
  */
@@ -23,6 +27,16 @@ public enum Unit {
      */
     MILLIGRAM(1000.0);
 
+    private static final Map<Double, Unit> VALUES;
+
+    static {
+        Map<Double, Unit> values = new HashMap<>(4);
+        for (Unit item : Unit.values()) {
+            values.putIfAbsent(item.toDouble(), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a Unit instance.
      */
@@ -39,13 +53,7 @@ public enum Unit {
      * @return the parsed Unit object, or null if unable to parse.
      */
     public static Unit fromDouble(double value) {
-        Unit[] items = Unit.values();
-        for (Unit item : items) {
-            if (Double.doubleToLongBits(item.toDouble()) == Double.doubleToLongBits(value)) {
-                return item;
-            }
-        }
-        return null;
+        return VALUES.get(value);
     }
 
     /**
@@ -4,6 +4,10 @@
 
 package tsptest.flatten.models;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines values for SendLongRequestStatus.
  */
@@ -23,6 +27,16 @@ public enum SendLongRequestStatus {
      */
     COMPLETED("Completed");
 
+    private static final Map<String, SendLongRequestStatus> VALUES;
+
+    static {
+        Map<String, SendLongRequestStatus> values = new HashMap<>(4);
+        for (SendLongRequestStatus item : SendLongRequestStatus.values()) {
+            values.putIfAbsent(toLookupKey(item.toString()), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a SendLongRequestStatus instance.
      */
@@ -42,13 +56,15 @@ public enum SendLongRequestStatus {
         if (value == null) {
             return null;
         }
-        SendLongRequestStatus[] items = SendLongRequestStatus.values();
-        for (SendLongRequestStatus item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
+        return VALUES.get(toLookupKey(value));
+    }
+
+    private static String toLookupKey(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
         }
-        return null;
+        return new String(chars);
     }
 
     /**
@@ -11,8 +11,6 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonToken;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
-import java.util.HashSet;
-import java.util.Set;
 import tsptest.flatten.implementation.JsonMergePatchHelper;
 
 /**
@@ -38,11 +36,20 @@ public final class TodoItemPatch implements JsonSerializable<TodoItemPatch> {
     @Generated
     private TodoItemPatchStatus status;
 
+    @Generated
+    private static final long UPDATED_TITLE = 1L << 0;
+
+    @Generated
+    private static final long UPDATED_DESCRIPTION = 1L << 1;
+
+    @Generated
+    private static final long UPDATED_STATUS = 1L << 2;
+
     /**
-     * Stores updated model property, the value is property name, not serialized name.
+     * Stores updated model properties, as bits at the indices of the properties.
      */
     @Generated
-    private final Set<String> updatedProperties = new HashSet<>();
+    private long updatedProperties;
 
     @Generated
     private boolean jsonMergePatch;
@@ -93,7 +100,7 @@ public final class TodoItemPatch implements JsonSerializable<TodoItemPatch> {
     @Generated
     public TodoItemPatch setTitle(String title) {
         this.title = title;
-        this.updatedProperties.add("title");
+        this.updatedProperties |= UPDATED_TITLE;
         return this;
     }
 
@@ -116,7 +123,7 @@ public final class TodoItemPatch implements JsonSerializable<TodoItemPatch> {
     @Generated
     public TodoItemPatch setDescription(String description) {
         this.description = description;
-        this.updatedProperties.add("description");
+        this.updatedProperties |= UPDATED_DESCRIPTION;
         return this;
     }
 
@@ -139,7 +146,7 @@ public final class TodoItemPatch implements JsonSerializable<TodoItemPatch> {
     @Generated
     public TodoItemPatch setStatus(TodoItemPatchStatus status) {
         this.status = status;
-        this.updatedProperties.add("status");
+        this.updatedProperties |= UPDATED_STATUS;
         return this;
     }
 
@@ -163,21 +170,21 @@ public final class TodoItemPatch implements JsonSerializable<TodoItemPatch> {
     @Generated
     private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        if (updatedProperties.contains("title")) {
+        if ((updatedProperties & UPDATED_TITLE) != 0) {
             if (this.title == null) {
                 jsonWriter.writeNullField("title");
             } else {
                 jsonWriter.writeStringField("title", this.title);
             }
         }
-        if (updatedProperties.contains("description")) {
+        if ((updatedProperties & UPDATED_DESCRIPTION) != 0) {
             if (this.description == null) {
                 jsonWriter.writeNullField("description");
             } else {
                 jsonWriter.writeStringField("description", this.description);
             }
         }
-        if (updatedProperties.contains("status")) {
+        if ((updatedProperties & UPDATED_STATUS) != 0) {
             if (this.status == null) {
                 jsonWriter.writeNullField("status");
             } else {
@@ -4,6 +4,10 @@
 
 package tsptest.flatten.models;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines values for TodoItemPatchStatus.
  */
@@ -23,6 +27,16 @@ public enum TodoItemPatchStatus {
      */
     COMPLETED("Completed");
 
+    private static final Map<String, TodoItemPatchStatus> VALUES;
+
+    static {
+        Map<String, TodoItemPatchStatus> values = new HashMap<>(4);
+        for (TodoItemPatchStatus item : TodoItemPatchStatus.values()) {
+            values.putIfAbsent(toLookupKey(item.toString()), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a TodoItemPatchStatus instance.
      */
@@ -42,13 +56,15 @@ public enum TodoItemPatchStatus {
         if (value == null) {
             return null;
         }
-        TodoItemPatchStatus[] items = TodoItemPatchStatus.values();
-        for (TodoItemPatchStatus item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
+        return VALUES.get(toLookupKey(value));
+    }
+
+    private static String toLookupKey(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
         }
-        return null;
+        return new String(chars);
     }
 
     /**
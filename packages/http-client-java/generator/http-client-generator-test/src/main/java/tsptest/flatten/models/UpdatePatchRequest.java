@@ -11,8 +11,6 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonToken;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
-import java.util.HashSet;
-import java.util.Set;
 import tsptest.flatten.implementation.JsonMergePatchHelper;
 
 /**
@@ -26,11 +24,14 @@ public final class UpdatePatchRequest implements JsonSerializable<UpdatePatchReq
     @Generated
     private TodoItemPatch patch;
 
+    @Generated
+    private static final long UPDATED_PATCH = 1L << 0;
+
     /**
-     * Stores updated model property, the value is property name, not serialized name.
+     * Stores updated model properties, as bits at the indices of the properties.
      */
     @Generated
-    private final Set<String> updatedProperties = new HashSet<>();
+    private long updatedProperties;
 
     @Generated
     private boolean jsonMergePatch;
@@ -83,7 +84,7 @@ public final class UpdatePatchRequest implements JsonSerializable<UpdatePatchReq
     @Generated
     public UpdatePatchRequest setPatch(TodoItemPatch patch) {
         this.patch = patch;
-        this.updatedProperties.add("patch");
+        this.updatedProperties |= UPDATED_PATCH;
         return this;
     }
 
@@ -105,7 +106,7 @@ public final class UpdatePatchRequest implements JsonSerializable<UpdatePatchReq
     @Generated
     private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        if (updatedProperties.contains("patch")) {
+        if ((updatedProperties & UPDATED_PATCH) != 0) {
             if (this.patch == null) {
                 jsonWriter.writeNullField("patch");
             } else {
@@ -4,6 +4,10 @@
 
 package tsptest.literalservice.models;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines values for ModelOptionalLiteral.
  */
@@ -13,6 +17,16 @@ public enum ModelOptionalLiteral {
      */
     OPTIONAL_LITERAL("optionalLiteral");
 
+    private static final Map<String, ModelOptionalLiteral> VALUES;
+
+    static {
+        Map<String, ModelOptionalLiteral> values = new HashMap<>(2);
+        for (ModelOptionalLiteral item : ModelOptionalLiteral.values()) {
+            values.putIfAbsent(toLookupKey(item.toString()), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a ModelOptionalLiteral instance.
      */
@@ -32,13 +46,15 @@ public enum ModelOptionalLiteral {
         if (value == null) {
             return null;
         }
-        ModelOptionalLiteral[] items = ModelOptionalLiteral.values();
-        for (ModelOptionalLiteral item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
+        return VALUES.get(toLookupKey(value));
+    }
+
+    private static String toLookupKey(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
         }
-        return null;
+        return new String(chars);
     }
 
     /**
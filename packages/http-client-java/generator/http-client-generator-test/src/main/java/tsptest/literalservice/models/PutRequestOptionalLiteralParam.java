@@ -4,6 +4,10 @@
 
 package tsptest.literalservice.models;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines values for PutRequestOptionalLiteralParam.
  */
@@ -13,6 +17,16 @@ public enum PutRequestOptionalLiteralParam {
      */
     OPTIONAL_LITERAL_PARAM("optionalLiteralParam");
 
+    private static final Map<String, PutRequestOptionalLiteralParam> VALUES;
+
+    static {
+        Map<String, PutRequestOptionalLiteralParam> values = new HashMap<>(2);
+        for (PutRequestOptionalLiteralParam item : PutRequestOptionalLiteralParam.values()) {
+            values.putIfAbsent(toLookupKey(item.toString()), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a PutRequestOptionalLiteralParam instance.
      */
@@ -32,13 +46,15 @@ public enum PutRequestOptionalLiteralParam {
         if (value == null) {
             return null;
         }
-        PutRequestOptionalLiteralParam[] items = PutRequestOptionalLiteralParam.values();
-        for (PutRequestOptionalLiteralParam item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
+        return VALUES.get(toLookupKey(value));
+    }
+
+    private static String toLookupKey(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
         }
-        return null;
+        return new String(chars);
     }
 
     /**
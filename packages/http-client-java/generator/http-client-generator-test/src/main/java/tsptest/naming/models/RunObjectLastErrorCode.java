@@ -4,6 +4,10 @@
 
 package tsptest.naming.models;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines values for RunObjectLastErrorCode.
  */
@@ -23,6 +27,16 @@ public enum RunObjectLastErrorCode {
      */
     INVALID_PROMPT("invalid_prompt");
 
+    private static final Map<String, RunObjectLastErrorCode> VALUES;
+
+    static {
+        Map<String, RunObjectLastErrorCode> values = new HashMap<>(4);
+        for (RunObjectLastErrorCode item : RunObjectLastErrorCode.values()) {
+            values.putIfAbsent(toLookupKey(item.toString()), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a RunObjectLastErrorCode instance.
      */
@@ -42,13 +56,15 @@ public enum RunObjectLastErrorCode {
         if (value == null) {
             return null;
         }
-        RunObjectLastErrorCode[] items = RunObjectLastErrorCode.values();
-        for (RunObjectLastErrorCode item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
+        return VALUES.get(toLookupKey(value));
+    }
+
+    private static String toLookupKey(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
         }
-        return null;
+        return new String(chars);
     }
 
     /**
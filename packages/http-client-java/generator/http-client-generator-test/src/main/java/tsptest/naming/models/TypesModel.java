@@ -4,6 +4,10 @@
 
 package tsptest.naming.models;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * summary of Types
  * 
@@ -20,6 +24,16 @@ public enum TypesModel {
      */
     FILE("File");
 
+    private static final Map<String, TypesModel> VALUES;
+
+    static {
+        Map<String, TypesModel> values = new HashMap<>(3);
+        for (TypesModel item : TypesModel.values()) {
+            values.putIfAbsent(toLookupKey(item.toString()), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a TypesModel instance.
      */
@@ -39,13 +53,15 @@ public enum TypesModel {
         if (value == null) {
             return null;
         }
-        TypesModel[] items = TypesModel.values();
-        for (TypesModel item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
+        return VALUES.get(toLookupKey(value));
+    }
+
+    private static String toLookupKey(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
         }
-        return null;
+        return new String(chars);
     }
 
     /**
@@ -4,6 +4,10 @@
 
 package tsptest.namingjavaparser.models;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines values for RequestParametersType.
  */
@@ -18,6 +22,16 @@ public enum RequestParametersType {
      */
     TYPE2("Type2");
 
+    private static final Map<String, RequestParametersType> VALUES;
+
+    static {
+        Map<String, RequestParametersType> values = new HashMap<>(3);
+        for (RequestParametersType item : RequestParametersType.values()) {
+            values.putIfAbsent(toLookupKey(item.toString()), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a RequestParametersType instance.
      */
@@ -37,13 +51,15 @@ public enum RequestParametersType {
         if (value == null) {
             return null;
         }
-        RequestParametersType[] items = RequestParametersType.values();
-        for (RequestParametersType item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
+        return VALUES.get(toLookupKey(value));
+    }
+
+    private static String toLookupKey(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
         }
-        return null;
+        return new String(chars);
     }
 
     /**
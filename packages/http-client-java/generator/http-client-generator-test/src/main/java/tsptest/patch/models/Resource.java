@@ -11,10 +11,8 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonToken;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import tsptest.patch.implementation.JsonMergePatchHelper;
 
 /**
@@ -82,11 +80,41 @@ public final class Resource implements JsonSerializable<Resource> {
     @Generated
     private Fish fish;
 
+    @Generated
+    private static final long UPDATED_ID = 1L << 0;
+
+    @Generated
+    private static final long UPDATED_NAME = 1L << 1;
+
+    @Generated
+    private static final long UPDATED_DESCRIPTION = 1L << 2;
+
+    @Generated
+    private static final long UPDATED_MAP = 1L << 3;
+
+    @Generated
+    private static final long UPDATED_LONG_VALUE = 1L << 4;
+
+    @Generated
+    private static final long UPDATED_INT_VALUE = 1L << 5;
+
+    @Generated
+    private static final long UPDATED_ENUM_VALUE = 1L << 6;
+
+    @Generated
+    private static final long UPDATED_INNER_MODEL_PROPERTY = 1L << 7;
+
+    @Generated
+    private static final long UPDATED_ARRAY = 1L << 8;
+
+    @Generated
+    private static final long UPDATED_FISH = 1L << 9;
+
     /**
-     * Stores updated model property, the value is property name, not serialized name.
+     * Stores updated model properties, as bits at the indices of the properties.
      */
     @Generated
-    private final Set<String> updatedProperties = new HashSet<>();
+    private long updatedProperties;
 
     @Generated
     private boolean jsonMergePatch;
@@ -157,7 +185,7 @@ public final class Resource implements JsonSerializable<Resource> {
     @Generated
     public Resource setDescription(String description) {
         this.description = description;
-        this.updatedProperties.add("description");
+        this.updatedProperties |= UPDATED_DESCRIPTION;
         return this;
     }
 
@@ -181,7 +209,7 @@ public final class Resource implements JsonSerializable<Resource> {
     @Generated
     public Resource setMap(Map<String, InnerModel> map) {
         this.map = map;
-        this.updatedProperties.add("map");
+        this.updatedProperties |= UPDATED_MAP;
         return this;
     }
 
@@ -204,7 +232,7 @@ public final class Resource implements JsonSerializable<Resource> {
     @Generated
     public Resource setLongValue(Long longValue) {
         this.longValue = longValue;
-        this.updatedProperties.add("longValue");
+        this.updatedProperties |= UPDATED_LONG_VALUE;
         return this;
     }
 
@@ -227,7 +255,7 @@ public final class Resource implements JsonSerializable<Resource> {
     @Generated
     public Resource setIntValue(Integer intValue) {
         this.intValue = intValue;
-        this.updatedProperties.add("intValue");
+        this.updatedProperties |= UPDATED_INT_VALUE;
         return this;
     }
 
@@ -250,7 +278,7 @@ public final class Resource implements JsonSerializable<Resource> {
     @Generated
     public Resource setEnumValue(ResourceEnumValue enumValue) {
         this.enumValue = enumValue;
-        this.updatedProperties.add("enumValue");
+        this.updatedProperties |= UPDATED_ENUM_VALUE;
         return this;
     }
 
@@ -273,7 +301,7 @@ public final class Resource implements JsonSerializable<Resource> {
     @Generated
     public Resource setInnerModelProperty(InnerModel innerModelProperty) {
         this.innerModelProperty = innerModelProperty;
-        this.updatedProperties.add("innerModelProperty");
+        this.updatedProperties |= UPDATED_INNER_MODEL_PROPERTY;
         return this;
     }
 
@@ -296,7 +324,7 @@ public final class Resource implements JsonSerializable<Resource> {
     @Generated
     public Resource setArray(List<InnerModel> array) {
         this.array = array;
-        this.updatedProperties.add("array");
+        this.updatedProperties |= UPDATED_ARRAY;
         return this;
     }
 
@@ -319,7 +347,7 @@ public final class Resource implements JsonSerializable<Resource> {
     @Generated
     public Resource setFish(Fish fish) {
         this.fish = fish;
-        this.updatedProperties.add("fish");
+        this.updatedProperties |= UPDATED_FISH;
         return this;
     }
 
@@ -348,14 +376,14 @@ public final class Resource implements JsonSerializable<Resource> {
     @Generated
     private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        if (updatedProperties.contains("description")) {
+        if ((updatedProperties & UPDATED_DESCRIPTION) != 0) {
             if (this.description == null) {
                 jsonWriter.writeNullField("description");
             } else {
                 jsonWriter.writeStringField("description", this.description);
             }
         }
-        if (updatedProperties.contains("map")) {
+        if ((updatedProperties & UPDATED_MAP) != 0) {
             if (this.map == null) {
                 jsonWriter.writeNullField("map");
             } else {
@@ -370,28 +398,28 @@ public final class Resource implements JsonSerializable<Resource> {
                 });
             }
         }
-        if (updatedProperties.contains("longValue")) {
+        if ((updatedProperties & UPDATED_LONG_VALUE) != 0) {
             if (this.longValue == null) {
                 jsonWriter.writeNullField("longValue");
             } else {
                 jsonWriter.writeNumberField("longValue", this.longValue);
             }
         }
-        if (updatedProperties.contains("intValue")) {
+        if ((updatedProperties & UPDATED_INT_VALUE) != 0) {
             if (this.intValue == null) {
                 jsonWriter.writeNullField("intValue");
             } else {
                 jsonWriter.writeNumberField("intValue", this.intValue);
             }
         }
-        if (updatedProperties.contains("enumValue")) {
+        if ((updatedProperties & UPDATED_ENUM_VALUE) != 0) {
             if (this.enumValue == null) {
                 jsonWriter.writeNullField("enumValue");
             } else {
                 jsonWriter.writeStringField("enumValue", this.enumValue.toString());
             }
         }
-        if (updatedProperties.contains("innerModelProperty")) {
+        if ((updatedProperties & UPDATED_INNER_MODEL_PROPERTY) != 0) {
             if (this.innerModelProperty == null) {
                 jsonWriter.writeNullField("wireNameForInnerModelProperty");
             } else {
@@ -402,14 +430,14 @@ public final class Resource implements JsonSerializable<Resource> {
                     .prepareModelForJsonMergePatch(this.innerModelProperty, false);
             }
         }
-        if (updatedProperties.contains("array")) {
+        if ((updatedProperties & UPDATED_ARRAY) != 0) {
             if (this.array == null) {
                 jsonWriter.writeNullField("array");
             } else {
                 jsonWriter.writeArrayField("array", this.array, (writer, element) -> writer.writeJson(element));
             }
         }
-        if (updatedProperties.contains("fish")) {
+        if ((updatedProperties & UPDATED_FISH) != 0) {
             if (this.fish == null) {
                 jsonWriter.writeNullField("fish");
             } else {
@@ -4,6 +4,10 @@
 
 package tsptest.patch.models;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines values for ResourceEnumValue.
  */
@@ -23,6 +27,16 @@ public enum ResourceEnumValue {
      */
     C("c");
 
+    private static final Map<String, ResourceEnumValue> VALUES;
+
+    static {
+        Map<String, ResourceEnumValue> values = new HashMap<>(4);
+        for (ResourceEnumValue item : ResourceEnumValue.values()) {
+            values.putIfAbsent(toLookupKey(item.toString()), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a ResourceEnumValue instance.
      */
@@ -42,13 +56,15 @@ public enum ResourceEnumValue {
         if (value == null) {
             return null;
         }
-        ResourceEnumValue[] items = ResourceEnumValue.values();
-        for (ResourceEnumValue item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
+        return VALUES.get(toLookupKey(value));
+    }
+
+    private static String toLookupKey(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
         }
-        return null;
+        return new String(chars);
     }
 
     /**
@@ -10,10 +10,8 @@ import com.azure.json.JsonReader;
 import com.azure.json.JsonToken;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import tsptest.patch.implementation.JsonMergePatchHelper;
 
 /**
@@ -46,11 +44,35 @@ public final class Salmon extends Fish {
     @Generated
     private Fish partner;
 
+    @Generated
+    private static final long UPDATED_KIND = 1L << 0;
+
+    @Generated
+    private static final long UPDATED_ID = 1L << 1;
+
+    @Generated
+    private static final long UPDATED_NAME = 1L << 2;
+
+    @Generated
+    private static final long UPDATED_AGE = 1L << 3;
+
+    @Generated
+    private static final long UPDATED_COLOR = 1L << 4;
+
+    @Generated
+    private static final long UPDATED_FRIENDS = 1L << 5;
+
+    @Generated
+    private static final long UPDATED_HATE = 1L << 6;
+
+    @Generated
+    private static final long UPDATED_PARTNER = 1L << 7;
+
     /**
-     * Stores updated model property, the value is property name, not serialized name.
+     * Stores updated model properties, as bits at the indices of the properties.
      */
     @Generated
-    private final Set<String> updatedProperties = new HashSet<>();
+    private long updatedProperties;
 
     /**
      * Creates an instance of Salmon class.
@@ -89,7 +111,7 @@ public final class Salmon extends Fish {
     @Generated
     public Salmon setFriends(List<Fish> friends) {
         this.friends = friends;
-        this.updatedProperties.add("friends");
+        this.updatedProperties |= UPDATED_FRIENDS;
         return this;
     }
 
@@ -112,7 +134,7 @@ public final class Salmon extends Fish {
     @Generated
     public Salmon setHate(Map<String, Fish> hate) {
         this.hate = hate;
-        this.updatedProperties.add("hate");
+        this.updatedProperties |= UPDATED_HATE;
         return this;
     }
 
@@ -135,7 +157,7 @@ public final class Salmon extends Fish {
     @Generated
     public Salmon setPartner(Fish partner) {
         this.partner = partner;
-        this.updatedProperties.add("partner");
+        this.updatedProperties |= UPDATED_PARTNER;
         return this;
     }
 
@@ -146,7 +168,7 @@ public final class Salmon extends Fish {
     @Override
     public Salmon setAge(int age) {
         super.setAge(age);
-        this.updatedProperties.add("age");
+        this.updatedProperties |= UPDATED_AGE;
         return this;
     }
 
@@ -157,7 +179,7 @@ public final class Salmon extends Fish {
     @Override
     public Salmon setColor(String color) {
         super.setColor(color);
-        this.updatedProperties.add("color");
+        this.updatedProperties |= UPDATED_COLOR;
         return this;
     }
 
@@ -184,10 +206,10 @@ public final class Salmon extends Fish {
     @Generated
     private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        if (updatedProperties.contains("age")) {
+        if ((updatedProperties & UPDATED_AGE) != 0) {
             jsonWriter.writeIntField("age", getAge());
         }
-        if (updatedProperties.contains("color")) {
+        if ((updatedProperties & UPDATED_COLOR) != 0) {
             if (getColor() == null) {
                 jsonWriter.writeNullField("color");
             } else {
@@ -195,14 +217,14 @@ public final class Salmon extends Fish {
             }
         }
         jsonWriter.writeStringField("kind", this.kind);
-        if (updatedProperties.contains("friends")) {
+        if ((updatedProperties & UPDATED_FRIENDS) != 0) {
             if (this.friends == null) {
                 jsonWriter.writeNullField("friends");
             } else {
                 jsonWriter.writeArrayField("friends", this.friends, (writer, element) -> writer.writeJson(element));
             }
         }
-        if (updatedProperties.contains("hate")) {
+        if ((updatedProperties & UPDATED_HATE) != 0) {
             if (this.hate == null) {
                 jsonWriter.writeNullField("hate");
             } else {
@@ -217,7 +239,7 @@ public final class Salmon extends Fish {
                 });
             }
         }
-        if (updatedProperties.contains("partner")) {
+        if ((updatedProperties & UPDATED_PARTNER) != 0) {
             if (this.partner == null) {
                 jsonWriter.writeNullField("partner");
             } else {
@@ -10,8 +10,6 @@ import com.azure.json.JsonReader;
 import com.azure.json.JsonToken;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
-import java.util.HashSet;
-import java.util.Set;
 import tsptest.patch.implementation.JsonMergePatchHelper;
 
 /**
@@ -31,11 +29,32 @@ public final class SawShark extends Shark {
     @Generated
     private String sharktype = "saw";
 
+    @Generated
+    private static final long UPDATED_KIND = 1L << 0;
+
+    @Generated
+    private static final long UPDATED_ID = 1L << 1;
+
+    @Generated
+    private static final long UPDATED_NAME = 1L << 2;
+
+    @Generated
+    private static final long UPDATED_AGE = 1L << 3;
+
+    @Generated
+    private static final long UPDATED_COLOR = 1L << 4;
+
+    @Generated
+    private static final long UPDATED_SHARKTYPE = 1L << 5;
+
+    @Generated
+    private static final long UPDATED_WEIGHT = 1L << 6;
+
     /**
-     * Stores updated model property, the value is property name, not serialized name.
+     * Stores updated model properties, as bits at the indices of the properties.
      */
     @Generated
-    private final Set<String> updatedProperties = new HashSet<>();
+    private long updatedProperties;
 
     /**
      * Creates an instance of SawShark class.
@@ -73,7 +92,7 @@ public final class SawShark extends Shark {
     @Override
     public SawShark setWeight(Integer weight) {
         super.setWeight(weight);
-        this.updatedProperties.add("weight");
+        this.updatedProperties |= UPDATED_WEIGHT;
         return this;
     }
 
@@ -84,7 +103,7 @@ public final class SawShark extends Shark {
     @Override
     public SawShark setAge(int age) {
         super.setAge(age);
-        this.updatedProperties.add("age");
+        this.updatedProperties |= UPDATED_AGE;
         return this;
     }
 
@@ -95,7 +114,7 @@ public final class SawShark extends Shark {
     @Override
     public SawShark setColor(String color) {
         super.setColor(color);
-        this.updatedProperties.add("color");
+        this.updatedProperties |= UPDATED_COLOR;
         return this;
     }
 
@@ -122,17 +141,17 @@ public final class SawShark extends Shark {
     private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
         jsonWriter.writeStringField("kind", this.kind);
-        if (updatedProperties.contains("age")) {
+        if ((updatedProperties & UPDATED_AGE) != 0) {
             jsonWriter.writeIntField("age", getAge());
         }
-        if (updatedProperties.contains("color")) {
+        if ((updatedProperties & UPDATED_COLOR) != 0) {
             if (getColor() == null) {
                 jsonWriter.writeNullField("color");
             } else {
                 jsonWriter.writeStringField("color", getColor());
             }
         }
-        if (updatedProperties.contains("weight")) {
+        if ((updatedProperties & UPDATED_WEIGHT) != 0) {
             if (getWeight() == null) {
                 jsonWriter.writeNullField("weight");
             } else {
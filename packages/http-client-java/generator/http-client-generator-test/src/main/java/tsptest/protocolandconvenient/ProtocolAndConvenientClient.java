@@ -18,6 +18,10 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.polling.PollOperationDetails;
 import com.azure.core.util.polling.SyncPoller;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import tsptest.protocolandconvenient.implementation.ProtocolAndConvenienceOpsImpl;
 import tsptest.protocolandconvenient.models.ResourceA;
 import tsptest.protocolandconvenient.models.ResourceB;
@@ -351,6 +355,12 @@ public final class ProtocolAndConvenientClient {
     public PagedIterable<ResourceJ> list() {
         // Generated convenience method for list
         RequestOptions requestOptions = new RequestOptions();
-        return serviceClient.list(requestOptions).mapPage(bodyItemValue -> bodyItemValue.toObject(ResourceJ.class));
+        return serviceClient.list(requestOptions).mapPage(bodyItemValue -> {
+            try (JsonReader jsonReader = JsonProviders.createReader(bodyItemValue.toBytes())) {
+                return ResourceJ.fromJson(jsonReader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
     }
 }
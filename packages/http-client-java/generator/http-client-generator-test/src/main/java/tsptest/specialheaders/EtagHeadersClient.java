@@ -20,6 +20,10 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.DateTimeRfc1123;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.OffsetDateTime;
 import tsptest.specialheaders.implementation.EtagHeadersImpl;
 import tsptest.specialheaders.implementation.JsonMergePatchHelper;
@@ -324,7 +328,12 @@ public final class EtagHeadersClient {
     public PagedIterable<Resource> listWithEtag() {
         // Generated convenience method for listWithEtag
         RequestOptions requestOptions = new RequestOptions();
-        return serviceClient.listWithEtag(requestOptions)
-            .mapPage(bodyItemValue -> bodyItemValue.toObject(Resource.class));
+        return serviceClient.listWithEtag(requestOptions).mapPage(bodyItemValue -> {
+            try (JsonReader jsonReader = JsonProviders.createReader(bodyItemValue.toBytes())) {
+                return Resource.fromJson(jsonReader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
     }
 }
@@ -4,6 +4,10 @@
 
 package type.enums.fixed.models;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Days of the week.
  */
@@ -43,6 +47,16 @@ public enum DaysOfWeekEnum {
      */
     SUNDAY("Sunday");
 
+    private static final Map<String, DaysOfWeekEnum> VALUES;
+
+    static {
+        Map<String, DaysOfWeekEnum> values = new HashMap<>(10);
+        for (DaysOfWeekEnum item : DaysOfWeekEnum.values()) {
+            values.putIfAbsent(toLookupKey(item.toString()), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a DaysOfWeekEnum instance.
      */
@@ -62,13 +76,15 @@ public enum DaysOfWeekEnum {
         if (value == null) {
             return null;
         }
-        DaysOfWeekEnum[] items = DaysOfWeekEnum.values();
-        for (DaysOfWeekEnum item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
+        return VALUES.get(toLookupKey(value));
+    }
+
+    private static String toLookupKey(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
         }
-        return null;
+        return new String(chars);
     }
 
     /**
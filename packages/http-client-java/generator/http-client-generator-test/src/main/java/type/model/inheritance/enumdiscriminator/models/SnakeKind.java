@@ -4,6 +4,10 @@
 
 package type.model.inheritance.enumdiscriminator.models;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * fixed enum type for discriminator.
  */
@@ -13,6 +17,16 @@ public enum SnakeKind {
      */
     COBRA("cobra");
 
+    private static final Map<String, SnakeKind> VALUES;
+
+    static {
+        Map<String, SnakeKind> values = new HashMap<>(2);
+        for (SnakeKind item : SnakeKind.values()) {
+            values.putIfAbsent(toLookupKey(item.toString()), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a SnakeKind instance.
      */
@@ -32,13 +46,15 @@ public enum SnakeKind {
         if (value == null) {
             return null;
         }
-        SnakeKind[] items = SnakeKind.values();
-        for (SnakeKind item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
+        return VALUES.get(toLookupKey(value));
+    }
+
+    private static String toLookupKey(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
         }
-        return null;
+        return new String(chars);
     }
 
     /**
@@ -4,6 +4,10 @@
 
 package type.property.optional.models;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines values for BooleanLiteralPropertyProperty.
  */
@@ -13,6 +17,16 @@ public enum BooleanLiteralPropertyProperty {
      */
     TRUE(true);
 
+    private static final Map<Boolean, BooleanLiteralPropertyProperty> VALUES;
+
+    static {
+        Map<Boolean, BooleanLiteralPropertyProperty> values = new HashMap<>(2);
+        for (BooleanLiteralPropertyProperty item : BooleanLiteralPropertyProperty.values()) {
+            values.putIfAbsent(item.toBoolean(), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a BooleanLiteralPropertyProperty instance.
      */
@@ -29,13 +43,7 @@ public enum BooleanLiteralPropertyProperty {
      * @return the parsed BooleanLiteralPropertyProperty object, or null if unable to parse.
      */
     public static BooleanLiteralPropertyProperty fromBoolean(boolean value) {
-        BooleanLiteralPropertyProperty[] items = BooleanLiteralPropertyProperty.values();
-        for (BooleanLiteralPropertyProperty item : items) {
-            if (item.toBoolean() == value) {
-                return item;
-            }
-        }
-        return null;
+        return VALUES.get(value);
     }
 
     /**
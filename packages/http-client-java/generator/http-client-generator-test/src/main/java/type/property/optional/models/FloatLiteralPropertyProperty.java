@@ -4,6 +4,10 @@
 
 package type.property.optional.models;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines values for FloatLiteralPropertyProperty.
  */
@@ -13,6 +17,16 @@ public enum FloatLiteralPropertyProperty {
      */
     ONE_TWO_FIVE(1.25);
 
+    private static final Map<Double, FloatLiteralPropertyProperty> VALUES;
+
+    static {
+        Map<Double, FloatLiteralPropertyProperty> values = new HashMap<>(2);
+        for (FloatLiteralPropertyProperty item : FloatLiteralPropertyProperty.values()) {
+            values.putIfAbsent(item.toDouble(), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a FloatLiteralPropertyProperty instance.
      */
@@ -29,13 +43,7 @@ public enum FloatLiteralPropertyProperty {
      * @return the parsed FloatLiteralPropertyProperty object, or null if unable to parse.
      */
     public static FloatLiteralPropertyProperty fromDouble(double value) {
-        FloatLiteralPropertyProperty[] items = FloatLiteralPropertyProperty.values();
-        for (FloatLiteralPropertyProperty item : items) {
-            if (Double.doubleToLongBits(item.toDouble()) == Double.doubleToLongBits(value)) {
-                return item;
-            }
-        }
-        return null;
+        return VALUES.get(value);
     }
 
     /**
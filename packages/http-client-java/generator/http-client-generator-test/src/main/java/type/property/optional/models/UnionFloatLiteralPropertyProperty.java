@@ -4,6 +4,10 @@
 
 package type.property.optional.models;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines values for UnionFloatLiteralPropertyProperty.
  */
@@ -18,6 +22,16 @@ public enum UnionFloatLiteralPropertyProperty {
      */
     TWO_THREE_SEVEN_FIVE(2.375);
 
+    private static final Map<Double, UnionFloatLiteralPropertyProperty> VALUES;
+
+    static {
+        Map<Double, UnionFloatLiteralPropertyProperty> values = new HashMap<>(3);
+        for (UnionFloatLiteralPropertyProperty item : UnionFloatLiteralPropertyProperty.values()) {
+            values.putIfAbsent(item.toDouble(), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a UnionFloatLiteralPropertyProperty instance.
      */
@@ -34,13 +48,7 @@ public enum UnionFloatLiteralPropertyProperty {
      * @return the parsed UnionFloatLiteralPropertyProperty object, or null if unable to parse.
      */
     public static UnionFloatLiteralPropertyProperty fromDouble(double value) {
-        UnionFloatLiteralPropertyProperty[] items = UnionFloatLiteralPropertyProperty.values();
-        for (UnionFloatLiteralPropertyProperty item : items) {
-            if (Double.doubleToLongBits(item.toDouble()) == Double.doubleToLongBits(value)) {
-                return item;
-            }
-        }
-        return null;
+        return VALUES.get(value);
     }
 
     /**
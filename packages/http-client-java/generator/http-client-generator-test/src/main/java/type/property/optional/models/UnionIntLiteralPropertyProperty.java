@@ -4,6 +4,10 @@
 
 package type.property.optional.models;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines values for UnionIntLiteralPropertyProperty.
  */
@@ -18,6 +22,16 @@ public enum UnionIntLiteralPropertyProperty {
      */
     TWO(2);
 
+    private static final Map<Integer, UnionIntLiteralPropertyProperty> VALUES;
+
+    static {
+        Map<Integer, UnionIntLiteralPropertyProperty> values = new HashMap<>(3);
+        for (UnionIntLiteralPropertyProperty item : UnionIntLiteralPropertyProperty.values()) {
+            values.putIfAbsent(item.toInt(), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a UnionIntLiteralPropertyProperty instance.
      */
@@ -34,13 +48,7 @@ public enum UnionIntLiteralPropertyProperty {
      * @return the parsed UnionIntLiteralPropertyProperty object, or null if unable to parse.
      */
     public static UnionIntLiteralPropertyProperty fromInt(int value) {
-        UnionIntLiteralPropertyProperty[] items = UnionIntLiteralPropertyProperty.values();
-        for (UnionIntLiteralPropertyProperty item : items) {
-            if (item.toInt() == value) {
-                return item;
-            }
-        }
-        return null;
+        return VALUES.get(value);
     }
 
     /**
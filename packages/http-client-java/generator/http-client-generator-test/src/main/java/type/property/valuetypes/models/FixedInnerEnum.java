@@ -4,6 +4,10 @@
 
 package type.property.valuetypes.models;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Enum that will be used as a property for model EnumProperty. Non-extensible.
  */
@@ -18,6 +22,16 @@ public enum FixedInnerEnum {
      */
     VALUE_TWO("ValueTwo");
 
+    private static final Map<String, FixedInnerEnum> VALUES;
+
+    static {
+        Map<String, FixedInnerEnum> values = new HashMap<>(3);
+        for (FixedInnerEnum item : FixedInnerEnum.values()) {
+            values.putIfAbsent(toLookupKey(item.toString()), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a FixedInnerEnum instance.
      */
@@ -37,13 +51,15 @@ public enum FixedInnerEnum {
         if (value == null) {
             return null;
         }
-        FixedInnerEnum[] items = FixedInnerEnum.values();
-        for (FixedInnerEnum item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
+        return VALUES.get(toLookupKey(value));
+    }
+
+    private static String toLookupKey(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
         }
-        return null;
+        return new String(chars);
     }
 
     /**
@@ -4,6 +4,10 @@
 
 package type.union.models;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines values for EnumsOnlyCasesLr.
  */
@@ -28,6 +32,16 @@ public enum EnumsOnlyCasesLr {
      */
     DOWN("down");
 
+    private static final Map<String, EnumsOnlyCasesLr> VALUES;
+
+    static {
+        Map<String, EnumsOnlyCasesLr> values = new HashMap<>(6);
+        for (EnumsOnlyCasesLr item : EnumsOnlyCasesLr.values()) {
+            values.putIfAbsent(toLookupKey(item.toString()), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a EnumsOnlyCasesLr instance.
      */
@@ -47,13 +61,15 @@ public enum EnumsOnlyCasesLr {
         if (value == null) {
             return null;
         }
-        EnumsOnlyCasesLr[] items = EnumsOnlyCasesLr.values();
-        for (EnumsOnlyCasesLr item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
+        return VALUES.get(toLookupKey(value));
+    }
+
+    private static String toLookupKey(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
         }
-        return null;
+        return new String(chars);
     }
 
     /**
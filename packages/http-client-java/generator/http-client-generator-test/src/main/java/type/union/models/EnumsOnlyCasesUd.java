@@ -4,6 +4,10 @@
 
 package type.union.models;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines values for EnumsOnlyCasesUd.
  */
@@ -18,6 +22,16 @@ public enum EnumsOnlyCasesUd {
      */
     DOWN("down");
 
+    private static final Map<String, EnumsOnlyCasesUd> VALUES;
+
+    static {
+        Map<String, EnumsOnlyCasesUd> values = new HashMap<>(3);
+        for (EnumsOnlyCasesUd item : EnumsOnlyCasesUd.values()) {
+            values.putIfAbsent(toLookupKey(item.toString()), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a EnumsOnlyCasesUd instance.
      */
@@ -37,13 +51,15 @@ public enum EnumsOnlyCasesUd {
         if (value == null) {
             return null;
         }
-        EnumsOnlyCasesUd[] items = EnumsOnlyCasesUd.values();
-        for (EnumsOnlyCasesUd item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
+        return VALUES.get(toLookupKey(value));
+    }
+
+    private static String toLookupKey(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
         }
-        return null;
+        return new String(chars);
     }
 
     /**
@@ -4,6 +4,10 @@
 
 package type.union.models;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines values for GetResponseProp3.
  */
@@ -23,6 +27,16 @@ public enum GetResponseProp3 {
      */
     THREE_THREE(3.3);
 
+    private static final Map<Double, GetResponseProp3> VALUES;
+
+    static {
+        Map<Double, GetResponseProp3> values = new HashMap<>(4);
+        for (GetResponseProp3 item : GetResponseProp3.values()) {
+            values.putIfAbsent(item.toDouble(), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a GetResponseProp3 instance.
      */
@@ -39,13 +53,7 @@ public enum GetResponseProp3 {
      * @return the parsed GetResponseProp3 object, or null if unable to parse.
      */
     public static GetResponseProp3 fromDouble(double value) {
-        GetResponseProp3[] items = GetResponseProp3.values();
-        for (GetResponseProp3 item : items) {
-            if (Double.doubleToLongBits(item.toDouble()) == Double.doubleToLongBits(value)) {
-                return item;
-            }
-        }
-        return null;
+        return VALUES.get(value);
     }
 
     /**
@@ -4,6 +4,10 @@
 
 package versioning.added.models;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines values for EnumV1.
  */
@@ -18,6 +22,16 @@ public enum EnumV1 {
      */
     ENUM_MEMBER_V2("enumMemberV2");
 
+    private static final Map<String, EnumV1> VALUES;
+
+    static {
+        Map<String, EnumV1> values = new HashMap<>(3);
+        for (EnumV1 item : EnumV1.values()) {
+            values.putIfAbsent(toLookupKey(item.toString()), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a EnumV1 instance.
      */
@@ -37,13 +51,15 @@ public enum EnumV1 {
         if (value == null) {
             return null;
         }
-        EnumV1[] items = EnumV1.values();
-        for (EnumV1 item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
+        return VALUES.get(toLookupKey(value));
+    }
+
+    private static String toLookupKey(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
         }
-        return null;
+        return new String(chars);
     }
 
     /**
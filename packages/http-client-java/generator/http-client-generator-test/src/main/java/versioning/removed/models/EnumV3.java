@@ -4,6 +4,10 @@
 
 package versioning.removed.models;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines values for EnumV3.
  */
@@ -18,6 +22,16 @@ public enum EnumV3 {
      */
     ENUM_MEMBER_V2PREVIEW("enumMemberV2Preview");
 
+    private static final Map<String, EnumV3> VALUES;
+
+    static {
+        Map<String, EnumV3> values = new HashMap<>(3);
+        for (EnumV3 item : EnumV3.values()) {
+            values.putIfAbsent(toLookupKey(item.toString()), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a EnumV3 instance.
      */
@@ -37,13 +51,15 @@ public enum EnumV3 {
         if (value == null) {
             return null;
         }
-        EnumV3[] items = EnumV3.values();
-        for (EnumV3 item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
+        return VALUES.get(toLookupKey(value));
+    }
+
+    private static String toLookupKey(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
         }
-        return null;
+        return new String(chars);
     }
 
     /**
@@ -4,6 +4,10 @@
 
 package versioning.renamedfrom.models;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines values for NewEnum.
  */
@@ -13,6 +17,16 @@ public enum NewEnum {
      */
     NEW_ENUM_MEMBER("newEnumMember");
 
+    private static final Map<String, NewEnum> VALUES;
+
+    static {
+        Map<String, NewEnum> values = new HashMap<>(2);
+        for (NewEnum item : NewEnum.values()) {
+            values.putIfAbsent(toLookupKey(item.toString()), item);
+        }
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
     /**
      * The actual serialized value for a NewEnum instance.
      */
@@ -32,13 +46,15 @@ public enum NewEnum {
         if (value == null) {
             return null;
         }
-        NewEnum[] items = NewEnum.values();
-        for (NewEnum item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
+        return VALUES.get(toLookupKey(value));
+    }
+
+    private static String toLookupKey(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
         }
-        return null;
+        return new String(chars);
     }
 
     /**
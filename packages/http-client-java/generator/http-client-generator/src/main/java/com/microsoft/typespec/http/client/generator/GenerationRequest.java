@@ -0,0 +1,61 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator;
+
+import com.azure.json.JsonReader;
+import com.azure.json.JsonToken;
+import java.io.IOException;
+
+/**
+ * A request to generate one code model, in JSON:
+ *
+ * <pre>
+ * {"codeModel": "path/to/code-model.yaml", "emitterOptions": {...}}
+ * </pre>
+ *
+ * "emitterOptions" is the same as the "emitterOptions" system property of a single run, either as JSON object or as
+ * JSON string.
+ */
+final class GenerationRequest {
+    private final String codeModel;
+    private final String emitterOptions;
+
+    GenerationRequest(String codeModel, String emitterOptions) {
+        this.codeModel = codeModel;
+        this.emitterOptions = emitterOptions;
+    }
+
+    String getCodeModel() {
+        return codeModel;
+    }
+
+    String getEmitterOptions() {
+        return emitterOptions;
+    }
+
+    static GenerationRequest fromJson(JsonReader jsonReader) throws IOException {
+        GenerationRequest request = jsonReader.readObject(reader -> {
+            String codeModel = null;
+            String emitterOptions = null;
+            while (reader.nextToken() != JsonToken.END_OBJECT) {
+                String fieldName = reader.getFieldName();
+                reader.nextToken();
+
+                if ("codeModel".equals(fieldName)) {
+                    codeModel = reader.getString();
+                } else if ("emitterOptions".equals(fieldName)) {
+                    emitterOptions
+                        = reader.currentToken() == JsonToken.START_OBJECT ? reader.readChildren() : reader.getString();
+                } else {
+                    reader.skipChildren();
+                }
+            }
+            return new GenerationRequest(codeModel, emitterOptions);
+        });
+        if (request == null || request.codeModel == null) {
+            throw new IllegalArgumentException("'codeModel' is required in request.");
+        }
+        return request;
+    }
+}
@@ -0,0 +1,274 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.GenerationContext;
+import com.microsoft.typespec.http.client.generator.util.GenerationTimings;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Generates many code models in one process.
+ * <p>
+ * Started by "--batch" argument, followed by either a directory or a manifest file:
+ *
+ * <pre>
+ * --batch path/to/directory-or-manifest.json [--parallelism 4] [--log-dir path/to/logs]
+ * </pre>
+ *
+ * For a directory, every "code-model.yaml" or "code-model.json" file under it is generated, with the emitter options
+ * from the "emitter-options.json" file next to it, if it exists. A manifest file is a JSON array of
+ * {@link GenerationRequest}, with the paths of code models relative to the manifest file.
+ * <p>
+ * The code models are generated on a work-stealing pool of the given parallelism, each in its own
+ * {@link GenerationContext}, with the largest code models first. The output of the generation of each code model is
+ * written to its own log file in the log directory, and a failed code model does not stop the others. At the end, the
+ * status and the {@link GenerationTimings} of each code model are reported.
+ */
+public final class GeneratorBatch {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GeneratorBatch.class);
+
+    static final String BATCH_ARGUMENT = "--batch";
+
+    private static final String PARALLELISM_ARGUMENT = "--parallelism";
+    private static final String LOG_DIR_ARGUMENT = "--log-dir";
+    private static final String DEFAULT_LOG_DIR = "batch-logs";
+    private static final String EMITTER_OPTIONS_FILE_NAME = "emitter-options.json";
+
+    // the log of the code model generated in the current context
+    private static final GenerationContext.Local<OutputStream> JOB_LOG = new GenerationContext.Local<>();
+
+    private final List<GenerationRequest> jobs;
+    private final int parallelism;
+    private final Path logDir;
+    private final PrintStream output;
+
+    /**
+     * Creates the batch.
+     *
+     * @param jobs the code models to generate.
+     * @param parallelism the number of code models generated concurrently.
+     * @param logDir the directory of the log files.
+     * @param output the output of the report.
+     */
+    GeneratorBatch(List<GenerationRequest> jobs, int parallelism, Path logDir, PrintStream output) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("'parallelism' must be positive.");
+        }
+        this.jobs = jobs;
+        this.parallelism = parallelism;
+        this.logDir = logDir;
+        this.output = output;
+    }
+
+    /**
+     * Creates the batch from the command line arguments.
+     *
+     * @param args the command line arguments, starting with "--batch".
+     * @return the batch.
+     * @throws IOException thrown if failed to read the directory or the manifest file.
+     */
+    static GeneratorBatch fromArguments(String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Directory or manifest file is required after " + BATCH_ARGUMENT);
+        }
+
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        Path logDir = Paths.get(DEFAULT_LOG_DIR);
+        for (int i = 2; i < args.length; i += 2) {
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value of argument " + args[i]);
+            }
+            if (PARALLELISM_ARGUMENT.equals(args[i])) {
+                parallelism = Integer.parseInt(args[i + 1]);
+            } else if (LOG_DIR_ARGUMENT.equals(args[i])) {
+                logDir = Paths.get(args[i + 1]);
+            } else {
+                throw new IllegalArgumentException("Unknown argument " + args[i]);
+            }
+        }
+        return new GeneratorBatch(loadJobs(Paths.get(args[1])), parallelism, logDir, System.out);
+    }
+
+    /**
+     * Loads the code models to generate from a directory or a manifest file.
+     *
+     * @param path the directory or the manifest file.
+     * @return the code models to generate.
+     * @throws IOException thrown if failed to read the directory or the manifest file.
+     */
+    static List<GenerationRequest> loadJobs(Path path) throws IOException {
+        if (Files.isDirectory(path)) {
+            List<GenerationRequest> jobs = new ArrayList<>();
+            try (Stream<Path> files = Files.walk(path)) {
+                for (Path file : files.filter(GeneratorBatch::isCodeModelFile).sorted().collect(Collectors.toList())) {
+                    Path emitterOptionsFile = file.resolveSibling(EMITTER_OPTIONS_FILE_NAME);
+                    String emitterOptions
+                        = Files.isRegularFile(emitterOptionsFile) ? Files.readString(emitterOptionsFile) : null;
+                    jobs.add(new GenerationRequest(file.toString(), emitterOptions));
+                }
+            }
+            return jobs;
+        }
+
+        Path baseDir = path.toAbsolutePath().getParent();
+        try (JsonReader jsonReader = JsonProviders.createReader(Files.newInputStream(path))) {
+            List<GenerationRequest> requests = jsonReader.readArray(GenerationRequest::fromJson);
+            if (requests == null) {
+                throw new IllegalArgumentException("Manifest file " + path + " is not a JSON array.");
+            }
+            return requests.stream()
+                .map(request -> new GenerationRequest(baseDir.resolve(request.getCodeModel()).toString(),
+                    request.getEmitterOptions()))
+                .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Generates the code models, and reports the result of each.
+     *
+     * @return whether all code models are generated successfully.
+     * @throws IOException thrown if failed to create the log directory.
+     */
+    public boolean run() throws IOException {
+        Files.createDirectories(logDir);
+
+        List<Job> sortedJobs = new ArrayList<>(jobs.size());
+        for (int i = 0; i < jobs.size(); ++i) {
+            sortedJobs.add(new Job(i + 1, jobs.get(i)));
+        }
+        // largest first, so that no large code model starts last
+        sortedJobs.sort(Comparator.comparingLong((Job job) -> job.size).reversed());
+
+        long start = System.nanoTime();
+        PrintStream stdout = System.out;
+        PrintStream stderr = System.err;
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            System.setOut(new PrintStream(new JobLogOutputStream(stdout), true, StandardCharsets.UTF_8));
+            System.setErr(new PrintStream(new JobLogOutputStream(stderr), true, StandardCharsets.UTF_8));
+
+            List<ForkJoinTask<?>> tasks
+                = sortedJobs.stream().map(job -> pool.submit(job::run)).collect(Collectors.toList());
+            tasks.forEach(ForkJoinTask::join);
+        } finally {
+            pool.shutdown();
+            System.setOut(stdout);
+            System.setErr(stderr);
+        }
+
+        sortedJobs.sort(Comparator.comparingInt(job -> job.index));
+        long failedCount = sortedJobs.stream().filter(job -> job.error != null).count();
+        for (Job job : sortedJobs) {
+            output.println(String.format(Locale.ROOT, "%s %s in %d ms (%s), log %s%s", job.request.getCodeModel(),
+                job.error == null ? "succeeded" : "failed", job.durationMs, job.timings, job.logFile,
+                job.error == null ? "" : ": " + job.error));
+        }
+        output.println(String.format(Locale.ROOT, "Generated %d code models in %d ms, %d failed.", sortedJobs.size(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), failedCount));
+        output.flush();
+        return failedCount == 0;
+    }
+
+    private static boolean isCodeModelFile(Path file) {
+        String fileName = file.getFileName().toString();
+        return ("code-model.yaml".equals(fileName) || "code-model.json".equals(fileName)) && Files.isRegularFile(file);
+    }
+
+    private final class Job {
+        private final int index;
+        private final GenerationRequest request;
+        private final long size;
+        private final Path logFile;
+
+        private long durationMs;
+        private GenerationTimings timings;
+        private String error;
+
+        private Job(int index, GenerationRequest request) {
+            this.index = index;
+            this.request = request;
+
+            Path codeModelPath = Paths.get(request.getCodeModel());
+            this.size = codeModelPath.toFile().length();
+            Path parent = codeModelPath.toAbsolutePath().getParent();
+            String name = parent == null || parent.getFileName() == null ? "" : parent.getFileName().toString();
+            this.logFile = logDir
+                .resolve(String.format(Locale.ROOT, "%04d-%s.log", index, name.replaceAll("[^A-Za-z0-9._-]", "_")));
+        }
+
+        private void run() {
+            long start = System.nanoTime();
+            GenerationContext context = new GenerationContext();
+            try (OutputStream log = new BufferedOutputStream(Files.newOutputStream(logFile))) {
+                context.run(() -> {
+                    JOB_LOG.set(log);
+                    try {
+                        Main.generate(request.getCodeModel(), request.getEmitterOptions());
+                    } catch (Throwable e) {
+                        LOGGER.error("Failed to generate code model: {}", request.getCodeModel(), e);
+                        error = e.getMessage() == null ? e.getClass().getName() : e.getMessage();
+                    } finally {
+                        timings = GenerationTimings.current();
+                        JOB_LOG.set(null);
+                    }
+                });
+            } catch (IOException | RuntimeException e) {
+                error = "Failed to write log " + logFile + ": " + e.getMessage();
+            }
+            durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Writes to the log of the code model generated in the current context, or to the original output, if no code
+     * model is generated in the current context.
+     */
+    private static final class JobLogOutputStream extends OutputStream {
+        private final OutputStream output;
+
+        private JobLogOutputStream(OutputStream output) {
+            this.output = output;
+        }
+
+        private OutputStream target() {
+            OutputStream log = JOB_LOG.get();
+            return log == null ? output : log;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            target().write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            target().write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            target().flush();
+        }
+    }
+}
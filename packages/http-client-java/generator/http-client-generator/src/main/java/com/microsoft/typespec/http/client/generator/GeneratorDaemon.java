@@ -0,0 +1,98 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonWriter;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.GenerationContext;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the generator as a long-running process, which generates one code model per request.
+ * <p>
+ * Started by "--daemon" argument, the daemon reads one {@link GenerationRequest} per line from the input. For each
+ * request, the daemon writes one line of JSON to the output, after the log of the generation:
+ * 
+ * <pre>
+ * {"status": "succeeded", "durationMs": 1234}
+ * {"status": "failed", "durationMs": 1234, "error": "..."}
+ * </pre>
+ * 
+ * The daemon exits at the end of the input. Requests are processed one at a time, each in a new
+ * {@link GenerationContext}, so that no state is shared with the previous requests.
+ */
+public final class GeneratorDaemon {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GeneratorDaemon.class);
+
+    static final String DAEMON_ARGUMENT = "--daemon";
+
+    private final InputStream input;
+    private final PrintStream output;
+
+    /**
+     * Creates the daemon.
+     *
+     * @param input the input of requests.
+     * @param output the output of responses.
+     */
+    public GeneratorDaemon(InputStream input, PrintStream output) {
+        this.input = input;
+        this.output = output;
+    }
+
+    /**
+     * Processes the requests until the end of the input.
+     *
+     * @throws IOException thrown if failed to read the input.
+     */
+    public void run() throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+
+            long start = System.nanoTime();
+            String error = null;
+            try {
+                GenerationRequest request;
+                try (JsonReader jsonReader = JsonProviders.createReader(line)) {
+                    request = GenerationRequest.fromJson(jsonReader);
+                }
+                new GenerationContext().call(() -> {
+                    Main.generate(request.getCodeModel(), request.getEmitterOptions());
+                    return null;
+                });
+            } catch (Throwable e) {
+                LOGGER.error("Failed to process request: {}", line, e);
+                error = e.getMessage() == null ? e.getClass().getName() : e.getMessage();
+            }
+            writeResponse(error, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    private void writeResponse(String error, long durationMs) throws IOException {
+        StringWriter response = new StringWriter();
+        try (JsonWriter jsonWriter = JsonProviders.createWriter(response)) {
+            jsonWriter.writeStartObject()
+                .writeStringField("status", error == null ? "succeeded" : "failed")
+                .writeLongField("durationMs", durationMs)
+                .writeStringField("error", error)
+                .writeEndObject();
+        }
+        output.println(response);
+        output.flush();
+    }
+}
@@ -20,6 +20,8 @@ import com.microsoft.typespec.http.client.generator.fluent.TypeSpecFluentPlugin;
 import com.microsoft.typespec.http.client.generator.mgmt.model.javamodel.FluentJavaPackage;
 import com.microsoft.typespec.http.client.generator.mgmt.util.FluentUtils;
 import com.microsoft.typespec.http.client.generator.model.EmitterOptions;
+import com.microsoft.typespec.http.client.generator.util.GenerationTimings;
+import com.microsoft.typespec.http.client.generator.util.GenerationTimings.Phase;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -45,50 +47,26 @@ public class Main {
     private static final String DEFAULT_OUTPUT_DIR = "http-client-generator-test/tsp-output/";
     // private static final String DEFAULT_OUTPUT_DIR = "http-client-generator-clientcore-test/tsp-output/";
 
-    private static Yaml yaml = null;
-
     // java -jar target/azure-typespec-extension-jar-with-dependencies.jar
     public static void main(String[] args) throws IOException {
         try {
-            // parameters
-            String inputYamlFileName = DEFAULT_OUTPUT_DIR + "code-model.yaml";
-            if (args.length >= 1) {
-                inputYamlFileName = args[0];
+            if (args.length >= 1 && GeneratorDaemon.DAEMON_ARGUMENT.equals(args[0])) {
+                new GeneratorDaemon(System.in, System.out).run();
+                System.exit(0);
             }
-
-            LOGGER.info("Code model file: {}", inputYamlFileName);
-
-            // load code-model.yaml
-            CodeModel codeModel = loadCodeModel(inputYamlFileName);
-
-            EmitterOptions emitterOptions = loadEmitterOptions(codeModel);
-
-            boolean sdkIntegration = true;
-            String outputDir = emitterOptions.getOutputDir();
-            Path outputDirPath = Paths.get(outputDir);
-            if (Files.exists(outputDirPath)) {
-                if (emitterOptions.getArm()) {
-                    // check ../../parents/azure-client-sdk-parent
-                    sdkIntegration = Files.exists(Paths.get(outputDir, "../../parents/azure-client-sdk-parent"));
-                } else {
-                    try (Stream<Path> filestream = Files.list(outputDirPath)) {
-                        Set<String> filenames = filestream.map(p -> p.getFileName().toString())
-                            .map(name -> name.toLowerCase(Locale.ROOT))
-                            .collect(Collectors.toSet());
-
-                        // if there is already pom and source, do not overwrite them (includes README.md, CHANGELOG.md
-                        // etc.)
-                        sdkIntegration = !filenames.containsAll(Arrays.asList("pom.xml", "src"));
-                    }
-                }
+            if (args.length >= 1 && GeneratorBatch.BATCH_ARGUMENT.equals(args[0])) {
+                boolean succeeded = GeneratorBatch.fromArguments(args).run();
+                System.exit(succeeded ? 0 : 1);
             }
 
-            if (emitterOptions.getArm()) {
-                handleFluent(codeModel, emitterOptions, sdkIntegration);
-            } else {
-                handleDPG(codeModel, emitterOptions, sdkIntegration, outputDir);
+            // parameters
+            String inputFileName = DEFAULT_OUTPUT_DIR + "code-model.json";
+            if (args.length >= 1) {
+                inputFileName = args[0];
             }
 
+            generate(inputFileName, Configuration.getGlobalConfiguration().get("emitterOptions"));
+
             // ensure the process exits as expected
             System.exit(0);
         } catch (Throwable e) {
@@ -97,26 +75,76 @@ public class Main {
         }
     }
 
+    /**
+     * Generates the Java code of the code model.
+     * <p>
+     * The state of the generator, including the {@link GenerationTimings} of the phases, is kept in the current
+     * {@link com.microsoft.typespec.http.client.generator.core.extension.plugin.GenerationContext}.
+     *
+     * @param inputFileName the code model file.
+     * @param emitterOptionsJson the emitter options, in JSON.
+     * @throws IOException thrown if failed to read the code model file or the output directory.
+     */
+    static void generate(String inputFileName, String emitterOptionsJson) throws IOException {
+        LOGGER.info("Code model file: {}", inputFileName);
+
+        // load code-model.json
+        long loadStart = System.nanoTime();
+        CodeModel codeModel = loadCodeModel(inputFileName);
+        GenerationTimings.current().add(Phase.LOAD, System.nanoTime() - loadStart);
+
+        EmitterOptions emitterOptions = loadEmitterOptions(codeModel, emitterOptionsJson);
+
+        boolean sdkIntegration = true;
+        String outputDir = emitterOptions.getOutputDir();
+        Path outputDirPath = Paths.get(outputDir);
+        if (Files.exists(outputDirPath)) {
+            if (emitterOptions.getArm()) {
+                // check ../../parents/azure-client-sdk-parent
+                sdkIntegration = Files.exists(Paths.get(outputDir, "../../parents/azure-client-sdk-parent"));
+            } else {
+                try (Stream<Path> filestream = Files.list(outputDirPath)) {
+                    Set<String> filenames = filestream.map(p -> p.getFileName().toString())
+                        .map(name -> name.toLowerCase(Locale.ROOT))
+                        .collect(Collectors.toSet());
+
+                    // if there is already pom and source, do not overwrite them (includes README.md, CHANGELOG.md
+                    // etc.)
+                    sdkIntegration = !filenames.containsAll(Arrays.asList("pom.xml", "src"));
+                }
+            }
+        }
+
+        if (emitterOptions.getArm()) {
+            handleFluent(codeModel, emitterOptions, sdkIntegration);
+        } else {
+            handleDPG(codeModel, emitterOptions, sdkIntegration, outputDir);
+        }
+    }
+
     private static void handleFluent(CodeModel codeModel, EmitterOptions emitterOptions, boolean sdkIntegration) {
+        GenerationTimings timings = GenerationTimings.current();
+
         // initialize plugin
         TypeSpecFluentPlugin fluentPlugin = new TypeSpecFluentPlugin(emitterOptions, sdkIntegration);
 
-        codeModel = fluentPlugin.preProcess(codeModel);
+        CodeModel processedCodeModel = timings.time(Phase.TRANSFORM, () -> fluentPlugin.preProcess(codeModel));
 
         // client
-        Client client = fluentPlugin.processClient(codeModel);
+        Client client = timings.time(Phase.MAP, () -> fluentPlugin.processClient(processedCodeModel));
 
         // template
-        FluentJavaPackage javaPackage = fluentPlugin.processTemplates(codeModel, client);
+        FluentJavaPackage javaPackage
+            = timings.time(Phase.TEMPLATE, () -> fluentPlugin.processTemplates(processedCodeModel, client));
+        Map<String, String> javaFiles = timings.time(Phase.TEMPLATE,
+            () -> javaPackage.getJavaFiles()
+                .stream()
+                .collect(Collectors.toMap(JavaFile::getFilePath, file -> file.getContents().toString())));
 
         // write
 
         // java files
-        Postprocessor.writeToFiles(
-            javaPackage.getJavaFiles()
-                .stream()
-                .collect(Collectors.toMap(JavaFile::getFilePath, file -> file.getContents().toString())),
-            fluentPlugin, fluentPlugin.getLogger());
+        timings.time(Phase.FORMAT, () -> Postprocessor.writeToFiles(javaFiles, fluentPlugin, fluentPlugin.getLogger()));
 
         // XML include POM
         javaPackage.getXmlFiles()
@@ -134,34 +162,44 @@ public class Main {
         // Others
         javaPackage.getTextFiles()
             .forEach(textFile -> fluentPlugin.writeFile(textFile.getFilePath(), textFile.getContents(), null));
+
+        fluentPlugin.finishWritingFiles();
     }
 
     private static void handleDPG(CodeModel codeModel, EmitterOptions emitterOptions, boolean sdkIntegration,
         String outputDir) {
+        GenerationTimings timings = GenerationTimings.current();
+
         // initialize plugin
         TypeSpecPlugin typeSpecPlugin = new TypeSpecPlugin(emitterOptions, sdkIntegration);
 
+        CodeModel processedCodeModel = timings.time(Phase.TRANSFORM, () -> typeSpecPlugin.preProcess(codeModel));
+
         // client
-        Client client = typeSpecPlugin.processClient(codeModel);
+        Client client = timings.time(Phase.MAP, () -> typeSpecPlugin.processClient(processedCodeModel));
 
         // template
-        JavaPackage javaPackage = typeSpecPlugin.processTemplates(codeModel, client, JavaSettings.getInstance());
-
-        LOGGER.info("Count of Java files: {}", javaPackage.getJavaFiles().size());
-        LOGGER.info("Count of XML files: {}", javaPackage.getXmlFiles().size());
-        LOGGER.info("Count of text files: {}", javaPackage.getTextFiles().size());
+        JavaPackage javaPackage = timings.time(Phase.TEMPLATE,
+            () -> typeSpecPlugin.processTemplates(processedCodeModel, client, JavaSettings.getInstance()));
 
         // handle partial update
         Map<String, String> javaFiles = new ConcurrentHashMap<>();
         JavaSettings settings = JavaSettings.getInstance();
-        javaPackage.getJavaFiles()
-            .parallelStream()
-            .forEach(javaFile -> javaFiles.put(javaFile.getFilePath(), javaFile.getContents().toString()));
+        // getJavaFiles renders the pending templates, so it is timed as part of the template phase
+        timings.time(Phase.TEMPLATE,
+            () -> javaPackage.getJavaFiles()
+                .parallelStream()
+                .forEach(javaFile -> javaFiles.put(javaFile.getFilePath(), javaFile.getContents().toString())));
+
+        LOGGER.info("Count of Java files: {}", javaFiles.size());
+        LOGGER.info("Count of XML files: {}", javaPackage.getXmlFiles().size());
+        LOGGER.info("Count of text files: {}", javaPackage.getTextFiles().size());
 
         // handle customization
         // write output
         // java files
-        new Postprocessor(typeSpecPlugin, settings.isUseEclipseLanguageServer()).postProcess(javaFiles);
+        timings.time(Phase.FORMAT,
+            () -> new Postprocessor(typeSpecPlugin, settings.isUseEclipseLanguageServer()).postProcess(javaFiles));
 
         // XML include POM
         javaPackage.getXmlFiles()
@@ -178,12 +216,13 @@ public class Main {
                     "name=${project.artifactId}\nversion=${project.version}\n", null);
             }
         }
+
+        typeSpecPlugin.finishWritingFiles();
     }
 
-    private static EmitterOptions loadEmitterOptions(CodeModel codeModel) {
+    private static EmitterOptions loadEmitterOptions(CodeModel codeModel, String emitterOptionsJson) {
 
         EmitterOptions options = null;
-        String emitterOptionsJson = Configuration.getGlobalConfiguration().get("emitterOptions");
 
         if (emitterOptionsJson != null) {
             try (JsonReader jsonReader = JsonProviders.createReader(emitterOptionsJson)) {
@@ -220,24 +259,29 @@ public class Main {
     }
 
     private static CodeModel loadCodeModel(String filename) throws IOException {
+        if (filename.endsWith(".json")) {
+            // JSON code model is streamed from the file, see JsonReferences for the format
+            try (JsonReader jsonReader = JsonProviders.createReader(Files.newInputStream(Paths.get(filename)))) {
+                return CodeModel.fromJson(jsonReader);
+            }
+        }
+
         String file = Files.readString(Paths.get(filename));
-        CodeModel codeModel = getYaml().loadAs(file, CodeModel.class);
+        CodeModel codeModel = createYaml().loadAs(file, CodeModel.class);
         return codeModel;
     }
 
-    private static Yaml getYaml() {
-        if (yaml == null) {
-            Representer representer = new Representer(new DumperOptions());
-            representer.setPropertyUtils(new AnnotatedPropertyUtils());
-            representer.getPropertyUtils().setSkipMissingProperties(true);
-            LoaderOptions loaderOptions = new LoaderOptions();
-            loaderOptions.setCodePointLimit(50 * 1024 * 1024);
-            loaderOptions.setMaxAliasesForCollections(Integer.MAX_VALUE);
-            loaderOptions.setNestingDepthLimit(Integer.MAX_VALUE);
-            loaderOptions.setTagInspector(new TrustedTagInspector());
-            Constructor constructor = new CodeModelCustomConstructor(loaderOptions);
-            yaml = new Yaml(constructor, representer, new DumperOptions(), loaderOptions);
-        }
-        return yaml;
+    private static Yaml createYaml() {
+        // Yaml is not thread-safe, create one for each code model
+        Representer representer = new Representer(new DumperOptions());
+        representer.setPropertyUtils(new AnnotatedPropertyUtils());
+        representer.getPropertyUtils().setSkipMissingProperties(true);
+        LoaderOptions loaderOptions = new LoaderOptions();
+        loaderOptions.setCodePointLimit(50 * 1024 * 1024);
+        loaderOptions.setMaxAliasesForCollections(Integer.MAX_VALUE);
+        loaderOptions.setNestingDepthLimit(Integer.MAX_VALUE);
+        loaderOptions.setTagInspector(new TrustedTagInspector());
+        Constructor constructor = new CodeModelCustomConstructor(loaderOptions);
+        return new Yaml(constructor, representer, new DumperOptions(), loaderOptions);
     }
 }
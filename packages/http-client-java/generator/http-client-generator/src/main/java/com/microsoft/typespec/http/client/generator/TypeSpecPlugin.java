@@ -26,9 +26,11 @@ import com.microsoft.typespec.http.client.generator.mapper.TypeSpecAzureVNextMap
 import com.microsoft.typespec.http.client.generator.mapper.TypeSpecClientCoreMapperFactory;
 import com.microsoft.typespec.http.client.generator.mapper.TypeSpecMapperFactory;
 import com.microsoft.typespec.http.client.generator.model.EmitterOptions;
-import com.microsoft.typespec.http.client.generator.util.FileUtil;
+import com.microsoft.typespec.http.client.generator.util.GenerationTimings;
+import com.microsoft.typespec.http.client.generator.util.GenerationTimings.Phase;
 import com.microsoft.typespec.http.client.generator.util.MetadataUtil;
 import com.microsoft.typespec.http.client.generator.util.ModelUtil;
+import com.microsoft.typespec.http.client.generator.util.OutputFileWriter;
 import java.io.File;
 import java.io.OutputStream;
 import java.nio.file.Paths;
@@ -45,11 +47,15 @@ public class TypeSpecPlugin extends Javagen {
     private static final Logger LOGGER = LoggerFactory.getLogger(TypeSpecPlugin.class);
 
     private final EmitterOptions emitterOptions;
+    private final OutputFileWriter outputFileWriter;
+    private final Map<String, Object> settingsMap = new HashMap<>(DEFAULT_SETTINGS_MAP);
 
-    public Client processClient(CodeModel codeModel) {
+    public CodeModel preProcess(CodeModel codeModel) {
         // transform code model
-        codeModel = new Transformer().transform(Preprocessor.convertOptionalConstantsToEnum(codeModel));
+        return new Transformer().transform(Preprocessor.convertOptionalConstantsToEnum(codeModel));
+    }
 
+    public Client processClient(CodeModel codeModel) {
         // map to client model
         return Mappers.getClientMapper().map(codeModel);
     }
@@ -148,40 +154,48 @@ public class TypeSpecPlugin extends Javagen {
 
     @Override
     public void writeFile(String fileName, String content, List<Object> sourceMap) {
-        File outputFile = FileUtil.writeToFile(emitterOptions.getOutputDir(), fileName, content);
+        File outputFile
+            = GenerationTimings.current().time(Phase.WRITE, () -> outputFileWriter.writeFile(fileName, content));
         LOGGER.info("Write file: {}", outputFile.getAbsolutePath());
     }
 
-    private static final Map<String, Object> SETTINGS_MAP = new HashMap<>();
+    /**
+     * Completes writing the output files, reporting the files added, changed and no longer generated.
+     */
+    public void finishWritingFiles() {
+        GenerationTimings.current().time(Phase.WRITE, () -> outputFileWriter.finish(LOGGER));
+    }
+
+    private static final Map<String, Object> DEFAULT_SETTINGS_MAP = new HashMap<>();
 
     static {
-        SETTINGS_MAP.put("data-plane", true);
-
-        SETTINGS_MAP.put("sdk-integration", true);
-        SETTINGS_MAP.put("regenerate-pom", true);
-
-        SETTINGS_MAP.put("license-header", "MICROSOFT_MIT_SMALL_TYPESPEC");
-        SETTINGS_MAP.put("generate-client-interfaces", false);
-        SETTINGS_MAP.put("generate-client-as-impl", true);
-        SETTINGS_MAP.put("generate-sync-async-clients", true);
-        SETTINGS_MAP.put("generate-builder-per-client", false);
-        SETTINGS_MAP.put("sync-methods", "all");
-        SETTINGS_MAP.put("enable-sync-stack", true);
-        SETTINGS_MAP.put("enable-page-size", true);
-
-        SETTINGS_MAP.put("use-default-http-status-code-to-exception-type-mapping", true);
-        SETTINGS_MAP.put("polling", new HashMap<String, Object>());
-
-        SETTINGS_MAP.put("client-logger", true);
-        SETTINGS_MAP.put("required-fields-as-ctor-args", true);
-        SETTINGS_MAP.put("required-parameter-client-methods", true);
-        SETTINGS_MAP.put("generic-response-type", true);
-        SETTINGS_MAP.put("output-model-immutable", true);
-        SETTINGS_MAP.put("client-flattened-annotation-target", "disabled");
-        SETTINGS_MAP.put("disable-required-property-annotation", true);
+        DEFAULT_SETTINGS_MAP.put("data-plane", true);
+
+        DEFAULT_SETTINGS_MAP.put("sdk-integration", true);
+        DEFAULT_SETTINGS_MAP.put("regenerate-pom", true);
+
+        DEFAULT_SETTINGS_MAP.put("license-header", "MICROSOFT_MIT_SMALL_TYPESPEC");
+        DEFAULT_SETTINGS_MAP.put("generate-client-interfaces", false);
+        DEFAULT_SETTINGS_MAP.put("generate-client-as-impl", true);
+        DEFAULT_SETTINGS_MAP.put("generate-sync-async-clients", true);
+        DEFAULT_SETTINGS_MAP.put("generate-builder-per-client", false);
+        DEFAULT_SETTINGS_MAP.put("sync-methods", "all");
+        DEFAULT_SETTINGS_MAP.put("enable-sync-stack", true);
+        DEFAULT_SETTINGS_MAP.put("enable-page-size", true);
+
+        DEFAULT_SETTINGS_MAP.put("use-default-http-status-code-to-exception-type-mapping", true);
+        DEFAULT_SETTINGS_MAP.put("polling", new HashMap<String, Object>());
+
+        DEFAULT_SETTINGS_MAP.put("client-logger", true);
+        DEFAULT_SETTINGS_MAP.put("required-fields-as-ctor-args", true);
+        DEFAULT_SETTINGS_MAP.put("required-parameter-client-methods", true);
+        DEFAULT_SETTINGS_MAP.put("generic-response-type", true);
+        DEFAULT_SETTINGS_MAP.put("output-model-immutable", true);
+        DEFAULT_SETTINGS_MAP.put("client-flattened-annotation-target", "disabled");
+        DEFAULT_SETTINGS_MAP.put("disable-required-property-annotation", true);
         // Defaulting to KeyCredential and not providing TypeSpec services to generate with AzureKeyCredential.
-        SETTINGS_MAP.put("use-key-credential", true);
-        SETTINGS_MAP.put("use-rest-proxy", false);
+        DEFAULT_SETTINGS_MAP.put("use-key-credential", true);
+        DEFAULT_SETTINGS_MAP.put("use-rest-proxy", false);
     }
 
     public static class MockConnection extends Connection {
@@ -200,96 +214,97 @@ public class TypeSpecPlugin extends Javagen {
     public TypeSpecPlugin(EmitterOptions options, boolean sdkIntegration) {
         super(new MockConnection(), "dummy", "dummy");
         this.emitterOptions = options;
-        SETTINGS_MAP.put("namespace", options.getNamespace());
+        this.outputFileWriter = new OutputFileWriter(options.getOutputDir());
+        settingsMap.put("namespace", options.getNamespace());
         if (!CoreUtils.isNullOrEmpty(options.getOutputDir())) {
-            SETTINGS_MAP.put("output-folder", options.getOutputDir());
+            settingsMap.put("output-folder", options.getOutputDir());
         }
         if (!CoreUtils.isNullOrEmpty(options.getServiceName())) {
-            SETTINGS_MAP.put("service-name", options.getServiceName());
+            settingsMap.put("service-name", options.getServiceName());
         }
         if (options.getPartialUpdate() != null) {
-            SETTINGS_MAP.put("partial-update", options.getPartialUpdate());
+            settingsMap.put("partial-update", options.getPartialUpdate());
         }
         if (!CoreUtils.isNullOrEmpty(options.getServiceVersions())) {
-            SETTINGS_MAP.put("service-versions", options.getServiceVersions());
+            settingsMap.put("service-versions", options.getServiceVersions());
         }
         if (options.getGenerateSamples() != null) {
-            SETTINGS_MAP.put("generate-samples", options.getGenerateSamples());
+            settingsMap.put("generate-samples", options.getGenerateSamples());
         }
         if (options.getGenerateTests() != null) {
-            SETTINGS_MAP.put("generate-tests", options.getGenerateTests());
+            settingsMap.put("generate-tests", options.getGenerateTests());
         }
         if (options.getEnableSyncStack() != null) {
-            SETTINGS_MAP.put("enable-sync-stack", options.getEnableSyncStack());
+            settingsMap.put("enable-sync-stack", options.getEnableSyncStack());
         }
         if (options.getStreamStyleSerialization() != null) {
-            SETTINGS_MAP.put("stream-style-serialization", options.getStreamStyleSerialization());
+            settingsMap.put("stream-style-serialization", options.getStreamStyleSerialization());
         }
         if (options.getUseObjectForUnknown()) {
-            SETTINGS_MAP.put("use-object-for-unknown", emitterOptions.getUseObjectForUnknown());
+            settingsMap.put("use-object-for-unknown", emitterOptions.getUseObjectForUnknown());
         }
         if (options.getUseEclipseLanguageServer() != null) {
-            SETTINGS_MAP.put("use-eclipse-language-server", emitterOptions.getUseEclipseLanguageServer());
+            settingsMap.put("use-eclipse-language-server", emitterOptions.getUseEclipseLanguageServer());
         }
         if (options.getUseRestProxy() != null) {
-            SETTINGS_MAP.put("use-rest-proxy", emitterOptions.getUseRestProxy());
+            settingsMap.put("use-rest-proxy", emitterOptions.getUseRestProxy());
         }
 
-        SETTINGS_MAP.put("sdk-integration", sdkIntegration);
-        SETTINGS_MAP.put("regenerate-pom", sdkIntegration);
+        settingsMap.put("sdk-integration", sdkIntegration);
+        settingsMap.put("regenerate-pom", sdkIntegration);
 
         if (options.getCustomTypes() != null) {
-            SETTINGS_MAP.put("custom-types", options.getCustomTypes());
+            settingsMap.put("custom-types", options.getCustomTypes());
         }
 
         if (options.getCustomTypeSubpackage() != null) {
-            SETTINGS_MAP.put("custom-types-subpackage", options.getCustomTypeSubpackage());
+            settingsMap.put("custom-types-subpackage", options.getCustomTypeSubpackage());
         }
 
         if (options.getModelsSubpackage() != null) {
-            SETTINGS_MAP.put("models-subpackage", options.getModelsSubpackage());
+            settingsMap.put("models-subpackage", options.getModelsSubpackage());
         }
 
         if (options.getCustomizationClass() != null) {
-            SETTINGS_MAP.put("customization-class",
+            settingsMap.put("customization-class",
                 Paths.get(options.getOutputDir()).resolve(options.getCustomizationClass()).toAbsolutePath().toString());
         }
 
         if (emitterOptions.getPolling() != null) {
-            SETTINGS_MAP.put("polling", options.getPolling());
+            settingsMap.put("polling", options.getPolling());
         }
 
         if (options.getFlavor() != null) {
-            SETTINGS_MAP.put("flavor", options.getFlavor());
+            settingsMap.put("flavor", options.getFlavor());
         }
 
         if (options.getFlavor() != null && !"azure".equalsIgnoreCase(options.getFlavor())) {
-            SETTINGS_MAP.put("data-plane", false);
+            settingsMap.put("data-plane", false);
 
-            SETTINGS_MAP.put("sync-methods", "sync-only");
-            SETTINGS_MAP.put("enable-page-size", false);
-            SETTINGS_MAP.put("use-default-http-status-code-to-exception-type-mapping", false);
-            SETTINGS_MAP.put("generate-samples", false);
-            SETTINGS_MAP.put("generate-tests", false);
+            settingsMap.put("sync-methods", "sync-only");
+            settingsMap.put("enable-page-size", false);
+            settingsMap.put("use-default-http-status-code-to-exception-type-mapping", false);
+            settingsMap.put("generate-samples", false);
+            settingsMap.put("generate-tests", false);
 
             if (options.getLicenseHeader() != null) {
-                SETTINGS_MAP.put("license-header", options.getLicenseHeader());
+                settingsMap.put("license-header", options.getLicenseHeader());
             } else {
-                SETTINGS_MAP.remove("license-header");
+                settingsMap.remove("license-header");
             }
-            SETTINGS_MAP.put("disable-typed-headers-methods", true);
+            settingsMap.put("disable-typed-headers-methods", true);
         }
 
         if (options.getFlavor() != null && "azurev2".equalsIgnoreCase(options.getFlavor())) {
-            SETTINGS_MAP.put("data-plane", false);
-            SETTINGS_MAP.put("sdk-integration", false);
-            SETTINGS_MAP.put("license-header", "MICROSOFT_MIT_SMALL_TYPESPEC");
-            SETTINGS_MAP.put("use-default-http-status-code-to-exception-type-mapping", false);
-
-            SETTINGS_MAP.put("sync-methods", "sync-only");
-            SETTINGS_MAP.put("generate-samples", false);
-            SETTINGS_MAP.put("generate-tests", false);
-            SETTINGS_MAP.put("disable-typed-headers-methods", true);
+            settingsMap.put("data-plane", false);
+            settingsMap.put("sdk-integration", false);
+            settingsMap.put("license-header", "MICROSOFT_MIT_SMALL_TYPESPEC");
+            settingsMap.put("use-default-http-status-code-to-exception-type-mapping", false);
+
+            settingsMap.put("sync-methods", "sync-only");
+            settingsMap.put("generate-samples", false);
+            settingsMap.put("generate-tests", false);
+            settingsMap.put("disable-typed-headers-methods", true);
         }
 
         JavaSettingsAccessor.setHost(this);
@@ -308,13 +323,13 @@ public class TypeSpecPlugin extends Javagen {
     @SuppressWarnings("unchecked")
     @Override
     public <T> T getValue(String key, ReadValueCallback<String, T> converter) {
-        return (T) SETTINGS_MAP.get(key);
+        return (T) settingsMap.get(key);
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <T> T getValueWithJsonReader(String key, ReadValueCallback<JsonReader, T> converter) {
-        return (T) SETTINGS_MAP.get(key);
+        return (T) settingsMap.get(key);
     }
 
     @Override
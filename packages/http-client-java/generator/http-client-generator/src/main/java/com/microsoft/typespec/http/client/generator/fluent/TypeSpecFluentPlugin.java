@@ -22,8 +22,10 @@ import com.microsoft.typespec.http.client.generator.mgmt.mapper.FluentMapper;
 import com.microsoft.typespec.http.client.generator.mgmt.model.javamodel.FluentJavaPackage;
 import com.microsoft.typespec.http.client.generator.mgmt.util.FluentUtils;
 import com.microsoft.typespec.http.client.generator.model.EmitterOptions;
-import com.microsoft.typespec.http.client.generator.util.FileUtil;
+import com.microsoft.typespec.http.client.generator.util.GenerationTimings;
+import com.microsoft.typespec.http.client.generator.util.GenerationTimings.Phase;
 import com.microsoft.typespec.http.client.generator.util.MetadataUtil;
+import com.microsoft.typespec.http.client.generator.util.OutputFileWriter;
 import java.io.File;
 import java.util.HashMap;
 import java.util.List;
@@ -35,42 +37,45 @@ import org.slf4j.LoggerFactory;
 public class TypeSpecFluentPlugin extends FluentGen {
     private static final Logger LOGGER = LoggerFactory.getLogger(TypeSpecFluentPlugin.class);
     private final EmitterOptions emitterOptions;
+    private final OutputFileWriter outputFileWriter;
+    private final Map<String, Object> settingsMap = new HashMap<>(DEFAULT_SETTINGS_MAP);
 
     public TypeSpecFluentPlugin(EmitterOptions emitterOptions, boolean sdkIntegration) {
         super(new TypeSpecPlugin.MockConnection(), "dummy", "dummy");
         this.emitterOptions = emitterOptions;
-        SETTINGS_MAP.put("namespace", emitterOptions.getNamespace());
+        this.outputFileWriter = new OutputFileWriter(emitterOptions.getOutputDir());
+        settingsMap.put("namespace", emitterOptions.getNamespace());
         if (!CoreUtils.isNullOrEmpty(emitterOptions.getOutputDir())) {
-            SETTINGS_MAP.put("output-folder", emitterOptions.getOutputDir());
+            settingsMap.put("output-folder", emitterOptions.getOutputDir());
         }
         if (!CoreUtils.isNullOrEmpty(emitterOptions.getServiceName())) {
-            SETTINGS_MAP.put("service-name", emitterOptions.getServiceName());
+            settingsMap.put("service-name", emitterOptions.getServiceName());
         }
         if (emitterOptions.getGenerateSamples() != null) {
-            SETTINGS_MAP.put("generate-samples", emitterOptions.getGenerateSamples());
+            settingsMap.put("generate-samples", emitterOptions.getGenerateSamples());
         }
         if (emitterOptions.getGenerateTests() != null) {
-            SETTINGS_MAP.put("generate-tests", emitterOptions.getGenerateTests());
+            settingsMap.put("generate-tests", emitterOptions.getGenerateTests());
         }
         if (emitterOptions.getArm()) {
-            SETTINGS_MAP.put("fluent", "lite");
+            settingsMap.put("fluent", "lite");
         }
         if (emitterOptions.getPackageVersion() != null) {
-            SETTINGS_MAP.put("package-version", emitterOptions.getPackageVersion());
+            settingsMap.put("package-version", emitterOptions.getPackageVersion());
         }
         if (emitterOptions.getEnableSyncStack() != null) {
-            SETTINGS_MAP.put("enable-sync-stack", emitterOptions.getEnableSyncStack());
+            settingsMap.put("enable-sync-stack", emitterOptions.getEnableSyncStack());
         }
-        SETTINGS_MAP.put("sdk-integration", sdkIntegration);
-        SETTINGS_MAP.put("output-model-immutable", true);
-        SETTINGS_MAP.put("uuid-as-string", true);
-        SETTINGS_MAP.put("stream-style-serialization", emitterOptions.getStreamStyleSerialization());
-        SETTINGS_MAP.put("use-object-for-unknown", emitterOptions.getUseObjectForUnknown());
+        settingsMap.put("sdk-integration", sdkIntegration);
+        settingsMap.put("output-model-immutable", true);
+        settingsMap.put("uuid-as-string", true);
+        settingsMap.put("stream-style-serialization", emitterOptions.getStreamStyleSerialization());
+        settingsMap.put("use-object-for-unknown", emitterOptions.getUseObjectForUnknown());
         if (emitterOptions.getRenameModel() != null) {
-            SETTINGS_MAP.put("rename-model", emitterOptions.getRenameModel());
+            settingsMap.put("rename-model", emitterOptions.getRenameModel());
         }
         if (emitterOptions.getUseEclipseLanguageServer() != null) {
-            SETTINGS_MAP.put("use-eclipse-language-server", emitterOptions.getUseEclipseLanguageServer());
+            settingsMap.put("use-eclipse-language-server", emitterOptions.getUseEclipseLanguageServer());
         }
 
         JavaSettingsAccessor.setHost(this);
@@ -80,7 +85,7 @@ public class TypeSpecFluentPlugin extends FluentGen {
 
     public CodeModel preProcess(CodeModel codeModel) {
         // transform code model
-        FluentNamer fluentNamer = new TypeSpecFluentNamer(this, pluginName, sessionId, SETTINGS_MAP, codeModel);
+        FluentNamer fluentNamer = new TypeSpecFluentNamer(this, pluginName, sessionId, settingsMap, codeModel);
         return fluentNamer.processCodeModel();
     }
 
@@ -108,10 +113,18 @@ public class TypeSpecFluentPlugin extends FluentGen {
 
     @Override
     public void writeFile(String fileName, String content, List<Object> sourceMap) {
-        File outputFile = FileUtil.writeToFile(emitterOptions.getOutputDir(), fileName, content);
+        File outputFile
+            = GenerationTimings.current().time(Phase.WRITE, () -> outputFileWriter.writeFile(fileName, content));
         LOGGER.info("Write file: {}", outputFile.getAbsolutePath());
     }
 
+    /**
+     * Completes writing the output files, reporting the files added, changed and no longer generated.
+     */
+    public void finishWritingFiles() {
+        GenerationTimings.current().time(Phase.WRITE, () -> outputFileWriter.finish(LOGGER));
+    }
+
     @Override
     protected FluentMapper getFluentMapper() {
         FluentMapper fluentMapper = super.getFluentMapper();
@@ -119,29 +132,29 @@ public class TypeSpecFluentPlugin extends FluentGen {
         return fluentMapper;
     }
 
-    private static final Map<String, Object> SETTINGS_MAP = new HashMap<>();
+    private static final Map<String, Object> DEFAULT_SETTINGS_MAP = new HashMap<>();
 
     // from fluentnamer/readme.md
     static {
-        SETTINGS_MAP.put("data-plane", false);
+        DEFAULT_SETTINGS_MAP.put("data-plane", false);
 
-        SETTINGS_MAP.put("sdk-integration", true);
-        SETTINGS_MAP.put("regenerate-pom", true);
+        DEFAULT_SETTINGS_MAP.put("sdk-integration", true);
+        DEFAULT_SETTINGS_MAP.put("regenerate-pom", true);
 
-        SETTINGS_MAP.put("license-header", "MICROSOFT_MIT_SMALL_TYPESPEC");
+        DEFAULT_SETTINGS_MAP.put("license-header", "MICROSOFT_MIT_SMALL_TYPESPEC");
 
-        SETTINGS_MAP.put("generic-response-type", false);
-        SETTINGS_MAP.put("generate-client-interfaces", true);
-        SETTINGS_MAP.put("client-logger", true);
+        DEFAULT_SETTINGS_MAP.put("generic-response-type", false);
+        DEFAULT_SETTINGS_MAP.put("generate-client-interfaces", true);
+        DEFAULT_SETTINGS_MAP.put("client-logger", true);
 
-        SETTINGS_MAP.put("required-parameter-client-methods", true);
-        SETTINGS_MAP.put("client-flattened-annotation-target", "none");
-        SETTINGS_MAP.put("null-byte-array-maps-to-empty-array", true);
-        SETTINGS_MAP.put("graal-vm-config", true);
-        SETTINGS_MAP.put("sync-methods", "all");
-        SETTINGS_MAP.put("client-side-validations", true);
-        SETTINGS_MAP.put("stream-style-serialization", false);
-//        SETTINGS_MAP.put("pipeline.fluentgen.naming.override", getNamingOverrides());
+        DEFAULT_SETTINGS_MAP.put("required-parameter-client-methods", true);
+        DEFAULT_SETTINGS_MAP.put("client-flattened-annotation-target", "none");
+        DEFAULT_SETTINGS_MAP.put("null-byte-array-maps-to-empty-array", true);
+        DEFAULT_SETTINGS_MAP.put("graal-vm-config", true);
+        DEFAULT_SETTINGS_MAP.put("sync-methods", "all");
+        DEFAULT_SETTINGS_MAP.put("client-side-validations", true);
+        DEFAULT_SETTINGS_MAP.put("stream-style-serialization", false);
+//        DEFAULT_SETTINGS_MAP.put("pipeline.fluentgen.naming.override", getNamingOverrides());
     }
 
     private static Map<String, String> getNamingOverrides() {
@@ -164,13 +177,13 @@ public class TypeSpecFluentPlugin extends FluentGen {
     @SuppressWarnings("unchecked")
     @Override
     public <T> T getValue(String key, ReadValueCallback<String, T> converter) {
-        return (T) SETTINGS_MAP.get(key);
+        return (T) settingsMap.get(key);
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <T> T getValueWithJsonReader(String key, ReadValueCallback<JsonReader, T> converter) {
-        return (T) SETTINGS_MAP.get(key);
+        return (T) settingsMap.get(key);
     }
 
     @Override
@@ -0,0 +1,138 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.util;
+
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.GenerationContext;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * The time spent in each phase of the generation of one code model.
+ * <p>
+ * The timings are stored in the current {@link GenerationContext}. The time of a phase excludes the time of the
+ * phases timed within it, e.g. writing the files while formatting them.
+ */
+public final class GenerationTimings {
+    private static final GenerationContext.Local<GenerationTimings> CURRENT
+        = new GenerationContext.Local<>(GenerationTimings::new);
+
+    /**
+     * The phases of the generation.
+     */
+    public enum Phase {
+        /**
+         * Loading the code model.
+         */
+        LOAD,
+
+        /**
+         * Transforming the code model.
+         */
+        TRANSFORM,
+
+        /**
+         * Mapping the code model to the client model.
+         */
+        MAP,
+
+        /**
+         * Rendering the client model with the templates.
+         */
+        TEMPLATE,
+
+        /**
+         * Formatting and customizing the Java files.
+         */
+        FORMAT,
+
+        /**
+         * Writing the files.
+         */
+        WRITE
+    }
+
+    private final AtomicLongArray nanos = new AtomicLongArray(Phase.values().length);
+
+    /**
+     * Gets the timings of the current context.
+     *
+     * @return the timings of the current context.
+     */
+    public static GenerationTimings current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs the task, adding its time to the phase.
+     *
+     * @param phase the phase.
+     * @param task the task.
+     * @param <T> the type of the result.
+     * @return the result of the task.
+     */
+    public <T> T time(Phase phase, Supplier<T> task) {
+        long start = System.nanoTime();
+        long nestedStart = getTotalNanos();
+        try {
+            return task.get();
+        } finally {
+            add(phase, System.nanoTime() - start - (getTotalNanos() - nestedStart));
+        }
+    }
+
+    /**
+     * Runs the task, adding its time to the phase.
+     *
+     * @param phase the phase.
+     * @param task the task.
+     */
+    public void time(Phase phase, Runnable task) {
+        time(phase, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Adds time to the phase.
+     *
+     * @param phase the phase.
+     * @param nanos the time, in nanoseconds.
+     */
+    public void add(Phase phase, long nanos) {
+        this.nanos.addAndGet(phase.ordinal(), nanos);
+    }
+
+    /**
+     * Gets the time spent in the phase.
+     *
+     * @param phase the phase.
+     * @return the time spent in the phase, in milliseconds.
+     */
+    public long getMillis(Phase phase) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos.get(phase.ordinal()));
+    }
+
+    private long getTotalNanos() {
+        long total = 0;
+        for (int i = 0; i < nanos.length(); ++i) {
+            total += nanos.get(i);
+        }
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (Phase phase : Phase.values()) {
+            if (sb.length() > 0) {
+                sb.append(", ");
+            }
+            sb.append(phase.name().toLowerCase(Locale.ROOT)).append(' ').append(getMillis(phase)).append(" ms");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,276 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.util;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonSerializable;
+import com.azure.json.JsonToken;
+import com.azure.json.JsonWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.slf4j.Logger;
+
+/**
+ * Writes generated files to the output directory, skipping the files whose content is unchanged.
+ * <p>
+ * Rewriting a file with the same content still updates its last modified time, which makes incremental builds of the
+ * output recompile it. Instead, the content of each file is compared with the file on disk, and the file is only
+ * written if it is new or its content changed.
+ * <p>
+ * The SHA-256 hash, size and last modified time of each generated file are recorded in a manifest under the "target"
+ * folder of the output directory. A file whose size and last modified time match the manifest is compared by the hash
+ * of its new content, without reading the file. The manifest also gives the files that were generated by the previous
+ * run but not by this one.
+ */
+public final class OutputFileWriter {
+    static final String MANIFEST_PATH = "target/typespec-java-output.json";
+
+    private final String outputDir;
+    private final Path manifestPath;
+    private final Map<String, ManifestEntry> previousManifest;
+    private final Map<String, ManifestEntry> manifest = new TreeMap<>();
+
+    private final List<String> addedFiles = new ArrayList<>();
+    private final List<String> changedFiles = new ArrayList<>();
+    private int unchangedFileCount;
+
+    /**
+     * Creates an OutputFileWriter, loading the manifest of the previous run from the output directory, if it exists.
+     *
+     * @param outputDir the output directory.
+     */
+    public OutputFileWriter(String outputDir) {
+        this.outputDir = outputDir;
+        this.manifestPath = Paths.get(outputDir, MANIFEST_PATH).toAbsolutePath();
+        this.previousManifest = readManifest(manifestPath);
+    }
+
+    /**
+     * Writes the content to the file, unless the file already has the same content.
+     *
+     * @param fileName the file name, relative to the output directory.
+     * @param content the content of the file.
+     * @return the file.
+     */
+    public synchronized File writeFile(String fileName, String content) {
+        String key = fileName.replace('\\', '/');
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        String hash = sha256(bytes);
+
+        File outputFile = Paths.get(outputDir, fileName).toAbsolutePath().toFile();
+        BasicFileAttributes attributes = readAttributes(outputFile.toPath());
+        if (attributes == null) {
+            FileUtil.writeToFile(outputDir, fileName, content);
+            addedFiles.add(key);
+        } else if (isUnchanged(outputFile.toPath(), attributes, previousManifest.get(key), hash, bytes)) {
+            ++unchangedFileCount;
+        } else {
+            FileUtil.writeToFile(outputDir, fileName, content);
+            changedFiles.add(key);
+            attributes = readAttributes(outputFile.toPath());
+        }
+
+        manifest.put(key,
+            new ManifestEntry(hash, bytes.length, attributes == null ? 0 : attributes.lastModifiedTime().toMillis()));
+        return outputFile;
+    }
+
+    /**
+     * Gets the files written as new files.
+     *
+     * @return the files written as new files, relative to the output directory.
+     */
+    public synchronized List<String> getAddedFiles() {
+        return Collections.unmodifiableList(new ArrayList<>(addedFiles));
+    }
+
+    /**
+     * Gets the files rewritten because their content changed.
+     *
+     * @return the files rewritten because their content changed, relative to the output directory.
+     */
+    public synchronized List<String> getChangedFiles() {
+        return Collections.unmodifiableList(new ArrayList<>(changedFiles));
+    }
+
+    /**
+     * Gets the files generated by the previous run, but not by this one, that still exist.
+     *
+     * @return the files generated by the previous run but not by this one, relative to the output directory.
+     */
+    public synchronized List<String> getRemovedFiles() {
+        List<String> removedFiles = new ArrayList<>();
+        for (String key : previousManifest.keySet()) {
+            if (!manifest.containsKey(key) && Files.exists(Paths.get(outputDir, key))) {
+                removedFiles.add(key);
+            }
+        }
+        Collections.sort(removedFiles);
+        return removedFiles;
+    }
+
+    /**
+     * Writes the manifest of the generated files, and reports the added, changed and removed files.
+     *
+     * @param logger the logger to report to.
+     */
+    public synchronized void finish(Logger logger) {
+        List<String> removedFiles = getRemovedFiles();
+        addedFiles.forEach(file -> logger.info("Added file: {}", file));
+        changedFiles.forEach(file -> logger.info("Changed file: {}", file));
+        removedFiles.forEach(file -> logger.warn("File no longer generated: {}", file));
+        logger.info("Generated files: {} added, {} changed, {} unchanged, {} no longer generated.", addedFiles.size(),
+            changedFiles.size(), unchangedFileCount, removedFiles.size());
+
+        try {
+            writeManifest();
+        } catch (IOException e) {
+            // the manifest only speeds up the next run
+            logger.warn("Failed to write output manifest {}", manifestPath, e);
+        }
+    }
+
+    private static boolean isUnchanged(Path path, BasicFileAttributes attributes, ManifestEntry previous, String hash,
+        byte[] bytes) {
+        if (attributes.size() != bytes.length) {
+            return false;
+        }
+        if (previous != null
+            && previous.size == attributes.size()
+            && previous.lastModified == attributes.lastModifiedTime().toMillis()) {
+            // file not modified since it was generated
+            return previous.hash.equals(hash);
+        }
+
+        try {
+            return Arrays.equals(Files.readAllBytes(path), bytes);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static BasicFileAttributes readAttributes(Path path) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Map<String, ManifestEntry> readManifest(Path manifestPath) {
+        Map<String, ManifestEntry> entries = new HashMap<>();
+        if (!Files.isRegularFile(manifestPath)) {
+            return entries;
+        }
+
+        try (InputStream inputStream = Files.newInputStream(manifestPath);
+            JsonReader jsonReader = JsonProviders.createReader(inputStream)) {
+            jsonReader.readObject(reader -> {
+                while (reader.nextToken() != JsonToken.END_OBJECT) {
+                    String fieldName = reader.getFieldName();
+                    reader.nextToken();
+
+                    if ("files".equals(fieldName)) {
+                        entries.putAll(reader.readMap(ManifestEntry::fromJson));
+                    } else {
+                        reader.skipChildren();
+                    }
+                }
+                return null;
+            });
+        } catch (IOException | RuntimeException e) {
+            // a missing or invalid manifest only means that existing files are compared by content
+            entries.clear();
+        }
+        return entries;
+    }
+
+    private void writeManifest() throws IOException {
+        Files.createDirectories(manifestPath.getParent());
+        try (OutputStream outputStream = Files.newOutputStream(manifestPath);
+            JsonWriter jsonWriter = JsonProviders.createWriter(outputStream)) {
+            jsonWriter.writeStartObject();
+            jsonWriter.writeMapField("files", manifest, JsonWriter::writeJson);
+            jsonWriter.writeEndObject();
+        }
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder sb = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class ManifestEntry implements JsonSerializable<ManifestEntry> {
+        private final String hash;
+        private final long size;
+        private final long lastModified;
+
+        private ManifestEntry(String hash, long size, long lastModified) {
+            this.hash = hash;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        @Override
+        public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+            return jsonWriter.writeStartObject()
+                .writeStringField("sha256", hash)
+                .writeLongField("size", size)
+                .writeLongField("lastModified", lastModified)
+                .writeEndObject();
+        }
+
+        private static ManifestEntry fromJson(JsonReader jsonReader) throws IOException {
+            return jsonReader.readObject(reader -> {
+                String hash = null;
+                long size = -1;
+                long lastModified = -1;
+                while (reader.nextToken() != JsonToken.END_OBJECT) {
+                    String fieldName = reader.getFieldName();
+                    reader.nextToken();
+
+                    if ("sha256".equals(fieldName)) {
+                        hash = reader.getString();
+                    } else if ("size".equals(fieldName)) {
+                        size = reader.getLong();
+                    } else if ("lastModified".equals(fieldName)) {
+                        lastModified = reader.getLong();
+                    } else {
+                        reader.skipChildren();
+                    }
+                }
+                return hash == null ? null : new ManifestEntry(hash, size, lastModified);
+            });
+        }
+    }
+}
@@ -0,0 +1,55 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class GeneratorBatchTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testFailedJobs() throws IOException {
+        Path inputDir = tempDir.resolve("input");
+        Files.createDirectories(inputDir.resolve("a"));
+        Files.createDirectories(inputDir.resolve("b"));
+        Files.writeString(inputDir.resolve("a/code-model.yaml"), "[");
+        Files.writeString(inputDir.resolve("b/code-model.yaml"), "[");
+        Files.writeString(inputDir.resolve("b/emitter-options.json"), "{\"flavor\": \"azure\"}");
+
+        List<GenerationRequest> jobs = GeneratorBatch.loadJobs(inputDir);
+        Assertions.assertEquals(2, jobs.size());
+        Assertions.assertNull(jobs.get(0).getEmitterOptions());
+        Assertions.assertEquals("{\"flavor\": \"azure\"}", jobs.get(1).getEmitterOptions());
+
+        Path logDir = tempDir.resolve("logs");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        boolean succeeded
+            = new GeneratorBatch(jobs, 2, logDir, new PrintStream(output, true, StandardCharsets.UTF_8)).run();
+
+        // each job fails on its own, with the error in its own log
+        Assertions.assertFalse(succeeded);
+        String report = output.toString(StandardCharsets.UTF_8);
+        Assertions.assertTrue(report.contains("Generated 2 code models"), report);
+        try (Stream<Path> logFiles = Files.list(logDir)) {
+            List<Path> logs = logFiles.sorted().collect(Collectors.toList());
+            Assertions.assertEquals(2, logs.size());
+            for (Path log : logs) {
+                Assertions.assertTrue(Files.readString(log).contains("Failed to generate code model"));
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class GeneratorDaemonTests {
+
+    @Test
+    public void testFailedRequests() throws IOException {
+        String requests = "not json\n" + "\n" + "{\"emitterOptions\": {}}\n"
+            + "{\"codeModel\": \"does-not-exist.yaml\", \"emitterOptions\": {\"flavor\": \"azure\"}}\n";
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new GeneratorDaemon(new ByteArrayInputStream(requests.getBytes(StandardCharsets.UTF_8)),
+            new PrintStream(output, true, StandardCharsets.UTF_8)).run();
+
+        List<String> responses = Arrays.stream(output.toString(StandardCharsets.UTF_8).split("\n"))
+            .filter(line -> line.startsWith("{"))
+            .collect(Collectors.toList());
+        Assertions.assertEquals(3, responses.size());
+        responses.forEach(response -> Assertions.assertTrue(response.contains("\"status\":\"failed\""), response));
+    }
+}
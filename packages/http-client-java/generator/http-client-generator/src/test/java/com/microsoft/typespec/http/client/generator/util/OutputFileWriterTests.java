@@ -0,0 +1,54 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.LoggerFactory;
+
+public class OutputFileWriterTests {
+
+    @TempDir
+    Path outputDir;
+
+    @Test
+    public void testSkipUnchangedFiles() throws IOException {
+        OutputFileWriter writer = new OutputFileWriter(outputDir.toString());
+        writer.writeFile("src/main/java/A.java", "class A {}");
+        writer.writeFile("src/main/java/B.java", "class B {}");
+        writer.writeFile("README.md", "readme");
+        writer.finish(LoggerFactory.getLogger(OutputFileWriterTests.class));
+
+        Assertions.assertEquals(Arrays.asList("src/main/java/A.java", "src/main/java/B.java", "README.md"),
+            writer.getAddedFiles());
+        Assertions.assertTrue(Files.exists(outputDir.resolve(OutputFileWriter.MANIFEST_PATH)));
+
+        // set an old last modified time, to detect a rewrite
+        FileTime oldTime = FileTime.fromMillis(1_000_000_000_000L);
+        Path fileA = outputDir.resolve("src/main/java/A.java");
+        Path readme = outputDir.resolve("README.md");
+        Files.setLastModifiedTime(fileA, oldTime);
+        Files.setLastModifiedTime(readme, oldTime);
+
+        writer = new OutputFileWriter(outputDir.toString());
+        writer.writeFile("src/main/java/A.java", "class A {}");
+        writer.writeFile("README.md", "new readme");
+        writer.writeFile("src/main/java/C.java", "class C {}");
+        writer.finish(LoggerFactory.getLogger(OutputFileWriterTests.class));
+
+        Assertions.assertEquals(oldTime, Files.getLastModifiedTime(fileA));
+        Assertions.assertNotEquals(oldTime, Files.getLastModifiedTime(readme));
+        Assertions.assertEquals("new readme", Files.readString(readme));
+        Assertions.assertEquals(Collections.singletonList("src/main/java/C.java"), writer.getAddedFiles());
+        Assertions.assertEquals(Collections.singletonList("README.md"), writer.getChangedFiles());
+        Assertions.assertEquals(Collections.singletonList("src/main/java/B.java"), writer.getRemovedFiles());
+    }
+}